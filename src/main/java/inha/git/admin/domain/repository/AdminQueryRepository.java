@@ -12,7 +12,7 @@ import inha.git.bug_report.api.controller.dto.request.SearchBugReportCond;
 import inha.git.bug_report.api.controller.dto.response.SearchBugReportsResponse;
 import inha.git.bug_report.domain.BugReport;
 import inha.git.common.BaseEntity.State;
-import inha.git.mapping.domain.QUserDepartment;
+import inha.git.common.PageMode;
 import inha.git.report.api.controller.dto.response.ReportReasonResponse;
 import inha.git.report.api.controller.dto.response.ReportTypeResponse;
 import inha.git.report.api.controller.dto.response.SearchReportResponse;
@@ -22,6 +22,7 @@ import inha.git.user.domain.QProfessor;
 import inha.git.user.domain.QUser;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -44,6 +45,7 @@ import static inha.git.report.domain.QReportType.reportType;
 public class AdminQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
 
     /**
      * 사용자 검색
@@ -54,18 +56,16 @@ public class AdminQueryRepository {
      */
     public Page<SearchUserResponse> searchUsers(String search, Pageable pageable) {
         QUser user = QUser.user;
-        JPAQuery<User> query = queryFactory
+        BooleanExpression[] conditions = {nameLike(search), user.state.eq(State.ACTIVE)};
+        List<User> fetched = queryFactory
                 .select(user)
                 .from(user)
-                .where(nameLike(search),user.state.eq(State.ACTIVE))
+                .where(conditions)
                 .orderBy(user.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-        List<SearchUserResponse> content = query.fetch().stream()
-                .map(u -> new SearchUserResponse(u))
-                .toList();
-        long total = query.fetchCount();
-        return new PageImpl<>(content, pageable, total);
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        return assemble(fetched, pageable, conditions).map(u -> new SearchUserResponse(u));
     }
 
     /**
@@ -77,25 +77,20 @@ public class AdminQueryRepository {
      */
     public Page<SearchStudentResponse> searchStudents(String search, Pageable pageable) {
         QUser user = QUser.user;
-        QUserDepartment userDepartment = QUserDepartment.userDepartment;
-        JPAQuery<User> query = queryFactory
+        BooleanExpression[] conditions = {
+                user.role.eq(Role.USER).or(user.role.eq(Role.ASSISTANT)),
+                nameLike(search),
+                user.state.eq(State.ACTIVE)
+        };
+        List<User> fetched = queryFactory
                 .select(user)
                 .from(user)
-                .leftJoin(user.userDepartments, userDepartment)
-                .where(
-                        user.role.eq(Role.USER).or(user.role.eq(Role.ASSISTANT)),
-                        nameLike(search),
-                        user.state.eq(State.ACTIVE)
-                )
+                .where(conditions)
                 .orderBy(user.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<SearchStudentResponse> content = query.fetch().stream()
-                .map(u -> new SearchStudentResponse(u))
-                .toList();
-        long total = query.fetchCount();
-        return new PageImpl<>(content, pageable, total);
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        return assemble(fetched, pageable, conditions).map(u -> new SearchStudentResponse(u));
     }
 
     /**
@@ -108,29 +103,24 @@ public class AdminQueryRepository {
     public Page<SearchProfessorResponse> searchProfessors(String search, Pageable pageable) {
         QUser user = QUser.user;
         QProfessor professor = QProfessor.professor;
-        QUserDepartment userDepartment = QUserDepartment.userDepartment;
-        JPAQuery<User> query = queryFactory
+        BooleanExpression[] conditions = {
+                user.role.eq(Role.PROFESSOR),
+                nameLike(search),
+                user.state.eq(State.ACTIVE)
+        };
+        List<User> fetched = queryFactory
                 .select(user)
                 .from(user)
                 .leftJoin(professor).on(user.id.eq(professor.user.id))
-                .leftJoin(user.userDepartments, userDepartment)
-                .where(
-                        user.role.eq(Role.PROFESSOR),
-                        nameLike(search),
-                        user.state.eq(State.ACTIVE)
-                )
+                .where(conditions)
                 .orderBy(user.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<SearchProfessorResponse> content = query.fetch().stream()
-                .map(u -> new SearchProfessorResponse(
-                        u,
-                        u.getProfessor()
-                ))
-                .toList();
-        long total = query.fetchCount();
-        return new PageImpl<>(content, pageable, total);
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        return assemble(fetched, pageable, conditions).map(u -> new SearchProfessorResponse(
+                u,
+                u.getProfessor()
+        ));
     }
 
     /**
@@ -143,32 +133,40 @@ public class AdminQueryRepository {
     public Page<SearchCompanyResponse> searchCompanies(String search, Pageable pageable) {
         QUser user = QUser.user;
         QCompany company = QCompany.company;
-        QUserDepartment userDepartment = QUserDepartment.userDepartment;
-        JPAQuery<User> query = queryFactory
+        BooleanExpression[] conditions = {
+                user.role.eq(Role.COMPANY),
+                nameLike(search),
+                user.state.eq(State.ACTIVE)
+        };
+        List<User> fetched = queryFactory
                 .select(user)
                 .from(user)
-                .leftJoin(user.userDepartments, userDepartment)
                 .leftJoin(company).on(user.id.eq(company.user.id))
-                .where(
-                        user.role.eq(Role.COMPANY),
-                        nameLike(search),
-                        user.state.eq(State.ACTIVE)
-                )
+                .where(conditions)
                 .orderBy(user.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<SearchCompanyResponse> content = query.fetch().stream()
-                .map(u -> new SearchCompanyResponse(u, u.getCompany()))
-                .toList();
-        long total = query.fetchCount();
-        return new PageImpl<>(content, pageable, total);
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        return assemble(fetched, pageable, conditions).map(u -> new SearchCompanyResponse(u, u.getCompany()));
     }
 
     private BooleanExpression nameLike(String search) {
         return StringUtils.hasText(search) ? QUser.user.name.contains(search) : null;
     }
 
+    /**
+     * 사용자 검색 결과로 페이지를 만든다. 개수는 조인 없이 사용자 테이블만 센다.
+     */
+    private Page<User> assemble(List<User> fetched, Pageable pageable, BooleanExpression[] conditions) {
+        return pageAssembler.assemble(fetched, pageable, PageMode.EXACT, null,
+                () -> count(queryFactory.select(QUser.user.count()).from(QUser.user).where(conditions)));
+    }
+
+    private long count(JPAQuery<Long> query) {
+        Long total = query.fetchOne();
+        return total != null ? total : 0;
+    }
+
     /**
      * 신고 검색
      *
@@ -207,10 +205,12 @@ public class AdminQueryRepository {
                 .where(condition)
                 .orderBy(report.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L);
 
-        List<Report> reports = query.fetch();
-        long total = query.fetchCount();
+        BooleanExpression countCondition = condition;
+        Page<Report> page = pageAssembler.assemble(query.fetch(), pageable, PageMode.EXACT, null,
+                () -> count(queryFactory.select(report.count()).from(report).where(countCondition)));
+        List<Report> reports = page.getContent();
 
         List<Integer> reporterIds = reports.stream()
                 .map(Report::getReporterId)
@@ -267,7 +267,7 @@ public class AdminQueryRepository {
                     );
                 })
                 .toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 
     /**
@@ -292,12 +292,13 @@ public class AdminQueryRepository {
                 .where(condition)
                 .orderBy(bugReport.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L);
 
-        List<BugReport> bugReports = query.fetch();
-        long total = query.fetchCount();
+        BooleanExpression countCondition = condition;
+        Page<BugReport> page = pageAssembler.assemble(query.fetch(), pageable, PageMode.EXACT, null,
+                () -> count(queryFactory.select(bugReport.count()).from(bugReport).where(countCondition)));
 
-        List<SearchBugReportsResponse> content = bugReports.stream()
+        List<SearchBugReportsResponse> content = page.getContent().stream()
                 .map(report -> new SearchBugReportsResponse(
                         report.getId(),
                         report.getTitle(),
@@ -310,6 +311,6 @@ public class AdminQueryRepository {
                         )
                 ))
                 .toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 }
@@ -8,13 +8,10 @@ import inha.git.common.exceptions.BaseException;
 import inha.git.user.api.service.EmailDomainService;
 import inha.git.user.domain.repository.UserJpaRepository;
 import inha.git.utils.RedisProvider;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import inha.git.utils.mail.MailQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +29,7 @@ import static inha.git.common.code.status.ErrorStatus.*;
 @Transactional
 public class MailServiceImpl implements MailService {
 
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
     private final EmailDomainService emailDomainService;
     private final UserJpaRepository userJpaRepository;
     private final RedisProvider redisProvider;
@@ -148,7 +145,8 @@ public class MailServiceImpl implements MailService {
     }
 
     /**
-     * 이메일을 전송합니다.
+     * 이메일을 발송 대기열에 넣고 인증번호를 저장합니다.
+     * 실제 발송은 MailDispatcher가 요청과 별개로 처리하므로, 응답 시간이 메일 서버에 영향을 받지 않습니다.
      *
      * @param setFrom
      * @param toMail
@@ -156,21 +154,11 @@ public class MailServiceImpl implements MailService {
      * @param content
      * @param authNumber
      * @param type
-     * @throws BaseException EMAIL_SEND_FAIL: 이메일 전송 실패
+     * @throws BaseException EMAIL_RATE_LIMIT_EXCEEDED: 수신자에게 보낸 메일이 한도를 넘은 경우,
+     *                       EMAIL_SEND_FAIL: 발송 대기열 등록 실패
      */
     public void postMailSend(String setFrom, String toMail, String title, String content, int authNumber, Integer type) {
-        MimeMessage message = mailSender.createMimeMessage();
-        try {
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "utf-8");
-            helper.setFrom(setFrom);
-            helper.setTo(toMail);
-            helper.setSubject(title);
-            helper.setText(content, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            log.error("이메일 전송 실패 - 수신자: {}", toMail);
-            throw new BaseException(EMAIL_SEND_FAIL);
-        }
+        mailQueue.enqueue(setFrom, toMail, title, content);
         redisProvider.setDataExpire(toMail + "-" + type, Integer.toString(authNumber), 60*3L);
     }
 
@@ -6,7 +6,9 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import inha.git.bug_report.api.controller.dto.request.SearchBugReportCond;
 import inha.git.bug_report.api.controller.dto.response.SearchBugReportsResponse;
 import inha.git.bug_report.domain.BugReport;
+import inha.git.common.PageMode;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -24,6 +26,7 @@ import static inha.git.common.Constant.mapRoleToPosition;
 public class BugReportQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
 
     /**
      * 특정 사용자의 버그 리포트 목록 조회
@@ -51,12 +54,15 @@ public class BugReportQueryRepository {
                 .where(condition)
                 .orderBy(bugReport.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L);
 
-        List<BugReport> bugReports = query.fetch();
-        long total = query.fetchCount();
+        BooleanExpression countCondition = condition;
+        Page<BugReport> page = pageAssembler.assemble(query.fetch(), pageable, PageMode.EXACT, null, () -> {
+            Long total = queryFactory.select(bugReport.count()).from(bugReport).where(countCondition).fetchOne();
+            return total != null ? total : 0;
+        });
 
-        List<SearchBugReportsResponse> content = bugReports.stream()
+        List<SearchBugReportsResponse> content = page.getContent().stream()
                 .map(report -> new SearchBugReportsResponse(
                         report.getId(),
                         report.getTitle(),
@@ -69,6 +75,6 @@ public class BugReportQueryRepository {
                         )
                 ))
                 ).toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 }
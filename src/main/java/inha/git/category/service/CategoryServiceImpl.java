@@ -6,12 +6,11 @@ import inha.git.category.controller.dto.response.SearchCategoryResponse;
 import inha.git.category.domain.Category;
 import inha.git.category.domain.repository.CategoryJpaRepository;
 import inha.git.category.mapper.CategoryMapper;
-import inha.git.common.BaseEntity;
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
 import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +19,7 @@ import java.util.List;
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.BaseEntity.State.INACTIVE;
 import static inha.git.common.code.status.ErrorStatus.CATEGORY_NOT_FOUND;
+import static inha.git.common.reference.ReferenceType.CATEGORY;
 
 /**
  * 카테고리 관련 비즈니스 로직을 처리하는 서비스 구현체입니다.
@@ -32,6 +32,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryJpaRepository categoryJpaRepository;
     private final CategoryMapper categoryMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 모든 활성 상태 카테고리를 조회합니다.
@@ -40,8 +41,9 @@ public class CategoryServiceImpl implements CategoryService {
      */
     @Override
     public List<SearchCategoryResponse> getCategories() {
-        return categoryMapper.categoriesToSearchCategoryResponses
-                (categoryJpaRepository.findAllByState(BaseEntity.State.ACTIVE, Sort.by(Sort.Direction.ASC, "name")));
+        return referenceDataCache.snapshot().findAll(CATEGORY).stream()
+                .map(item -> new SearchCategoryResponse(item.id(), item.name()))
+                .toList();
     }
 
     /**
@@ -55,6 +57,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Transactional
     public String createCategory(User admin, CreateCategoryRequest createCategoryRequest) {
         Category category = categoryJpaRepository.save(categoryMapper.createCategoryRequestToSemester(createCategoryRequest));
+        referenceDataCache.invalidate();
         log.info("카테고리 생성 성공 - 관리자: {} 학기명: {}", admin.getName(), createCategoryRequest.name());
         return category.getName() + " 카테고리가 생성되었습니다.";
     }
@@ -75,6 +78,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryJpaRepository.findByIdAndState(categoryIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
         category.setName(updateCategoryRequest.name());
+        referenceDataCache.invalidate();
         log.info("카테고리 이름 수정 성공 - 관리자: {} 카테고리명: {}", admin.getName(), updateCategoryRequest.name());
         return category.getName() + " 카테고리 이름이 수정되었습니다.";
     }
@@ -94,6 +98,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
         category.setState(INACTIVE);
         category.setDeletedAt();
+        referenceDataCache.invalidate();
         log.info("카테고리 삭제 성공 - 관리자: {} 카테고리명: {}", admin.getName(), category.getName());
         return category.getName() + " 카테고리 삭제되었습니다.";
     }
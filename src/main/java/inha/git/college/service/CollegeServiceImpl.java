@@ -7,7 +7,9 @@ import inha.git.college.domain.College;
 import inha.git.college.domain.repository.CollegeJpaRepository;
 import inha.git.college.mapper.CollegeMapper;
 import inha.git.common.exceptions.BaseException;
-import inha.git.department.domain.repository.DepartmentJpaRepository;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
 import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,8 @@ import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.BaseEntity.State.INACTIVE;
 import static inha.git.common.code.status.ErrorStatus.COLLEGE_NOT_FOUND;
 import static inha.git.common.code.status.ErrorStatus.DEPARTMENT_NOT_FOUND;
+import static inha.git.common.reference.ReferenceType.COLLEGE;
+import static inha.git.common.reference.ReferenceType.DEPARTMENT;
 
 /**
  * 단과대학 관련 비즈니스 로직을 처리하는 서비스 구현체입니다.
@@ -32,8 +36,8 @@ import static inha.git.common.code.status.ErrorStatus.DEPARTMENT_NOT_FOUND;
 public class CollegeServiceImpl implements CollegeService {
 
     private final CollegeJpaRepository collegeJpaRepository;
-    private final DepartmentJpaRepository departmentJpaRepository;
     private final CollegeMapper collegeMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 모든 활성화된 단과대학을 조회합니다.
@@ -42,7 +46,9 @@ public class CollegeServiceImpl implements CollegeService {
      */
     @Override
     public List<SearchCollegeResponse> getColleges() {
-        return collegeMapper.collegesToSearchCollegeResponses(collegeJpaRepository.findAllByState(ACTIVE));
+        return referenceDataCache.snapshot().findAll(COLLEGE).stream()
+                .map(item -> new SearchCollegeResponse(item.id(), item.name()))
+                .toList();
     }
 
     /**
@@ -55,11 +61,12 @@ public class CollegeServiceImpl implements CollegeService {
      */
     @Override
     public SearchCollegeResponse getCollege(Integer departmentIdx) {
-        departmentJpaRepository.findByIdAndState(departmentIdx, ACTIVE)
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        ReferenceItem department = snapshot.find(DEPARTMENT, departmentIdx)
                 .orElseThrow(() -> new BaseException(DEPARTMENT_NOT_FOUND));
-        College college = collegeJpaRepository.findByDepartments_IdAndState(departmentIdx, ACTIVE)
+        ReferenceItem college = snapshot.find(COLLEGE, department.parentId())
                 .orElseThrow(() -> new BaseException(COLLEGE_NOT_FOUND));
-        return collegeMapper.collegeToSearchCollegeResponse(college);
+        return new SearchCollegeResponse(college.id(), college.name());
     }
 
     /**
@@ -74,6 +81,7 @@ public class CollegeServiceImpl implements CollegeService {
     public String createCollege(User admin, CreateCollegeRequest createDepartmentRequest) {
         College college = collegeJpaRepository.save
                 (collegeMapper.createCollegeRequestToCollege(createDepartmentRequest));
+        referenceDataCache.invalidate();
         log.info("단과대 생성 성공 - 관리자: {} 단과대 이름: {}", admin.getName(), college.getName());
         return college.getName() + " 단과대가 생성되었습니다.";
     }
@@ -93,6 +101,7 @@ public class CollegeServiceImpl implements CollegeService {
         College college = collegeJpaRepository.findByIdAndState(collegeIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(COLLEGE_NOT_FOUND));
         college.setName(updateCollegeRequest.name());
+        referenceDataCache.invalidate();
         log.info("단과대 이름 수정 성공 - 관리자: {} 단과대 이름: {}", admin.getName(), college.getName());
         return college.getName() + " 단과대 이름이 변경되었습니다.";
     }
@@ -112,6 +121,7 @@ public class CollegeServiceImpl implements CollegeService {
                 .orElseThrow(() -> new BaseException(COLLEGE_NOT_FOUND));
         college.setState(INACTIVE);
         college.setDeletedAt();
+        referenceDataCache.invalidate();
         log.info("단과대 삭제 성공 - 관리자: {} 단과대 이름: {}", admin.getName(), college.getName());
         return college.getName() + " 단과대가 삭제되었습니다.";
     }
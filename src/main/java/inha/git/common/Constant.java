@@ -63,12 +63,12 @@ public class Constant {
     public final static String ACCESS_KEY = "&accessKey=";
     public final static String SERVICE_KEY = "&ServiceKey=";
     public final static String SEARCH_PATENT = "?applicationNumber=";
-    public final static String GITHUB_REPO_CACHE_PREFIX = "github:repos:";
-    public final static String GITHUB_FILE_CACHE_PREFIX = "github:files:";
-    public final static String GITHUB_FILE_CONTENT_CACHE_PREFIX = "github:fileContent:";
     public final static String GITHUB_API_URL = "https://api.github.com/repos/";
     public final static String GITHUB_URL = "https://github.com/";
     public final static String GITHUB_CONTENTS = "/contents/";
+    public final static String REPOS_PATH = "/repos/";
+    public final static int GITHUB_PAGE_SIZE = 100;
+    public final static String GITHUB_USER_REPOS = "/user/repos?visibility=public&affiliation=owner&per_page=" + GITHUB_PAGE_SIZE + "&page=";
     public final static String NODE_MODULES = "node_modules";
     public final static String OUT = ".out";
     public final static String OUT_ = "out";
@@ -82,6 +82,8 @@ public class Constant {
     public final static String CLASS = ".class";
     public final static String IDEMPOTENT = "IDEMPOTENT";
     public final static Integer TIME_LIMIT = 3;
+    public final static String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public final static String IDEMPOTENCY_REPLAYED_HEADER = "Idempotent-Replayed";
     public final static String FIELD = "field";
     public final static String CURRICULUM = "교과";
     public final static String IMAGE = "image";
@@ -0,0 +1,40 @@
+package inha.git.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorResponse는 커서(키셋) 기반 목록 응답을 나타냄.
+ * 다음 페이지는 nextCursor를 커서로 전달하여 조회한다.
+ *
+ * @param <T> 목록 항목의 타입
+ */
+public record CursorResponse<T>(
+
+        List<T> content,
+
+        @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)", example = "120", nullable = true)
+        Integer nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        Boolean hasNext
+) {
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 커서 응답을 생성한다.
+     *
+     * @param fetched        size + 1개까지 조회한 결과
+     * @param size           페이지 크기
+     * @param cursorSelector 항목에서 커서 값을 꺼내는 함수
+     * @param <T>            목록 항목의 타입
+     * @return CursorResponse
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Integer> cursorSelector) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        Integer nextCursor = hasNext ? cursorSelector.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,35 @@
+package inha.git.common;
+
+/**
+ * PageMode는 목록 조회에서 전체 개수를 구하는 방식을 나타냄.
+ * 엔드포인트마다 목록의 성격에 맞게 선택한다.
+ */
+public enum PageMode {
+
+    /**
+     * 요청마다 개수 쿼리로 정확한 전체 개수를 구한다. 사용자별 목록이나 관리자 검색처럼 범위가 좁고 정확해야 하는 목록에 쓴다.
+     */
+    EXACT,
+
+    /**
+     * 검색 조건별 전체 개수를 짧게 캐싱한다. 조회가 많은 공개 목록에 쓰며, 전체 개수는 캐시 기간만큼 늦게 반영될 수 있다.
+     */
+    CACHED,
+
+    /**
+     * 전체 개수를 구하지 않고 다음 페이지 존재 여부만 확인한다. 무한 스크롤 클라이언트용이며,
+     * 응답의 totalElements/totalPages는 지금까지 확인된 범위(다음 페이지가 있으면 한 건 더)만 나타낸다.
+     */
+    SLICE;
+
+    /**
+     * 요청 파라미터로 받은 slice 여부를 모드로 변환합니다.
+     *
+     * @param slice    무한 스크롤 여부
+     * @param defaults slice가 아닐 때 쓸 모드
+     * @return PageMode
+     */
+    public static PageMode of(Boolean slice, PageMode defaults) {
+        return Boolean.TRUE.equals(slice) ? SLICE : defaults;
+    }
+}
@@ -73,7 +73,7 @@ public enum ErrorStatus implements BaseErrorCode {
     FILE_CONVERT(HttpStatus.BAD_REQUEST, "FILE4001", "파일 변환 실패."),
     FILE_NOT_FOUND(HttpStatus.BAD_REQUEST, "FILE4002", "파일을 찾을 수 없습니다."),
     FILE_NOT_ZIP(HttpStatus.BAD_REQUEST, "FILE4003", "zip 파일만 업로드 가능합니다."),
-    FILE_MAX_FILES(HttpStatus.BAD_REQUEST, "FILE4004", "압축 파일 내의 파일 수는 100개 이하로 제한됩니다."),
+    FILE_MAX_FILES(HttpStatus.BAD_REQUEST, "FILE4004", "압축 파일 내의 파일 수가 허용 개수를 초과하였습니다."),
     FILE_MAX_SIZE(HttpStatus.BAD_REQUEST, "FILE4005", "압축 파일의 총 크기는 20MB 이하로 제한됩니다."),
     FILE_DELETE_FAIL(HttpStatus.BAD_REQUEST, "FILE4006", "파일 삭제에 실패하였습니다."),
     FILE_COMPRESS_FAIL(HttpStatus.BAD_REQUEST, "FILE4007", "파일 압축에 실패하였습니다."),
@@ -82,6 +82,7 @@ public enum ErrorStatus implements BaseErrorCode {
     FILE_PROCESS_ERROR(HttpStatus.BAD_REQUEST, "FILE4010", "파일 처리에 실패하였습니다."),
     FILE_INVALID_NAME(HttpStatus.BAD_REQUEST, "FILE4011", "파일 이름이 유효하지 않습니다."),
     INVALID_FILE_PATH(HttpStatus.BAD_REQUEST, "FILE4012", "유효하지 않은 파일 경로입니다."),
+    FILE_COMPRESSION_RATIO(HttpStatus.BAD_REQUEST, "FILE4013", "압축률이 비정상적으로 높은 파일이 포함되어 있습니다."),
 
     EXCEL_CREATE_ERROR(HttpStatus.BAD_REQUEST, "EXCEL4000", "엑셀 파일 생성 중 오류 발생"),
 
@@ -93,6 +94,7 @@ public enum ErrorStatus implements BaseErrorCode {
     EMAIL_AUTH_ALREADY(HttpStatus.BAD_REQUEST, "EMAIL4006", "이미 인증된 이메일입니다."),
     EMAIL_AUTH_NOT_FOUND(HttpStatus.BAD_REQUEST, "EMAIL4007", "이메일 인증을 먼저 진행해주세요."),
     EMAIL_AUTH_NOT_MATCH(HttpStatus.BAD_REQUEST, "EMAIL4008", "이메일 인증번호가 일치하지 않습니다."),
+    EMAIL_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "EMAIL4009", "이메일 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     BANNER_FILE_EMPTY(HttpStatus.BAD_REQUEST, "BANNER4000", "배너 파일이 비어있습니다."),
 
@@ -135,6 +137,8 @@ public enum ErrorStatus implements BaseErrorCode {
     FAILED_TO_GET_GITHUB_REPOSITORIES(HttpStatus.BAD_REQUEST, "GITHUB4002", "깃허브 레포지토리 목록을 가져오는데 실패했습니다."),
     GITHUB_CLONE_ERROR(HttpStatus.BAD_REQUEST, "GITHUB4003", "깃허브 레포지토리 클론에 실패했습니다."),
     GITHUB_REPO_NOT_FOUND(HttpStatus.BAD_REQUEST, "GITHUB4004", "깃허브로 등록된 프로젝트가 아닙니다."),
+    GITHUB_API_ERROR(HttpStatus.BAD_GATEWAY, "GITHUB4005", "깃허브 API 호출에 실패했습니다."),
+    GITHUB_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "GITHUB4006", "깃허브 API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     DEPARTMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "DEPARTMENT4000", "학과를 찾을 수 없습니다."),
     DEPARTMENT_NOT_BELONG_TO_COLLEGE(HttpStatus.BAD_REQUEST, "DEPARTMENT4001", "해당 학과는 해당 단과대에 속하지 않습니다."),
@@ -244,6 +248,11 @@ public enum ErrorStatus implements BaseErrorCode {
     TOTAL_COLLEGE_STATISTICS_NOT_FOUND(HttpStatus.NOT_FOUND, "STATISTICS4005", "단과대 전체 통계를 찾을 수 없습니다."),
     USER_COUNT_STATISTICS_NOT_FOUND(HttpStatus.NOT_FOUND, "STATISTICS4006", "사용자 수 통계를 찾을 수 없습니다."),
     INVALID_ACTION_TYPE(HttpStatus.BAD_REQUEST, "STATISTICS4007", "유효하지 않은 통계 타입입니다."),
+    STATISTICS_REBUILD_IN_PROGRESS(HttpStatus.CONFLICT, "STATISTICS4008", "통계 재구축이 이미 진행 중입니다."),
+    STATISTICS_REBUILD_NOT_FOUND(HttpStatus.NOT_FOUND, "STATISTICS4009", "재개할 통계 재구축이 없습니다."),
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "STATISTICS4010", "엑셀 내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_JOB_NOT_COMPLETED(HttpStatus.CONFLICT, "STATISTICS4011", "엑셀 내보내기 작업이 아직 완료되지 않았습니다."),
+    EXPORT_JOB_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "STATISTICS4012", "대기 중인 엑셀 내보내기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     INVALID_APPLICATION_NUMBER(HttpStatus.BAD_REQUEST, "APPLICATION4000", "유효하지 않은 신청 번호입니다."),
 
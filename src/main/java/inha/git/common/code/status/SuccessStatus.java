@@ -189,6 +189,8 @@ public enum SuccessStatus implements BaseCode {
     DEPARTMENT_STATISTICS_SEARCH_OK(HttpStatus.OK, "STATISTICS2004", "학과별 전체 통계 조회 성공"),
     BATCH_STATISTICS_SEARCH_OK(HttpStatus.OK, "STATISTICS2005", "단과대별 학기별 통계 일괄 조회 성공"),
     PATENT_STATISTICS_SEARCH_OK(HttpStatus.OK, "STATISTICS2006", "특허 통계 조회 성공"),
+    EXPORT_JOB_SUBMIT_OK(HttpStatus.ACCEPTED, "STATISTICS2007", "엑셀 내보내기 작업 등록 성공"),
+    EXPORT_JOB_SEARCH_OK(HttpStatus.OK, "STATISTICS2008", "엑셀 내보내기 작업 조회 성공"),
 
     PATENT_SEARCH_OK(HttpStatus.OK, "PATENT2000", "특허 조회 성공"),
     PATENT_SEARCH_SUCCESS(HttpStatus.OK, "PATENT2001", "특허 검색 성공"),
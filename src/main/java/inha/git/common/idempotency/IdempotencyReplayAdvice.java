@@ -0,0 +1,61 @@
+package inha.git.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inha.git.utils.IdempotentProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import static inha.git.common.Constant.IDEMPOTENCY_KEY_HEADER;
+
+/**
+ * IdempotencyReplayAdvice는 Idempotency-Key 헤더로 키를 선점한 요청이 성공하면 응답 상태와 본문을 보관하는 어드바이스.
+ * 보관된 응답은 IdempotencyReplayInterceptor가 같은 키의 재요청에 돌려준다.
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyReplayAdvice implements ResponseBodyAdvice<Object> {
+
+    private final IdempotentProvider idempotentProvider;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || HttpMethod.GET.equals(request.getMethod())
+                || !request.getHeaders().containsKey(IDEMPOTENCY_KEY_HEADER)) {
+            return body;
+        }
+        int status = servletResponse.getServletResponse().getStatus();
+        if (status < 200 || status >= 300) {
+            return body;
+        }
+        try {
+            idempotentProvider.storeReplay(servletRequest.getServletRequest(), status, objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            log.error("응답 보관 실패 - 경로: {} 에러메시지: {}", request.getURI(), e.getMessage());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,45 @@
+package inha.git.common.idempotency;
+
+import inha.git.utils.IdempotentProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+
+import static inha.git.common.Constant.IDEMPOTENCY_REPLAYED_HEADER;
+
+/**
+ * IdempotencyReplayInterceptor는 Idempotency-Key 헤더로 이미 완료된 요청이 다시 들어오면
+ * 컨트롤러를 실행하지 않고 보관된 응답을 원래 상태 코드 그대로 돌려주는 인터셉터.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyReplayInterceptor implements HandlerInterceptor {
+
+    private final IdempotentProvider idempotentProvider;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        IdempotentProvider.Replay replay = idempotentProvider.findReplay(request);
+        if (replay == null) {
+            return true;
+        }
+        log.info("완료된 요청의 응답을 재전송합니다. - 경로: {}", request.getRequestURI());
+        response.setStatus(replay.status());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(IDEMPOTENCY_REPLAYED_HEADER, "true");
+        response.getWriter().write(replay.body());
+        return false;
+    }
+}
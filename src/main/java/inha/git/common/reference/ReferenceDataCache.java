@@ -0,0 +1,210 @@
+package inha.git.common.reference;
+
+import inha.git.category.domain.Category;
+import inha.git.category.domain.repository.CategoryJpaRepository;
+import inha.git.college.domain.repository.CollegeJpaRepository;
+import inha.git.common.exceptions.BaseException;
+import inha.git.department.domain.repository.DepartmentJpaRepository;
+import inha.git.field.domain.Field;
+import inha.git.field.domain.repository.FieldJpaRepository;
+import inha.git.semester.domain.Semester;
+import inha.git.semester.domain.repository.SemesterJpaRepository;
+import inha.git.utils.RedisProvider;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static inha.git.common.BaseEntity.State.ACTIVE;
+import static inha.git.common.code.status.ErrorStatus.CATEGORY_NOT_FOUND;
+import static inha.git.common.code.status.ErrorStatus.FIELD_NOT_FOUND;
+import static inha.git.common.code.status.ErrorStatus.SEMESTER_NOT_FOUND;
+
+/**
+ * ReferenceDataCache는 학기·분야·단과대학·학과·카테고리 정보를 메모리 스냅샷으로 제공하는 컴포넌트.
+ * 관리자 변경이 커밋되면 스냅샷을 새로 만들어 통째로 교체하고, Redis pub/sub으로 다른 노드에도 갱신을 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache implements MessageListener {
+
+    private static final String CHANGED_CHANNEL = "reference-data:changed";
+    // 자신이 발행한 메시지는 이미 반영했으므로 무시하기 위한 노드 식별자
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final SemesterJpaRepository semesterJpaRepository;
+    private final FieldJpaRepository fieldJpaRepository;
+    private final CollegeJpaRepository collegeJpaRepository;
+    private final DepartmentJpaRepository departmentJpaRepository;
+    private final CategoryJpaRepository categoryJpaRepository;
+    private final RedisProvider redisProvider;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile ReferenceDataSnapshot snapshot;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    /**
+     * 현재 스냅샷을 반환한다. 아직 적재되지 않았다면 DB에서 적재한다.
+     *
+     * @return ReferenceDataSnapshot
+     */
+    public ReferenceDataSnapshot snapshot() {
+        ReferenceDataSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 활성 학기의 엔티티 참조를 반환한다. 존재 여부는 스냅샷에서 확인하므로 DB를 조회하지 않는다.
+     *
+     * @param semesterIdx 학기 식별자
+     * @return 학기 엔티티 참조
+     */
+    public Semester getSemester(Integer semesterIdx) {
+        if (!snapshot().exists(ReferenceType.SEMESTER, semesterIdx)) {
+            throw new BaseException(SEMESTER_NOT_FOUND);
+        }
+        return semesterJpaRepository.getReferenceById(semesterIdx);
+    }
+
+    /**
+     * 카테고리의 엔티티 참조를 반환한다.
+     * 카테고리는 상태와 관계없이 존재하기만 하면 허용하므로, 스냅샷(활성 항목만 보관)에 없을 때만 DB에서 확인한다.
+     *
+     * @param categoryIdx 카테고리 식별자
+     * @return 카테고리 엔티티 참조
+     */
+    public Category getCategory(Integer categoryIdx) {
+        if (snapshot().exists(ReferenceType.CATEGORY, categoryIdx)) {
+            return categoryJpaRepository.getReferenceById(categoryIdx);
+        }
+        return categoryJpaRepository.findById(categoryIdx)
+                .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
+    }
+
+    /**
+     * 활성 분야의 엔티티 참조를 반환한다.
+     *
+     * @param fieldIdx 분야 식별자
+     * @return 분야 엔티티 참조
+     */
+    public Field getField(Integer fieldIdx) {
+        if (!snapshot().exists(ReferenceType.FIELD, fieldIdx)) {
+            throw new BaseException(FIELD_NOT_FOUND);
+        }
+        return fieldJpaRepository.getReferenceById(fieldIdx);
+    }
+
+    /**
+     * 활성 분야들의 엔티티 참조를 반환한다. 존재하지 않는 식별자는 제외한다.
+     *
+     * @param fieldIdxList 분야 식별자 목록
+     * @return 분야 엔티티 참조 목록
+     */
+    public List<Field> getFields(List<Integer> fieldIdxList) {
+        ReferenceDataSnapshot current = snapshot();
+        return fieldIdxList.stream()
+                .distinct()
+                .filter(fieldIdx -> current.exists(ReferenceType.FIELD, fieldIdx))
+                .map(fieldJpaRepository::getReferenceById)
+                .toList();
+    }
+
+    /**
+     * 참조 데이터가 변경되었음을 알린다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 스냅샷을 갱신하므로, 롤백된 변경은 반영되지 않는다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAndPublish();
+                }
+            });
+            return;
+        }
+        reloadAndPublish();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!NODE_ID.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            reload();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * 놓친 갱신 메시지가 있어도 일정 시간 안에 맞춰지도록 주기적으로 다시 적재한다.
+     */
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval-ms:600000}",
+            initialDelayString = "${reference-data.refresh-interval-ms:600000}")
+    public void refresh() {
+        reload();
+    }
+
+    private void reloadAndPublish() {
+        reload();
+        try {
+            redisProvider.publish(CHANGED_CHANNEL, NODE_ID);
+        } catch (DataAccessException e) {
+            log.warn("참조 데이터 갱신 알림 실패 - 다른 노드는 주기적 갱신 시 반영됩니다.", e);
+        }
+    }
+
+    private synchronized ReferenceDataSnapshot reload() {
+        Map<ReferenceType, List<ReferenceItem>> items = new EnumMap<>(ReferenceType.class);
+        items.put(ReferenceType.SEMESTER, semesterJpaRepository.findAllByState(ACTIVE, Sort.by(Sort.Direction.ASC, "name")).stream()
+                .map(semester -> new ReferenceItem(semester.getId(), semester.getName(), null))
+                .toList());
+        items.put(ReferenceType.FIELD, fieldJpaRepository.findAllByState(ACTIVE).stream()
+                .map(field -> new ReferenceItem(field.getId(), field.getName(), null))
+                .sorted(Comparator.comparing(ReferenceItem::id))
+                .toList());
+        items.put(ReferenceType.COLLEGE, collegeJpaRepository.findAllByState(ACTIVE).stream()
+                .map(college -> new ReferenceItem(college.getId(), college.getName(), null))
+                .sorted(Comparator.comparing(ReferenceItem::id))
+                .toList());
+        items.put(ReferenceType.DEPARTMENT, departmentJpaRepository.findAllByState(ACTIVE).stream()
+                .map(department -> new ReferenceItem(department.getId(), department.getName(),
+                        department.getCollege() != null ? department.getCollege().getId() : null))
+                .sorted(Comparator.comparing(ReferenceItem::id))
+                .toList());
+        items.put(ReferenceType.CATEGORY, categoryJpaRepository.findAllByState(ACTIVE, Sort.by(Sort.Direction.ASC, "name")).stream()
+                .map(category -> new ReferenceItem(category.getId(), category.getName(), null))
+                .toList());
+
+        ReferenceDataSnapshot previous = snapshot;
+        ReferenceDataSnapshot next = ReferenceDataSnapshot.of(previous != null ? previous.getVersion() + 1 : 1, items);
+        snapshot = next;
+        log.info("참조 데이터 스냅샷 갱신 - 버전: {}", next.getVersion());
+        return next;
+    }
+}
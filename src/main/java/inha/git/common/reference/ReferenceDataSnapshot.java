@@ -0,0 +1,82 @@
+package inha.git.common.reference;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ReferenceDataSnapshot은 특정 시점의 활성 참조 데이터를 담는 불변 스냅샷.
+ * 종류별로 정렬된 목록과 식별자를 인덱스로 하는 배열을 함께 두어, 목록 조회와 단건 조회 모두 메모리에서 끝난다.
+ */
+public final class ReferenceDataSnapshot {
+
+    private final long version;
+    private final Map<ReferenceType, Table> tables;
+
+    private ReferenceDataSnapshot(long version, Map<ReferenceType, Table> tables) {
+        this.version = version;
+        this.tables = tables;
+    }
+
+    /**
+     * 종류별 항목 목록으로 스냅샷을 생성합니다.
+     *
+     * @param version 스냅샷 버전
+     * @param items   종류별 항목 목록 (목록 순서가 조회 순서가 된다)
+     * @return ReferenceDataSnapshot
+     */
+    public static ReferenceDataSnapshot of(long version, Map<ReferenceType, List<ReferenceItem>> items) {
+        Map<ReferenceType, Table> tables = new EnumMap<>(ReferenceType.class);
+        for (ReferenceType type : ReferenceType.values()) {
+            tables.put(type, Table.of(items.getOrDefault(type, List.of())));
+        }
+        return new ReferenceDataSnapshot(version, tables);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<ReferenceItem> findAll(ReferenceType type) {
+        return tables.get(type).items();
+    }
+
+    public Optional<ReferenceItem> find(ReferenceType type, Integer id) {
+        return Optional.ofNullable(tables.get(type).get(id));
+    }
+
+    public boolean exists(ReferenceType type, Integer id) {
+        return tables.get(type).get(id) != null;
+    }
+
+    /**
+     * 상위 항목에 속한 항목 목록을 반환합니다.
+     *
+     * @param type     항목 종류
+     * @param parentId 상위 항목 식별자
+     * @return 항목 목록
+     */
+    public List<ReferenceItem> findAllByParent(ReferenceType type, Integer parentId) {
+        return tables.get(type).items().stream()
+                .filter(item -> parentId.equals(item.parentId()))
+                .toList();
+    }
+
+    private record Table(List<ReferenceItem> items, ReferenceItem[] index) {
+
+        private static Table of(List<ReferenceItem> items) {
+            int maxId = items.stream().mapToInt(ReferenceItem::id).max().orElse(-1);
+            ReferenceItem[] index = new ReferenceItem[maxId + 1];
+            items.forEach(item -> index[item.id()] = item);
+            return new Table(List.copyOf(items), index);
+        }
+
+        private ReferenceItem get(Integer id) {
+            if (id == null || id < 0 || id >= index.length) {
+                return null;
+            }
+            return index[id];
+        }
+    }
+}
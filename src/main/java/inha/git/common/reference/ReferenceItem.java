@@ -0,0 +1,11 @@
+package inha.git.common.reference;
+
+/**
+ * 참조 데이터 항목.
+ *
+ * @param id       식별자
+ * @param name     이름
+ * @param parentId 상위 항목 식별자 (학과의 단과대학, 그 외에는 null)
+ */
+public record ReferenceItem(Integer id, String name, Integer parentId) {
+}
@@ -0,0 +1,12 @@
+package inha.git.common.reference;
+
+/**
+ * 참조 데이터 종류.
+ */
+public enum ReferenceType {
+    SEMESTER,
+    FIELD,
+    COLLEGE,
+    DEPARTMENT,
+    CATEGORY
+}
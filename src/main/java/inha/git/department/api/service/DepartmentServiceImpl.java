@@ -4,6 +4,9 @@ import inha.git.admin.api.controller.dto.response.SearchDepartmentResponse;
 import inha.git.college.domain.College;
 import inha.git.college.domain.repository.CollegeJpaRepository;
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
 import inha.git.department.api.controller.dto.request.CreateDepartmentRequest;
 import inha.git.department.api.controller.dto.request.UpdateDepartmentRequest;
 import inha.git.department.api.mapper.DepartmentMapper;
@@ -20,6 +23,8 @@ import java.util.List;
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.BaseEntity.State.INACTIVE;
 import static inha.git.common.code.status.ErrorStatus.*;
+import static inha.git.common.reference.ReferenceType.COLLEGE;
+import static inha.git.common.reference.ReferenceType.DEPARTMENT;
 
 /**
  * 학과 관련 비즈니스 로직을 처리하는 서비스 구현체입니다.
@@ -33,6 +38,7 @@ public class DepartmentServiceImpl implements DepartmentService{
     private final DepartmentJpaRepository departmentJpaRepository;
     private final DepartmentMapper departmentMapper;
     private final CollegeJpaRepository collegeJpaRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 학과 목록을 조회합니다.
@@ -43,12 +49,14 @@ public class DepartmentServiceImpl implements DepartmentService{
      */
     @Override
     public List<SearchDepartmentResponse> getDepartments(Integer collegeIdx) {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
         if(collegeIdx == null) {
-            return departmentMapper.departmentsToSearchDepartmentResponses(departmentJpaRepository.findAllByState(ACTIVE));
+            return toSearchDepartmentResponses(snapshot.findAll(DEPARTMENT));
         }
-        College college = collegeJpaRepository.findByIdAndState(collegeIdx, ACTIVE)
-                .orElseThrow(() -> new BaseException(COLLEGE_NOT_FOUND));
-        return departmentMapper.departmentsToSearchDepartmentResponses(departmentJpaRepository.findAllByCollegeAndState(college, ACTIVE));
+        if(!snapshot.exists(COLLEGE, collegeIdx)) {
+            throw new BaseException(COLLEGE_NOT_FOUND);
+        }
+        return toSearchDepartmentResponses(snapshot.findAllByParent(DEPARTMENT, collegeIdx));
     }
 
     /**
@@ -71,6 +79,7 @@ public class DepartmentServiceImpl implements DepartmentService{
                 throw new BaseException(DEPARTMENT_NOT_BELONG_TO_COLLEGE);
         }
         Department savedDepartment = departmentJpaRepository.save(department);
+        referenceDataCache.invalidate();
         log.info("학과 생성 성공 - 관리자: {} 학과명: {}", admin.getName(), savedDepartment.getName());
         return savedDepartment.getName() + " 학과가 생성되었습니다.";
     }
@@ -90,6 +99,7 @@ public class DepartmentServiceImpl implements DepartmentService{
         Department department = departmentJpaRepository.findByIdAndState(departmentIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(DEPARTMENT_NOT_FOUND));
         department.setName(updateDepartmentRequest.name());
+        referenceDataCache.invalidate();
         log.info("학과 이름 수정 성공 - 관리자: {} 학과명: {}", admin.getName(), department.getName());
         return department.getName() + " 학과 이름이 변경되었습니다.";
     }
@@ -109,7 +119,14 @@ public class DepartmentServiceImpl implements DepartmentService{
                 .orElseThrow(() -> new BaseException(DEPARTMENT_NOT_FOUND));
         department.setState(INACTIVE);
         department.setDeletedAt();
+        referenceDataCache.invalidate();
         log.info("학과 삭제 성공 - 관리자: {} 학과명: {}", admin.getName(), department.getName());
         return department.getName() + " 학과가 삭제되었습니다.";
     }
+
+    private List<SearchDepartmentResponse> toSearchDepartmentResponses(List<ReferenceItem> items) {
+        return items.stream()
+                .map(item -> new SearchDepartmentResponse(item.id(), item.name()))
+                .toList();
+    }
 }
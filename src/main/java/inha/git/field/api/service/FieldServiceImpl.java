@@ -1,6 +1,7 @@
 package inha.git.field.api.service;
 
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
 import inha.git.field.api.controller.dto.request.CreateFieldRequest;
 import inha.git.field.api.controller.dto.request.UpdateFieldRequest;
 import inha.git.field.api.controller.dto.response.SearchFieldResponse;
@@ -18,6 +19,7 @@ import java.util.List;
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.BaseEntity.State.INACTIVE;
 import static inha.git.common.code.status.ErrorStatus.FIELD_NOT_FOUND;
+import static inha.git.common.reference.ReferenceType.FIELD;
 
 /**
  * FieldService 인터페이스를 구현하는 서비스 클래스입니다.
@@ -31,6 +33,7 @@ public class FieldServiceImpl implements FieldService {
 
     private final FieldJpaRepository fieldJpaRepository;
     private final FieldMapper fieldMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 활성화된 모든 분야를 조회합니다.
@@ -39,7 +42,9 @@ public class FieldServiceImpl implements FieldService {
      */
     @Override
     public List<SearchFieldResponse> getFields() {
-        return fieldMapper.fieldsToSearchFieldResponses(fieldJpaRepository.findAllByState(ACTIVE));
+        return referenceDataCache.snapshot().findAll(FIELD).stream()
+                .map(item -> new SearchFieldResponse(item.id(), item.name()))
+                .toList();
     }
 
     /**
@@ -54,6 +59,7 @@ public class FieldServiceImpl implements FieldService {
     public String createField(User admin, CreateFieldRequest createFieldRequest) {
         Field field = fieldMapper.createFieldRequestToField(createFieldRequest);
         Field savedField = fieldJpaRepository.save(field);
+        referenceDataCache.invalidate();
         log.info("분야 생성 성공 - 관리자: {} 분야명: {}", admin.getName(), field.getName());
         return savedField.getName() + " 분야가 생성되었습니다.";
     }
@@ -72,6 +78,7 @@ public class FieldServiceImpl implements FieldService {
         Field field = fieldJpaRepository.findByIdAndState(fieldIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(FIELD_NOT_FOUND));
         field.setName(updateFieldRequest.name());
+        referenceDataCache.invalidate();
         log.info("분야 수정 성공 - 관리자: {} 분야명: {}", admin.getName(), field.getName());
         return field.getName() + " 분야가 수정되었습니다.";
     }
@@ -91,6 +98,7 @@ public class FieldServiceImpl implements FieldService {
                 .orElseThrow(() -> new BaseException(FIELD_NOT_FOUND));
         field.setState(INACTIVE);
         field.setDeletedAt();
+        referenceDataCache.invalidate();
         log.info("분야 삭제 성공 - 관리자: {} 분야명: {}", admin.getName(), field.getName());
         return field.getName() + " 분야가 삭제되었습니다.";
     }
@@ -0,0 +1,51 @@
+package inha.git.field.domain.repository;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import inha.git.field.domain.QField;
+import inha.git.project.api.controller.dto.response.SearchFieldResponse;
+import inha.git.utils.BatchProjection;
+import inha.git.utils.IntMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static inha.git.field.domain.QField.field;
+
+/**
+ * 분야 조회 레포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class FieldQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 게시글 목록의 분야를 한 번의 IN 쿼리로 조회
+     *
+     * @param mapping   게시글-분야 매핑 엔티티 (예: questionField)
+     * @param ownerId   매핑의 게시글 ID 경로 (예: questionField.question.id)
+     * @param fieldPath 매핑의 분야 경로 (예: questionField.field)
+     * @param ownerIds  게시글 ID 목록
+     * @return 게시글 ID별 분야 목록 (분야 번호 순)
+     */
+    public IntMap<List<SearchFieldResponse>> getFields(EntityPath<?> mapping, NumberPath<Integer> ownerId,
+                                                       QField fieldPath, List<Integer> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return new IntMap<>(0);
+        }
+        // 매핑에는 순서 컬럼이 없어 컬렉션 로딩 순서가 정해져 있지 않았으므로, 통합 검색과 같이 분야 번호 순으로 고정한다.
+        return BatchProjection.groupBy(queryFactory
+                        .select(ownerId, field.id, field.name)
+                        .from(mapping)
+                        .join(fieldPath, field)
+                        .where(ownerId.in(ownerIds))
+                        .orderBy(field.id.asc())
+                        .fetch(),
+                ownerId,
+                row -> new SearchFieldResponse(row.get(field.id), row.get(field.name)));
+    }
+}
@@ -0,0 +1,284 @@
+package inha.git.github.api.client;
+
+import inha.git.common.exceptions.BaseException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static inha.git.common.Constant.HEADER_AUTHORIZATION;
+import static inha.git.common.Constant.TOKEN;
+import static inha.git.common.code.status.ErrorStatus.FILE_NOT_FOUND;
+import static inha.git.common.code.status.ErrorStatus.GITHUB_API_ERROR;
+import static inha.git.common.code.status.ErrorStatus.GITHUB_RATE_LIMIT_EXCEEDED;
+
+/**
+ * GithubGateway는 GitHub REST API 호출을 한곳에서 처리하는 컴포넌트.
+ * 커넥션을 재사용하는 HTTP 클라이언트 하나로 호출하고, ETag 조건부 요청으로 변경되지 않은 응답은 호출 한도를 쓰지 않고 재사용한다.
+ * 같은 토큰으로 같은 자원을 동시에 요청하면 하나의 호출로 합치며, 토큰별 남은 호출 한도를 기록해 관리자 토큰이 소진되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class GithubGateway {
+
+    @Value("${github.api-url:https://api.github.com}")
+    private String apiUrl;
+    @Value("${github.client.threads:4}")
+    private int threads;
+    @Value("${github.client.connect-timeout-ms:3000}")
+    private long connectTimeout;
+    @Value("${github.client.request-timeout-ms:10000}")
+    private long requestTimeout;
+    @Value("${github.etag-cache.max-size:1000}")
+    private int etagCacheSize;
+    // 큰 파일 본문까지 보관하면 메모리를 많이 쓰므로 이 크기 이하의 응답만 ETag와 함께 보관한다.
+    @Value("${github.etag-cache.max-body-length:131072}")
+    private int etagCacheMaxBodyLength;
+    // 대체 토큰은 남은 호출 수가 이 값 이하가 되면 초기화 시각까지 사용하지 않는다.
+    @Value("${github.rate-limit.reserve:100}")
+    private int rateLimitReserve;
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+    private Map<String, CachedResponse> etagCache;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(threads);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        etagCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > etagCacheSize;
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * GitHub API를 호출하고 응답 본문을 반환한다.
+     *
+     * @param path          API 경로 (예: /repos/{owner}/{repo}/contents/{path})
+     * @param token         우선 사용할 토큰 (없으면 대체 토큰을 사용한다)
+     * @param fallbackToken 토큰이 없거나 거부되었을 때 사용할 토큰
+     * @return 응답 본문 (JSON)
+     */
+    public String get(String path, String token, Supplier<String> fallbackToken) {
+        try {
+            return getAsync(path, token, fallbackToken).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            log.error("GitHub API 호출 실패 - 경로: {} 에러메시지: {}", path, e.getMessage());
+            throw new BaseException(GITHUB_API_ERROR);
+        }
+    }
+
+    /**
+     * GitHub API를 비동기로 호출한다.
+     * 경로와 토큰이 모두 같은 요청만 진행 중인 호출의 결과를 함께 받는다.
+     * 같은 레포지토리라도 토큰마다 접근 권한이 다르므로 다른 사용자의 토큰으로 받은 응답을 공유하지 않는다.
+     *
+     * @param path          API 경로
+     * @param token         우선 사용할 토큰
+     * @param fallbackToken 대체 토큰
+     * @return 응답 본문
+     */
+    public CompletableFuture<String> getAsync(String path, String token, Supplier<String> fallbackToken) {
+        String key = tokenKey(token) + " " + path;
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<String> response;
+        try {
+            response = fetch(key, path, token, fallbackToken);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((body, e) -> {
+            inFlight.remove(key, call);
+            if (e != null) {
+                call.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+            } else {
+                call.complete(body);
+            }
+        });
+        return call;
+    }
+
+    /**
+     * 토큰이 유효한지 확인한다.
+     *
+     * @param token GitHub 토큰
+     * @return 유효 여부
+     */
+    public boolean isValidToken(String token) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request("/user", token).build(), HttpResponse.BodyHandlers.discarding());
+            recordRateLimit(token, response);
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            log.error("Github Token 확인 실패 - 에러메시지: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 호출 한도가 초기화된 토큰 기록을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${github.rate-limit.cleanup-interval-ms:600000}")
+    public void evictExpiredRateLimits() {
+        long now = System.currentTimeMillis();
+        rateLimits.values().removeIf(rateLimit -> rateLimit.resetAt() <= now);
+    }
+
+    /**
+     * 호출 키에 쓸 토큰 식별자. 토큰 원문이 캐시 키로 남지 않도록 해시를 쓴다.
+     */
+    private static String tokenKey(String token) {
+        if (token == null) {
+            return "-";
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CompletableFuture<String> fetch(String key, String path, String token, Supplier<String> fallbackToken) {
+        if (token == null || !hasBudget(token, 0)) {
+            return fetchWithFallback(key, path, fallbackToken);
+        }
+        return send(key, path, token).thenCompose(result -> {
+            if (result.isRejected()) {
+                log.warn("사용자 토큰으로 GitHub API 호출에 실패했습니다. 관리자 토큰을 사용합니다. - 경로: {} 상태: {}", path, result.status());
+                return fetchWithFallback(key, path, fallbackToken);
+            }
+            return CompletableFuture.completedFuture(result.body());
+        });
+    }
+
+    private CompletableFuture<String> fetchWithFallback(String key, String path, Supplier<String> fallbackToken) {
+        try {
+            String token = fallbackToken.get();
+            if (!hasBudget(token, rateLimitReserve)) {
+                throw new BaseException(GITHUB_RATE_LIMIT_EXCEEDED);
+            }
+            return send(key, path, token).thenApply(result -> {
+                if (result.isRejected()) {
+                    throw new BaseException(GITHUB_RATE_LIMIT_EXCEEDED);
+                }
+                return result.body();
+            });
+        } catch (BaseException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Result> send(String key, String path, String token) {
+        HttpRequest.Builder builder = request(path, token);
+        CachedResponse cached = etagCache.get(key);
+        if (cached != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    recordRateLimit(token, response);
+                    return toResult(key, path, cached, response);
+                });
+    }
+
+    private Result toResult(String key, String path, CachedResponse cached, HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status == 304 && cached != null) {
+            return new Result(200, cached.body());
+        }
+        if (status == 200) {
+            String body = response.body();
+            response.headers().firstValue("ETag")
+                    .filter(etag -> body.length() <= etagCacheMaxBodyLength)
+                    .ifPresent(etag -> etagCache.put(key, new CachedResponse(etag, body)));
+            return new Result(status, body);
+        }
+        if (status == 404) {
+            throw new BaseException(FILE_NOT_FOUND);
+        }
+        if (status == 401 || status == 403 || status == 429) {
+            return new Result(status, null);
+        }
+        log.error("GitHub API 응답 오류 - 경로: {} 상태: {}", path, status);
+        throw new BaseException(GITHUB_API_ERROR);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(apiUrl + path))
+                .timeout(Duration.ofMillis(requestTimeout))
+                .header(HEADER_AUTHORIZATION, TOKEN + token)
+                .header("Accept", "application/vnd.github+json");
+    }
+
+    private boolean hasBudget(String token, int reserve) {
+        RateLimit rateLimit = rateLimits.get(token);
+        return rateLimit == null || rateLimit.resetAt() <= System.currentTimeMillis() || rateLimit.remaining() > reserve;
+    }
+
+    private void recordRateLimit(String token, HttpResponse<?> response) {
+        response.headers().firstValue("X-RateLimit-Remaining").ifPresent(remaining -> {
+            long resetAt = response.headers().firstValueAsLong("X-RateLimit-Reset").orElse(0) * 1000;
+            rateLimits.put(token, new RateLimit(Integer.parseInt(remaining), resetAt));
+        });
+    }
+
+    private record CachedResponse(String etag, String body) {
+    }
+
+    private record RateLimit(int remaining, long resetAt) {
+    }
+
+    private record Result(int status, String body) {
+
+        private boolean isRejected() {
+            return status != 200;
+        }
+    }
+}
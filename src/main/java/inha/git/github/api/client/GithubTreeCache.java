@@ -0,0 +1,127 @@
+package inha.git.github.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inha.git.common.exceptions.BaseException;
+import inha.git.utils.cache.CacheSerializer;
+import inha.git.utils.cache.TieredCache;
+import inha.git.utils.cache.TieredCacheManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static inha.git.common.Constant.REPOS_PATH;
+import static inha.git.common.code.status.ErrorStatus.JSON_CONVERT_ERROR;
+
+/**
+ * GithubTreeCache는 GitHub 레포지토리의 전체 트리와 파일 내용을 SHA 기준으로 캐싱하는 컴포넌트.
+ * 브랜치 HEAD가 가리키는 트리 SHA만 짧게 캐싱하고, 트리와 blob은 SHA가 같으면 내용이 바뀌지 않으므로 오래 보관한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubTreeCache {
+
+    private final GithubGateway githubGateway;
+    private final TieredCacheManager tieredCacheManager;
+    private final ObjectMapper objectMapper;
+
+    // HEAD 변경이 목록에 반영되기까지의 최대 지연 시간
+    @Value("${github.tree.head-ttl-seconds:60}")
+    private long headTtl;
+    @Value("${github.tree.ttl-seconds:604800}")
+    private long treeTtl;
+    @Value("${github.tree.blob-ttl-seconds:604800}")
+    private long blobTtl;
+    // contents API와 같이 이 크기를 넘는 파일은 내용을 내려주지 않는다.
+    @Value("${github.tree.max-blob-size:1048576}")
+    private long maxBlobSize;
+    @Value("${github.tree.local-max-weight:33554432}")
+    private long localMaxWeight;
+
+    private TieredCache<String> headCache;
+    private TieredCache<RepositoryTree> treeCache;
+    private TieredCache<String> blobCache;
+
+    @PostConstruct
+    void init() {
+        headCache = tieredCacheManager.create("github:head", CacheSerializer.string(),
+                Duration.ofSeconds(headTtl), Duration.ofSeconds(headTtl), 1024 * 1024);
+        treeCache = tieredCacheManager.create("github:tree",
+                CacheSerializer.of(tree -> tree.encode().getBytes(StandardCharsets.UTF_8),
+                        bytes -> RepositoryTree.decode(new String(bytes, StandardCharsets.UTF_8))),
+                Duration.ofSeconds(treeTtl), Duration.ofSeconds(treeTtl), localMaxWeight);
+        blobCache = tieredCacheManager.create("github:blob", CacheSerializer.string(),
+                Duration.ofSeconds(blobTtl), Duration.ofSeconds(blobTtl), localMaxWeight);
+    }
+
+    /**
+     * 레포지토리 기본 브랜치 HEAD의 전체 트리를 반환한다.
+     *
+     * @param repoName      레포지토리 이름 (owner/repo)
+     * @param token         우선 사용할 토큰
+     * @param fallbackToken 대체 토큰
+     * @return 트리 색인 (GitHub가 트리를 잘라서 돌려준 경우 null)
+     */
+    public RepositoryTree getTree(String repoName, String token, Supplier<String> fallbackToken) {
+        // 재귀 없이 조회하면 루트 항목만 돌려주므로 응답이 작고, ETag로 재검증된다.
+        String sha = headCache.get(repoName, () -> readTree(githubGateway.get(
+                REPOS_PATH + repoName + "/git/trees/HEAD", token, fallbackToken)).path("sha").asText());
+        RepositoryTree tree = treeCache.get(sha, () -> fetchTree(repoName, sha, token, fallbackToken));
+        return tree.isTruncated() ? null : tree;
+    }
+
+    /**
+     * 파일 내용을 Base64 문자열로 반환한다.
+     *
+     * @param repoName      레포지토리 이름
+     * @param entry         파일 항목
+     * @param token         우선 사용할 토큰
+     * @param fallbackToken 대체 토큰
+     * @return Base64로 인코딩된 내용 (크기 제한을 넘으면 빈 문자열)
+     */
+    public String getBlob(String repoName, RepositoryTree.Entry entry, String token, Supplier<String> fallbackToken) {
+        if (entry.size() > maxBlobSize) {
+            return "";
+        }
+        return blobCache.get(entry.sha(), () -> readTree(githubGateway.get(
+                REPOS_PATH + repoName + "/git/blobs/" + entry.sha(), token, fallbackToken))
+                .path("content").asText().replace("\n", ""));
+    }
+
+    private RepositoryTree fetchTree(String repoName, String sha, String token, Supplier<String> fallbackToken) {
+        JsonNode response = readTree(githubGateway.get(REPOS_PATH + repoName + "/git/trees/" + sha + "?recursive=1", token, fallbackToken));
+        if (response.path("truncated").asBoolean()) {
+            log.info("Github 트리가 너무 커서 디렉토리 단위로 조회합니다. - 레포지토리: {}", repoName);
+            return RepositoryTree.truncated(sha);
+        }
+        List<RepositoryTree.Entry> entries = new ArrayList<>();
+        for (JsonNode node : response.path("tree")) {
+            String type = node.path("type").asText();
+            // 서브모듈(commit)은 이 레포지토리에서 내용을 볼 수 없으므로 제외한다.
+            if ("tree".equals(type) || "blob".equals(type)) {
+                entries.add(new RepositoryTree.Entry(node.path("path").asText(), "tree".equals(type),
+                        node.path("sha").asText(), node.path("size").asLong()));
+            }
+        }
+        log.info("Github 트리를 캐싱합니다. - 레포지토리: {} 트리: {} 항목 수: {}", repoName, sha, entries.size());
+        return RepositoryTree.of(sha, entries);
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(JSON_CONVERT_ERROR);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package inha.git.github.api.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RepositoryTree는 한 커밋 시점의 레포지토리 전체 경로를 담는 불변 색인.
+ * 트리 SHA가 같으면 내용도 같으므로, 한 번 만든 색인은 갱신 없이 재사용한다.
+ */
+public final class RepositoryTree {
+
+    private static final String ROOT = "";
+    private static final String TRUNCATED = "T";
+    private static final String COMPLETE = "C";
+
+    private final String sha;
+    private final boolean truncated;
+    private final Map<String, Entry> entries;
+    private final Map<String, List<Entry>> children;
+
+    private RepositoryTree(String sha, boolean truncated, Map<String, Entry> entries, Map<String, List<Entry>> children) {
+        this.sha = sha;
+        this.truncated = truncated;
+        this.entries = entries;
+        this.children = children;
+    }
+
+    /**
+     * GitHub가 트리를 잘라서 돌려준 경우의 빈 색인을 생성합니다.
+     * 같은 SHA로 전체 트리를 다시 받지 않도록 잘린 사실만 기록합니다.
+     *
+     * @param sha 트리 SHA
+     * @return RepositoryTree
+     */
+    public static RepositoryTree truncated(String sha) {
+        return new RepositoryTree(sha, true, Map.of(), Map.of());
+    }
+
+    /**
+     * 경로 목록으로 색인을 생성합니다.
+     *
+     * @param sha     트리 SHA
+     * @param entries 경로 목록 (GitHub 트리 API 순서)
+     * @return RepositoryTree
+     */
+    public static RepositoryTree of(String sha, List<Entry> entries) {
+        Map<String, Entry> byPath = new HashMap<>(entries.size() * 2);
+        Map<String, List<Entry>> children = new HashMap<>();
+        children.put(ROOT, new ArrayList<>());
+        for (Entry entry : entries) {
+            byPath.put(entry.path(), entry);
+            if (entry.directory()) {
+                children.computeIfAbsent(entry.path(), path -> new ArrayList<>());
+            }
+            children.computeIfAbsent(entry.parent(), path -> new ArrayList<>()).add(entry);
+        }
+        return new RepositoryTree(sha, false, byPath, children);
+    }
+
+    /**
+     * 저장용 문자열에서 색인을 복원합니다.
+     *
+     * @param encoded encode()로 만든 문자열
+     * @return RepositoryTree
+     */
+    public static RepositoryTree decode(String encoded) {
+        String[] lines = encoded.split("\n");
+        String[] header = lines[0].split("\t");
+        if (TRUNCATED.equals(header[1])) {
+            return truncated(header[0]);
+        }
+        List<Entry> entries = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String[] columns = lines[i].split("\t", 4);
+            entries.add(new Entry(columns[3], "d".equals(columns[0]), columns[1], Long.parseLong(columns[2])));
+        }
+        return of(header[0], entries);
+    }
+
+    /**
+     * 첫 줄에 "트리 SHA 잘림 여부"를, 이후 한 줄에 한 경로씩 "종류 SHA 크기 경로"를 탭으로 구분한 문자열로 변환합니다.
+     *
+     * @return 저장용 문자열
+     */
+    public String encode() {
+        StringBuilder builder = new StringBuilder()
+                .append(sha).append('\t').append(truncated ? TRUNCATED : COMPLETE).append('\n');
+        appendChildren(builder, ROOT);
+        return builder.toString();
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public Entry find(String path) {
+        return entries.get(path);
+    }
+
+    /**
+     * 디렉토리 바로 아래의 항목을 반환합니다.
+     *
+     * @param path 디렉토리 경로 (루트는 빈 문자열)
+     * @return 하위 항목 목록 (디렉토리가 아니면 null)
+     */
+    public List<Entry> list(String path) {
+        List<Entry> entries = children.get(path);
+        return entries != null ? List.copyOf(entries) : null;
+    }
+
+    private void appendChildren(StringBuilder builder, String path) {
+        for (Entry entry : children.getOrDefault(path, List.of())) {
+            builder.append(entry.directory() ? 'd' : 'f').append('\t')
+                    .append(entry.sha()).append('\t')
+                    .append(entry.size()).append('\t')
+                    .append(entry.path()).append('\n');
+            if (entry.directory()) {
+                appendChildren(builder, entry.path());
+            }
+        }
+    }
+
+    public record Entry(String path, boolean directory, String sha, long size) {
+
+        public String name() {
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+
+        private String parent() {
+            int index = path.lastIndexOf('/');
+            return index < 0 ? ROOT : path.substring(0, index);
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package inha.git.github.api.mapper;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import inha.git.github.api.controller.dto.response.GithubRepositoryResponse;
-import org.kohsuke.github.GHRepository;
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
-import java.util.List;
-
 @Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public interface GithubMapper {
 
-    @Mapping(target = "archiveUrl", expression = "java(getArchiveUrl(repo))")
-    GithubRepositoryResponse toDto(GHRepository repo);
+    /**
+     * GitHub API의 레포지토리 응답을 GithubRepositoryResponse로 변환합니다.
+     *
+     * @param repo 레포지토리 JSON
+     * @return GithubRepositoryResponse
+     */
+    default GithubRepositoryResponse toDto(JsonNode repo) {
+        String fullName = repo.path("full_name").asText();
+        String defaultBranch = repo.path("default_branch").asText();
+        return new GithubRepositoryResponse(
+                repo.path("id").asLong(),
+                repo.path("name").asText(),
+                fullName,
+                defaultBranch,
+                getArchiveUrl(fullName, defaultBranch));
+    }
 
-    default String getArchiveUrl(GHRepository repo) {
-        return "https://api.github.com/repos/" + repo.getFullName() + "/zipball/" + repo.getDefaultBranch();
+    default String getArchiveUrl(String fullName, String defaultBranch) {
+        return "https://api.github.com/repos/" + fullName + "/zipball/" + defaultBranch;
     }
 }
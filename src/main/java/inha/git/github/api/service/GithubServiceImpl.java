@@ -3,8 +3,12 @@ package inha.git.github.api.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import inha.git.common.exceptions.BaseException;
+import inha.git.github.api.client.GithubGateway;
+import inha.git.github.api.client.GithubTreeCache;
+import inha.git.github.api.client.RepositoryTree;
 import inha.git.github.api.controller.dto.request.GitubTokenResquest;
 import inha.git.github.api.controller.dto.response.GithubFileContentResponse;
 import inha.git.github.api.controller.dto.response.GithubItemResponse;
@@ -17,27 +21,20 @@ import inha.git.project.api.controller.dto.response.SearchFileResponse;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.repository.ProjectJpaRepository;
 import inha.git.user.domain.User;
-import inha.git.user.domain.enums.Role;
 import inha.git.user.domain.repository.UserJpaRepository;
-import inha.git.utils.RedisProvider;
+import inha.git.utils.cache.JsonCacheSerializer;
+import inha.git.utils.cache.TieredCache;
+import inha.git.utils.cache.TieredCacheManager;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.kohsuke.github.GHRepository;
-import org.kohsuke.github.GitHub;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriUtils;
 
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
@@ -59,10 +56,24 @@ public class GithubServiceImpl implements GithubService {
     private final ProjectJpaRepository projectJpaRepository;
     private final GithubMapper githubMapper;
     private final GithubTokenJpaRepository githubTokenJpaRepository;
-    private final RedisProvider redisProvider;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final GithubGateway githubGateway;
+    private final GithubTreeCache githubTreeCache;
+    private final TieredCacheManager tieredCacheManager;
     private final ObjectMapper objectMapper;
 
+    private TieredCache<List<GithubRepositoryResponse>> repositoryCache;
+    private TieredCache<List<SearchFileResponse>> contentsCache;
+
+    @PostConstruct
+    void initCaches() {
+        repositoryCache = tieredCacheManager.create("github:repos",
+                JsonCacheSerializer.of(objectMapper, new TypeReference<List<GithubRepositoryResponse>>() {
+                }), Duration.ofMinutes(1), Duration.ofMinutes(1), 4 * 1024 * 1024);
+        contentsCache = tieredCacheManager.create("github:contents",
+                JsonCacheSerializer.of(objectMapper, new TypeReference<List<SearchFileResponse>>() {
+                }), Duration.ofHours(1), Duration.ofMinutes(5), 16 * 1024 * 1024);
+    }
+
     /**
      * Github Token을 갱신합니다.
      *
@@ -94,38 +105,28 @@ public class GithubServiceImpl implements GithubService {
             throw new BaseException(GITHUB_TOKEN_NOT_FOUND);
         }
 
-        // Redis에서 캐시된 레포지토리 목록 조회
-        String cacheKey = GITHUB_REPO_CACHE_PREFIX + user.getId(); // 유저별로 캐시 저장
-        String cachedRepositories = redisProvider.getValueOps(cacheKey);
-
-        // 캐시가 있으면 반환
-        if (cachedRepositories != null) {
-            log.info("Redis에서 Github 레포지토리 목록을 가져왔습니다. - 사용자: {}", user.getName());
-            // 캐시된 JSON 데이터를 DTO로 변환하여 반환
-            return fromJson(cachedRepositories);
-        }
-
-        try {
-            GitHub github = GitHub.connectUsingOAuth(githubToken);
-            List<GHRepository> repositories = github.getMyself().listRepositories().toList();
-            String username = github.getMyself().getLogin(); // 현재 사용자의 GitHub 계정 가져오기
-
-            // 내가 소유한 레포지토리만 필터링
-            List<GithubRepositoryResponse> githubRepositoryResponses = repositories.stream()
-                    .filter(repo -> !repo.isPrivate())  // 퍼블릭 레포지토리만 필터링
-                    .filter(repo -> repo.getOwnerName().equals(username)) // 소유자가 현재 사용자와 같은지 확인
-                    .sorted(Comparator.comparing(GHRepository::getId).reversed()) // 아이디 최신순으로 정렬
-                    .map(githubMapper::toDto)
-                    .toList();
+        return repositoryCache.get(String.valueOf(user.getId()), () -> fetchGithubRepositories(githubToken)); // 유저별로 캐시 저장
+    }
 
-            // 캐시가 없었으면, 데이터를 Redis에 캐싱
-            log.info("Github 레포지토리 목록을 Redis에 저장합니다. - 사용자: {}", user.getName());
-            redisProvider.setDataExpire(cacheKey, toJson(githubRepositoryResponses), 60); // 1분 동안 캐시 유지
-            return githubRepositoryResponses;
-        } catch (IOException e) {
-            log.error("Github 레포지토리 목록을 가져오는데 실패했습니다. - 사용자: {} 에러메시지: {} ", user.getName(), e.getMessage());
-            throw new BaseException(FAILED_TO_GET_GITHUB_REPOSITORIES);
+    /**
+     * 사용자가 소유한 퍼블릭 레포지토리 목록을 페이지 단위로 조회합니다.
+     *
+     * @param githubToken Github Token
+     * @return Github 레포지토리 목록 (아이디 최신순)
+     */
+    private List<GithubRepositoryResponse> fetchGithubRepositories(String githubToken) {
+        List<GithubRepositoryResponse> githubRepositoryResponses = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            JsonNode repositories = readTree(githubGateway.get(GITHUB_USER_REPOS + page, githubToken, () -> {
+                throw new BaseException(FAILED_TO_GET_GITHUB_REPOSITORIES);
+            }));
+            repositories.forEach(repo -> githubRepositoryResponses.add(githubMapper.toDto(repo)));
+            if (repositories.size() < GITHUB_PAGE_SIZE) {
+                break;
+            }
         }
+        githubRepositoryResponses.sort(Comparator.comparing(GithubRepositoryResponse::id).reversed()); // 아이디 최신순으로 정렬
+        return githubRepositoryResponses;
     }
 
     /**
@@ -135,17 +136,7 @@ public class GithubServiceImpl implements GithubService {
      * @return 유효 여부
      */
     private boolean isValidGithubToken(String token) {
-        String url = "https://api.github.com/user";
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HEADER_AUTHORIZATION, TOKEN + token);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            log.error("Github Token이 유효하지 않습니다. - 에러메시지: {}", e.getMessage());
-            return false;
-        }
+        return githubGateway.isValidToken(token);
     }
 
     /**
@@ -170,101 +161,111 @@ public class GithubServiceImpl implements GithubService {
             throw new BaseException(PROJECT_NOT_PUBLIC);
         }
 
-        // Redis 캐시 키 설정 (프로젝트와 경로에 따라 캐시 구분)
-        String cacheKey = GITHUB_FILE_CACHE_PREFIX + project.getRepoName() + ":" + path;
-        String cachedFiles = redisProvider.getValueOps(cacheKey);
-        // 캐시가 있으면 반환
-        if (cachedFiles != null) {
-            log.info("Redis에서 Github 파일 목록을 가져왔습니다. - 사용자: {} 프로젝트 ID: {}", user.getName(), projectIdx);
-            try {
-                return objectMapper.readValue(cachedFiles, new TypeReference<>() {
-                });
-            } catch (Exception e) {
-                log.error("Redis 캐시 데이터 변환 실패 - 사용자: {} 프로젝트 ID: {} 캐시 데이터: {} 에러: {}", user.getName(), projectIdx, cachedFiles, e.getMessage(), e);
-            }
+        String repoName = project.getRepoName();
+        String githubToken = project.getUser().getGithubToken();
+        RepositoryTree tree = githubTreeCache.getTree(repoName, githubToken, this::getAdminGithubToken);
+        if (tree != null) {
+            return getGithubFilesFromTree(user, tree, repoName, normalizePath(path), githubToken);
         }
 
-        String fileCacheKey = GITHUB_FILE_CONTENT_CACHE_PREFIX + project.getRepoName() + ":" + path;
-        String cachedFileContent = redisProvider.getValueOps(fileCacheKey);
-        // 캐시가 있으면 반환
-        if (cachedFileContent != null) {
-            log.info("Redis에서 Github 파일 내용을 가져왔습니다. - 사용자: {} 레포지토리: {} 경로: {}", user.getName(), project.getRepoName(), path);
-            return  List.of(fromJson(cachedFileContent, SearchFileDetailResponse.class));
+        // 트리가 잘린 큰 레포지토리는 디렉토리 단위로 조회한다.
+        return contentsCache.get(repoName + ":" + path, () -> fetchGithubContents(user, repoName, path, githubToken));
+    }
+
+    /**
+     * contents API로 한 경로의 파일 목록이나 파일 내용을 조회합니다.
+     * contents API는 디렉토리면 목록을, 파일이면 파일 내용을 돌려주므로 한 번의 호출로 구분합니다.
+     *
+     * @param user        사용자 정보
+     * @param repoName    레포지토리 이름
+     * @param path        파일 경로
+     * @param githubToken 프로젝트 작성자의 Github Token
+     * @return 파일 목록 또는 파일 내용
+     */
+    private List<SearchFileResponse> fetchGithubContents(User user, String repoName, String path, String githubToken) {
+        log.info("Github 파일 목록을 가져옵니다. - 사용자: {} 레포지토리: {} 경로: {}", user.getName(), repoName, path);
+        JsonNode contents = readTree(githubGateway.get(
+                REPOS_PATH + repoName + GITHUB_CONTENTS + UriUtils.encodePath(path, StandardCharsets.UTF_8),
+                githubToken,
+                this::getAdminGithubToken));
+        if (!contents.isArray()) {
+            return List.of(getGithubFileContent(user, objectMapper.convertValue(contents, GithubFileContentResponse.class), path));
         }
-        // 캐시가 없거나 변환에 실패한 경우 GitHub API 호출
-        log.info("Github 파일 목록을 가져옵니다. - 사용자: {} 프로젝트 ID: {}", user.getName(), projectIdx);
-        String url = GITHUB_API_URL + project.getRepoName() + GITHUB_CONTENTS + path;
 
-        HttpHeaders headers = new HttpHeaders();
-        String githubToken = project.getUser().getGithubToken();
-        headers.set(HEADER_AUTHORIZATION, TOKEN + githubToken);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-        ResponseEntity<List<GithubItemResponse>> response;
-        try {
-            response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<>() {
-                    }
-            );
-        } catch (RestClientException e) {
-            return List.of(getGithubFileContent(user, githubToken, project.getRepoName(), path, fileCacheKey));
-        } catch (Exception e) {
-            log.warn("사용자 토큰으로 GitHub API 호출에 실패했습니다. 관리자 토큰을 사용합니다. - 에러: {}", e.getMessage());
-            String adminGithubToken = githubTokenJpaRepository.findAll().stream()
-                    .findFirst()
-                    .orElseThrow(() -> new BaseException(GITHUB_TOKEN_NOT_FOUND))
-                    .getToken();
-            headers.set(HEADER_AUTHORIZATION, TOKEN + adminGithubToken);
-            entity = new HttpEntity<>(headers);
+        List<GithubItemResponse> items = objectMapper.convertValue(contents, new TypeReference<>() {
+        });
+        return items.stream()
+                .filter(f -> isVisible(f.name(), f.path()))
+                .map(this::mapToFileResponse)
+                .toList();
+    }
 
-            try {
-                response = restTemplate.exchange(
-                        url,
-                        HttpMethod.GET,
-                        entity,
-                        new ParameterizedTypeReference<List<GithubItemResponse>>() {
-                        }
-                );
-            }catch (Exception ex) {
-                return List.of(getGithubFileContent(user, adminGithubToken, project.getRepoName(), path, fileCacheKey));
-            }
+    /**
+     * 레포지토리 트리에서 파일 목록이나 파일 내용을 조회합니다.
+     * 디렉토리 목록은 트리에서 바로 만들고, 파일 내용만 blob SHA로 가져옵니다.
+     *
+     * @param user        사용자 정보
+     * @param tree        레포지토리 트리
+     * @param repoName    레포지토리 이름
+     * @param path        정규화된 경로
+     * @param githubToken 프로젝트 작성자의 Github Token
+     * @return 파일 목록 또는 파일 내용
+     */
+    private List<SearchFileResponse> getGithubFilesFromTree(User user, RepositoryTree tree, String repoName, String path, String githubToken) {
+        List<RepositoryTree.Entry> children = tree.list(path);
+        if (children != null) {
+            return children.stream()
+                    .filter(entry -> isVisible(entry.name(), entry.path()))
+                    .map(entry -> entry.directory()
+                            ? (SearchFileResponse) new SearchDirectoryResponse(entry.name(), null)
+                            : new SearchFileDetailResponse(entry.name(), null))
+                    .toList();
         }
 
-        List<GithubItemResponse> items = response.getBody();
-        if (items == null) {
-            log.error("Github 파일 목록이 없습니다. - 사용자: {} 프로젝트 ID: {}", user.getName(), projectIdx);
+        RepositoryTree.Entry entry = tree.find(path);
+        if (entry == null) {
+            log.error("Github 파일을 찾을 수 없습니다. - 사용자: {} 레포지토리: {} 경로: {}", user.getName(), repoName, path);
             throw new BaseException(FILE_NOT_FOUND);
         }
+        String content = githubTreeCache.getBlob(repoName, entry, githubToken, this::getAdminGithubToken);
+        return List.of(new SearchFileDetailResponse(entry.name(), FILE, decodeContent(entry.name(), content)));
+    }
 
-        List<SearchFileResponse> fileResponses = items.stream()
-                .filter(f -> !f.name().equals(GIT) &&
-                        !f.name().equals(DS_STORE) &&
-                        !f.name().startsWith(UNDERBAR) &&
-                        !f.name().startsWith(MACOSX) &&
-                        !f.path().contains(NODE_MODULES) &&
-                        !f.name().equals(PYC) &&
-                        !f.name().equals(PYCACHE) &&
-                        !f.name().equals(IDEA) &&
-                        !f.name().endsWith(OUT) &&
-                        !f.name().endsWith(IML) &&
-                        !f.name().endsWith(DSYM) &&
-                        !f.name().endsWith(GRADLE) &&
-                        !f.name().endsWith(OUT_) &&
-                        !f.name().endsWith(CLASS) &&
-                        !f.name().endsWith(BUILD) &&
-                        !f.name().endsWith(BAT))
-                .map(this::mapToFileResponse)
-                .toList();
-        try {
-            String jsonFileResponses = objectMapper.writerFor(new TypeReference<List<SearchFileResponse>>() {}).writeValueAsString(fileResponses);
-            redisProvider.setDataExpire(cacheKey, jsonFileResponses, 3600);
-        } catch (JsonProcessingException e) {
-            log.error("Github 파일 목록을 JSON으로 변환하는데 실패했습니다. - 사용자: {} 프로젝트 ID: {} 에러: {}",
-                    user.getName(), projectIdx, e.getMessage(), e);
+    /**
+     * 화면에 보여줄 파일인지 확인합니다. 빌드 산출물이나 IDE 설정 파일은 제외합니다.
+     *
+     * @param name 파일 이름
+     * @param path 파일 경로
+     * @return 표시 여부
+     */
+    private boolean isVisible(String name, String path) {
+        return !name.equals(GIT) &&
+                !name.equals(DS_STORE) &&
+                !name.startsWith(UNDERBAR) &&
+                !name.startsWith(MACOSX) &&
+                !path.contains(NODE_MODULES) &&
+                !name.equals(PYC) &&
+                !name.equals(PYCACHE) &&
+                !name.equals(IDEA) &&
+                !name.endsWith(OUT) &&
+                !name.endsWith(IML) &&
+                !name.endsWith(DSYM) &&
+                !name.endsWith(GRADLE) &&
+                !name.endsWith(OUT_) &&
+                !name.endsWith(CLASS) &&
+                !name.endsWith(BUILD) &&
+                !name.endsWith(BAT);
+    }
+
+    private String normalizePath(String path) {
+        String normalized = path == null ? "" : path.strip();
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
         }
-        return fileResponses;
+        return normalized;
     }
 
     /**
@@ -282,90 +283,61 @@ public class GithubServiceImpl implements GithubService {
     }
 
     /**
-     * Github 파일 내용을 조회합니다.
+     * Github 파일 내용을 SearchFileDetailResponse로 변환합니다.
      *
-     * @param user         사용자 정보
-     * @param githubToken  Github Token
-     * @param repoName     레포지토리 이름
-     * @param path         파일 경로
-     * @param fileCacheKey 파일 캐시 키
+     * @param user        사용자 정보
+     * @param fileContent Github 파일 내용
+     * @param path        파일 경로
      * @return 파일 내용
      */
-    public SearchFileDetailResponse getGithubFileContent(User user, String githubToken, String repoName, String path, String fileCacheKey) {
-
-        // 캐시가 없으면 GitHub API 호출
-        String url = GITHUB_API_URL + repoName + GITHUB_CONTENTS + path;
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HEADER_AUTHORIZATION, TOKEN_PREFIX + githubToken);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-        ResponseEntity<GithubFileContentResponse> response = restTemplate.exchange(url, HttpMethod.GET, entity, GithubFileContentResponse.class);
-
-        GithubFileContentResponse fileContent = response.getBody();
-        if (fileContent == null || fileContent.content() == null) {
+    private SearchFileDetailResponse getGithubFileContent(User user, GithubFileContentResponse fileContent, String path) {
+        if (fileContent.content() == null) {
             log.error("Github 파일 내용을 가져오는데 실패했습니다. - 사용자: {} 경로: {}", user.getName(), path);
             throw new BaseException(FILE_NOT_FOUND);
         }
 
-        String content;
         String fileName = fileContent.name();
-
-        // 이미지 파일이나 텍스트 파일인지 구분하여 처리
-        if (isBinaryFile(fileName)) {
-            content = fileContent.content();
-        } else {
-            byte[] decodedBytes = Base64.getDecoder().decode(fileContent.content().replaceAll("\n", ""));
-            content = new String(decodedBytes, StandardCharsets.UTF_8);
-        }
-
-        SearchFileDetailResponse fileDetailResponse = new SearchFileDetailResponse(fileName, FILE, content);
-
-        // 파일 내용을 Redis에 캐싱 (TTL 1시간)
-        redisProvider.setDataExpire(fileCacheKey, toJson(fileDetailResponse), 3600);
-
-        return fileDetailResponse;
+        String content = decodeContent(fileName, fileContent.content().replaceAll("\n", ""));
+        return new SearchFileDetailResponse(fileName, FILE, content);
     }
 
-    private boolean isBinaryFile(String fileName) {
-        return fileName.endsWith(".png") || fileName.endsWith(".jpg") || fileName.endsWith(".jpeg") ||
-                fileName.endsWith(".gif") || fileName.endsWith(".svg") || fileName.endsWith(".ico") ||
-                fileName.endsWith(".bmp") || fileName.endsWith(".webp");
+    /**
+     * 관리자 Github Token을 조회합니다.
+     *
+     * @return 관리자 Github Token
+     */
+    private String getAdminGithubToken() {
+        return githubTokenJpaRepository.findAll().stream()
+                .findFirst()
+                .orElseThrow(() -> new BaseException(GITHUB_TOKEN_NOT_FOUND))
+                .getToken();
     }
 
-    private List<GithubRepositoryResponse> fromJson(String cachedRepositories) {
+    private JsonNode readTree(String json) {
         try {
-            GithubRepositoryResponse[] reposArray = objectMapper.readValue(cachedRepositories, GithubRepositoryResponse[].class);
-            return Arrays.asList(reposArray);
+            return objectMapper.readTree(json);
         } catch (JsonProcessingException e) {
             throw new BaseException(JSON_CONVERT_ERROR);
         }
     }
 
     /**
-     * GithubRepositoryResponse 리스트를 JSON으로 변환하는 메서드
+     * Base64로 인코딩된 파일 내용을 변환합니다. 이미지 파일은 Base64 그대로, 텍스트 파일은 디코딩하여 반환합니다.
+     *
+     * @param fileName 파일 이름
+     * @param content  Base64로 인코딩된 내용
+     * @return 파일 내용
      */
-    private String toJson(List<GithubRepositoryResponse> repositories) {
-        try {
-            return objectMapper.writeValueAsString(repositories);
-        } catch (JsonProcessingException e) {
-            throw new BaseException(JSON_CONVERT_ERROR);
-        }
-    }
-
-    private <T> T fromJson(String json, Class<T> valueType) {
-        try {
-            return objectMapper.readValue(json, valueType);
-        } catch (JsonProcessingException e) {
-            throw new BaseException(JSON_CONVERT_ERROR);
+    private String decodeContent(String fileName, String content) {
+        if (isBinaryFile(fileName)) {
+            return content;
         }
+        return new String(Base64.getDecoder().decode(content), StandardCharsets.UTF_8);
     }
 
-    private String toJson(Object object) {
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 변환에 실패했습니다. - 에러메시지: {}", e.getMessage());
-            throw new BaseException(JSON_CONVERT_ERROR);
-        }
+    private boolean isBinaryFile(String fileName) {
+        return fileName.endsWith(".png") || fileName.endsWith(".jpg") || fileName.endsWith(".jpeg") ||
+                fileName.endsWith(".gif") || fileName.endsWith(".svg") || fileName.endsWith(".ico") ||
+                fileName.endsWith(".bmp") || fileName.endsWith(".webp");
     }
 }
@@ -6,6 +6,9 @@ import inha.git.mapping.domain.id.FoundingRecommendId;
 import inha.git.project.domain.Project;
 import inha.git.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 
@@ -18,5 +21,7 @@ public interface FoundingRecommendJpaRepository extends JpaRepository<FoundingRe
 
     boolean existsByUserAndProject(User user, Project project);
 
-    void deleteByUserAndProject(User user, Project project);
+    @Modifying
+    @Query("DELETE FROM FoundingRecommend r WHERE r.user = :user AND r.project = :project")
+    int deleteByUserAndProject(@Param("user") User user, @Param("project") Project project);
 }
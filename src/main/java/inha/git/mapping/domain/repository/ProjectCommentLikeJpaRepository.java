@@ -5,7 +5,12 @@ import inha.git.mapping.domain.ProjectCommentLike;
 import inha.git.mapping.domain.id.ProjectCommentLikeId;
 import inha.git.project.domain.ProjectComment;
 import inha.git.user.domain.User;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -15,5 +20,10 @@ public interface ProjectCommentLikeJpaRepository extends JpaRepository<ProjectCo
 
     boolean existsByUserAndProjectComment(User user, ProjectComment projectComment);
 
-    void deleteByUserAndProjectComment(User user, ProjectComment projectComment);
+    @Modifying
+    @Query("DELETE FROM ProjectCommentLike l WHERE l.user = :user AND l.projectComment = :projectComment")
+    int deleteByUserAndProjectComment(@Param("user") User user, @Param("projectComment") ProjectComment projectComment);
+
+    @Query("SELECT l.id.projectCommentId FROM ProjectCommentLike l WHERE l.id.userId = :userId AND l.id.projectCommentId IN :commentIds")
+    List<Integer> findLikedIds(@Param("userId") Integer userId, @Param("commentIds") Collection<Integer> commentIds);
 }
@@ -8,6 +8,7 @@ import inha.git.user.domain.User;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,7 +22,9 @@ public interface ProjectLikeJpaRepository extends JpaRepository<ProjectLike, Pro
 
     boolean existsByUserAndProject(User user, Project project);
 
-    void deleteByUserAndProject(User user, Project project);
+    @Modifying
+    @Query("DELETE FROM ProjectLike l WHERE l.user = :user AND l.project = :project")
+    int deleteByUserAndProject(@Param("user") User user, @Param("project") Project project);
 
 
 }
@@ -5,7 +5,12 @@ import inha.git.mapping.domain.ProjectReplyCommentLike;
 import inha.git.mapping.domain.id.ProjectReplyCommentLikeId;
 import inha.git.project.domain.ProjectReplyComment;
 import inha.git.user.domain.User;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -15,5 +20,10 @@ public interface ProjectReplyCommentLikeJpaRepository extends JpaRepository<Proj
 
     boolean existsByUserAndProjectReplyComment(User user, ProjectReplyComment projectReplyComment);
 
-    void deleteByUserAndProjectReplyComment(User user, ProjectReplyComment projectReplyComment);
+    @Modifying
+    @Query("DELETE FROM ProjectReplyCommentLike l WHERE l.user = :user AND l.projectReplyComment = :projectReplyComment")
+    int deleteByUserAndProjectReplyComment(@Param("user") User user, @Param("projectReplyComment") ProjectReplyComment projectReplyComment);
+
+    @Query("SELECT l.id.projectReplyCommentId FROM ProjectReplyCommentLike l WHERE l.id.userId = :userId AND l.id.projectReplyCommentId IN :replyCommentIds")
+    List<Integer> findLikedIds(@Param("userId") Integer userId, @Param("replyCommentIds") Collection<Integer> replyCommentIds);
 }
@@ -8,7 +8,12 @@ import inha.git.mapping.domain.id.QuestionReplyCommentLikeId;
 import inha.git.question.domain.QuestionComment;
 import inha.git.question.domain.QuestionReplyComment;
 import inha.git.user.domain.User;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -18,5 +23,10 @@ public interface QuestionCommentLikeJpaRepository extends JpaRepository<Question
 
     boolean existsByUserAndQuestionComment(User user, QuestionComment questionComment);
 
-    void deleteByUserAndQuestionComment(User user, QuestionComment questionComment);
+    @Modifying
+    @Query("DELETE FROM QuestionCommentLike l WHERE l.user = :user AND l.questionComment = :questionComment")
+    int deleteByUserAndQuestionComment(@Param("user") User user, @Param("questionComment") QuestionComment questionComment);
+
+    @Query("SELECT l.id.questionCommentId FROM QuestionCommentLike l WHERE l.id.userId = :userId AND l.id.questionCommentId IN :commentIds")
+    List<Integer> findLikedIds(@Param("userId") Integer userId, @Param("commentIds") Collection<Integer> commentIds);
 }
@@ -6,6 +6,9 @@ import inha.git.mapping.domain.id.QuestionLikeId;
 import inha.git.question.domain.Question;
 import inha.git.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -15,5 +18,7 @@ public interface QuestionLikeJpaRepository extends JpaRepository<QuestionLike, Q
 
     boolean existsByUserAndQuestion(User user, Question question);
 
-    void deleteByUserAndQuestion(User user, Question question);
+    @Modifying
+    @Query("DELETE FROM QuestionLike l WHERE l.user = :user AND l.question = :question")
+    int deleteByUserAndQuestion(@Param("user") User user, @Param("question") Question question);
 }
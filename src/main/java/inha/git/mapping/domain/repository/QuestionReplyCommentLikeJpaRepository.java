@@ -5,7 +5,12 @@ import inha.git.mapping.domain.QuestionReplyCommentLike;
 import inha.git.mapping.domain.id.QuestionReplyCommentLikeId;
 import inha.git.question.domain.QuestionReplyComment;
 import inha.git.user.domain.User;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -15,5 +20,10 @@ public interface QuestionReplyCommentLikeJpaRepository extends JpaRepository<Que
 
     boolean existsByUserAndQuestionReplyComment(User user, QuestionReplyComment questionReplyComment);
 
-    void deleteByUserAndQuestionReplyComment(User user, QuestionReplyComment questionReplyComment);
+    @Modifying
+    @Query("DELETE FROM QuestionReplyCommentLike l WHERE l.user = :user AND l.questionReplyComment = :questionReplyComment")
+    int deleteByUserAndQuestionReplyComment(@Param("user") User user, @Param("questionReplyComment") QuestionReplyComment questionReplyComment);
+
+    @Query("SELECT l.id.questionReplyCommentId FROM QuestionReplyCommentLike l WHERE l.id.userId = :userId AND l.id.questionReplyCommentId IN :replyCommentIds")
+    List<Integer> findLikedIds(@Param("userId") Integer userId, @Param("replyCommentIds") Collection<Integer> replyCommentIds);
 }
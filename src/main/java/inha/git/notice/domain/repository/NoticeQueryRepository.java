@@ -1,12 +1,13 @@
 package inha.git.notice.domain.repository;
 
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inha.git.common.PageMode;
 import inha.git.notice.api.controller.dto.response.SearchNoticesResponse;
 import inha.git.notice.api.controller.dto.response.SearchNoticeUserResponse;
 import inha.git.notice.domain.Notice;
 import inha.git.notice.domain.QNotice;
 import inha.git.user.domain.QUser;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,6 +24,7 @@ import java.util.List;
 public class NoticeQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
     /**
      * 공지사항 목록 조회
      *
@@ -33,18 +35,22 @@ public class NoticeQueryRepository {
         QNotice notice = QNotice.notice;
         QUser user = QUser.user;
 
-        JPAQuery<Notice> query = queryFactory
+        List<Notice> fetched = queryFactory
                 .select(notice)
                 .from(notice)
                 .leftJoin(notice.user, user)
                 .where(notice.state.eq(Notice.State.ACTIVE))
                 .orderBy(notice.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        List<Notice> notices = query.fetch();
-        long total = query.fetchCount();
-        List<SearchNoticesResponse> content = notices.stream()
+        // 공지사항은 자주 바뀌지 않으므로 개수를 잠시 캐싱한다.
+        Page<Notice> page = pageAssembler.assemble(fetched, pageable, PageMode.CACHED, PageAssembler.countKey("notice:all"), () -> {
+            Long total = queryFactory.select(notice.count()).from(notice).where(notice.state.eq(Notice.State.ACTIVE)).fetchOne();
+            return total != null ? total : 0;
+        });
+        List<SearchNoticesResponse> content = page.getContent().stream()
                 .map(n -> new SearchNoticesResponse(
                         n.getId(),
                         n.getTitle(),
@@ -56,6 +62,6 @@ public class NoticeQueryRepository {
                         )
                 ))
                 .toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 }
@@ -1,6 +1,7 @@
 package inha.git.problem.api.controller;
 
 import inha.git.common.BaseResponse;
+import inha.git.common.PageMode;
 import inha.git.problem.api.controller.dto.request.*;
 import inha.git.problem.api.controller.dto.response.*;
 import inha.git.problem.api.service.ProblemService;
@@ -43,14 +44,16 @@ public class ProblemController {
      *
      * @param page 페이지 번호
      * @param size 페이지 사이즈
+     * @param slice 무한 스크롤용 조회 여부 (true면 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인)
      * @return 문제 목록 조회 결과를 포함하는 BaseResponse<Page<SearchProblemsResponse>>
      */
     @GetMapping
     @Operation(summary = "문제 목록 조회 API", description = "문제 목록을 조회합니다.")
     public BaseResponse<Page<SearchProblemsResponse>> getProblems(@RequestParam("page") Integer page,
-                                                                  @RequestParam("size") Integer size) {
+                                                                  @RequestParam("size") Integer size,
+                                                                  @RequestParam(value = "slice", required = false) Boolean slice) {
         PagingUtils.validatePage(page, size);
-        return BaseResponse.of(PROBLEM_SEARCH_OK, problemService.getProblems(PagingUtils.toPageIndex(page), size));
+        return BaseResponse.of(PROBLEM_SEARCH_OK, problemService.getProblems(PagingUtils.toPageIndex(page), size, PageMode.of(slice, PageMode.CACHED)));
     }
 
     /**
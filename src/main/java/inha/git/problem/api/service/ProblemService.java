@@ -1,5 +1,6 @@
 package inha.git.problem.api.service;
 
+import inha.git.common.PageMode;
 import inha.git.problem.api.controller.dto.request.*;
 import inha.git.problem.api.controller.dto.response.*;
 import inha.git.problem.domain.enums.ProblemStatus;
@@ -10,7 +11,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 public interface ProblemService {
-    Page<SearchProblemsResponse> getProblems(Integer page, Integer size);
+    Page<SearchProblemsResponse> getProblems(Integer page, Integer size, PageMode mode);
     SearchProblemResponse getProblem(User userm, Integer problemIdx);
     ProblemResponse createProblem(User user, CreateProblemRequest createProblemRequest, List<MultipartFile> files);
     ProblemResponse updateProblem(User user, Integer problemIdx, UpdateProblemRequest updateProblemRequest, List<MultipartFile> files);
@@ -1,5 +1,6 @@
 package inha.git.problem.api.service;
 
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.field.domain.Field;
 import inha.git.field.domain.repository.FieldJpaRepository;
@@ -74,12 +75,13 @@ public class ProblemServiceImpl implements ProblemService {
      *
      * @param page 페이지
      * @param size 사이즈
+     * @param mode 전체 개수를 구하는 방식
      * @return 문제 목록
      */
     @Override
-    public Page<SearchProblemsResponse> getProblems(Integer page, Integer size) {
+    public Page<SearchProblemsResponse> getProblems(Integer page, Integer size, PageMode mode) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, CREATE_AT));
-        return problemQueryRepository.getProblems(pageable);
+        return problemQueryRepository.getProblems(pageable, mode);
     }
 
     /**
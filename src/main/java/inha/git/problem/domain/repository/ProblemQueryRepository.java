@@ -1,11 +1,19 @@
 package inha.git.problem.domain.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inha.git.common.PageMode;
+import inha.git.field.domain.repository.FieldQueryRepository;
 import inha.git.problem.api.controller.dto.response.SearchProblemsResponse;
-import inha.git.problem.domain.*;
 import inha.git.project.api.controller.dto.response.SearchFieldResponse;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
+import inha.git.utils.BatchProjection;
+import inha.git.utils.IntMap;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,6 +24,7 @@ import java.util.List;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.Constant.mapRoleToPosition;
+import static inha.git.mapping.domain.QProblemField.problemField;
 import static inha.git.problem.domain.QProblem.problem;
 import static inha.git.problem.domain.QProblemRequest.problemRequest;
 import static inha.git.user.domain.QUser.user;
@@ -24,129 +33,115 @@ import static inha.git.user.domain.QUser.user;
 @RequiredArgsConstructor
 public class ProblemQueryRepository {
 
+    // 목록 응답에 필요한 컬럼만 조회한다. 분야는 페이지 단위 IN 쿼리로 따로 채운다.
+    private static final Expression<?>[] COLUMNS = {
+            problem.id, problem.title, problem.duration, problem.createdAt,
+            problem.participantCount, problem.status, problem.hasAttachment,
+            user.id, user.name, user.role
+    };
+
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
+    private final FieldQueryRepository fieldQueryRepository;
 
-    public Page<SearchProblemsResponse> getProblems(Pageable pageable) {
-        JPAQuery<Problem> query = queryFactory
-                .select(problem)
+    public Page<SearchProblemsResponse> getProblems(Pageable pageable, PageMode mode) {
+        List<Tuple> rows = queryFactory
+                .select(COLUMNS)
                 .from(problem)
-                .leftJoin(problem.user, user)
+                .join(problem.user, user)
                 .where(problem.state.eq(ACTIVE))
                 .orderBy(problem.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<Problem> problems = query.fetch();
-        long total = query.fetchCount();
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        List<SearchProblemsResponse> content = problems.stream()
-                .map(p -> new SearchProblemsResponse(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getDuration(),
-                        p.getCreatedAt(),
-                        p.getParticipantCount(),
-                        p.getStatus(),
-                        p.getHasAttachment(),
-                        p.getProblemFields().stream()
-                                .map(f -> new SearchFieldResponse(
-                                        f.getField().getId(),
-                                        f.getField().getName()
-                                ))
-                                .toList(),
-                        new SearchUserResponse(
-                                p.getUser().getId(),
-                                p.getUser().getName(),
-                                mapRoleToPosition(p.getUser().getRole())
-                        )
-                ))
-                .toList();
-        return new PageImpl<>(content, pageable, total);
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, mode, PageAssembler.countKey("problem:all"),
+                () -> count(queryFactory.select(problem.count()).from(problem).where(problem.state.eq(ACTIVE))));
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
     }
 
     public Page<SearchProblemsResponse> getUserProblems(Integer userId, Pageable pageable) {
-        JPAQuery<Problem> query = queryFactory
-                .select(problem)
+        List<Tuple> rows = queryFactory
+                .select(COLUMNS)
                 .from(problem)
+                .join(problem.user, user)
                 .where(
                         problem.user.id.eq(userId),
                         problem.state.eq(ACTIVE)
                 )
                 .orderBy(problem.createdAt.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<Problem> problems = query.fetch();
-
-        Long total = queryFactory
-                .select(problem.countDistinct())
-                .from(problem)
-                .where(
-                        problem.user.id.eq(userId),
-                        problem.state.eq(ACTIVE)
-                )
-                .fetchOne();
-
-        return new PageImpl<>(
-                problems.stream()
-                        .map(this::convertToSearchProblemsResponse)
-                        .toList(),
-                pageable,
-                total != null ? total : 0
-        );
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, PageMode.EXACT, null,
+                () -> count(queryFactory
+                        .select(problem.count())
+                        .from(problem)
+                        .where(
+                                problem.user.id.eq(userId),
+                                problem.state.eq(ACTIVE)
+                        )));
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
     }
 
+    /**
+     * 사용자가 참여 신청한 문제 목록. 신청을 EXISTS 조건으로 걸어 문제 한 건당 한 행만 조회하므로,
+     * 목록과 개수가 같은 조건으로 문제 테이블을 센다.
+     */
     public Page<SearchProblemsResponse> getUserProblemsParticipating(Integer userId, Pageable pageable) {
-        JPAQuery<Problem> query = queryFactory
-                .select(problemRequest.problem)
+        BooleanExpression condition = JPAExpressions
+                .selectOne()
                 .from(problemRequest)
                 .where(
+                        problemRequest.problem.id.eq(problem.id),
                         problemRequest.user.id.eq(userId),
                         problemRequest.state.eq(ACTIVE)
                 )
-                .orderBy(problemRequest.problem.createdAt.desc())
+                .exists();
+        List<Tuple> rows = queryFactory
+                .select(COLUMNS)
+                .from(problem)
+                .join(problem.user, user)
+                .where(condition)
+                .orderBy(problem.createdAt.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        List<Problem> problems = query.fetch();
-        Long total = queryFactory
-                .select(problemRequest.problem.countDistinct())
-                .from(problemRequest)
-                .where(
-                        problemRequest.user.id.eq(userId),
-                        problemRequest.state.eq(ACTIVE)
-                )
-                .fetchOne();
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, PageMode.EXACT, null,
+                () -> count(queryFactory.select(problem.count()).from(problem).where(condition)));
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
+    }
 
-        return new PageImpl<>(
-                problems.stream()
-                        .map(this::convertToSearchProblemsResponse)
-                        .toList(),
-                pageable,
-                total != null ? total : 0
-        );
+    private long count(JPAQuery<Long> query) {
+        Long total = query.fetchOne();
+        return total != null ? total : 0;
     }
 
-    private SearchProblemsResponse convertToSearchProblemsResponse(Problem problem) {
-        return new SearchProblemsResponse(
-                problem.getId(),
-                problem.getTitle(),
-                problem.getDuration(),
-                problem.getCreatedAt(),
-                problem.getParticipantCount(),
-                problem.getStatus(),
-                problem.getHasAttachment(),
-                problem.getProblemFields().stream()
-                        .map(f -> new SearchFieldResponse(
-                                f.getField().getId(),
-                                f.getField().getName()
-                        ))
-                        .toList(),
-                new inha.git.project.api.controller.dto.response.SearchUserResponse(
-                        problem.getUser().getId(),
-                        problem.getUser().getName(),
-                        mapRoleToPosition(problem.getUser().getRole())
-                )
-        );
+    private List<SearchProblemsResponse> toResponses(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        IntMap<List<SearchFieldResponse>> fields = fieldQueryRepository.getFields(
+                problemField, problemField.problem.id, problemField.field, BatchProjection.ids(rows, problem.id));
+
+        return rows.stream()
+                .map(row -> new SearchProblemsResponse(
+                        row.get(problem.id),
+                        row.get(problem.title),
+                        row.get(problem.duration),
+                        row.get(problem.createdAt),
+                        row.get(problem.participantCount),
+                        row.get(problem.status),
+                        row.get(problem.hasAttachment),
+                        fields.getOrDefault(row.get(problem.id), List.of()),
+                        new SearchUserResponse(
+                                row.get(user.id),
+                                row.get(user.name),
+                                mapRoleToPosition(row.get(user.role))
+                        )
+                ))
+                .toList();
     }
 }
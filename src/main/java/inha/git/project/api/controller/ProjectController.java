@@ -1,6 +1,8 @@
 package inha.git.project.api.controller;
 
 import inha.git.common.BaseResponse;
+import inha.git.common.CursorResponse;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.project.api.controller.dto.request.CreateGithubProjectRequest;
 import inha.git.project.api.controller.dto.request.CreateProjectRequest;
@@ -16,9 +18,12 @@ import inha.git.project.api.service.command.ProjectCommandService;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
 import inha.git.utils.PagingUtils;
+import inha.git.utils.file.FileStreamer;
 import inha.git.utils.file.ValidFile;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -55,14 +60,36 @@ public class ProjectController {
      * @param searchProjectCond 프로젝트 검색 조건
      * @param page              페이지 번호
      * @param size              size 페이지 사이즈
+     * @param slice             무한 스크롤용 조회 여부 (true면 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인)
      * @return 검색된 프로젝트 정보를 포함하는 BaseResponse<Page<SearchProjectsResponse>>
      */
     @GetMapping("/cond")
     @Operation(summary = "프로젝트 조건 조회 API", description = "프로젝트 조건에 맞게 조회합니다.")
     public BaseResponse<Page<SearchProjectsResponse>> getCondProjects(@Validated @ModelAttribute SearchProjectCond searchProjectCond,
-                                                                      @RequestParam("page") Integer page, @RequestParam("size") Integer size) {
+                                                                      @RequestParam("page") Integer page, @RequestParam("size") Integer size,
+                                                                      @RequestParam(value = "slice", required = false) Boolean slice) {
         PagingUtils.validatePage(page, size);
-        return BaseResponse.of(PROJECT_SEARCH_CONDITION_OK, projectSearchService.getCondProjects(searchProjectCond, PagingUtils.toPageIndex(page), size));
+        return BaseResponse.of(PROJECT_SEARCH_CONDITION_OK, projectSearchService.getCondProjects(searchProjectCond, PagingUtils.toPageIndex(page), size,
+                PageMode.of(slice, PageMode.CACHED)));
+    }
+
+    /**
+     * 프로젝트 조건 커서 조회 API
+     *
+     * <p>프로젝트 조건에 맞게 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.</p>
+     *
+     * @param searchProjectCond 프로젝트 검색 조건
+     * @param cursor            이전 페이지의 마지막 프로젝트 ID (첫 페이지면 생략)
+     * @param size              페이지 사이즈
+     * @return 검색된 프로젝트 정보를 포함하는 BaseResponse<CursorResponse<SearchProjectsResponse>>
+     */
+    @GetMapping("/cond/cursor")
+    @Operation(summary = "프로젝트 조건 커서 조회 API", description = "프로젝트 조건에 맞게 커서 기반으로 조회합니다.")
+    public BaseResponse<CursorResponse<SearchProjectsResponse>> getCondProjectsByCursor(@Validated @ModelAttribute SearchProjectCond searchProjectCond,
+                                                                                      @RequestParam(value = "cursor", required = false) Integer cursor,
+                                                                                      @RequestParam("size") Integer size) {
+        PagingUtils.validateSize(size);
+        return BaseResponse.of(PROJECT_SEARCH_CONDITION_OK, projectSearchService.getCondProjectsByCursor(searchProjectCond, cursor, size));
     }
 
     /**
@@ -99,6 +126,28 @@ public class ProjectController {
         return BaseResponse.of(FILE_SEARCH_OK, projectSearchService.getProjectFileByIdx(user, projectIdx, path));
     }
 
+    /**
+     * 프로젝트 파일 원본 조회 API
+     *
+     * <p>프로젝트 파일 원본을 내려받습니다. Range 요청과 ETag/Last-Modified 조건부 요청을 지원합니다.</p>
+     *
+     * @param projectIdx 프로젝트 ID
+     * @param path       파일 경로
+     * @param request    HttpServletRequest
+     * @param response   HttpServletResponse
+     */
+    @GetMapping("/{projectIdx}/file/raw")
+    @Operation(summary = "프로젝트 파일 원본 조회 API", description = "프로젝트 파일 원본을 내려받습니다.")
+    public void getProjectRawFile(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectIdx") Integer projectIdx,
+            @RequestParam("path") String path,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        // 권한 확인만 서비스 트랜잭션에서 끝내고, 전송하는 동안에는 DB 커넥션을 잡지 않는다.
+        FileStreamer.stream(projectSearchService.getProjectFilePath(user, projectIdx, path), request, response);
+    }
+
     /**
      * 프로젝트 생성
      *
@@ -117,7 +166,7 @@ public class ProjectController {
             log.error("기업은 프로젝트를 생성할 수 없습니다. - 사용자: {}", user.getName());
             throw new BaseException(COMPANY_CANNOT_CREATE_PROJECT);
         }
-        ValidFile.validateAndProcessZipFile(file);
+        ValidFile.validateZipFile(file);
         log.info("프로젝트 생성 - 사용자: {} 프로젝트 이름: {}", user.getName(), createProjectRequest.title());
         return BaseResponse.of(PROJECT_CREATE_OK, projectService.createProject(user, createProjectRequest, file));
     }
@@ -158,7 +207,7 @@ public class ProjectController {
             @Validated @RequestPart("updateProjectRequest") UpdateProjectRequest updateProjectRequest,
             @RequestPart(value = "file", required = false) MultipartFile file) {
         if (file != null) {
-            ValidFile.validateAndProcessZipFile(file);
+            ValidFile.validateZipFile(file);
         }
         log.info("프로젝트 수정 - 사용자: {} 프로젝트 이름: {}", user.getName(), updateProjectRequest.title());
         return BaseResponse.of(PROJECT_UPDATE_OK, projectService.updateProject(user, projectIdx, updateProjectRequest, file));
@@ -12,8 +12,17 @@ public record SearchFileDetailResponse(
         @Schema(description = "파일 타입", example = "file")
         String type,
 
-        @Schema(description = "파일 내용")
-        String contents
+        @Schema(description = "파일 내용 (텍스트 파일만, 미리보기 크기를 넘으면 앞부분만 포함)")
+        String contents,
+
+        @Schema(description = "파일 크기 (바이트)", example = "1024")
+        Long size,
+
+        @Schema(description = "파일 MIME 타입", example = "text/markdown")
+        String contentType,
+
+        @Schema(description = "내용이 미리보기 크기에서 잘렸는지 여부", example = "false")
+        Boolean truncated
 ) implements SearchFileResponse {
 
         @Override
@@ -21,6 +30,10 @@ public record SearchFileDetailResponse(
                 return "file";
         }
 
+        public SearchFileDetailResponse(String name, String type, String contents) {
+                this(name, type, contents, null, null, null);
+        }
+
         public SearchFileDetailResponse(String name, String contents) {
                 this(name, "file", contents);  // type을 "file"로 설정
         }
@@ -65,4 +65,12 @@ public record SearchProjectResponse(
 
         List<SearchPatentSummaryResponse> patent
 ) {
+
+    /**
+     * 조회자마다 다른 추천 수와 추천 상태만 바꾼 응답을 반환합니다.
+     */
+    public SearchProjectResponse withViewerState(SearchRecommendCount recommendCount, SearchRecommendState recommendState) {
+        return new SearchProjectResponse(idx, title, contents, createdAt, fieldList, author, filePath, zipFilePath,
+                recommendState, recommendCount, repoName, subject, semester, isPublic, category, patent);
+    }
 }
@@ -1,10 +1,9 @@
 package inha.git.project.api.service.command;
 
 import inha.git.category.domain.Category;
-import inha.git.category.domain.repository.CategoryJpaRepository;
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
 import inha.git.field.domain.Field;
-import inha.git.field.domain.repository.FieldJpaRepository;
 import inha.git.mapping.domain.ProjectField;
 import inha.git.mapping.domain.id.ProjectFieldId;
 import inha.git.mapping.domain.repository.ProjectFieldJpaRepository;
@@ -12,18 +11,19 @@ import inha.git.project.api.controller.dto.request.CreateProjectRequest;
 import inha.git.project.api.controller.dto.request.UpdateProjectRequest;
 import inha.git.project.api.controller.dto.response.ProjectResponse;
 import inha.git.project.api.mapper.ProjectMapper;
+import inha.git.project.api.service.manifest.ProjectManifestStore;
+import inha.git.project.api.service.query.ProjectDetailCache;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.ProjectUpload;
 import inha.git.project.domain.repository.ProjectJpaRepository;
 import inha.git.project.domain.repository.ProjectUploadJpaRepository;
 import inha.git.semester.domain.Semester;
-import inha.git.semester.domain.repository.SemesterJpaRepository;
 import inha.git.statistics.api.service.StatisticsService;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
 import inha.git.utils.IdempotentProvider;
 import inha.git.utils.file.FilePath;
-import inha.git.utils.file.UnZip;
+import inha.git.utils.file.ZipIngestor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -54,12 +54,13 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
     private final ProjectJpaRepository projectJpaRepository;
     private final ProjectUploadJpaRepository projectUploadJpaRepository;
     private final ProjectFieldJpaRepository projectFieldJpaRepository;
-    private final SemesterJpaRepository semesterJpaRepository;
-    private final FieldJpaRepository fieldJpaRepository;
-    private final CategoryJpaRepository categoryJpaRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final ProjectMapper projectMapper;
     private final StatisticsService statisticsService;
     private final IdempotentProvider idempotentProvider;
+    private final ZipIngestor zipIngestor;
+    private final ProjectManifestStore projectManifestStore;
+    private final ProjectDetailCache projectDetailCache;
 
     /**
      * 프로젝트 생성
@@ -80,10 +81,8 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
         String folderName = paths[1];
         registerRollbackCleanup(zipFilePath, folderName);
 
-        Semester semester = semesterJpaRepository.findByIdAndState(createProjectRequest.semesterIdx(), ACTIVE)
-                .orElseThrow(() -> new BaseException(SEMESTER_NOT_FOUND));
-        Category category = categoryJpaRepository.findById(createProjectRequest.categoryIdx())
-                .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
+        Semester semester = referenceDataCache.getSemester(createProjectRequest.semesterIdx());
+        Category category = referenceDataCache.getCategory(createProjectRequest.categoryIdx());
 
         Project project = projectMapper.createProjectRequestToProject(createProjectRequest, user, semester, category);
         Project savedProject = projectJpaRepository.saveAndFlush(project);
@@ -94,7 +93,7 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
         List<ProjectField> projectFields = createAndSaveProjectFields(createProjectRequest.fieldIdxList(), savedProject);
         projectFieldJpaRepository.saveAll(projectFields);
 
-        List<Field> fields = fieldJpaRepository.findAllById(createProjectRequest.fieldIdxList());
+        List<Field> fields = referenceDataCache.getFields(createProjectRequest.fieldIdxList());
 
         statisticsService.adjustCount(user, fields, semester, category,  1, true);
         log.info("프로젝트 생성 성공 - 사용자: {} 프로젝트 ID: {}", user.getName(), savedProject.getId());
@@ -129,12 +128,10 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
                 .map(ProjectField::getField)
                 .toList();
         // 새로운 학기 정보 가져오기
-        Semester newSemester = semesterJpaRepository.findByIdAndState(updateProjectRequest.semesterIdx(), ACTIVE)
-                .orElseThrow(() -> new BaseException(SEMESTER_NOT_FOUND));
-        Category newCategory = categoryJpaRepository.findById(updateProjectRequest.categoryIdx())
-                .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
+        Semester newSemester = referenceDataCache.getSemester(updateProjectRequest.semesterIdx());
+        Category newCategory = referenceDataCache.getCategory(updateProjectRequest.categoryIdx());
         List<Integer> newFieldIds = updateProjectRequest.fieldIdxList();
-        List<Field> newFields = fieldJpaRepository.findAllById(newFieldIds);
+        List<Field> newFields = referenceDataCache.getFields(newFieldIds);
 
         projectMapper.updateProjectRequestToProject(updateProjectRequest, project, newSemester, newCategory);
         Set<Integer> existingFieldIds = project.getProjectFields().stream()
@@ -161,14 +158,14 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
                 .toList();
 
         fieldsToAdd.forEach(id -> {
-            Field field = fieldJpaRepository.findById(id)
-                    .orElseThrow(() -> new BaseException(FIELD_NOT_FOUND));
+            Field field = referenceDataCache.getField(id);
             ProjectField newProjectField = new ProjectField(new ProjectFieldId(projectIdx, id), project, field);
             project.getProjectFields().add(newProjectField);
             projectFieldJpaRepository.save(newProjectField);
         });
 
         Project savedProject = projectJpaRepository.saveAndFlush(project);
+        projectDetailCache.evict(projectIdx);
 
         savedProject.getProjectFields().stream()
                 .map(pf -> pf.getField().getId())
@@ -198,6 +195,7 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
 
                 boolean isFileDeleted = FilePath.deleteFile(BASE_DIR_SOURCE_2 + zipDirectoryName);
                 boolean isDirDeleted = FilePath.deleteDirectory(BASE_DIR_SOURCE_2 + directoryName);
+                projectManifestStore.delete(directoryName);
 
                 if (isFileDeleted && isDirDeleted) {
                     log.info("기존 파일과 디렉토리가 성공적으로 삭제되었습니다.");
@@ -229,6 +227,7 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
         project.setDeletedAt();
         project.setState(INACTIVE);
         projectJpaRepository.save(project);
+        projectDetailCache.evict(projectIdx);
         List<Field> fields = project.getProjectFields().stream()
                 .map(ProjectField::getField)
                 .toList();
@@ -244,10 +243,14 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
 
     private String[] storeAndUnzipFile(MultipartFile file) {
         log.info("파일 저장 및 압축 해제");
-        String zipFilePath = FilePath.storeFile(file, PROJECT_ZIP);
-        String folderName = zipFilePath.substring(zipFilePath.lastIndexOf("/") + 1, zipFilePath.toLowerCase().lastIndexOf(ZIP));
-        UnZip.unzipFile(BASE_DIR_SOURCE + zipFilePath, BASE_DIR_SOURCE + PROJECT + '/' + folderName);
-        return new String[] { zipFilePath, folderName };
+        ZipIngestor.IngestedZip ingested = zipIngestor.ingest(file, PROJECT_ZIP, PROJECT);
+        try {
+            projectManifestStore.write(PROJECT_UPLOAD + ingested.folderName(), ingested.entries());
+        } catch (BaseException e) {
+            // 목록이 없으면 처음 조회할 때 폴더를 훑어 다시 만들므로, 업로드는 실패시키지 않는다.
+            log.warn("프로젝트 목록 저장 실패 - 폴더: {}", ingested.folderName());
+        }
+        return new String[] { ingested.zipFilePath(), ingested.folderName() };
     }
 
     private void registerRollbackCleanup(String zipFilePath, String folderName) {
@@ -261,6 +264,7 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
 
                     boolean isFileDeleted = FilePath.deleteFile(BASE_DIR_SOURCE_2 + zipFilePath);
                     boolean isDirDeleted = FilePath.deleteDirectory(BASE_DIR_SOURCE_2 + PROJECT_UPLOAD + folderName);
+                    projectManifestStore.delete(PROJECT_UPLOAD + folderName);
 
                     if (isFileDeleted && isDirDeleted) {
                         log.info("파일과 디렉토리가 성공적으로 삭제되었습니다.");
@@ -275,8 +279,7 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
     private List<ProjectField>  createAndSaveProjectFields(List<Integer> fieldIdxList, Project project) {
         return fieldIdxList.stream()
                 .map(fieldIdx -> {
-                    Field field = fieldJpaRepository.findByIdAndState(fieldIdx, ACTIVE)
-                            .orElseThrow(() -> new BaseException(FIELD_NOT_FOUND));
+                    Field field = referenceDataCache.getField(fieldIdx);
                     return projectMapper.createProjectField(project, field);
                 }).toList();
     }
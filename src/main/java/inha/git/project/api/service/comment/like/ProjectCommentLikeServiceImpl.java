@@ -13,7 +13,6 @@ import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +26,6 @@ import static inha.git.common.code.status.ErrorStatus.PROJECT_COMMENT_NOT_FOUND;
 import static inha.git.common.code.status.ErrorStatus.PROJECT_COMMENT_REPLY_NOT_FOUND;
 import static inha.git.common.code.status.ErrorStatus.PROJECT_NOT_LIKE;
 import static inha.git.common.code.status.ErrorStatus.PROJECT_NOT_PUBLIC;
-import static inha.git.common.code.status.ErrorStatus.TEMPORARY_UNAVAILABLE;
 
 /**
  * ProjectCommentLikeServiceImpl은 프로젝트 댓글 좋아요 관련 비즈니스 로직을 처리합니다.
@@ -57,6 +55,7 @@ public class ProjectCommentLikeServiceImpl implements ProjectCommentLikeService{
         try {
             validLike(projectComment, user, projectCommentLikeJpaRepository.existsByUserAndProjectComment(user, projectComment));
             projectCommentLikeJpaRepository.save(projectMapper.createProjectCommentLike(user, projectComment));
+            projectCommentJpaRepository.addLikeCount(projectComment.getId(), 1);
             projectComment.setLikeCount(projectComment.getLikeCount() + 1);
             log.info("프로젝트 댓글 좋아요 완료 - 사용자: {} 프로젝트 댓글 식별자: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), projectComment.getLikeCount());
             return commentLikeRequest.idx() + "번 프로젝트 댓글 좋아요 완료";
@@ -78,11 +77,11 @@ public class ProjectCommentLikeServiceImpl implements ProjectCommentLikeService{
         ProjectComment projectComment = getProjectComment(user, commentLikeRequest);
         try {
             validLikeCancel(projectComment, user, projectCommentLikeJpaRepository.existsByUserAndProjectComment(user, projectComment));
-            projectCommentLikeJpaRepository.deleteByUserAndProjectComment(user, projectComment);
-            if (projectComment.getLikeCount() <= 0) {
-                projectComment.setLikeCount(0);
+            if (projectCommentLikeJpaRepository.deleteByUserAndProjectComment(user, projectComment) == 0) {
+                throw new BaseException(NOT_LIKE);
             }
-            projectComment.setLikeCount(projectComment.getLikeCount() - 1);
+            projectCommentJpaRepository.addLikeCount(projectComment.getId(), -1);
+            projectComment.setLikeCount(Math.max(projectComment.getLikeCount() - 1, 0));
             log.info("프로젝트 댓글 좋아요 취소 완료 - 사용자: {} 프로젝트 댓글 식별자: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), projectComment.getLikeCount());
             return commentLikeRequest.idx() + "번 프로젝트 댓글 좋아요 취소 완료";
         }catch (DataIntegrityViolationException e) {
@@ -104,6 +103,7 @@ public class ProjectCommentLikeServiceImpl implements ProjectCommentLikeService{
         try {
             validReplyLike(projectReplyComment, user, projectReplyCommentLikeJpaRepository.existsByUserAndProjectReplyComment(user, projectReplyComment));
             projectReplyCommentLikeJpaRepository.save(projectMapper.createProjectReplyCommentLike(user, projectReplyComment));
+            projectReplyCommentJpaRepository.addLikeCount(projectReplyComment.getId(), 1);
             projectReplyComment.setLikeCount(projectReplyComment.getLikeCount() + 1);
             log.info("프로젝트 대댓글 좋아요 완료 - 사용자: {} 프로젝트 대댓글 식별자: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), projectReplyComment.getLikeCount());
             return commentLikeRequest.idx() + "번 프로젝트 대댓글 좋아요 완료";
@@ -125,11 +125,11 @@ public class ProjectCommentLikeServiceImpl implements ProjectCommentLikeService{
         ProjectReplyComment projectReplyComment = getProjectReplyComment(user, commentLikeRequest);
         try{
             validReplyLikeCancel(projectReplyComment, user, projectReplyCommentLikeJpaRepository.existsByUserAndProjectReplyComment(user, projectReplyComment));
-            projectReplyCommentLikeJpaRepository.deleteByUserAndProjectReplyComment(user, projectReplyComment);
-            if (projectReplyComment.getLikeCount() <= 0) {
-                projectReplyComment.setLikeCount(0);
+            if (projectReplyCommentLikeJpaRepository.deleteByUserAndProjectReplyComment(user, projectReplyComment) == 0) {
+                throw new BaseException(NOT_LIKE);
             }
-            projectReplyComment.setLikeCount(projectReplyComment.getLikeCount() - 1);
+            projectReplyCommentJpaRepository.addLikeCount(projectReplyComment.getId(), -1);
+            projectReplyComment.setLikeCount(Math.max(projectReplyComment.getLikeCount() - 1, 0));
             log.info("프로젝트 대댓글 좋아요 취소 완료 - 사용자: {} 프로젝트 대댓글 식별자: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), projectReplyComment.getLikeCount());
             return commentLikeRequest.idx() + "번 프로젝트 대댓글 좋아요 취소 완료";
         } catch (DataIntegrityViolationException e) {
@@ -184,14 +184,8 @@ public class ProjectCommentLikeServiceImpl implements ProjectCommentLikeService{
     }
 
     private ProjectComment getProjectComment(User user, CommentLikeRequest commentLikeRequest) {
-        ProjectComment projectComment;
-        try {
-            projectComment = projectCommentJpaRepository.findByIdAndStateWithPessimisticLock(commentLikeRequest.idx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(PROJECT_COMMENT_NOT_FOUND));
-        } catch (PessimisticLockingFailureException e) {
-            log.error("프로젝트 댓글 추천 락 획득 실패 - 사용자: {}, 프로젝트 ID: {}", user.getName(), commentLikeRequest.idx());
-            throw new BaseException(TEMPORARY_UNAVAILABLE);
-        }
+        ProjectComment projectComment = projectCommentJpaRepository.findByIdAndState(commentLikeRequest.idx(), ACTIVE)
+                .orElseThrow(() -> new BaseException(PROJECT_COMMENT_NOT_FOUND));
 
         if (!hasAccessToProject(projectComment.getProject(), user)) {
             throw new BaseException(PROJECT_NOT_PUBLIC);
@@ -200,14 +194,8 @@ public class ProjectCommentLikeServiceImpl implements ProjectCommentLikeService{
     }
 
     private ProjectReplyComment getProjectReplyComment(User user, CommentLikeRequest commentLikeRequest) {
-        ProjectReplyComment projectReplyComment;
-        try {
-            projectReplyComment = projectReplyCommentJpaRepository.findByIdAndStateWithPessimisticLock(commentLikeRequest.idx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(PROJECT_COMMENT_REPLY_NOT_FOUND));
-        } catch (PessimisticLockingFailureException e) {
-            log.error("프로젝트 대댓글 추천 락 획득 실패 - 사용자: {}, 프로젝트 ID: {}", user.getName(), commentLikeRequest.idx());
-            throw new BaseException(TEMPORARY_UNAVAILABLE);
-        }
+        ProjectReplyComment projectReplyComment = projectReplyCommentJpaRepository.findByIdAndState(commentLikeRequest.idx(), ACTIVE)
+                .orElseThrow(() -> new BaseException(PROJECT_COMMENT_REPLY_NOT_FOUND));
         if (!hasAccessToProject(projectReplyComment.getProjectComment().getProject(), user)) {
             throw new BaseException(PROJECT_NOT_PUBLIC);
         }
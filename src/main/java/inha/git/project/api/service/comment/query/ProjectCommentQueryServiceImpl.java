@@ -8,15 +8,21 @@ import inha.git.project.api.controller.dto.response.SearchReplyCommentResponse;
 import inha.git.project.api.mapper.ProjectMapper;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.ProjectComment;
+import inha.git.project.domain.ProjectReplyComment;
 import inha.git.project.domain.repository.ProjectCommentJpaRepository;
 import inha.git.project.domain.repository.ProjectJpaRepository;
+import inha.git.project.domain.repository.ProjectReplyCommentJpaRepository;
 import inha.git.user.domain.User;
+import inha.git.utils.IntSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.Constant.hasAccessToProject;
@@ -34,6 +40,7 @@ public class ProjectCommentQueryServiceImpl implements ProjectCommentQueryServic
 
     private final ProjectJpaRepository projectJpaRepository;
     private final ProjectCommentJpaRepository projectCommentJpaRepository;
+    private final ProjectReplyCommentJpaRepository projectReplyCommentJpaRepository;
     private final ProjectCommentLikeJpaRepository projectCommentLikeJpaRepository;
     private final ProjectReplyCommentLikeJpaRepository projectReplyCommentLikeJpaRepository;
     private final ProjectMapper projectMapper;
@@ -53,20 +60,24 @@ public class ProjectCommentQueryServiceImpl implements ProjectCommentQueryServic
             throw new BaseException(PROJECT_NOT_PUBLIC);
         }
         List<ProjectComment> comments = projectCommentJpaRepository.findAllByProjectAndStateOrderByIdAsc(project, ACTIVE);
+        // 대댓글은 프로젝트 단위로 한 번에 조회하여 댓글별로 묶는다.
+        Map<Integer, List<ProjectReplyComment>> repliesByComment = projectReplyCommentJpaRepository
+                .findAllByProjectAndStateOrderByIdAsc(project, ACTIVE).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getProjectComment().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<Integer> commentIds = comments.stream().map(ProjectComment::getId).toList();
+        List<Integer> replyIds = repliesByComment.values().stream().flatMap(List::stream).map(ProjectReplyComment::getId).toList();
+        IntSet likedComments = user == null || commentIds.isEmpty()
+                ? IntSet.empty() : IntSet.of(projectCommentLikeJpaRepository.findLikedIds(user.getId(), commentIds));
+        IntSet likedReplies = user == null || replyIds.isEmpty()
+                ? IntSet.empty() : IntSet.of(projectReplyCommentLikeJpaRepository.findLikedIds(user.getId(), replyIds));
+
         return comments.stream()
                 .map(comment -> {
-                    // 댓글에 대한 likeState를 확인
-                    boolean commentLikeState = projectCommentLikeJpaRepository.existsByUserAndProjectComment(user, comment);
-                    // 대댓글에 대한 likeState를 확인하여 변환
-                    List<SearchReplyCommentResponse> replies = comment.getReplies().stream()
-                            .filter(reply -> reply.getState().equals(ACTIVE))
-                            .map(reply -> {
-                                boolean replyLikeState = projectReplyCommentLikeJpaRepository.existsByUserAndProjectReplyComment(user, reply);
-                                return projectMapper.toSearchReplyCommentResponse(reply, replyLikeState);
-                            })
+                    List<SearchReplyCommentResponse> replies = repliesByComment.getOrDefault(comment.getId(), List.of()).stream()
+                            .map(reply -> projectMapper.toSearchReplyCommentResponse(reply, likedReplies.contains(reply.getId())))
                             .toList();
-                    // 댓글과 대댓글 리스트를 포함하여 CommentWithRepliesResponse로 변환
-                    return projectMapper.toCommentWithRepliesResponse(comment, commentLikeState, replies);
+                    return projectMapper.toCommentWithRepliesResponse(comment, likedComments.contains(comment.getId()), replies);
                 })
                 .toList();
     }
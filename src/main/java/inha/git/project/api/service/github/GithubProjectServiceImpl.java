@@ -1,10 +1,8 @@
 package inha.git.project.api.service.github;
 
 import inha.git.category.domain.Category;
-import inha.git.category.domain.repository.CategoryJpaRepository;
-import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
 import inha.git.field.domain.Field;
-import inha.git.field.domain.repository.FieldJpaRepository;
 import inha.git.mapping.domain.ProjectField;
 import inha.git.mapping.domain.repository.ProjectFieldJpaRepository;
 import inha.git.project.api.controller.dto.request.CreateGithubProjectRequest;
@@ -13,7 +11,6 @@ import inha.git.project.api.mapper.ProjectMapper;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.repository.ProjectJpaRepository;
 import inha.git.semester.domain.Semester;
-import inha.git.semester.domain.repository.SemesterJpaRepository;
 import inha.git.statistics.api.service.StatisticsService;
 import inha.git.user.domain.User;
 import inha.git.utils.IdempotentProvider;
@@ -24,11 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-import static inha.git.common.BaseEntity.State.ACTIVE;
-import static inha.git.common.code.status.ErrorStatus.CATEGORY_NOT_FOUND;
-import static inha.git.common.code.status.ErrorStatus.FIELD_NOT_FOUND;
-import static inha.git.common.code.status.ErrorStatus.SEMESTER_NOT_FOUND;
-
 /**
  * GithubProjectServiceImpl은 깃허브 프로젝트 관련 비즈니스 로직을 처리합니다.
  */
@@ -40,9 +32,7 @@ public class GithubProjectServiceImpl implements GithubProjectService {
 
     private final ProjectJpaRepository projectJpaRepository;
     private final ProjectFieldJpaRepository projectFieldJpaRepository;
-    private final SemesterJpaRepository semesterJpaRepository;
-    private final FieldJpaRepository fieldJpaRepository;
-    private final CategoryJpaRepository categoryJpaRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final ProjectMapper projectMapper;
     private final StatisticsService statisticsService;
     private final IdempotentProvider idempotentProvider;
@@ -59,18 +49,16 @@ public class GithubProjectServiceImpl implements GithubProjectService {
     public ProjectResponse createGithubProject(User user, CreateGithubProjectRequest createGithubProjectRequest) {
         idempotentProvider.isValidIdempotent(List.of("createGithubProject", user.getName(), user.getId().toString(), createGithubProjectRequest.title(), createGithubProjectRequest.contents(), createGithubProjectRequest.subject()));
 
-        Semester semester = semesterJpaRepository.findByIdAndState(createGithubProjectRequest.semesterIdx(), ACTIVE)
-                .orElseThrow(() -> new BaseException(SEMESTER_NOT_FOUND));
+        Semester semester = referenceDataCache.getSemester(createGithubProjectRequest.semesterIdx());
 
-        Category category = categoryJpaRepository.findById(createGithubProjectRequest.categoryIdx())
-                .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
+        Category category = referenceDataCache.getCategory(createGithubProjectRequest.categoryIdx());
 
         Project project = projectMapper.createGithubProjectRequestToProject(createGithubProjectRequest, user, semester, category);
         Project savedProject = projectJpaRepository.saveAndFlush(project);
 
         List<ProjectField> projectFields = createAndSaveProjectFields(createGithubProjectRequest.fieldIdxList(), savedProject);
         projectFieldJpaRepository.saveAll(projectFields);
-        List<Field> fields = fieldJpaRepository.findAllById(createGithubProjectRequest.fieldIdxList());
+        List<Field> fields = referenceDataCache.getFields(createGithubProjectRequest.fieldIdxList());
         statisticsService.adjustCount(user, fields, semester,  category, 2, true);
         log.info("깃허브 프로젝트 생성 성공 - 사용자: {} 프로젝트 ID: {}", user.getName(), savedProject.getId());
         return projectMapper.projectToProjectResponse(savedProject);
@@ -79,8 +67,7 @@ public class GithubProjectServiceImpl implements GithubProjectService {
     private List<ProjectField>  createAndSaveProjectFields(List<Integer> fieldIdxList, Project project) {
         return fieldIdxList.stream()
                 .map(fieldIdx -> {
-                    Field field = fieldJpaRepository.findByIdAndState(fieldIdx, ACTIVE)
-                            .orElseThrow(() -> new BaseException(FIELD_NOT_FOUND));
+                    Field field = referenceDataCache.getField(fieldIdx);
                     return projectMapper.createProjectField(project, field);
                 }).toList();
     }
@@ -0,0 +1,278 @@
+package inha.git.project.api.service.manifest;
+
+import inha.git.common.exceptions.BaseException;
+import inha.git.github.api.client.RepositoryTree;
+import inha.git.utils.file.ZipIngestor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static inha.git.common.Constant.*;
+import static inha.git.common.code.status.ErrorStatus.FILE_PROCESS_ERROR;
+
+/**
+ * ProjectManifestStore는 압축 해제된 프로젝트 폴더의 목록(manifest)을 만들고 보관하는 컴포넌트.
+ * 업로드 시점에 화면에 보여줄 항목만 걸러 크기와 내용 해시를 담은 색인을 폴더 옆에 저장하므로,
+ * 디렉토리 조회는 파일 시스템을 다시 훑지 않고 메모리의 색인으로 처리한다.
+ * 목록이 없는 이전 업로드는 처음 조회할 때 한 번 만들어 저장한다.
+ */
+@Slf4j
+@Component
+public class ProjectManifestStore {
+
+    private static final String MANIFEST_EXTENSION = ".manifest";
+    private static final String DIRECTORY_HASH = "-";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 확장자가 없더라도 보여줄 파일
+    private static final Set<String> SPECIAL_FILES = Set.of(
+            "Dockerfile", "Makefile", "README", "LICENSE", "CHANGELOG",
+            "VERSION", "Gemfile", "Rakefile", "Procfile", "Vagrantfile");
+
+    @Value("${project.manifest.cache-size:200}")
+    private int cacheSize;
+
+    private final Map<String, RepositoryTree> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RepositoryTree> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * 압축 해제 결과로 목록을 만들어 저장합니다.
+     *
+     * @param directoryName 압축 해제 폴더 (ProjectUpload.directoryName, 예: /project/폴더명)
+     * @param entries       압축 해제된 항목
+     */
+    public void write(String directoryName, List<ZipIngestor.ExtractedEntry> entries) {
+        RepositoryTree tree = build(directoryName, entries);
+        save(directoryName, tree);
+        put(directoryName, tree);
+    }
+
+    /**
+     * 목록을 조회합니다. 저장된 목록이 없으면 폴더를 훑어 만든 뒤 저장합니다.
+     *
+     * @param directoryName 압축 해제 폴더
+     * @return 목록
+     */
+    public RepositoryTree load(String directoryName) {
+        RepositoryTree tree = get(directoryName);
+        if (tree != null) {
+            return tree;
+        }
+        Path manifest = manifestPath(directoryName);
+        try {
+            tree = RepositoryTree.decode(Files.readString(manifest, StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) {
+            log.info("프로젝트 목록이 없어 새로 만듭니다. - 폴더: {}", directoryName);
+            tree = build(directoryName, scan(Paths.get(BASE_DIR_SOURCE_2 + directoryName)));
+            save(directoryName, tree);
+        } catch (IOException e) {
+            log.error("프로젝트 목록 읽기 실패 - 폴더: {}", directoryName, e);
+            throw new BaseException(FILE_PROCESS_ERROR);
+        }
+        put(directoryName, tree);
+        return tree;
+    }
+
+    /**
+     * 저장된 목록을 삭제합니다.
+     *
+     * @param directoryName 압축 해제 폴더
+     * @return 삭제 성공 여부 (목록이 없던 경우 포함)
+     */
+    public boolean delete(String directoryName) {
+        synchronized (cache) {
+            cache.remove(directoryName);
+        }
+        try {
+            Files.deleteIfExists(manifestPath(directoryName));
+            return true;
+        } catch (IOException e) {
+            log.error("프로젝트 목록 삭제 실패 - 폴더: {}", directoryName, e);
+            return false;
+        }
+    }
+
+    /**
+     * 보여줄 항목만 남겨 색인을 만든다. 숨김 디렉토리는 하위 항목까지 제외하고,
+     * 압축 파일에 디렉토리 항목이 없더라도 파일 경로로 상위 디렉토리를 채운다.
+     */
+    private RepositoryTree build(String directoryName, List<ZipIngestor.ExtractedEntry> extracted) {
+        Map<String, RepositoryTree.Entry> entries = new TreeMap<>();
+        for (ZipIngestor.ExtractedEntry entry : extracted) {
+            String path = entry.path();
+            if (path.isEmpty() || !isVisible(path, entry.directory())) {
+                continue;
+            }
+            if (entry.directory()) {
+                entries.putIfAbsent(path, new RepositoryTree.Entry(path, true, DIRECTORY_HASH, 0));
+                continue;
+            }
+            entries.put(path, new RepositoryTree.Entry(path, false, entry.hash(), entry.size()));
+            for (int index = path.lastIndexOf('/'); index > 0; index = path.lastIndexOf('/', index - 1)) {
+                String parent = path.substring(0, index);
+                entries.putIfAbsent(parent, new RepositoryTree.Entry(parent, true, DIRECTORY_HASH, 0));
+            }
+        }
+        // 상위 디렉토리가 하위 항목보다 먼저 오도록 깊이 순으로 정렬한다.
+        List<RepositoryTree.Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparingLong((RepositoryTree.Entry entry) -> entry.path().chars().filter(c -> c == '/').count())
+                .thenComparing(entry -> !entry.directory())
+                .thenComparing(RepositoryTree.Entry::path));
+        return RepositoryTree.of(directoryName, sorted);
+    }
+
+    /**
+     * 경로의 모든 상위 디렉토리가 보이는 이름이고, 마지막 이름이 항목 종류에 맞게 보이는 이름이면 true.
+     */
+    private boolean isVisible(String path, boolean directory) {
+        String[] names = path.split("/");
+        for (int i = 0; i < names.length; i++) {
+            boolean last = i == names.length - 1;
+            if (isHidden(names[i]) || (last && !directory && !names[i].contains(".") && !SPECIAL_FILES.contains(names[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHidden(String name) {
+        return name.equals(GIT) ||
+                name.equals(DS_STORE) ||
+                name.startsWith(UNDERBAR) ||
+                name.startsWith(MACOSX) ||
+                name.equals(PYCACHE) ||
+                name.contains(NODE_MODULES) ||
+                name.equals(IDEA) ||
+                name.endsWith(PYC) ||
+                name.endsWith(IML) ||
+                name.endsWith(OUT) ||
+                name.endsWith(DSYM) ||
+                name.endsWith(GRADLE) ||
+                name.endsWith(OUT_) ||
+                name.endsWith(BUILD) ||
+                name.endsWith(CLASS);
+    }
+
+    /**
+     * 목록이 없는 이전 업로드의 폴더를 훑어 항목을 만든다.
+     */
+    private List<ZipIngestor.ExtractedEntry> scan(Path root) {
+        List<ZipIngestor.ExtractedEntry> entries = new ArrayList<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (dir.equals(root)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (isHidden(dir.getFileName().toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    entries.add(new ZipIngestor.ExtractedEntry(relativize(root, dir), true, 0, null));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    String path = relativize(root, file);
+                    if (attrs.isRegularFile() && isVisible(path, false)) {
+                        entries.add(new ZipIngestor.ExtractedEntry(path, false, attrs.size(), hash(file, buffer)));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.error("프로젝트 폴더 읽기 실패 - 폴더: {}", root, e);
+            throw new BaseException(FILE_PROCESS_ERROR);
+        }
+        return entries;
+    }
+
+    private String hash(Path file, byte[] buffer) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이름을 바꿔, 조회 중인 요청이 쓰다 만 목록을 읽지 않게 한다.
+     * 같은 폴더의 목록을 여러 요청이 동시에 만들 수 있으므로 임시 파일은 쓰는 쪽마다 따로 만든다.
+     */
+    private void save(String directoryName, RepositoryTree tree) {
+        Path manifest = manifestPath(directoryName);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(manifest.getParent(), manifest.getFileName().toString(), ".tmp");
+            Files.writeString(temp, tree.encode(), StandardCharsets.UTF_8);
+            Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("프로젝트 목록 저장 실패 - 폴더: {}", directoryName, e);
+            deleteQuietly(temp);
+            throw new BaseException(FILE_PROCESS_ERROR);
+        }
+    }
+
+    private void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("임시 목록 파일 삭제 실패 - 파일: {}", temp, e);
+        }
+    }
+
+    private RepositoryTree get(String directoryName) {
+        synchronized (cache) {
+            return cache.get(directoryName);
+        }
+    }
+
+    private void put(String directoryName, RepositoryTree tree) {
+        synchronized (cache) {
+            cache.put(directoryName, tree);
+        }
+    }
+
+    private static Path manifestPath(String directoryName) {
+        return Paths.get(BASE_DIR_SOURCE_2 + directoryName + MANIFEST_EXTENSION);
+    }
+
+    private static String relativize(Path root, Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+}
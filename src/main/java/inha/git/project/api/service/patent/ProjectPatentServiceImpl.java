@@ -13,6 +13,7 @@ import inha.git.project.api.controller.dto.response.SearchPatentResponse;
 import inha.git.project.api.controller.dto.response.SearchProjectPatentResponse;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
 import inha.git.project.api.mapper.ProjectMapper;
+import inha.git.project.api.service.query.ProjectDetailCache;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.ProjectPatent;
 import inha.git.project.domain.ProjectPatentInventor;
@@ -63,6 +64,7 @@ public class ProjectPatentServiceImpl implements ProjectPatentService {
     private final ProjectPatentInventorJpaRepository projectPatentInventorJpaRepository;
     private final ProjectJpaRepository projectJpaRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectDetailCache projectDetailCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -171,6 +173,7 @@ public class ProjectPatentServiceImpl implements ProjectPatentService {
                 .map(ProjectField::getField)
                 .toList();
         statisticsService.adjustCount(user, field, project.getSemester(), project.getCategory(),  4, true);
+        projectDetailCache.evict(project.getId());
         return projectMapper.toPatentResponse(savePatent);
     }
 
@@ -196,6 +199,7 @@ public class ProjectPatentServiceImpl implements ProjectPatentService {
             updatePatentFile(projectPatent, file);
         }
         updateInventors(projectPatent, updatePatentRequest.inventors());
+        projectDetailCache.evict(projectPatent.getProject().getId());
 
         log.info("특허 수정 완료 - 사용자: {}, 특허명: {}", user.getName(), projectPatent.getInventionTitle());
         return projectMapper.toPatentResponse(projectPatentJpaRepository.save(projectPatent));
@@ -230,6 +234,7 @@ public class ProjectPatentServiceImpl implements ProjectPatentService {
                 .map(ProjectField::getField)
                 .toList();
         statisticsService.adjustCount(user, fields, project.getSemester(), project.getCategory(), 4, false);
+        projectDetailCache.evict(project.getId());
 
         return projectMapper.toPatentResponse(projectPatent);
     }
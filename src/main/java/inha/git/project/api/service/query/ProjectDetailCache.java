@@ -0,0 +1,71 @@
+package inha.git.project.api.service.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inha.git.project.api.controller.dto.response.SearchProjectResponse;
+import inha.git.utils.cache.JsonCacheSerializer;
+import inha.git.utils.cache.TieredCache;
+import inha.git.utils.cache.TieredCacheManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * ProjectDetailCache는 공개 프로젝트의 상세 정보 중 조회자와 무관한 부분을 짧게 캐싱하는 컴포넌트.
+ * 추천 수와 조회자의 추천 상태는 캐싱하지 않고 요청마다 따로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectDetailCache {
+
+    private final TieredCacheManager tieredCacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${project.detail.cache-ttl-seconds:30}")
+    private long ttl;
+    @Value("${project.detail.local-max-weight:8388608}")
+    private long localMaxWeight;
+
+    private TieredCache<SearchProjectResponse> cache;
+
+    @PostConstruct
+    void init() {
+        cache = tieredCacheManager.create("project:detail",
+                JsonCacheSerializer.of(objectMapper, SearchProjectResponse.class),
+                Duration.ofSeconds(ttl), Duration.ofSeconds(ttl), localMaxWeight);
+    }
+
+    /**
+     * 캐싱된 상세 정보를 반환하고, 없으면 적재합니다. 적재 결과가 null이면(비공개 프로젝트) 캐싱하지 않습니다.
+     *
+     * @param projectIdx 프로젝트 번호
+     * @param loader     상세 정보를 적재하는 함수
+     * @return 상세 정보
+     */
+    public SearchProjectResponse get(Integer projectIdx, Supplier<SearchProjectResponse> loader) {
+        return cache.get(projectIdx.toString(), loader);
+    }
+
+    /**
+     * 상세 정보를 제거합니다. 트랜잭션 안에서 호출하면 커밋 뒤에 제거해, 커밋 전 값이 다시 캐싱되지 않게 합니다.
+     *
+     * @param projectIdx 프로젝트 번호
+     */
+    public void evict(Integer projectIdx) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(projectIdx.toString());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(projectIdx.toString());
+            }
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package inha.git.project.api.service.query;
 
+import inha.git.common.CursorResponse;
+import inha.git.common.PageMode;
 import inha.git.project.api.controller.dto.request.SearchProjectCond;
 import inha.git.project.api.controller.dto.response.SearchFileResponse;
 import inha.git.project.api.controller.dto.response.SearchProjectResponse;
@@ -7,10 +9,13 @@ import inha.git.project.api.controller.dto.response.SearchProjectsResponse;
 import inha.git.user.domain.User;
 import org.springframework.data.domain.Page;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public interface ProjectQueryService {
-    Page<SearchProjectsResponse> getCondProjects(SearchProjectCond searchProjectCond, Integer page, Integer size);
+    Page<SearchProjectsResponse> getCondProjects(SearchProjectCond searchProjectCond, Integer page, Integer size, PageMode mode);
+    CursorResponse<SearchProjectsResponse> getCondProjectsByCursor(SearchProjectCond searchProjectCond, Integer cursor, Integer size);
     SearchProjectResponse getProject(User user, Integer projectIdx);
     List<SearchFileResponse> getProjectFileByIdx(User user, Integer projectIdx, String path);
+    Path getProjectFilePath(User user, Integer projectIdx, String path);
 }
@@ -2,14 +2,14 @@ package inha.git.project.api.service.query;
 
 import inha.git.category.controller.dto.response.SearchCategoryResponse;
 import inha.git.category.mapper.CategoryMapper;
+import inha.git.common.CursorResponse;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
-import inha.git.mapping.domain.repository.FoundingRecommendJpaRepository;
-import inha.git.mapping.domain.repository.ProjectFieldJpaRepository;
-import inha.git.mapping.domain.repository.ProjectLikeJpaRepository;
-import inha.git.mapping.domain.repository.RegistrationRecommendJpaRepository;
+import inha.git.github.api.client.RepositoryTree;
 import inha.git.project.api.controller.dto.request.SearchProjectCond;
 import inha.git.project.api.controller.dto.response.*;
 import inha.git.project.api.mapper.ProjectMapper;
+import inha.git.project.api.service.manifest.ProjectManifestStore;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.ProjectUpload;
 import inha.git.project.domain.repository.ProjectJpaRepository;
@@ -20,23 +20,31 @@ import inha.git.semester.mapper.SemesterMapper;
 import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.MalformedInputException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Base64;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.Constant.*;
@@ -53,14 +61,15 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
 
     private final ProjectJpaRepository projectJpaRepository;
     private final ProjectUploadJpaRepository projectUploadJpaRepository;
-    private final ProjectFieldJpaRepository projectFieldJpaRepository;
     private final ProjectMapper projectMapper;
     private final SemesterMapper semesterMapper;
     private final CategoryMapper categoryMapper;
     private final ProjectQueryRepository projectQueryRepository;
-    private final ProjectLikeJpaRepository projectLikeJpaRepository;
-    private final FoundingRecommendJpaRepository foundingRecommendJpaRepository;
-    private final RegistrationRecommendJpaRepository registrationRecommendJpaRepository;
+    private final ProjectDetailCache projectDetailCache;
+    private final ProjectManifestStore projectManifestStore;
+
+    @Value("${project.file.preview-max-bytes:524288}")
+    private int previewMaxBytes;
 
     /**
      * 프로젝트 조건 조회
@@ -68,16 +77,31 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
      * @param searchProjectCond 검색 조건
      * @param page              페이지 번호
      * @param size 페이지 사이즈
+     * @param mode              전체 개수를 구하는 방식
      * @return 검색된 프로젝트 정보 페이지
      */
     @Override
-    public Page<SearchProjectsResponse> getCondProjects(SearchProjectCond searchProjectCond, Integer page, Integer size) {
+    public Page<SearchProjectsResponse> getCondProjects(SearchProjectCond searchProjectCond, Integer page, Integer size, PageMode mode) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, CREATE_AT));
-        return projectQueryRepository.getCondProjects(searchProjectCond, pageable);
+        return projectQueryRepository.getCondProjects(searchProjectCond, pageable, mode);
+    }
+
+    /**
+     * 프로젝트 조건 커서 조회
+     *
+     * @param searchProjectCond 검색 조건
+     * @param cursor            이전 페이지의 마지막 프로젝트 번호 (첫 페이지면 null)
+     * @param size              페이지 사이즈
+     * @return 검색된 프로젝트 정보 커서 응답
+     */
+    @Override
+    public CursorResponse<SearchProjectsResponse> getCondProjectsByCursor(SearchProjectCond searchProjectCond, Integer cursor, Integer size) {
+        return projectQueryRepository.getCondProjectsByCursor(searchProjectCond, cursor, size);
     }
 
     /**
      * 프로젝트 상세 조회
+     * 공개 프로젝트는 조회자와 무관한 상세 정보를 캐시에서 가져오고, 추천 수와 조회자의 추천 상태만 한 번의 쿼리로 채운다.
      *
      * @param user      사용자 정보
      * @param projectIdx 프로젝트 번호
@@ -85,38 +109,61 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
      */
     @Override
     public SearchProjectResponse getProject(User user, Integer projectIdx) {
-        Project project = findProject(projectIdx);
+        Project[] loaded = new Project[1];
+        SearchProjectResponse detail = projectDetailCache.get(projectIdx, () -> {
+            loaded[0] = findProjectDetail(projectIdx);
+            return Boolean.TRUE.equals(loaded[0].getIsPublic()) ? toProjectDetail(loaded[0]) : null;
+        });
 
-        if (!hasAccessToProject(project, user)) {
-            throw new BaseException(PROJECT_NOT_PUBLIC);
+        if (detail == null) {
+            // 비공개 프로젝트는 캐싱하지 않으므로 권한을 확인한 뒤 직접 만든다.
+            Project project = loaded[0] != null ? loaded[0] : findProjectDetail(projectIdx);
+            if (!hasAccessToProject(project, user)) {
+                throw new BaseException(PROJECT_NOT_PUBLIC);
+            }
+            detail = toProjectDetail(project);
         }
 
-        ProjectUpload projectUpload = getProjectUploadIfNeeded(project, projectIdx);
+        ProjectQueryRepository.ProjectViewerState viewerState =
+                projectQueryRepository.getViewerState(projectIdx, user != null ? user.getId() : null);
+        if (viewerState == null) {
+            throw new BaseException(PROJECT_NOT_FOUND);
+        }
+        return detail.withViewerState(viewerState.recommendCount(), viewerState.recommendState());
+    }
+
+    private Project findProjectDetail(Integer projectIdx) {
+        return projectJpaRepository.findDetailByIdAndState(projectIdx, ACTIVE)
+                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
+    }
+
+    /**
+     * 조회자와 무관한 상세 정보를 만든다. 추천 수와 추천 상태는 getViewerState로 채운다.
+     */
+    private SearchProjectResponse toProjectDetail(Project project) {
+        ProjectUpload projectUpload = null;
+        if (project.getRepoName() == null) {
+            projectUpload = project.getProjectUpload();
+            if (projectUpload == null || projectUpload.getState() != ACTIVE) {
+                throw new BaseException(PROJECT_UPLOAD_NOT_FOUND);
+            }
+        }
         SearchSemesterResponse searchSemesterResponse = semesterMapper.semesterToSearchSemesterResponse(project.getSemester());
         SearchCategoryResponse searchCategoryResponse = categoryMapper.categoryToCategoryResponse(project.getCategory());
-        List<SearchFieldResponse> searchFieldResponses = projectFieldJpaRepository.findByProject(project)
+        List<SearchFieldResponse> searchFieldResponses = project.getProjectFields()
                 .stream()
                 .map(projectField -> projectMapper.projectFieldToSearchFieldResponse(projectField.getField()))
                 .toList();
-
-        SearchRecommendCount searchRecommendCountResponse = projectMapper.projectToSearchRecommendCountResponse(project);
         SearchUserResponse searchUserResponse = projectMapper.userToSearchUserResponse(project.getUser());
-
-        boolean isLike = projectLikeJpaRepository.existsByUserAndProject(user, project);
-        boolean isRecommendRegistration = registrationRecommendJpaRepository.existsByUserAndProject(user, project);
-        boolean isRecommendFounding = foundingRecommendJpaRepository.existsByUserAndProject(user, project);
-
-        SearchRecommendState searchRecommendState = projectMapper.projectToSearchRecommendState
-                (isLike, isRecommendFounding, isRecommendRegistration);
-
         List<SearchPatentSummaryResponse> searchPatentSummaryResponse = projectMapper.projectToSearchPatentSummaryResponse(project);
         return projectMapper.projectToSearchProjectResponse(
-                project, projectUpload, searchFieldResponses, searchRecommendCountResponse, searchUserResponse, searchRecommendState, searchSemesterResponse, searchCategoryResponse, searchPatentSummaryResponse
+                project, projectUpload, searchFieldResponses, null, searchUserResponse, null, searchSemesterResponse, searchCategoryResponse, searchPatentSummaryResponse
         );
     }
 
     /**
      * 프로젝트 파일 조회
+     * 디렉토리는 업로드 때 만든 목록으로 응답하고, 파일은 메타데이터와 텍스트 미리보기만 반환하며, 원본은 streamProjectFile로 내려받는다.
      *
      * @param projectIdx 프로젝트 번호
      * @param path       파일 경로
@@ -124,56 +171,86 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
      */
     @Override
     public List<SearchFileResponse> getProjectFileByIdx(User user, Integer projectIdx, String path) {
+        validatePath(path);
+        ProjectUpload projectUpload = findAccessibleUpload(user, projectIdx);
+        RepositoryTree manifest = projectManifestStore.load(projectUpload.getDirectoryName());
+
+        String normalized = normalize(path);
+        List<RepositoryTree.Entry> children = manifest.list(normalized);
+        if (children != null) {
+            return children.stream()
+                    .map(this::mapToFileResponse)
+                    .toList();
+        }
+        RepositoryTree.Entry entry = manifest.find(normalized);
+        if (entry == null) {
+            throw new BaseException(FILE_NOT_FOUND);
+        }
+        Path filePath = Paths.get(BASE_DIR_SOURCE + projectUpload.getDirectoryName() + '/' + normalized);
+        try {
+            return List.of(toFileDetailResponse(filePath));
+        } catch (NoSuchFileException e) {
+            throw new BaseException(FILE_NOT_FOUND);
+        } catch (IOException e) {
+            log.error("Error reading file: " + e.getMessage(), e);
+            throw new BaseException(FILE_CONVERT);
+        }
+    }
+
+    /**
+     * 프로젝트 파일 원본 경로 조회
+     * 접근 권한과 파일 존재 여부만 짧은 트랜잭션에서 확인하고, 전송은 트랜잭션 밖에서 하도록 경로를 반환한다.
+     *
+     * @param user       사용자 정보
+     * @param projectIdx 프로젝트 번호
+     * @param path       파일 경로
+     * @return 디스크의 파일 경로
+     */
+    @Override
+    public Path getProjectFilePath(User user, Integer projectIdx, String path) {
+        validatePath(path);
+        ProjectUpload projectUpload = findAccessibleUpload(user, projectIdx);
+        String normalized = normalize(path);
+        // 목록에서 제외된 파일(.git, node_modules 등)과 디렉토리는 조회와 마찬가지로 내려받을 수 없다.
+        RepositoryTree.Entry entry = projectManifestStore.load(projectUpload.getDirectoryName()).find(normalized);
+        if (entry == null || entry.directory()) {
+            throw new BaseException(FILE_NOT_FOUND);
+        }
+        Path filePath = Paths.get(BASE_DIR_SOURCE + projectUpload.getDirectoryName() + '/' + normalized);
+        if (!Files.isRegularFile(filePath)) {
+            throw new BaseException(FILE_NOT_FOUND);
+        }
+        return filePath;
+    }
+
+    private void validatePath(String path) {
         if (path.contains("..") || path.contains("\0")) {
             throw new BaseException(INVALID_FILE_PATH);
         }
+    }
 
+    private ProjectUpload findAccessibleUpload(User user, Integer projectIdx) {
         Project project = findProject(projectIdx);
 
         if (!hasAccessToProject(project, user)) {
             throw new BaseException(PROJECT_NOT_PUBLIC);
         }
-        ProjectUpload projectUpload = projectUploadJpaRepository.findByProjectIdAndState(projectIdx, ACTIVE)
+        return projectUploadJpaRepository.findByProjectIdAndState(projectIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-        String absoluteFilePath = BASE_DIR_SOURCE + projectUpload.getDirectoryName() + '/' + path;
-        Path filePath = Paths.get(absoluteFilePath);
-        if (!Files.exists(filePath)) {
-            throw new BaseException(FILE_NOT_FOUND);
+    }
+
+    /**
+     * 목록의 경로 형식(앞뒤 '/' 없음, 루트는 빈 문자열)으로 맞춘다.
+     */
+    private String normalize(String path) {
+        String normalized = path.replace('\\', '/').replaceAll("/{2,}", "/");
+        if (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
         }
-        try {
-            if (Files.isDirectory(filePath)) {
-                try (Stream<Path> paths = Files.list(filePath)) {
-                    return paths
-                            .filter(f -> Files.isDirectory(f) ||
-                                    f.getFileName().toString().contains(".") ||  // 점(.)이 있는 파일 필터링
-                                    isSpecialFile(f))  // 확장자가 없더라도 중요한 파일 포함
-                            .filter(f -> !f.getFileName().toString().equals(GIT) &&
-                                    !f.getFileName().toString().equals(DS_STORE) &&
-                                    !f.getFileName().toString().startsWith(UNDERBAR) &&
-                                    !f.getFileName().toString().startsWith(MACOSX) &&
-                                    !f.getFileName().toString().equals(PYCACHE) &&
-                                    !f.getFileName().toString().contains(NODE_MODULES) &&
-                                    !f.getFileName().toString().equals(IDEA) &&
-                                    !f.getFileName().toString().endsWith(PYC) &&
-                                    !f.getFileName().toString().endsWith(IML) &&
-                                    !f.getFileName().toString().endsWith(OUT) &&
-                                    !f.getFileName().toString().endsWith(DSYM) &&
-                                    !f.getFileName().toString().endsWith(GRADLE) &&
-                                    !f.getFileName().toString().endsWith(OUT_) &&
-                                    !f.getFileName().toString().endsWith(BUILD) &&
-                                    !f.getFileName().toString().endsWith(CLASS)
-                            )
-                            .map(this::mapToFileResponse)
-                            .toList();
-                }
-            } else {
-                String content = extractFileContent(filePath);
-                return List.of(new SearchFileDetailResponse(filePath.getFileName().toString(), FILE, content));
-            }
-        } catch (IOException e) {
-            log.error("Error reading file: " + e.getMessage(), e);
-            throw new BaseException(FILE_CONVERT);
+        if (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
         }
+        return normalized;
     }
 
     private Project findProject(Integer projectIdx) {
@@ -181,88 +258,86 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
                 .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
     }
 
-    private SearchFileResponse mapToFileResponse(Path path) {
-        if (Files.isDirectory(path)) {
+    private SearchFileResponse mapToFileResponse(RepositoryTree.Entry entry) {
+        if (entry.directory()) {
             return new SearchDirectoryResponse(
-                    path.getFileName().toString(),
+                    entry.name(),
                     DIRECTORY,
                     null // 하위 파일 리스트는 상위 메소드에서 처리됨
             );
         } else {
             return new SearchFileDetailResponse(
-                    path.getFileName().toString(),
+                    entry.name(),
                     FILE,
-                    null // 내용은 상위 메소드에서 처리됨
+                    null, // 내용은 파일을 조회할 때 반환
+                    entry.size(),
+                    null,
+                    null
             );
         }
     }
 
-    private String extractFileContent(Path filePath) throws IOException {
-        String fileName = filePath.getFileName().toString().toLowerCase();
-        String contentType = Files.probeContentType(filePath);
-
-        // 파일 확장자에 따른 처리 추가
-        if (fileName.endsWith(".sh") || fileName.endsWith(".yml") || fileName.endsWith(".yaml")) {
-            return Files.readString(filePath);
+    /**
+     * 파일 메타데이터와 텍스트 미리보기를 만든다.
+     * MIME 타입은 확장자로만 판단하고, 텍스트는 미리보기 크기까지만 읽는다. 이미지 등 바이너리는 내용을 싣지 않는다.
+     */
+    private SearchFileDetailResponse toFileDetailResponse(Path filePath) throws IOException {
+        String fileName = filePath.getFileName().toString();
+        long size = Files.size(filePath);
+        String contentType = MediaTypeFactory.getMediaType(fileName).map(MediaType::toString).orElse(null);
+        if (!isTextFile(fileName.toLowerCase(), contentType)) {
+            return new SearchFileDetailResponse(fileName, FILE, null, size, contentType, false);
         }
 
-        // MIME 타입에 따른 처리
-        if (contentType != null) {
-            if (contentType.equals("text/csv")) {
-                // UTF-8 시도 후 실패하면 CP-949로 시도
-                try {
-                    return Files.readString(filePath);  // 기본적으로 UTF-8로 시도
-                } catch (MalformedInputException e) {
-                    log.info("UTF-8로 읽기 실패, MS949로 다시 시도합니다.");
-                    try (BufferedReader reader = Files.newBufferedReader(filePath, Charset.forName("MS949"))) {
-                        StringBuilder content = new StringBuilder();
-                        String line;
-                        while ((line = reader.readLine()) != null) {
-                            content.append(line).append("\n");
-                        }
-                        return content.toString();
-                    }
-                }
-            } else if (contentType.startsWith("image")) {
-                // 이미지 파일 처리
-                byte[] imageBytes = Files.readAllBytes(filePath);
-                return Base64.getEncoder().encodeToString(imageBytes);
-            } else if (contentType.startsWith("text") ||
-                    contentType.contains("json") ||
-                    contentType.contains("javascript") ||
-                    contentType.contains("xml") ||
-                    contentType.contains("yaml")) {
-                // 텍스트, JSON, JavaScript, XML, YAML 파일 처리
-                return Files.readString(filePath);
+        boolean truncated = size > previewMaxBytes;
+        byte[] bytes = new byte[(int) Math.min(size, previewMaxBytes)];
+        int length = 0;
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            int n;
+            while (length < bytes.length && (n = inputStream.read(bytes, length, bytes.length - length)) > 0) {
+                length += n;
             }
         }
-        // MIME 타입을 확인할 수 없을 때 기본적으로 텍스트 파일로 처리
-        if (contentType == null || contentType.startsWith("text")) {
-            return Files.readString(filePath);
+        String content;
+        try {
+            content = decode(bytes, length, truncated, StandardCharsets.UTF_8);
+        } catch (CharacterCodingException e) {
+            log.info("UTF-8로 읽기 실패, MS949로 다시 시도합니다.");
+            content = decode(bytes, length, truncated, Charset.forName("MS949"));
         }
-
-        return null;
+        return new SearchFileDetailResponse(fileName, FILE, content, size, contentType, truncated);
     }
 
-    private ProjectUpload getProjectUploadIfNeeded(Project project, Integer projectIdx) {
-        if (project.getRepoName() == null) {
-            return projectUploadJpaRepository.findByProjectIdAndState(projectIdx, ACTIVE)
-                    .orElseThrow(() -> new BaseException(PROJECT_UPLOAD_NOT_FOUND));
+    private boolean isTextFile(String fileName, String contentType) {
+        // 확장자가 다른 형식과 겹치는 소스 파일 (.ts는 MPEG-TS 영상으로 분류된다)
+        if (fileName.endsWith(".sh") || fileName.endsWith(".yml") || fileName.endsWith(".yaml") ||
+                fileName.endsWith(".ts") || fileName.endsWith(".tsx")) {
+            return true;
         }
-        return null;
+        // MIME 타입을 확인할 수 없을 때 기본적으로 텍스트 파일로 처리
+        return contentType == null ||
+                contentType.startsWith("text") ||
+                contentType.contains("json") ||
+                contentType.contains("javascript") ||
+                contentType.contains("xml") ||
+                contentType.contains("yaml");
     }
 
-    private boolean isSpecialFile(Path file) {
-        String fileName = file.getFileName().toString();
-        return fileName.equals("Dockerfile") ||
-                fileName.equals("Makefile") ||
-                fileName.equals("README") ||
-                fileName.equals("LICENSE") ||
-                fileName.equals("CHANGELOG") ||
-                fileName.equals("VERSION") ||
-                fileName.equals("Gemfile") ||
-                fileName.equals("Rakefile") ||
-                fileName.equals("Procfile") ||
-                fileName.equals("Vagrantfile");
+    /**
+     * 잘린 미리보기는 마지막 글자가 중간에 끊겨 있을 수 있으므로, 끝의 불완전한 바이트는 버린다.
+     */
+    private String decode(byte[] bytes, int length, boolean truncated, Charset charset) throws CharacterCodingException {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer out = CharBuffer.allocate((int) (length * (double) decoder.maxCharsPerByte()) + 1);
+        CoderResult result = decoder.decode(ByteBuffer.wrap(bytes, 0, length), out, !truncated);
+        if (result.isError()) {
+            result.throwException();
+        }
+        if (!truncated) {
+            decoder.flush(out);
+        }
+        return out.flip().toString();
     }
 }
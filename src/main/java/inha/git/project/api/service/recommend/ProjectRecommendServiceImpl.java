@@ -12,7 +12,6 @@ import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +48,7 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
         try {
             validRecommend(project, user, foundingRecommendJpaRepository.existsByUserAndProject(user, project));
             foundingRecommendJpaRepository.save(projectMapper.createProjectFoundingRecommend(user, project));
+            projectJpaRepository.addFoundingRecommendCount(project.getId(), 1);
             project.setFoundRecommendCount(project.getFoundingRecommendCount() + 1);
             log.info("프로젝트 창업 추천 성공 - 사용자: {} 프로젝트 ID: {} 추천 개수: {}", user.getName(), recommendRequest.idx(), project.getFoundingRecommendCount());
             return recommendRequest.idx() + "번 프로젝트 창업 추천 완료";
@@ -71,6 +71,7 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
         try {
             validLike(project, user, projectLikeJpaRepository.existsByUserAndProject(user, project));
             projectLikeJpaRepository.save(projectMapper.createProjectLike(user, project));
+            projectJpaRepository.addLikeCount(project.getId(), 1);
             project.setLikeCount(project.getLikeCount() + 1);
             log.info("프로젝트 좋아요 - 사용자: {} 프로젝트 ID: {} 좋아요 개수: {}", user.getName(), recommendRequest.idx(), project.getLikeCount());
             return recommendRequest.idx() + "번 프로젝트 창업 추천 완료";
@@ -93,6 +94,7 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
         try {
             validRecommend(project, user, registrationRecommendJpaRepository.existsByUserAndProject(user, project));
             registrationRecommendJpaRepository.save(projectMapper.createProjectRegistrationRecommend(user, project));
+            projectJpaRepository.addRegistrationRecommendCount(project.getId(), 1);
             project.setRegistrationRecommendCount(project.getRegistrationRecommendCount() + 1);
             log.info("프로젝트 등록 추천 - 사용자: {} 프로젝트 ID: {} 추천 개수: {}", user.getName(), recommendRequest.idx(), project.getRegistrationRecommendCount());
             return recommendRequest.idx() + "번 프로젝트 등록 추천 완료";
@@ -114,11 +116,11 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
         Project project = getProject(user, recommendRequest);
         try {
             validRecommendCancel(project, user, foundingRecommendJpaRepository.existsByUserAndProject(user, project));
-            foundingRecommendJpaRepository.deleteByUserAndProject(user, project);
-            if (project.getFoundingRecommendCount() <= 0) {
-                project.setFoundRecommendCount(0);
+            if (foundingRecommendJpaRepository.deleteByUserAndProject(user, project) == 0) {
+                throw new BaseException(PROJECT_NOT_RECOMMEND);
             }
-            project.setFoundRecommendCount(project.getFoundingRecommendCount() - 1);
+            projectJpaRepository.addFoundingRecommendCount(project.getId(), -1);
+            project.setFoundRecommendCount(Math.max(project.getFoundingRecommendCount() - 1, 0));
             log.info("프로젝트 창업 추천 취소 - 사용자: {} 프로젝트 ID: {} 추천 개수: {}", user.getName(), recommendRequest.idx(), project.getFoundingRecommendCount());
             return recommendRequest.idx() + "번 프로젝트 창업 추천 취소 완료";
         } catch (DataIntegrityViolationException e) {
@@ -139,11 +141,11 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
         Project project = getProject(user, recommendRequest);
         try {
             validLikeCancel(project, user, projectLikeJpaRepository.existsByUserAndProject(user, project));
-            projectLikeJpaRepository.deleteByUserAndProject(user, project);
-            if (project.getLikeCount() <= 0) {
-                project.setLikeCount(0);
+            if (projectLikeJpaRepository.deleteByUserAndProject(user, project) == 0) {
+                throw new BaseException(PROJECT_NOT_LIKE);
             }
-            project.setLikeCount(project.getLikeCount() - 1);
+            projectJpaRepository.addLikeCount(project.getId(), -1);
+            project.setLikeCount(Math.max(project.getLikeCount() - 1, 0));
             log.info("프로젝트 좋아요 취소 - 사용자: {} 프로젝트 ID: {} 좋아요 개수: {}", user.getName(), recommendRequest.idx(), project.getLikeCount());
             return recommendRequest.idx() + "번 프로젝트 좋아요 취소 완료";
         } catch (DataIntegrityViolationException e) {
@@ -164,11 +166,11 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
         Project project = getProject(user, recommendRequest);
         try {
             validRecommendCancel(project, user, registrationRecommendJpaRepository.existsByUserAndProject(user, project));
-            registrationRecommendJpaRepository.deleteByUserAndProject(user, project);
-            if (project.getRegistrationRecommendCount() <= 0) {
-                project.setRegistrationRecommendCount(0);
+            if (registrationRecommendJpaRepository.deleteByUserAndProject(user, project) == 0) {
+                throw new BaseException(PROJECT_NOT_RECOMMEND);
             }
-            project.setRegistrationRecommendCount(project.getRegistrationRecommendCount() - 1);
+            projectJpaRepository.addRegistrationRecommendCount(project.getId(), -1);
+            project.setRegistrationRecommendCount(Math.max(project.getRegistrationRecommendCount() - 1, 0));
             log.info("프로젝트 등록 추천 취소 - 사용자: {} 프로젝트 ID: {} 추천 개수: {}", user.getName(), recommendRequest.idx(), project.getRegistrationRecommendCount());
             return recommendRequest.idx() + "번 프로젝트 등록 추천 취소 완료";
         } catch (DataIntegrityViolationException e) {
@@ -252,20 +254,15 @@ public class ProjectRecommendServiceImpl implements ProjectRecommendService{
     /**
      * 프로젝트 정보 조회
      *
+     * <p>카운터는 원자적 증감 쿼리로 갱신하고 중복은 매핑 테이블의 기본 키로 막으므로 행 락을 잡지 않는다.</p>
+     *
      * @param user 로그인한 사용자 정보
      * @param recommendRequest 추천할 프로젝트 정보
      * @return 프로젝트 정보
      */
     private Project getProject(User user, RecommendRequest recommendRequest) {
-        Project project;
-        try {
-            project = projectJpaRepository.findByIdAndStateWithPessimisticLock(recommendRequest.idx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-        } catch (PessimisticLockingFailureException e) {
-            log.error("프로젝트 창업 추천 락 획득 실패 - 사용자: {}, 프로젝트 ID: {}",
-                    user.getName(), recommendRequest.idx());
-            throw new BaseException(TEMPORARY_UNAVAILABLE);
-        }
+        Project project = projectJpaRepository.findByIdAndState(recommendRequest.idx(), ACTIVE)
+                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
         if (!hasAccessToProject(project, user)) {
             throw new BaseException(PROJECT_NOT_PUBLIC);
         }
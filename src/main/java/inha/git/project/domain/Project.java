@@ -43,13 +43,14 @@ public class Project extends BaseEntity {
     @Column(nullable = false, length = 30, name = "subject_name")
     private String subjectName;
 
-    @Column(nullable = false, name = "like_count")
+    // 추천·좋아요 수는 ProjectJpaRepository의 원자적 증감 쿼리로만 갱신한다.
+    @Column(nullable = false, name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
-    @Column(nullable = false, name = "founding_recommend_count")
+    @Column(nullable = false, name = "founding_recommend_count", updatable = false)
     private Integer foundingRecommendCount = 0;
 
-    @Column(nullable = false, name = "registration_recommend_count")
+    @Column(nullable = false, name = "registration_recommend_count", updatable = false)
     private Integer registrationRecommendCount = 0;
 
     @Column(name = "comment_count")
@@ -27,7 +27,7 @@ public class ProjectComment extends BaseEntity {
     @Column(nullable = false, length = 1000)
     private String contents;
 
-    @Column(nullable = false, name = "like_count")
+    @Column(nullable = false, name = "like_count", updatable = false)
     private Integer likeCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
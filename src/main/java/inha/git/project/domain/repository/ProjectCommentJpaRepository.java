@@ -3,12 +3,10 @@ package inha.git.project.domain.repository;
 import inha.git.project.domain.Project;
 import inha.git.project.domain.ProjectComment;
 import inha.git.user.domain.User;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,10 +18,12 @@ import static inha.git.common.BaseEntity.State;
  */
 public interface ProjectCommentJpaRepository extends JpaRepository<ProjectComment, Integer> {
     Optional<ProjectComment> findByIdAndState(Integer commentIdx, State state);
-    List<ProjectComment> findAllByProjectAndStateOrderByIdAsc(Project project, State state);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
-    @Query("SELECT c FROM ProjectComment c WHERE c.id = :commentIdx AND c.state = :state")
-    Optional<ProjectComment> findByIdAndStateWithPessimisticLock(Integer commentIdx, State state);
+    @Query("SELECT c FROM ProjectComment c JOIN FETCH c.user WHERE c.project = :project AND c.state = :state ORDER BY c.id ASC")
+    List<ProjectComment> findAllByProjectAndStateOrderByIdAsc(@Param("project") Project project, @Param("state") State state);
+
+    // 좋아요 수를 원자적으로 증감 (ProjectJpaRepository.addLikeCount 참고)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProjectComment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END WHERE c.id = :id")
+    void addLikeCount(@Param("id") Integer id, @Param("delta") int delta);
 }
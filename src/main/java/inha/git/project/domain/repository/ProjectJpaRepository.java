@@ -1,17 +1,11 @@
 package inha.git.project.domain.repository;
 
 
-import inha.git.field.domain.Field;
-import inha.git.mapping.domain.ProjectField;
 import inha.git.project.domain.Project;
-import inha.git.semester.domain.Semester;
-import inha.git.user.domain.User;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -25,77 +19,31 @@ import static inha.git.common.BaseEntity.*;
  */
 public interface ProjectJpaRepository extends JpaRepository<Project, Integer> {
     Optional<Project> findByIdAndState(Integer projectIdx, State state);
-    long countByUserAndSemesterAndProjectFields_FieldAndState(User user, Semester semester, Field field, State state);
     List<Project> findAllByStateOrderById(State state);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
+    /**
+     * 상세 조회에 필요한 작성자, 학기, 카테고리, 업로드 정보와 분야를 한 번에 조회한다.
+     * 특허까지 함께 가져오면 두 컬렉션을 동시에 조인하게 되므로(MultipleBagFetchException) 특허는 지연 로딩으로 둔다.
+     */
+    @EntityGraph(attributePaths = {"user", "semester", "category", "projectUpload", "projectFields", "projectFields.field"})
     @Query("SELECT p FROM Project p WHERE p.id = :id AND p.state = :state")
-    Optional<Project> findByIdAndStateWithPessimisticLock(@Param("id") Integer id, @Param("state") State state);
-
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "JOIN FETCH p.user u " +
-            "JOIN FETCH u.userDepartments ud " +
-            "JOIN FETCH ud.department d " +
-            "JOIN FETCH d.college c " +
-            "JOIN FETCH p.semester s " +
-            "JOIN FETCH p.category cat " +
-            "WHERE p.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY c.id ASC, d.id ASC, u.userNumber ASC")
-    List<Project> findAllByState(@Param("semesterId") Integer semesterId,
-                                 @Param("state") State state);
-
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "JOIN FETCH p.user u " +
-            "JOIN FETCH u.userDepartments ud " +
-            "JOIN FETCH ud.department d " +
-            "JOIN FETCH d.college c " +
-            "JOIN FETCH p.semester s " +
-            "JOIN FETCH p.category cat " +
-            "WHERE c.id = :collegeId " +
-            "AND p.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY c.id ASC, d.id ASC, u.userNumber ASC")
-    List<Project> findAllByUserCollegeIdAndState(
-            @Param("collegeId") Integer collegeId,
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
-
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "JOIN FETCH p.user u " +
-            "JOIN FETCH u.userDepartments ud " +
-            "JOIN FETCH ud.department d " +
-            "JOIN FETCH d.college c " +
-            "JOIN FETCH p.semester s " +
-            "JOIN FETCH p.category cat " +
-            "WHERE d.id = :departmentId " +
-            "AND p.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY c.id ASC, d.id ASC, u.userNumber ASC")
-    List<Project> findAllByUserDepartmentIdAndState(
-            @Param("departmentId") Integer departmentId,
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
-
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "JOIN FETCH p.user u " +
-            "JOIN FETCH u.userDepartments ud " +
-            "JOIN FETCH ud.department d " +
-            "JOIN FETCH d.college c " +
-            "JOIN FETCH p.semester s " +
-            "JOIN FETCH p.category cat " +
-            "WHERE u.id = :userId " +
-            "AND p.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY p.createdAt DESC")
-    List<Project> findAllByUserIdAndState(
-            @Param("userId") Integer userId,
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
-
-    @Query("SELECT DISTINCT pf FROM ProjectField pf " +
-            "JOIN FETCH pf.field " +
-            "WHERE pf.project.id IN :projectIds")
-    List<ProjectField> findProjectFieldsByProjectIds(@Param("projectIds") List<Integer> projectIds);
+    Optional<Project> findDetailByIdAndState(@Param("id") Integer id, @Param("state") State state);
+
+    /**
+     * 좋아요 수를 원자적으로 증감한다. 0 아래로는 내려가지 않는다.
+     * 대기 중인 매핑 행 삽입을 먼저 flush하여, 중복 추천이면 카운터를 바꾸기 전에 제약 조건 위반이 발생한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END WHERE p.id = :id")
+    void addLikeCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    // 창업 추천 수
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.foundingRecommendCount = CASE WHEN p.foundingRecommendCount + :delta < 0 THEN 0 ELSE p.foundingRecommendCount + :delta END WHERE p.id = :id")
+    void addFoundingRecommendCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    // 등록 추천 수
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.registrationRecommendCount = CASE WHEN p.registrationRecommendCount + :delta < 0 THEN 0 ELSE p.registrationRecommendCount + :delta END WHERE p.id = :id")
+    void addRegistrationRecommendCount(@Param("id") Integer id, @Param("delta") int delta);
 }
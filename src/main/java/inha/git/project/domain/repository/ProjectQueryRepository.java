@@ -1,19 +1,29 @@
 package inha.git.project.domain.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import inha.git.category.controller.dto.response.SearchCategoryResponse;
-import inha.git.mapping.domain.QProjectField;
+import inha.git.common.CursorResponse;
+import inha.git.common.PageMode;
+import inha.git.field.domain.repository.FieldQueryRepository;
 import inha.git.project.api.controller.dto.request.SearchProjectCond;
 import inha.git.project.api.controller.dto.response.SearchFieldResponse;
 import inha.git.project.api.controller.dto.response.SearchPatentSummaryResponse;
 import inha.git.project.api.controller.dto.response.SearchProjectsResponse;
+import inha.git.project.api.controller.dto.response.SearchRecommendCount;
+import inha.git.project.api.controller.dto.response.SearchRecommendState;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
 import inha.git.project.domain.Project;
-import inha.git.project.domain.QProject;
 import inha.git.semester.controller.dto.response.SearchSemesterResponse;
-import inha.git.user.domain.QUser;
+import inha.git.utils.BatchProjection;
+import inha.git.utils.IntMap;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,24 +33,30 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 import static inha.git.category.domain.QCategory.category;
-import static inha.git.college.domain.QCollege.college;
-import static inha.git.common.BaseEntity.State.INACTIVE;
 import static inha.git.common.Constant.mapRoleToPosition;
-import static inha.git.department.domain.QDepartment.department;
+import static inha.git.mapping.domain.QFoundingRecommend.foundingRecommend;
+import static inha.git.mapping.domain.QProjectLike.projectLike;
+import static inha.git.mapping.domain.QRegistrationRecommend.registrationRecommend;
 import static inha.git.mapping.domain.QProjectField.projectField;
 import static inha.git.mapping.domain.QUserDepartment.userDepartment;
 import static inha.git.project.domain.QProject.project;
+import static inha.git.project.domain.QProjectPatent.projectPatent;
 import static inha.git.semester.domain.QSemester.semester;
 import static inha.git.user.domain.QUser.user;
 
 /**
  * 프로젝트 조회 관련 레포지토리
+ *
+ * <p>목록은 프로젝트 스칼라 컬럼만 DTO로 조회한 뒤 분야와 특허를 페이지 단위 IN 쿼리로 한 번에 채운다.
+ * 필터는 EXISTS 서브쿼리로 걸어 컬렉션 조인으로 인한 중복 행이 생기지 않는다.</p>
  */
 @Repository
 @RequiredArgsConstructor
 public class ProjectQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
+    private final FieldQueryRepository fieldQueryRepository;
 
     /**
      * 특정 유저의 프로젝트 목록 조회
@@ -50,61 +66,29 @@ public class ProjectQueryRepository {
      * @return 프로젝트 페이지
      */
     public Page<SearchProjectsResponse> getUserProjects(Integer id, Pageable pageable) {
-        QProject project = QProject.project;
-        QUser user = QUser.user;
-        QProjectField projectField = QProjectField.projectField;
-
-        // 프로젝트 목록 조회 쿼리
-        JPAQuery<Project> query = queryFactory
-                .select(project)
-                .from(project)
-                .leftJoin(project.user, user)
-                .leftJoin(project.projectFields, projectField)
-                .where(project.state.eq(Project.State.ACTIVE).and(user.id.eq(id)))
-                .orderBy(project.id.desc())
+        BooleanExpression condition = userCondition(id);
+        List<Tuple> rows = selectProjects(condition)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        // 결과 리스트 및 총 개수 가져오기
-        List<Project> projects = query.fetch();
-        long total = query.fetchCount();
-        // SearchProjectsResponse 변환
-
-        List<SearchProjectsResponse> content = projects.stream()
-                .map(p -> new SearchProjectsResponse(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getCreatedAt(),
-                        p.getRepoName() != null,
-                        new SearchSemesterResponse(
-                                p.getSemester().getId(),
-                                p.getSemester().getName()),
-                        new SearchCategoryResponse(
-                                p.getCategory().getId(),
-                                p.getCategory().getName()),
-                        p.getSubjectName(),
-                        p.getLikeCount(),
-                        p.getCommentCount(),
-                        p.getIsPublic(),
-                        p.getProjectFields().stream()
-                                .map(f -> new SearchFieldResponse(
-                                        f.getField().getId(),
-                                        f.getField().getName()
-                                ))
-                                .toList(),
-                        new SearchUserResponse(
-                                p.getUser().getId(),
-                                p.getUser().getName(),
-                                mapRoleToPosition(p.getUser().getRole())
-                        ),
-                        p.getProjectPatents().stream()
-                                .map(pp -> new SearchPatentSummaryResponse(
-                                        pp.getId(),
-                                        pp.getAcceptAt() != null,
-                                        pp.getPatentType()
-                                ))
-                                .toList())).toList();
-        return new PageImpl<>(content, pageable, total);
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, PageMode.EXACT, null, () -> countProjects(condition));
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    /**
+     * 특정 유저의 프로젝트 목록을 커서 기반으로 조회
+     *
+     * @param id     유저 ID
+     * @param cursor 이전 페이지의 마지막 프로젝트 ID (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 프로젝트 커서 응답
+     */
+    public CursorResponse<SearchProjectsResponse> getUserProjectsByCursor(Integer id, Integer cursor, int size) {
+        List<Tuple> rows = selectProjects(userCondition(id).and(cursorCondition(cursor)))
+                .limit(size + 1L)
+                .fetch();
+        return CursorResponse.of(toResponses(rows), size, SearchProjectsResponse::idx);
     }
 
     /**
@@ -112,20 +96,134 @@ public class ProjectQueryRepository {
      *
      * @param searchProjectCond 검색 조건
      * @param pageable          페이지 정보
+     * @param mode              전체 개수를 구하는 방식
      * @return 프로젝트 페이지
      */
-    public Page<SearchProjectsResponse> getCondProjects(SearchProjectCond searchProjectCond, Pageable pageable) {
+    public Page<SearchProjectsResponse> getCondProjects(SearchProjectCond searchProjectCond, Pageable pageable, PageMode mode) {
+        BooleanExpression condition = searchCondition(searchProjectCond);
+        List<Tuple> rows = selectProjects(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, mode,
+                PageAssembler.countKey("project:cond", searchProjectCond), () -> countProjects(condition));
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    /**
+     * 조건에 따른 프로젝트 목록을 커서 기반으로 조회
+     *
+     * <p>프로젝트 ID 내림차순으로 cursor보다 작은 ID부터 조회하므로 깊은 페이지도 비용이 일정하다.</p>
+     *
+     * @param searchProjectCond 검색 조건
+     * @param cursor            이전 페이지의 마지막 프로젝트 ID (첫 페이지면 null)
+     * @param size              페이지 크기
+     * @return 프로젝트 커서 응답
+     */
+    public CursorResponse<SearchProjectsResponse> getCondProjectsByCursor(SearchProjectCond searchProjectCond,
+                                                                           Integer cursor, int size) {
+        List<Tuple> rows = selectProjects(searchCondition(searchProjectCond).and(cursorCondition(cursor)))
+                .limit(size + 1L)
+                .fetch();
+        return CursorResponse.of(toResponses(rows), size, SearchProjectsResponse::idx);
+    }
+
+    /**
+     * 프로젝트 상세의 조회자별 값(추천 수, 조회자의 좋아요·추천 여부)을 한 번에 조회
+     *
+     * <p>추천 수는 자주 바뀌므로 캐시된 상세 정보와 별도로 매번 조회하고,
+     * 세 가지 추천 여부는 EXISTS 서브쿼리로 같은 행에서 함께 계산한다.</p>
+     *
+     * @param projectId 프로젝트 ID
+     * @param userId    조회자 ID (비로그인 조회자면 null)
+     * @return 조회자별 값 (프로젝트가 없으면 null)
+     */
+    public ProjectViewerState getViewerState(Integer projectId, Integer userId) {
+        Expression<Boolean> liked = Expressions.FALSE;
+        Expression<Boolean> founded = Expressions.FALSE;
+        Expression<Boolean> registered = Expressions.FALSE;
+        if (userId != null) {
+            liked = exists(JPAExpressions.selectOne().from(projectLike)
+                    .where(projectLike.id.projectId.eq(projectId), projectLike.id.userId.eq(userId)).exists());
+            founded = exists(JPAExpressions.selectOne().from(foundingRecommend)
+                    .where(foundingRecommend.id.projectId.eq(projectId), foundingRecommend.id.userId.eq(userId)).exists());
+            registered = exists(JPAExpressions.selectOne().from(registrationRecommend)
+                    .where(registrationRecommend.id.projectId.eq(projectId), registrationRecommend.id.userId.eq(userId)).exists());
+        }
+        Tuple row = queryFactory
+                .select(project.likeCount, project.foundingRecommendCount, project.registrationRecommendCount,
+                        liked, founded, registered)
+                .from(project)
+                .where(project.id.eq(projectId))
+                .fetchOne();
+        if (row == null) {
+            return null;
+        }
+        return new ProjectViewerState(
+                new SearchRecommendCount(row.get(1, Integer.class), row.get(0, Integer.class), row.get(2, Integer.class)),
+                new SearchRecommendState(Boolean.TRUE.equals(row.get(4, Boolean.class)),
+                        Boolean.TRUE.equals(row.get(3, Boolean.class)),
+                        Boolean.TRUE.equals(row.get(5, Boolean.class))));
+    }
+
+    private Expression<Boolean> exists(BooleanExpression exists) {
+        return new CaseBuilder().when(exists).then(true).otherwise(false);
+    }
+
+    private JPAQuery<Tuple> selectProjects(BooleanExpression condition) {
+        return queryFactory
+                .select(project.id, project.title, project.createdAt, project.repoName,
+                        semester.id, semester.name, category.id, category.name,
+                        project.subjectName, project.likeCount, project.commentCount, project.isPublic,
+                        user.id, user.name, user.role)
+                .from(project)
+                .join(project.user, user)
+                .join(project.semester, semester)
+                .join(project.category, category)
+                .where(condition)
+                .orderBy(project.id.desc());
+    }
+
+    /**
+     * 조건은 프로젝트 경로와 EXISTS 서브쿼리로만 구성되므로, 개수는 조인 없이 프로젝트 테이블만 센다.
+     */
+    private long countProjects(BooleanExpression condition) {
+        Long total = queryFactory
+                .select(project.count())
+                .from(project)
+                .where(condition)
+                .fetchOne();
+        return total != null ? total : 0;
+    }
+
+    private BooleanExpression userCondition(Integer id) {
+        return project.state.eq(Project.State.ACTIVE).and(project.user.id.eq(id));
+    }
 
+    private BooleanExpression cursorCondition(Integer cursor) {
+        return cursor != null ? project.id.lt(cursor) : null;
+    }
+
+    private BooleanExpression searchCondition(SearchProjectCond searchProjectCond) {
         // 동적 조건 생성
         BooleanExpression condition = project.state.eq(Project.State.ACTIVE);
 
         // User와 Department 매핑을 통한 조건 추가
         if (searchProjectCond.collegeIdx() != null) {
-            condition = condition.and(userDepartment.department.college.id.eq(searchProjectCond.collegeIdx()));
+            condition = condition.and(JPAExpressions.selectOne()
+                    .from(userDepartment)
+                    .where(userDepartment.user.id.eq(project.user.id)
+                            .and(userDepartment.department.college.id.eq(searchProjectCond.collegeIdx())))
+                    .exists());
         }
 
         if (searchProjectCond.departmentIdx() != null) {
-            condition = condition.and(userDepartment.department.id.eq(searchProjectCond.departmentIdx()));
+            condition = condition.and(JPAExpressions.selectOne()
+                    .from(userDepartment)
+                    .where(userDepartment.user.id.eq(project.user.id)
+                            .and(userDepartment.department.id.eq(searchProjectCond.departmentIdx())))
+                    .exists());
         }
 
         if (searchProjectCond.semesterIdx() != null) {
@@ -137,7 +235,11 @@ public class ProjectQueryRepository {
         }
 
         if (searchProjectCond.fieldIdx() != null) {
-            condition = condition.and(projectField.field.id.eq(searchProjectCond.fieldIdx()));
+            condition = condition.and(JPAExpressions.selectOne()
+                    .from(projectField)
+                    .where(projectField.project.id.eq(project.id)
+                            .and(projectField.field.id.eq(searchProjectCond.fieldIdx())))
+                    .exists());
         }
 
         if (searchProjectCond.subject() != null && !searchProjectCond.subject().isEmpty()) {
@@ -157,64 +259,73 @@ public class ProjectQueryRepository {
                 condition = condition.and(project.projectPatents.isEmpty());
             }
         }
+        return condition;
+    }
 
-        // 프로젝트 목록 조회 쿼리
-        JPAQuery<Project> query = queryFactory
-                .select(project)
-                .from(project)
-                .leftJoin(project.user, user)
-                .leftJoin(user.userDepartments, userDepartment) // User와 Department를 통해 매핑
-                .leftJoin(project.projectFields, projectField)
-                .leftJoin(userDepartment.department, department)
-                .leftJoin(department.college, college)
-                .leftJoin(project.semester, semester)
-                .leftJoin(project.category, category)
-                .where(condition)
-                .orderBy(project.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        // 결과 리스트 및 총 개수 가져오기
-        List<Project> projects = query.fetch();
-        long total = query.fetchCount();
-
-        // SearchProjectsResponse 변환
-        List<SearchProjectsResponse> content = projects.stream()
-                .map(p -> new SearchProjectsResponse(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getCreatedAt(),
-                        p.getRepoName() != null,
-                        new SearchSemesterResponse(
-                                p.getSemester().getId(),
-                                p.getSemester().getName()),
-                        new SearchCategoryResponse(
-                                p.getCategory().getId(),
-                                p.getCategory().getName()),
-                        p.getSubjectName(),
-                        p.getLikeCount(),
-                        p.getCommentCount(),
-                        p.getIsPublic(),
-                        p.getProjectFields().stream()
-                                .map(f -> new SearchFieldResponse(
-                                        f.getField().getId(),
-                                        f.getField().getName()
-                                ))
-                                .toList(),
-                        new SearchUserResponse(
-                                p.getUser().getId(),
-                                p.getUser().getName(),
-                                mapRoleToPosition(p.getUser().getRole())
-                        ),
-                        p.getProjectPatents().stream()
-                                .map(pp -> new SearchPatentSummaryResponse(
-                                        pp.getId(),
-                                        pp.getAcceptAt() != null,
-                                        pp.getPatentType()
-                                ))
-                                .toList()))
+    /**
+     * 조회한 프로젝트 행에 분야와 특허를 한 번씩의 IN 쿼리로 채워 응답으로 변환
+     *
+     * @param rows 프로젝트 행
+     * @return 프로젝트 목록 응답
+     */
+    private List<SearchProjectsResponse> toResponses(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> projectIds = BatchProjection.ids(rows, project.id);
+        IntMap<List<SearchFieldResponse>> fields = fieldQueryRepository.getFields(
+                projectField, projectField.project.id, projectField.field, projectIds);
+        IntMap<List<SearchPatentSummaryResponse>> patents = getPatents(projectIds);
+
+        return rows.stream()
+                .map(row -> {
+                    Integer projectId = row.get(project.id);
+                    return new SearchProjectsResponse(
+                            projectId,
+                            row.get(project.title),
+                            row.get(project.createdAt),
+                            row.get(project.repoName) != null,
+                            new SearchSemesterResponse(
+                                    row.get(semester.id),
+                                    row.get(semester.name)),
+                            new SearchCategoryResponse(
+                                    row.get(category.id),
+                                    row.get(category.name)),
+                            row.get(project.subjectName),
+                            row.get(project.likeCount),
+                            row.get(project.commentCount),
+                            row.get(project.isPublic),
+                            fields.getOrDefault(projectId, List.of()),
+                            new SearchUserResponse(
+                                    row.get(user.id),
+                                    row.get(user.name),
+                                    mapRoleToPosition(row.get(user.role))
+                            ),
+                            patents.getOrDefault(projectId, List.of()));
+                })
                 .toList();
+    }
+
+    private IntMap<List<SearchPatentSummaryResponse>> getPatents(List<Integer> projectIds) {
+        return BatchProjection.groupBy(queryFactory
+                        .select(projectPatent.project.id, projectPatent.id, projectPatent.acceptAt, projectPatent.patentType)
+                        .from(projectPatent)
+                        .where(projectPatent.project.id.in(projectIds))
+                        .orderBy(projectPatent.id.asc())
+                        .fetch(),
+                projectPatent.project.id,
+                row -> new SearchPatentSummaryResponse(
+                        row.get(projectPatent.id),
+                        row.get(projectPatent.acceptAt) != null,
+                        row.get(projectPatent.patentType)));
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    /**
+     * 프로젝트 상세의 조회자별 값
+     *
+     * @param recommendCount 추천 수
+     * @param recommendState 조회자의 좋아요·추천 여부
+     */
+    public record ProjectViewerState(SearchRecommendCount recommendCount, SearchRecommendState recommendState) {
     }
 }
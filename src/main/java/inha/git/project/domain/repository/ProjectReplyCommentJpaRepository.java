@@ -1,15 +1,15 @@
 package inha.git.project.domain.repository;
 
 import inha.git.common.BaseEntity.State;
+import inha.git.project.domain.Project;
 import inha.git.project.domain.ProjectComment;
 import inha.git.project.domain.ProjectReplyComment;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,8 +19,12 @@ public interface ProjectReplyCommentJpaRepository extends JpaRepository<ProjectR
     Optional<ProjectReplyComment> findByIdAndState(Integer replyCommentIdx, State state);
     boolean existsByProjectCommentAndState(ProjectComment projectComment, State state);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
-    @Query("SELECT c FROM ProjectReplyComment c WHERE c.id = :replyCommentIdx AND c.state = :state")
-    Optional<ProjectReplyComment> findByIdAndStateWithPessimisticLock(Integer replyCommentIdx, State state);
+    @Query("SELECT r FROM ProjectReplyComment r JOIN FETCH r.user " +
+            "WHERE r.projectComment.project = :project AND r.state = :state ORDER BY r.id ASC")
+    List<ProjectReplyComment> findAllByProjectAndStateOrderByIdAsc(@Param("project") Project project, @Param("state") State state);
+
+    // 좋아요 수를 원자적으로 증감 (ProjectJpaRepository.addLikeCount 참고)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProjectReplyComment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END WHERE c.id = :id")
+    void addLikeCount(@Param("id") Integer id, @Param("delta") int delta);
 }
@@ -1,6 +1,7 @@
 package inha.git.question.api.controller;
 
 import inha.git.common.BaseResponse;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.question.api.controller.dto.request.CreateQuestionRequest;
 import inha.git.question.api.controller.dto.request.LikeRequest;
@@ -44,15 +45,17 @@ public class QuestionController {
      *
      * @param page 조회할 페이지 번호 (1부터 시작)
      * @param size 페이지당 항목 수
+     * @param slice 무한 스크롤용 조회 여부 (true면 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인)
      * @return 페이징된 질문 목록
      * @throws BaseException INVALID_PAGE: 페이지 번호가 유효하지 않은 경우
      *                      INVALID_SIZE: 페이지 크기가 유효하지 않은 경우
      */
     @GetMapping
     @Operation(summary = "질문 전체 조회 API", description = "질문 전체를 조회합니다.")
-    public BaseResponse<Page<SearchQuestionsResponse>> getQuestions(@RequestParam("page") Integer page, @RequestParam("size") Integer size) {
+    public BaseResponse<Page<SearchQuestionsResponse>> getQuestions(@RequestParam("page") Integer page, @RequestParam("size") Integer size,
+                                                                    @RequestParam(value = "slice", required = false) Boolean slice) {
         PagingUtils.validatePage(page, size);
-        return BaseResponse.of(QUESTION_SEARCH_OK, questionService.getQuestions(PagingUtils.toPageIndex(page), size));
+        return BaseResponse.of(QUESTION_SEARCH_OK, questionService.getQuestions(PagingUtils.toPageIndex(page), size, PageMode.of(slice, PageMode.CACHED)));
     }
 
     /**
@@ -61,13 +64,16 @@ public class QuestionController {
      * @param page Integer
      * @param size Integer
      * @param searchQuestionCond SearchQuestionCond
+     * @param slice 무한 스크롤용 조회 여부 (true면 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인)
      * @return 검색된 질문 정보를 포함하는 BaseResponse<Page<SearchQuestionsResponse>>
      */
     @GetMapping("/cond")
     @Operation(summary = "질문 조건 조회 API", description = "질문 조건에 맞게 조회합니다.")
-    public BaseResponse<Page<SearchQuestionsResponse>> getCondQuestions(@RequestParam("page") Integer page, @RequestParam("size") Integer size , SearchQuestionCond searchQuestionCond) {
+    public BaseResponse<Page<SearchQuestionsResponse>> getCondQuestions(@RequestParam("page") Integer page, @RequestParam("size") Integer size , SearchQuestionCond searchQuestionCond,
+                                                                        @RequestParam(value = "slice", required = false) Boolean slice) {
         PagingUtils.validatePage(page, size);
-        return BaseResponse.of(QUESTION_SEARCH_OK, questionService.getCondQuestions(searchQuestionCond, PagingUtils.toPageIndex(page), size));
+        return BaseResponse.of(QUESTION_SEARCH_OK, questionService.getCondQuestions(searchQuestionCond, PagingUtils.toPageIndex(page), size,
+                PageMode.of(slice, PageMode.CACHED)));
     }
 
     /**
@@ -16,14 +16,17 @@ import inha.git.question.domain.repository.QuestionReplyCommentJpaRepository;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
 import inha.git.utils.IdempotentProvider;
+import inha.git.utils.IntSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.BaseEntity.State.INACTIVE;
@@ -54,20 +57,24 @@ public class QuestionCommentServiceImpl implements QuestionCommentService {
         Question question = questionJpaRepository.findByIdAndState(questionIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(QUESTION_NOT_FOUND));
         List<QuestionComment> comments = questionCommentJpaRepository.findAllByQuestionAndStateOrderByIdAsc(question, ACTIVE);
+        // 대댓글은 질문 단위로 한 번에 조회하여 댓글별로 묶는다.
+        Map<Integer, List<QuestionReplyComment>> repliesByComment = questionReplyCommentJpaRepository
+                .findAllByQuestionAndStateOrderByIdAsc(question, ACTIVE).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getQuestionComment().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<Integer> commentIds = comments.stream().map(QuestionComment::getId).toList();
+        List<Integer> replyIds = repliesByComment.values().stream().flatMap(List::stream).map(QuestionReplyComment::getId).toList();
+        IntSet likedComments = user == null || commentIds.isEmpty()
+                ? IntSet.empty() : IntSet.of(questionCommentLikeJpaRepository.findLikedIds(user.getId(), commentIds));
+        IntSet likedReplies = user == null || replyIds.isEmpty()
+                ? IntSet.empty() : IntSet.of(questionReplyCommentLikeJpaRepository.findLikedIds(user.getId(), replyIds));
+
         return comments.stream()
                 .map(comment -> {
-                    // 댓글에 대한 likeState를 확인
-                    boolean commentLikeState = questionCommentLikeJpaRepository.existsByUserAndQuestionComment(user, comment);
-                    // 대댓글에 대한 likeState를 확인하여 변환
-                    List<SearchReplyCommentResponse> replies = comment.getReplies().stream()
-                            .filter(reply -> reply.getState().equals(ACTIVE))
-                            .map(reply -> {
-                                boolean replyLikeState = questionReplyCommentLikeJpaRepository.existsByUserAndQuestionReplyComment(user, reply);
-                                return questionMapper.toSearchReplyCommentResponse(reply, replyLikeState);
-                            })
+                    List<SearchReplyCommentResponse> replies = repliesByComment.getOrDefault(comment.getId(), List.of()).stream()
+                            .map(reply -> questionMapper.toSearchReplyCommentResponse(reply, likedReplies.contains(reply.getId())))
                             .toList();
-                    // 댓글과 대댓글 리스트를 포함하여 CommentWithRepliesResponse로 변환
-                    return questionMapper.toCommentWithRepliesResponse(comment, commentLikeState, replies);
+                    return questionMapper.toCommentWithRepliesResponse(comment, likedComments.contains(comment.getId()), replies);
                 })
                 .toList();
     }
@@ -229,6 +236,7 @@ public class QuestionCommentServiceImpl implements QuestionCommentService {
         try {
             validLike(questionComment, user, questionCommentLikeJpaRepository.existsByUserAndQuestionComment(user, questionComment));
             questionCommentLikeJpaRepository.save(questionMapper.createQuestionCommentLike(user, questionComment));
+            questionCommentJpaRepository.addLikeCount(questionComment.getId(), 1);
             questionComment.setLikeCount(questionComment.getLikeCount() + 1);
             log.info("질문 댓글 좋아요 성공 - 사용자: {} 댓글 ID: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), questionComment.getLikeCount());
             return commentLikeRequest.idx() + "번 질문 댓글 좋아요 완료";
@@ -251,11 +259,11 @@ public class QuestionCommentServiceImpl implements QuestionCommentService {
         try {
             boolean commentLikeJpaRepository = questionCommentLikeJpaRepository.existsByUserAndQuestionComment(user, questionComment);
             validLikeCancel(questionComment, user, commentLikeJpaRepository);
-            questionCommentLikeJpaRepository.deleteByUserAndQuestionComment(user, questionComment);
-            if (questionComment.getLikeCount() <= 0) {
-                questionComment.setLikeCount(0);
+            if (questionCommentLikeJpaRepository.deleteByUserAndQuestionComment(user, questionComment) == 0) {
+                throw new BaseException(NOT_LIKE);
             }
-            questionComment.setLikeCount(questionComment.getLikeCount() - 1);
+            questionCommentJpaRepository.addLikeCount(questionComment.getId(), -1);
+            questionComment.setLikeCount(Math.max(questionComment.getLikeCount() - 1, 0));
             log.info("질문 댓글 좋아요 취소 성공 - 사용자: {} 댓글 ID: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), questionComment.getLikeCount());
             return commentLikeRequest.idx() + "번 질문 댓글 좋아요 취소 완료";
         } catch(DataIntegrityViolationException e) {
@@ -277,6 +285,7 @@ public class QuestionCommentServiceImpl implements QuestionCommentService {
         try {
             validReplyLike(questionReplyComment, user, questionReplyCommentLikeJpaRepository.existsByUserAndQuestionReplyComment(user, questionReplyComment));
             questionReplyCommentLikeJpaRepository.save(questionMapper.createQuestionReplyCommentLike(user, questionReplyComment));
+            questionReplyCommentJpaRepository.addLikeCount(questionReplyComment.getId(), 1);
             questionReplyComment.setLikeCount(questionReplyComment.getLikeCount() + 1);
             log.info("질문 대댓글 좋아요 성공 - 사용자: {} 댓글 ID: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), questionReplyComment.getLikeCount());
             return commentLikeRequest.idx() + "번 질문 대댓글 좋아요 완료";
@@ -299,11 +308,11 @@ public class QuestionCommentServiceImpl implements QuestionCommentService {
         try {
             boolean commentLikeJpaRepository = questionReplyCommentLikeJpaRepository.existsByUserAndQuestionReplyComment(user, questionReplyComment);
             validReplyLikeCancel(questionReplyComment, user, commentLikeJpaRepository);
-            questionReplyCommentLikeJpaRepository.deleteByUserAndQuestionReplyComment(user, questionReplyComment);
-            if (questionReplyComment.getLikeCount() <= 0) {
-                questionReplyComment.setLikeCount(0);
+            if (questionReplyCommentLikeJpaRepository.deleteByUserAndQuestionReplyComment(user, questionReplyComment) == 0) {
+                throw new BaseException(NOT_LIKE);
             }
-            questionReplyComment.setLikeCount(questionReplyComment.getLikeCount() - 1);
+            questionReplyCommentJpaRepository.addLikeCount(questionReplyComment.getId(), -1);
+            questionReplyComment.setLikeCount(Math.max(questionReplyComment.getLikeCount() - 1, 0));
             log.info("질문 대댓글 좋아요 취소 성공 - 사용자: {} 댓글 ID: {} 좋아요 개수: {}", user.getName(), commentLikeRequest.idx(), questionReplyComment.getLikeCount());
             return commentLikeRequest.idx() + "번 질문 대댓글 좋아요 취소 완료";
         } catch(DataIntegrityViolationException e) {
@@ -358,26 +367,14 @@ public class QuestionCommentServiceImpl implements QuestionCommentService {
     }
 
     private QuestionComment getQuestionComment(User user, CommentLikeRequest commentLikeRequest) {
-        QuestionComment questionComment;
-        try{
-            questionComment = questionCommentJpaRepository.findByIdAndStateWithPessimisticLock(commentLikeRequest.idx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(QUESTION_COMMENT_NOT_FOUND));
-        } catch (PessimisticLockingFailureException e){
-            log.error("질문 댓글 좋아요 추천 락 획득 실패- 사용자: {} 댓글 ID: {}", user.getName(), commentLikeRequest.idx());
-            throw new BaseException(TEMPORARY_UNAVAILABLE);
-        }
+        QuestionComment questionComment = questionCommentJpaRepository.findByIdAndState(commentLikeRequest.idx(), ACTIVE)
+                .orElseThrow(() -> new BaseException(QUESTION_COMMENT_NOT_FOUND));
         return questionComment;
     }
 
     private QuestionReplyComment getQuestionReplyComment(User user, CommentLikeRequest commentLikeRequest) {
-        QuestionReplyComment questionReplyComment;
-        try{
-            questionReplyComment = questionReplyCommentJpaRepository.findByIdAndStateWithPessimisticLock(commentLikeRequest.idx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(QUESTION_COMMENT_REPLY_NOT_FOUND));
-        } catch (PessimisticLockingFailureException e){
-            log.error("질문 대댓글 좋아요 추천 락 획득 실패- 사용자: {} 댓글 ID: {}", user.getName(), commentLikeRequest.idx());
-            throw new BaseException(TEMPORARY_UNAVAILABLE);
-        }
+        QuestionReplyComment questionReplyComment = questionReplyCommentJpaRepository.findByIdAndState(commentLikeRequest.idx(), ACTIVE)
+                .orElseThrow(() -> new BaseException(QUESTION_COMMENT_REPLY_NOT_FOUND));
         return questionReplyComment;
     }
 }
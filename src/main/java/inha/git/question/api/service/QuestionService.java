@@ -1,5 +1,6 @@
 package inha.git.question.api.service;
 
+import inha.git.common.PageMode;
 import inha.git.question.api.controller.dto.request.CreateQuestionRequest;
 import inha.git.question.api.controller.dto.request.LikeRequest;
 import inha.git.question.api.controller.dto.request.SearchQuestionCond;
@@ -11,8 +12,8 @@ import inha.git.user.domain.User;
 import org.springframework.data.domain.Page;
 
 public interface QuestionService {
-    Page<SearchQuestionsResponse> getQuestions(Integer page, Integer size);
-    Page<SearchQuestionsResponse> getCondQuestions(SearchQuestionCond searchQuestionCond, Integer page, Integer size);
+    Page<SearchQuestionsResponse> getQuestions(Integer page, Integer size, PageMode mode);
+    Page<SearchQuestionsResponse> getCondQuestions(SearchQuestionCond searchQuestionCond, Integer page, Integer size, PageMode mode);
     SearchQuestionResponse getQuestion(User user, Integer questionIdx);
     QuestionResponse createQuestion(User user, CreateQuestionRequest createQuestionRequest);
     QuestionResponse updateQuestion(User user, Integer questionIdx, UpdateQuestionRequest updateQuestionRequest);
@@ -2,6 +2,7 @@ package inha.git.question.api.service;
 
 import inha.git.category.domain.Category;
 import inha.git.category.domain.repository.CategoryJpaRepository;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.field.domain.Field;
 import inha.git.field.domain.repository.FieldJpaRepository;
@@ -34,7 +35,6 @@ import inha.git.utils.IdempotentProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -80,12 +80,13 @@ public class QuestionServiceImpl implements QuestionService {
      *
      * @param page 조회할 페이지 번호 (0부터 시작)
      * @param size 페이지당 항목 수
+     * @param mode 전체 개수를 구하는 방식
      * @return 페이징된 질문 목록
      */
     @Override
-    public Page<SearchQuestionsResponse> getQuestions(Integer page, Integer size) {
+    public Page<SearchQuestionsResponse> getQuestions(Integer page, Integer size, PageMode mode) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, CREATE_AT));
-        return questionQueryRepository.getQuestions(pageable);
+        return questionQueryRepository.getQuestions(pageable, mode);
     }
 
     /**
@@ -94,12 +95,13 @@ public class QuestionServiceImpl implements QuestionService {
      * @param searchQuestionCond SearchQuestionCond
      * @param page               Integer
      * @param size               Integer
+     * @param mode               전체 개수를 구하는 방식
      * @return Page<SearchQuestionsResponse>
      */
     @Override
-    public Page<SearchQuestionsResponse> getCondQuestions(SearchQuestionCond searchQuestionCond, Integer page, Integer size) {
+    public Page<SearchQuestionsResponse> getCondQuestions(SearchQuestionCond searchQuestionCond, Integer page, Integer size, PageMode mode) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, CREATE_AT));
-        return questionQueryRepository.getCondQuestions(searchQuestionCond, pageable);
+        return questionQueryRepository.getCondQuestions(searchQuestionCond, pageable, mode);
     }
 
     /**
@@ -271,6 +273,7 @@ public class QuestionServiceImpl implements QuestionService {
         try{
             validLike(question, user, questionLikeJpaRepository.existsByUserAndQuestion(user, question));
             questionLikeJpaRepository.save(questionMapper.createQuestionLike(user, question));
+            questionJpaRepository.addLikeCount(question.getId(), 1);
             question.setLikeCount(question.getLikeCount() + 1);
             log.info("질문 좋아요 성공 - 사용자: {} 질문 ID: {} 좋아요 개수 : {}", user.getName(), likeRequest.idx(), question.getLikeCount());
             return likeRequest.idx() + "번 질문 좋아요 완료";
@@ -297,8 +300,11 @@ public class QuestionServiceImpl implements QuestionService {
         Question question = getQuestion(user, likeRequest);
         try{
             validLikeCancel(question, user, questionLikeJpaRepository.existsByUserAndQuestion(user, question));
-            questionLikeJpaRepository.deleteByUserAndQuestion(user, question);
-            question.setLikeCount(question.getLikeCount() - 1);
+            if (questionLikeJpaRepository.deleteByUserAndQuestion(user, question) == 0) {
+                throw new BaseException(QUESTION_NOT_LIKE);
+            }
+            questionJpaRepository.addLikeCount(question.getId(), -1);
+            question.setLikeCount(Math.max(question.getLikeCount() - 1, 0));
             log.info("질문 좋아요 취소 성공 - 사용자: {} 질문 ID: {} 좋아요 개수 : {}", user.getName(), likeRequest.idx(), question.getLikeCount());
             return likeRequest.idx() + "번 프로젝트 좋아요 취소 완료";
         } catch(DataIntegrityViolationException e) {
@@ -339,14 +345,8 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     private Question getQuestion(User user, LikeRequest likeRequest) {
-        Question question;
-        try {
-            question = questionJpaRepository.findByIdAndStateWithPessimisticLock(likeRequest.idx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(QUESTION_NOT_FOUND));
-        } catch (PessimisticLockingFailureException e) {
-            log.error("질문 좋아요 추천 락 획득 실패- 사용자: {} 댓글 ID: {}", user.getName(), likeRequest.idx());
-            throw new BaseException(TEMPORARY_UNAVAILABLE);
-        }
+        Question question = questionJpaRepository.findByIdAndState(likeRequest.idx(), ACTIVE)
+                .orElseThrow(() -> new BaseException(QUESTION_NOT_FOUND));
         return question;
     }
 }
@@ -39,7 +39,7 @@ public class Question extends BaseEntity {
     @Column(nullable = false, length = 30, name = "subject_name")
     private String subjectName;
 
-    @Column(nullable = false, name = "like_count")
+    @Column(nullable = false, name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
     @Column(name = "comment_count")
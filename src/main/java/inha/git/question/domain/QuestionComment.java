@@ -33,7 +33,7 @@ public class QuestionComment extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
-    @Column(nullable = false, name = "like_count")
+    @Column(nullable = false, name = "like_count", updatable = false)
     private Integer likeCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,7 +25,7 @@ public class QuestionReplyComment extends BaseEntity {
     @Column(nullable = false, length = 1000)
     private String contents;
 
-    @Column(nullable = false, name = "like_count")
+    @Column(nullable = false, name = "like_count", updatable = false)
     private Integer likeCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,12 +3,10 @@ package inha.git.question.domain.repository;
 import inha.git.common.BaseEntity.State;
 import inha.git.question.domain.Question;
 import inha.git.question.domain.QuestionComment;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,10 +16,12 @@ import java.util.Optional;
  */
 public interface QuestionCommentJpaRepository extends JpaRepository<QuestionComment, Integer> {
     Optional<QuestionComment> findByIdAndState(Integer commentIdx, State state);
-    List<QuestionComment> findAllByQuestionAndStateOrderByIdAsc(Question question, State state);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
-    @Query("SELECT c FROM QuestionComment c WHERE c.id = :commentIdx AND c.state = :state")
-    Optional<QuestionComment> findByIdAndStateWithPessimisticLock(Integer commentIdx, State state);
+    @Query("SELECT c FROM QuestionComment c JOIN FETCH c.user WHERE c.question = :question AND c.state = :state ORDER BY c.id ASC")
+    List<QuestionComment> findAllByQuestionAndStateOrderByIdAsc(@Param("question") Question question, @Param("state") State state);
+
+    // 좋아요 수를 원자적으로 증감 (ProjectJpaRepository.addLikeCount 참고)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE QuestionComment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END WHERE c.id = :id")
+    void addLikeCount(@Param("id") Integer id, @Param("delta") int delta);
 }
@@ -1,19 +1,12 @@
 package inha.git.question.domain.repository;
 
 import inha.git.common.BaseEntity.State;
-import inha.git.field.domain.Field;
 import inha.git.question.domain.Question;
-import inha.git.semester.domain.Semester;
-import inha.git.user.domain.User;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,80 +14,9 @@ import java.util.Optional;
  */
 public interface QuestionJpaRepository extends JpaRepository<Question, Integer> {
     Optional<Question> findByIdAndState(Integer questionIdx, State state);
-    long countByUserAndSemesterAndQuestionFields_FieldAndState(User user, Semester semester, Field field, State state);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
-    @Query("SELECT q FROM Question q WHERE q.id = :questionIdx AND q.state = :state")
-    Optional<Question> findByIdAndStateWithPessimisticLock(Integer questionIdx, State state);
-
-    @Query("SELECT DISTINCT q, u.userNumber FROM Question q " +
-            "JOIN q.user u " +
-            "JOIN u.userDepartments ud " +
-            "JOIN ud.department d " +
-            "JOIN d.college c " +
-            "JOIN q.semester s " +
-            "JOIN q.category cat " +
-            "JOIN q.questionFields qf " +
-            "JOIN qf.field f " +
-            "WHERE q.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY u.userNumber ASC")
-    List<Question> findAllQuestions(
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
-
-    @Query("SELECT DISTINCT q, u.userNumber FROM Question q " +
-            "JOIN q.user u " +
-            "JOIN u.userDepartments ud " +
-            "JOIN ud.department d " +
-            "JOIN d.college c " +
-            "JOIN q.semester s " +
-            "JOIN q.category cat " +
-            "JOIN q.questionFields qf " +
-            "JOIN qf.field f " +
-            "WHERE c.id = :collegeId " +
-            "AND q.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY u.userNumber ASC")
-    List<Question> findAllQuestionsByCollege(
-            @Param("collegeId") Integer collegeId,
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
-
-    @Query("SELECT DISTINCT q, u.userNumber FROM Question q " +
-            "JOIN q.user u " +
-            "JOIN u.userDepartments ud " +
-            "JOIN ud.department d " +
-            "JOIN d.college c " +
-            "JOIN q.semester s " +
-            "JOIN q.category cat " +
-            "JOIN q.questionFields qf " +
-            "JOIN qf.field f " +
-            "WHERE d.id = :departmentId " +
-            "AND q.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY u.userNumber ASC")
-    List<Question> findAllQuestionsByDepartment(
-            @Param("departmentId") Integer departmentId,
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
-
-    @Query("SELECT DISTINCT q, u.userNumber FROM Question q " +
-            "JOIN q.user u " +
-            "JOIN u.userDepartments ud " +
-            "JOIN ud.department d " +
-            "JOIN d.college c " +
-            "JOIN q.semester s " +
-            "JOIN q.category cat " +
-            "JOIN q.questionFields qf " +
-            "JOIN qf.field f " +
-            "WHERE u.id = :userId " +
-            "AND q.state = :state " +
-            "AND (:semesterId IS NULL OR s.id = :semesterId) " +
-            "ORDER BY u.userNumber ASC")
-    List<Question> findAllQuestionsByUser(
-            @Param("userId") Integer userId,
-            @Param("semesterId") Integer semesterId,
-            @Param("state") State state);
+    // 좋아요 수를 원자적으로 증감 (ProjectJpaRepository.addLikeCount 참고)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Question q SET q.likeCount = CASE WHEN q.likeCount + :delta < 0 THEN 0 ELSE q.likeCount + :delta END WHERE q.id = :id")
+    void addLikeCount(@Param("id") Integer id, @Param("delta") int delta);
 }
@@ -1,15 +1,21 @@
 package inha.git.question.domain.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import inha.git.category.controller.dto.response.SearchCategoryResponse;
+import inha.git.common.PageMode;
+import inha.git.field.domain.repository.FieldQueryRepository;
 import inha.git.project.api.controller.dto.response.SearchFieldResponse;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
 import inha.git.question.api.controller.dto.request.SearchQuestionCond;
 import inha.git.question.api.controller.dto.response.SearchQuestionsResponse;
 import inha.git.question.domain.Question;
 import inha.git.semester.controller.dto.response.SearchSemesterResponse;
+import inha.git.utils.BatchProjection;
+import inha.git.utils.IntMap;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -27,63 +33,27 @@ import static inha.git.user.domain.QUser.user;
 
 /**
  * 질문 조회 관련 레포지토리
+ *
+ * <p>목록은 질문 스칼라 컬럼만 DTO로 조회한 뒤 분야를 페이지 단위 IN 쿼리로 한 번에 채운다.
  */
 @Repository
 @RequiredArgsConstructor
 public class QuestionQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
+    private final FieldQueryRepository fieldQueryRepository;
 
     /**
      * 질문 목록 조회
      *
      * @param pageable 페이지 정보
+     * @param mode     전체 개수를 구하는 방식
      * @return 질문 페이지
      */
-    public Page<SearchQuestionsResponse> getQuestions(Pageable pageable) {
-
-        JPAQuery<Question> query = queryFactory
-                .select(question)
-                .from(question)
-                .leftJoin(question.user, user)
-                .leftJoin(question.questionFields, questionField)
-                .where(question.state.eq(Question.State.ACTIVE))
-                .orderBy(question.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<Question> questions = query.fetch();
-        long total = query.fetchCount();
-
-        List<SearchQuestionsResponse> content = questions.stream()
-                .map(q -> new SearchQuestionsResponse(
-                        q.getId(),
-                        q.getTitle(),
-                        q.getCreatedAt(),
-                        q.getSubjectName(),
-                        new SearchSemesterResponse(
-                                q.getSemester().getId(),
-                                q.getSemester().getName()
-                        ),
-                        new SearchCategoryResponse(
-                                q.getCategory().getId(),
-                                q.getCategory().getName()),
-                        q.getLikeCount(),
-                        q.getCommentCount(),
-                        q.getQuestionFields().stream()
-                                .map(f -> new SearchFieldResponse(
-                                        f.getField().getId(),
-                                        f.getField().getName()
-                                ))
-                                .toList(),
-                        new SearchUserResponse(
-                                q.getUser().getId(),
-                                q.getUser().getName(),
-                                mapRoleToPosition(q.getUser().getRole())
-                        )
-                ))
-                .toList();
-        return new PageImpl<>(content, pageable, total);
+    public Page<SearchQuestionsResponse> getQuestions(Pageable pageable, PageMode mode) {
+        BooleanExpression condition = question.state.eq(Question.State.ACTIVE);
+        return getPage(condition, pageable, mode, PageAssembler.countKey("question:all"));
     }
 
     /**
@@ -94,49 +64,8 @@ public class QuestionQueryRepository {
      * @return 질문 페이지
      */
     public Page<SearchQuestionsResponse> getUserQuestions(Integer id, Pageable pageable) {
-
-        JPAQuery<Question> query = queryFactory
-                .select(question)
-                .from(question)
-                .leftJoin(question.user, user)
-                .leftJoin(question.questionFields, questionField)
-                .where(question.state.eq(Question.State.ACTIVE).and(question.user.id.eq(id)))
-                .orderBy(question.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        List<Question> questions = query.fetch();
-        long total = query.fetchCount();
-
-        List<SearchQuestionsResponse> content = questions.stream()
-                .map(q -> new SearchQuestionsResponse(
-                        q.getId(),
-                        q.getTitle(),
-                        q.getCreatedAt(),
-                        q.getSubjectName(),
-                        new SearchSemesterResponse(
-                                q.getSemester().getId(),
-                                q.getSemester().getName()
-                        ),
-                        new SearchCategoryResponse(
-                                q.getCategory().getId(),
-                                q.getCategory().getName()),
-                        q.getLikeCount(),
-                        q.getCommentCount(),
-                        q.getQuestionFields().stream()
-                                .map(f -> new SearchFieldResponse(
-                                        f.getField().getId(),
-                                        f.getField().getName()
-                                ))
-                                .toList(),
-                        new SearchUserResponse(
-                                q.getUser().getId(),
-                                q.getUser().getName(),
-                                mapRoleToPosition(q.getUser().getRole())
-                        )
-                ))
-                .toList();
-        return new PageImpl<>(content, pageable, total);
+        BooleanExpression condition = question.state.eq(Question.State.ACTIVE).and(question.user.id.eq(id));
+        return getPage(condition, pageable, PageMode.EXACT, null);
     }
 
     /**
@@ -144,20 +73,21 @@ public class QuestionQueryRepository {
      *
      * @param searchQuestionCond 질문 검색 조건
      * @param pageable           페이지 정보
+     * @param mode               전체 개수를 구하는 방식
      * @return 질문 페이지
      */
-    public Page<SearchQuestionsResponse> getCondQuestions(SearchQuestionCond searchQuestionCond, Pageable pageable) {
+    public Page<SearchQuestionsResponse> getCondQuestions(SearchQuestionCond searchQuestionCond, Pageable pageable, PageMode mode) {
         // 동적 조건 생성
         BooleanExpression condition = question.state.eq(Question.State.ACTIVE);
 
         // 단과대 조건 추가
         if (searchQuestionCond.collegeIdx() != null) {
-            condition = condition.and(user.userDepartments.any().department.college.id.eq(searchQuestionCond.collegeIdx()));
+            condition = condition.and(question.user.userDepartments.any().department.college.id.eq(searchQuestionCond.collegeIdx()));
         }
 
         // 학과 조건 추가
         if (searchQuestionCond.departmentIdx() != null) {
-            condition = condition.and(user.userDepartments.any().department.id.eq(searchQuestionCond.departmentIdx()));
+            condition = condition.and(question.user.userDepartments.any().department.id.eq(searchQuestionCond.departmentIdx()));
         }
 
         // 학기 조건 추가
@@ -172,7 +102,7 @@ public class QuestionQueryRepository {
 
         // 분야 조건 추가
         if (searchQuestionCond.fieldIdx() != null) {
-            condition = condition.and(questionField.field.id.eq(searchQuestionCond.fieldIdx()));
+            condition = condition.and(question.questionFields.any().field.id.eq(searchQuestionCond.fieldIdx()));
         }
 
         // 과목명 조건: LIKE '%subject%'
@@ -183,53 +113,83 @@ public class QuestionQueryRepository {
         if (searchQuestionCond.title() != null && !searchQuestionCond.title().isEmpty()) {
             condition = condition.and(question.title.containsIgnoreCase(searchQuestionCond.title()));
         }
-        // 질문 목록 조회 쿼리
-        JPAQuery<Question> query = queryFactory
-                .select(question)
+        return getPage(condition, pageable, mode, PageAssembler.countKey("question:cond", searchQuestionCond));
+    }
+
+    /**
+     * 조건에 맞는 질문 한 페이지를 조회해 응답으로 변환한다. 다음 페이지 확인용으로 한 건 더 조회한다.
+     */
+    private Page<SearchQuestionsResponse> getPage(BooleanExpression condition, Pageable pageable, PageMode mode, String countKey) {
+        List<Tuple> rows = selectQuestions(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, mode, countKey, () -> countQuestions(condition));
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    private JPAQuery<Tuple> selectQuestions(BooleanExpression condition) {
+        return queryFactory
+                .select(question.id, question.title, question.createdAt, question.subjectName,
+                        semester.id, semester.name, category.id, category.name,
+                        question.likeCount, question.commentCount,
+                        user.id, user.name, user.role)
                 .from(question)
-                .leftJoin(question.user, user)
-                .leftJoin(question.questionFields, questionField)
-                .leftJoin(question.semester, semester)
-                .leftJoin(question.category, category)
+                .join(question.user, user)
+                .join(question.semester, semester)
+                .join(question.category, category)
                 .where(condition)
-                .orderBy(question.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
-        // 결과 리스트 및 총 개수 가져오기
-        List<Question> questions = query.fetch();
-        long total = query.fetchCount();
-
-        // SearchQuestionsResponse 변환
-        List<SearchQuestionsResponse> content = questions.stream()
-                .map(q -> new SearchQuestionsResponse(
-                        q.getId(),
-                        q.getTitle(),
-                        q.getCreatedAt(),
-                        q.getSubjectName(),
+                .orderBy(question.id.desc());
+    }
+
+    /**
+     * 조건은 질문 경로와 EXISTS 서브쿼리로만 구성되므로, 개수는 조인 없이 질문 테이블만 센다.
+     */
+    private long countQuestions(BooleanExpression condition) {
+        Long total = queryFactory
+                .select(question.count())
+                .from(question)
+                .where(condition)
+                .fetchOne();
+        return total != null ? total : 0;
+    }
+
+    /**
+     * 조회한 질문 행에 분야를 한 번의 IN 쿼리로 채워 응답으로 변환
+     *
+     * @param rows 질문 행
+     * @return 질문 목록 응답
+     */
+    private List<SearchQuestionsResponse> toResponses(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        IntMap<List<SearchFieldResponse>> fields = fieldQueryRepository.getFields(
+                questionField, questionField.question.id, questionField.field, BatchProjection.ids(rows, question.id));
+
+        return rows.stream()
+                .map(row -> new SearchQuestionsResponse(
+                        row.get(question.id),
+                        row.get(question.title),
+                        row.get(question.createdAt),
+                        row.get(question.subjectName),
                         new SearchSemesterResponse(
-                                q.getSemester().getId(),
-                                q.getSemester().getName()
+                                row.get(semester.id),
+                                row.get(semester.name)
                         ),
                         new SearchCategoryResponse(
-                                q.getCategory().getId(),
-                                q.getCategory().getName()),
-                        q.getLikeCount(),
-                        q.getCommentCount(),
-                        q.getQuestionFields().stream()
-                                .map(f -> new SearchFieldResponse(
-                                        f.getField().getId(),
-                                        f.getField().getName()
-                                ))
-                                .toList(),
+                                row.get(category.id),
+                                row.get(category.name)),
+                        row.get(question.likeCount),
+                        row.get(question.commentCount),
+                        fields.getOrDefault(row.get(question.id), List.of()),
                         new SearchUserResponse(
-                                q.getUser().getId(),
-                                q.getUser().getName(),
-                                mapRoleToPosition(q.getUser().getRole())
+                                row.get(user.id),
+                                row.get(user.name),
+                                mapRoleToPosition(row.get(user.role))
                         )
                 ))
                 .toList();
-
-        return new PageImpl<>(content, pageable, total);
     }
 }
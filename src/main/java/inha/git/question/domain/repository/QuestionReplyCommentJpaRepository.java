@@ -1,15 +1,15 @@
 package inha.git.question.domain.repository;
 
 import inha.git.common.BaseEntity.State;
+import inha.git.question.domain.Question;
 import inha.git.question.domain.QuestionComment;
 import inha.git.question.domain.QuestionReplyComment;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,8 +19,12 @@ public interface QuestionReplyCommentJpaRepository extends JpaRepository<Questio
     Optional<QuestionReplyComment> findByIdAndState(Integer commentIdx, State state);
     boolean existsByQuestionCommentAndState(QuestionComment questionComment, State state);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
-    @Query("SELECT c FROM QuestionReplyComment c WHERE c.id = :commentIdx AND c.state = :state")
-    Optional<QuestionReplyComment> findByIdAndStateWithPessimisticLock(Integer commentIdx, State state);
+    @Query("SELECT r FROM QuestionReplyComment r JOIN FETCH r.user " +
+            "WHERE r.questionComment.question = :question AND r.state = :state ORDER BY r.id ASC")
+    List<QuestionReplyComment> findAllByQuestionAndStateOrderByIdAsc(@Param("question") Question question, @Param("state") State state);
+
+    // 좋아요 수를 원자적으로 증감 (ProjectJpaRepository.addLikeCount 참고)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE QuestionReplyComment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END WHERE c.id = :id")
+    void addLikeCount(@Param("id") Integer id, @Param("delta") int delta);
 }
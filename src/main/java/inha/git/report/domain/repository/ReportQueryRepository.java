@@ -3,6 +3,7 @@ package inha.git.report.domain.repository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inha.git.common.PageMode;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
 import inha.git.report.api.controller.dto.response.ReportReasonResponse;
 import inha.git.report.api.controller.dto.response.ReportTypeResponse;
@@ -10,6 +11,7 @@ import inha.git.report.api.controller.dto.response.SearchReportResponse;
 import inha.git.report.domain.Report;
 import inha.git.user.domain.QUser;
 import inha.git.user.domain.User;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,6 +32,7 @@ import static inha.git.report.domain.QReportType.reportType;
 public class ReportQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
 
     public Page<SearchReportResponse> getUserReports(Integer reporterId, Pageable pageable) {
         BooleanExpression condition = report.reporterId.eq(reporterId);
@@ -47,10 +50,13 @@ public class ReportQueryRepository {
                 .where(condition)
                 .orderBy(report.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L);
 
-        List<Report> reports = query.fetch();
-        long total = query.fetchCount();
+        Page<Report> page = pageAssembler.assemble(query.fetch(), pageable, PageMode.EXACT, null, () -> {
+            Long total = queryFactory.select(report.count()).from(report).where(condition).fetchOne();
+            return total != null ? total : 0;
+        });
+        List<Report> reports = page.getContent();
 
         List<Integer> reportedIds = reports.stream()
                 .map(Report::getReportedUserId)
@@ -100,6 +106,6 @@ public class ReportQueryRepository {
                     );
                 })
                 .toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 }
@@ -2,7 +2,7 @@ package inha.git.search.api.service;
 
 import inha.git.search.api.controller.dto.response.SearchResponse;
 import inha.git.search.domain.enums.TableType;
-import inha.git.search.domain.repository.SearchQueryRepository;
+import inha.git.search.domain.repository.SearchJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,7 +23,7 @@ import static inha.git.common.Constant.CREATE_AT;
 @Transactional(readOnly = true)
 public class SearchServiceImpl implements SearchService {
 
-    private final SearchQueryRepository searchQueryRepository;
+    private final SearchJdbcRepository searchJdbcRepository;
 
     /**
      * 검색
@@ -35,6 +35,6 @@ public class SearchServiceImpl implements SearchService {
     @Override
     public Page<SearchResponse> search(String search, Integer page, TableType type) {
         Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, CREATE_AT));
-        return searchQueryRepository.search(search, pageable, type);
+        return searchJdbcRepository.search(search, pageable, type);
     }
 }
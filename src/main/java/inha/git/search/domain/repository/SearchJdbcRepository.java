@@ -0,0 +1,200 @@
+package inha.git.search.domain.repository;
+
+import inha.git.project.api.controller.dto.response.SearchFieldResponse;
+import inha.git.project.api.controller.dto.response.SearchUserResponse;
+import inha.git.search.api.controller.dto.response.SearchResponse;
+import inha.git.search.domain.enums.TableType;
+import inha.git.semester.controller.dto.response.SearchSemesterResponse;
+import inha.git.user.domain.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static inha.git.common.Constant.mapRoleToPosition;
+
+/**
+ * SearchJdbcRepository는 통합 검색 쿼리를 처리하는 레포지토리.
+ * 게시판별 제목·본문 표현식에 pg_trgm GIN 인덱스를 두고, 모든 게시판을 UNION ALL 한 번으로 조회한다.
+ * 인덱스는 원본 테이블 쓰기와 함께 PostgreSQL이 갱신하므로 별도 동기화가 필요 없다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SearchJdbcRepository {
+
+    private static final String CREATE_EXTENSION_SQL = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    // 인덱스 표현식. 검색 조건은 같은 표현식에 테이블 별칭만 붙여 사용해야 인덱스를 탄다.
+    private static final String DOCUMENT = "(%1$stitle || ' ' || COALESCE(%1$scontents, ''))";
+
+    private static final Map<TableType, String> TABLES = new EnumMap<>(Map.of(
+            TableType.I_FOSS, "project_tb",
+            TableType.PROBLEM, "problem_tb",
+            TableType.ISSS, "question_tb",
+            TableType.TEAM, "team_post_tb",
+            TableType.NOTICE, "notice_tb"));
+
+    // 모든 분기는 같은 컬럼 순서와 타입을 가져야 하므로 해당 없는 컬럼은 타입을 지정한 NULL로 채운다.
+    private static final Map<TableType, String> BRANCHES = new EnumMap<>(Map.of(
+            TableType.I_FOSS, "SELECT 'I_FOSS' AS table_type, x.project_id AS id, x.title, x.created_at, x.user_id, " +
+                    "x.semester_id, x.subject_name, x.like_count, x.repo_name IS NOT NULL AS is_repo " +
+                    "FROM project_tb x",
+            TableType.PROBLEM, "SELECT 'PROBLEM', x.problem_id, x.title, x.created_at, x.user_id, " +
+                    "NULL::integer, NULL::varchar, NULL::integer, NULL::boolean " +
+                    "FROM problem_tb x",
+            TableType.ISSS, "SELECT 'ISSS', x.question_id, x.title, x.created_at, x.user_id, " +
+                    "x.semester_id, x.subject_name, x.like_count, NULL::boolean " +
+                    "FROM question_tb x",
+            TableType.TEAM, "SELECT 'TEAM', x.team_post_id, x.title, x.created_at, t.user_id, " +
+                    "NULL::integer, NULL::varchar, NULL::integer, NULL::boolean " +
+                    "FROM team_post_tb x JOIN team_tb t ON t.team_id = x.team_id",
+            TableType.NOTICE, "SELECT 'NOTICE', x.notice_id, x.title, x.created_at, x.user_id, " +
+                    "NULL::integer, NULL::varchar, NULL::integer, NULL::boolean " +
+                    "FROM notice_tb x"));
+
+    private static final String BRANCH_CONDITION =
+            " WHERE x.deleted_at IS NULL AND " + DOCUMENT.formatted("x.") + " ILIKE ?";
+
+    private static final Map<TableType, String> FIELDS_SQL = new EnumMap<>(Map.of(
+            TableType.I_FOSS, "SELECT m.project_id AS target_id, f.field_id, f.name FROM project_field_tb m " +
+                    "JOIN field_tb f ON f.field_id = m.field_id WHERE m.project_id = ANY(?) ORDER BY f.field_id",
+            TableType.ISSS, "SELECT m.question_id AS target_id, f.field_id, f.name FROM question_field_tb m " +
+                    "JOIN field_tb f ON f.field_id = m.field_id WHERE m.question_id = ANY(?) ORDER BY f.field_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 인덱스를 생성한다.
+     * 확장 설치 권한이 없는 환경에서는 경고만 남기고, 검색은 인덱스 없이 동작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            jdbcTemplate.execute(CREATE_EXTENSION_SQL);
+            TABLES.forEach((type, table) -> jdbcTemplate.execute(
+                    "CREATE INDEX IF NOT EXISTS idx_" + table.replace("_tb", "") + "_search_trgm ON " + table +
+                    " USING gin (" + DOCUMENT.formatted("") + " gin_trgm_ops)"));
+        } catch (DataAccessException e) {
+            log.warn("검색 인덱스 생성 실패 - 인덱스 없이 검색합니다.", e);
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param search   검색어
+     * @param pageable 페이지 정보
+     * @param type     검색할 테이블 타입 (null일 경우 전체 검색)
+     * @return 검색 결과
+     */
+    public Page<SearchResponse> search(String search, Pageable pageable, TableType type) {
+        List<TableType> types = type == null ? List.of(TableType.values()) : List.of(type);
+        String pattern = "%" + escapeLike(search) + "%";
+        String union = types.stream().map(t -> BRANCHES.get(t) + BRANCH_CONDITION).collect(Collectors.joining(" UNION ALL "));
+        Object[] patterns = types.stream().map(t -> pattern).toArray();
+
+        String sql = "SELECT d.*, u.name AS user_name, u.role, s.name AS semester_name, COUNT(*) OVER () AS total " +
+                "FROM (" + union + ") d " +
+                "JOIN user_tb u ON u.user_id = d.user_id AND u.deleted_at IS NULL " +
+                "LEFT JOIN semester_tb s ON s.semester_id = d.semester_id " +
+                "ORDER BY d.created_at DESC, d.id DESC LIMIT ? OFFSET ?";
+
+        List<Object> args = new ArrayList<>(List.of(patterns));
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+
+        long[] total = {0};
+        List<SearchRow> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            total[0] = rs.getLong("total");
+            return new SearchRow(
+                    TableType.valueOf(rs.getString("table_type")),
+                    rs.getInt("id"),
+                    rs.getString("title"),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getInt("user_id"),
+                    rs.getString("user_name"),
+                    Role.valueOf(rs.getString("role")),
+                    rs.getObject("semester_id", Integer.class),
+                    rs.getString("semester_name"),
+                    rs.getString("subject_name"),
+                    rs.getObject("like_count", Integer.class),
+                    rs.getObject("is_repo", Boolean.class));
+        }, args.toArray());
+
+        // 범위를 벗어난 페이지는 윈도우 함수로 총 개수를 얻을 수 없으므로 따로 센다.
+        if (rows.isEmpty() && pageable.getOffset() > 0) {
+            String countSql = "SELECT COUNT(*) FROM (" + union + ") d " +
+                    "JOIN user_tb u ON u.user_id = d.user_id AND u.deleted_at IS NULL";
+            Long count = jdbcTemplate.queryForObject(countSql, Long.class, patterns);
+            total[0] = count != null ? count : 0;
+        }
+
+        Map<Integer, List<SearchFieldResponse>> projectFields = getFields(rows, TableType.I_FOSS);
+        Map<Integer, List<SearchFieldResponse>> questionFields = getFields(rows, TableType.ISSS);
+        List<SearchResponse> content = rows.stream()
+                .map(row -> row.toResponse(switch (row.type()) {
+                    case I_FOSS -> projectFields.getOrDefault(row.id(), List.of());
+                    case ISSS -> questionFields.getOrDefault(row.id(), List.of());
+                    default -> null;
+                }))
+                .toList();
+        return new PageImpl<>(content, pageable, total[0]);
+    }
+
+    /**
+     * 한 페이지에 포함된 프로젝트 또는 질문의 분야를 한 번에 조회한다.
+     */
+    private Map<Integer, List<SearchFieldResponse>> getFields(List<SearchRow> rows, TableType type) {
+        Integer[] ids = rows.stream().filter(row -> row.type() == type).map(SearchRow::id).toArray(Integer[]::new);
+        Map<Integer, List<SearchFieldResponse>> fields = new HashMap<>();
+        if (ids.length == 0) {
+            return fields;
+        }
+        jdbcTemplate.query(FIELDS_SQL.get(type),
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("integer", ids)),
+                rs -> {
+                    fields.computeIfAbsent(rs.getInt("target_id"), key -> new ArrayList<>())
+                            .add(new SearchFieldResponse(rs.getInt("field_id"), rs.getString("name")));
+                });
+        return fields;
+    }
+
+    private String escapeLike(String search) {
+        return search.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record SearchRow(TableType type, Integer id, String title, LocalDateTime createdAt,
+                             Integer userId, String userName, Role role,
+                             Integer semesterId, String semesterName, String subject,
+                             Integer likeCount, Boolean isRepo) {
+
+        private SearchResponse toResponse(List<SearchFieldResponse> fieldList) {
+            return new SearchResponse(
+                    id,
+                    title,
+                    createdAt,
+                    new SearchUserResponse(userId, userName, mapRoleToPosition(role)),
+                    semesterId != null ? new SearchSemesterResponse(semesterId, semesterName) : null,
+                    subject,
+                    likeCount,
+                    fieldList,
+                    type.getValue(),
+                    isRepo);
+        }
+    }
+}
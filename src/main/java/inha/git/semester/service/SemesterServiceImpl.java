@@ -1,7 +1,7 @@
 package inha.git.semester.service;
 
-import inha.git.common.BaseEntity;
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
 import inha.git.semester.controller.dto.request.CreateSemesterRequest;
 import inha.git.semester.controller.dto.request.UpdateSemesterRequest;
 import inha.git.semester.controller.dto.response.SearchSemesterResponse;
@@ -11,7 +11,6 @@ import inha.git.semester.mapper.SemesterMapper;
 import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +19,7 @@ import java.util.List;
 import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.BaseEntity.State.INACTIVE;
 import static inha.git.common.code.status.ErrorStatus.SEMESTER_NOT_FOUND;
+import static inha.git.common.reference.ReferenceType.SEMESTER;
 
 /**
  * 학기 관련 비즈니스 로직을 처리하는 서비스 구현체입니다.
@@ -33,6 +33,7 @@ public class SemesterServiceImpl implements SemesterService {
 
     private final SemesterJpaRepository semesterJpaRepository;
     private final SemesterMapper semesterMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 활성화된 모든 학기를 조회합니다.
@@ -41,8 +42,9 @@ public class SemesterServiceImpl implements SemesterService {
      */
     @Override
     public List<SearchSemesterResponse> getSemesters() {
-        return semesterMapper.semestersToSearchSemesterResponses
-                (semesterJpaRepository.findAllByState(BaseEntity.State.ACTIVE, Sort.by(Sort.Direction.ASC, "name")));
+        return referenceDataCache.snapshot().findAll(SEMESTER).stream()
+                .map(item -> new SearchSemesterResponse(item.id(), item.name()))
+                .toList();
     }
 
     /**
@@ -56,6 +58,7 @@ public class SemesterServiceImpl implements SemesterService {
     @Transactional
     public String createSemester(User admin, CreateSemesterRequest createSemesterRequest) {
         Semester semester = semesterJpaRepository.save(semesterMapper.createSemesterRequestToSemester(createSemesterRequest));
+        referenceDataCache.invalidate();
         log.info("학기 생성 성공 - 관리자: {} 학기명: {}", admin.getName(), createSemesterRequest.name());
         return semester.getName() + " 학기가 생성되었습니다.";
     }
@@ -76,6 +79,7 @@ public class SemesterServiceImpl implements SemesterService {
         Semester semester = semesterJpaRepository.findByIdAndState(semesterIdx, ACTIVE)
                 .orElseThrow(() -> new BaseException(SEMESTER_NOT_FOUND));
         semester.setName(updateSemesterRequest.name());
+        referenceDataCache.invalidate();
         log.info("학기 이름 수정 성공 - 관리자: {} 학기명: {}", admin.getName(), updateSemesterRequest.name());
         return semester.getName() + " 학기 이름이 수정되었습니다.";
     }
@@ -95,6 +99,7 @@ public class SemesterServiceImpl implements SemesterService {
                 .orElseThrow(() -> new BaseException(SEMESTER_NOT_FOUND));
         semester.setState(INACTIVE);
         semester.setDeletedAt();
+        referenceDataCache.invalidate();
         log.info("학기 삭제 성공 - 관리자: {} 학기명: {}", admin.getName(), semester.getName());
         return semester.getName() + " 학기가 삭제되었습니다.";
     }
@@ -3,9 +3,11 @@ package inha.git.statistics.api.controller;
 import inha.git.common.BaseResponse;
 import inha.git.statistics.api.controller.dto.request.SearchCond;
 import inha.git.statistics.api.controller.dto.response.BatchCollegeStatisticsResponse;
+import inha.git.statistics.api.controller.dto.response.ExportJobResponse;
 import inha.git.statistics.api.controller.dto.response.PatentStatisticsResponse;
 import inha.git.statistics.api.controller.dto.response.ProjectStatisticsResponse;
 import inha.git.statistics.api.controller.dto.response.QuestionStatisticsResponse;
+import inha.git.statistics.api.service.ExcelExportJobService;
 import inha.git.statistics.api.service.StatisticsExcelService;
 import inha.git.statistics.api.service.StatisticsMigrationService;
 import inha.git.statistics.api.service.StatisticsService;
@@ -37,6 +39,7 @@ public class StatisticsController {
     private final StatisticsService statisticsService;
     private final Map<ExcelType, StatisticsExcelService> excelServices;
     private final StatisticsMigrationService statisticsMigrationService;
+    private final ExcelExportJobService excelExportJobService;
 
     /**
      * 프로젝트 통계 조회 API
@@ -107,16 +110,70 @@ public class StatisticsController {
         excelService.exportToExcelFile(response, statisticsType, filterId, semesterId);
     }
 
+    /**
+     * 엑셀 내보내기 작업 등록 API
+     *
+     * <p>같은 조건의 작업이 진행 중이거나 최신 통계로 생성된 파일이 있으면 그 작업을 반환한다.</p>
+     *
+     * @param user 로그인한 사용자 정보
+     * @param excelType 엑셀 타입
+     * @param statisticsType 통계 타입
+     * @param filterId 단과대/학과/사용자 ID
+     * @param semesterId 학기 ID
+     * @return BaseResponse<ExportJobResponse>
+     */
+    @PostMapping("/export/jobs")
+    @PreAuthorize("hasAnyAuthority('professor:read', 'admin:read')")
+    @Operation(summary = "엑셀 내보내기 작업 등록 API", description = "엑셀 파일 생성을 비동기 작업으로 등록합니다.")
+    public BaseResponse<ExportJobResponse> submitExportJob(
+            @AuthenticationPrincipal User user,
+            @RequestParam(value = "excelType", defaultValue = "PROJECT") ExcelType excelType,
+            @RequestParam(value = "statisticsType", defaultValue = "TOTAL") StatisticsType statisticsType,
+            @RequestParam(value = "filterId", required = false) Integer filterId,
+            @RequestParam(value = "semesterId", required = false) Integer semesterId
+    ) {
+        log.info("엑셀 내보내기 작업 등록 요청: {}, 타입: {}", user.getName(), excelType);
+        return BaseResponse.of(EXPORT_JOB_SUBMIT_OK,
+                excelExportJobService.submit(excelType, statisticsType, filterId, semesterId));
+    }
+
+    /**
+     * 엑셀 내보내기 작업 조회 API
+     *
+     * @param jobId 작업 ID
+     * @return BaseResponse<ExportJobResponse>
+     */
+    @GetMapping("/export/jobs/{jobId}")
+    @PreAuthorize("hasAnyAuthority('professor:read', 'admin:read')")
+    @Operation(summary = "엑셀 내보내기 작업 조회 API", description = "엑셀 내보내기 작업의 상태를 조회합니다.")
+    public BaseResponse<ExportJobResponse> getExportJob(@PathVariable("jobId") String jobId) {
+        return BaseResponse.of(EXPORT_JOB_SEARCH_OK, excelExportJobService.getJob(jobId));
+    }
+
+    /**
+     * 엑셀 내보내기 파일 다운로드 API
+     *
+     * @param jobId 작업 ID
+     * @param response HttpServletResponse
+     */
+    @GetMapping("/export/jobs/{jobId}/file")
+    @PreAuthorize("hasAnyAuthority('professor:read', 'admin:read')")
+    @Operation(summary = "엑셀 내보내기 파일 다운로드 API", description = "완료된 엑셀 내보내기 작업의 파일을 다운로드합니다.")
+    public void downloadExportJob(@PathVariable("jobId") String jobId, HttpServletResponse response) {
+        excelExportJobService.download(jobId, response);
+    }
+
     /**
      * 통계 마이그레이션 API
      *
+     * @param resume 중단된 재구축을 마지막 체크포인트부터 재개할지 여부
      * @return BaseResponse<String>
      */
     @PostMapping("/migration")
     @PreAuthorize("hasAnyAuthority('admin:create', 'admin:update', 'admin:delete')")
-    @Operation(summary = "통계 마이그레이션 API", description = "통계 마이그레이션을 수행합니다.")
-    public BaseResponse<String> migrateStatistics() {
-        statisticsMigrationService.migrateProjectStatistics();
+    @Operation(summary = "통계 마이그레이션 API", description = "프로젝트·질문·특허 통계를 재구축합니다. resume=true이면 마지막 체크포인트부터 재개합니다.")
+    public BaseResponse<String> migrateStatistics(@RequestParam(value = "resume", defaultValue = "false") boolean resume) {
+        statisticsMigrationService.migrateStatistics(resume);
         return BaseResponse.onSuccess("통계 마이그레이션 완료");
     }
 }
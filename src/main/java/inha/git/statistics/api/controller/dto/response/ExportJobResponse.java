@@ -0,0 +1,42 @@
+package inha.git.statistics.api.controller.dto.response;
+
+import inha.git.statistics.domain.enums.ExcelType;
+import inha.git.statistics.domain.enums.ExportJobStatus;
+import inha.git.statistics.domain.enums.StatisticsType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record ExportJobResponse(
+
+        @NotNull
+        @Schema(description = "내보내기 작업 ID", example = "3f2b6c1e-9a4d-4e2b-8f6a-1c2d3e4f5a6b")
+        String jobId,
+
+        @NotNull
+        @Schema(description = "엑셀 타입", example = "PROJECT")
+        ExcelType excelType,
+
+        @NotNull
+        @Schema(description = "통계 타입", example = "TOTAL")
+        StatisticsType statisticsType,
+
+        @Schema(description = "단과대/학과/사용자 ID", example = "1")
+        Integer filterId,
+
+        @Schema(description = "학기 ID", example = "1")
+        Integer semesterId,
+
+        @NotNull
+        @Schema(description = "작업 상태", example = "COMPLETED")
+        ExportJobStatus status,
+
+        @NotNull
+        @Schema(description = "작업 등록 시각", example = "2024-11-01T12:00:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "작업 완료 시각", example = "2024-11-01T12:00:05")
+        LocalDateTime completedAt
+) {
+}
@@ -13,39 +13,86 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.function.Consumer;
 
 import static inha.git.common.code.status.ErrorStatus.EXCEL_CREATE_ERROR;
 
+/**
+ * AbstractExcelService는 통계 엑셀 파일을 스트리밍 방식으로 생성한다.
+ * 데이터는 서버 커서로 fetchSize만큼씩 받아 바로 시트에 쓰고, 시트는 SXSSF 윈도우만 메모리에 유지하므로
+ * 행 수와 관계없이 메모리 사용량이 일정하다.
+ * 커넥션은 행을 읽어 임시 파일에 쓰는 동안만 점유하고, 완성된 파일을 클라이언트로 보내기 전에 반환된다.
+ *
+ * @param <R> 엑셀 한 행에 대응하는 조회 결과 타입
+ */
 @Slf4j
-public abstract class AbstractExcelService implements StatisticsExcelService {
+public abstract class AbstractExcelService<R> implements StatisticsExcelService {
+
+    private static final int CHARACTER_WIDTH = 256;
+
+    @Value("${statistics.excel.window-size:100}")
+    private int windowSize;
 
     @Override
     public void exportToExcelFile(HttpServletResponse response, StatisticsType statisticsType,
                                   Integer filterId, Integer semesterId) {
-        try (Workbook workbook = new XSSFWorkbook()) {
+        String fileName = getFileName() + '-' +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss")) +
+                ".xlsx";
+
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=" +
+                URLEncoder.encode(fileName, StandardCharsets.UTF_8));
+
+        try (ServletOutputStream outputStream = response.getOutputStream()) {
+            writeExcel(outputStream, statisticsType, filterId, semesterId);
+        } catch (IOException e) {
+            throw new BaseException(EXCEL_CREATE_ERROR);
+        }
+    }
+
+    /**
+     * 엑셀 파일을 생성하여 출력 스트림에 쓴다.
+     * 작성이 끝난 행은 임시 파일로 내보내고, 작성 후에는 임시 파일을 삭제한다.
+     *
+     * @param outputStream   출력 스트림
+     * @param statisticsType 통계 타입
+     * @param filterId       단과대/학과/사용자 ID
+     * @param semesterId     학기 ID
+     * @throws IOException 쓰기 실패 시
+     */
+    @Override
+    public void writeExcel(OutputStream outputStream, StatisticsType statisticsType,
+                           Integer filterId, Integer semesterId) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(windowSize);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet(getSheetName());
 
-            // 1. 헤더 생성
+            // 1. 열 너비와 헤더 생성
+            setColumnWidths(sheet);
             Row headerRow = sheet.createRow(0);
             createHeaders(headerRow, workbook);
 
-            // 2. 데이터 조회 및 작성
-            List<?> data = getData(statisticsType, filterId, semesterId);
-            writeData(sheet, data);
+            // 2. 정렬된 데이터를 읽는 대로 작성
+            ExcelSheetWriter<R> writer = createSheetWriter(sheet);
+            streamRows(statisticsType, filterId, semesterId, writer::write);
 
             // 3. 마무리 작업
-            setColumnWidths(sheet);
-            writeToResponse(workbook, response);
-        } catch (IOException e) {
-            throw new BaseException(EXCEL_CREATE_ERROR);
+            writer.finish();
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
@@ -72,29 +119,38 @@ public abstract class AbstractExcelService implements StatisticsExcelService {
         return style;
     }
 
+    /**
+     * 미리 정한 열 너비를 적용한다.
+     * 스트리밍 시트는 전체 행을 볼 수 없으므로 autoSizeColumn을 사용하지 않는다.
+     */
     protected void setColumnWidths(Sheet sheet) {
-        for (int i = 0; i < getHeaders().length; i++) {
-            sheet.autoSizeColumn(i);
+        int[] widths = getColumnWidths();
+        for (int i = 0; i < widths.length; i++) {
+            sheet.setColumnWidth(i, widths[i] * CHARACTER_WIDTH);
         }
     }
 
-    protected void writeToResponse(Workbook workbook, HttpServletResponse response) throws IOException {
-        String fileName = getFileName() + '-' +
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss")) +
-                ".xlsx";
-
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment; filename=" +
-                URLEncoder.encode(fileName, StandardCharsets.UTF_8));
-
-        try (ServletOutputStream outputStream = response.getOutputStream()) {
-            workbook.write(outputStream);
-        }
+    /**
+     * 값이 없는 셀은 빈 문자열로 채운다.
+     */
+    protected static String nullToEmpty(String value) {
+        return value != null ? value : "";
     }
 
     protected abstract String getSheetName();
-    protected abstract String getFileName();
     protected abstract String[] getHeaders();
-    protected abstract List<?> getData(StatisticsType statisticsType, Integer filterId, Integer semesterId);
-    protected abstract void writeData(Sheet sheet, List<?> data);
+    protected abstract int[] getColumnWidths();
+    protected abstract void streamRows(StatisticsType statisticsType, Integer filterId, Integer semesterId,
+                                       Consumer<R> consumer);
+    protected abstract ExcelSheetWriter<R> createSheetWriter(Sheet sheet);
+
+    /**
+     * ExcelSheetWriter는 한 번의 내보내기 동안 행 번호와 요약 집계를 유지하며 시트에 행을 쓴다.
+     *
+     * @param <R> 엑셀 한 행에 대응하는 조회 결과 타입
+     */
+    protected interface ExcelSheetWriter<R> {
+        void write(R row);
+        void finish();
+    }
 }
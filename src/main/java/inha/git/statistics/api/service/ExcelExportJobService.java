@@ -0,0 +1,329 @@
+package inha.git.statistics.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inha.git.common.exceptions.BaseException;
+import inha.git.statistics.api.controller.dto.response.ExportJobResponse;
+import inha.git.statistics.api.service.pipeline.StatisticsDeltaEvent;
+import inha.git.statistics.domain.enums.ExcelType;
+import inha.git.statistics.domain.enums.ExportJobStatus;
+import inha.git.statistics.domain.enums.StatisticsType;
+import inha.git.utils.RedisProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static inha.git.common.code.status.ErrorStatus.*;
+
+/**
+ * ExcelExportJobService는 엑셀 내보내기를 비동기 작업으로 처리한다.
+ * 제한된 작업 풀에서 파일을 생성하고, 클라이언트는 상태를 조회한 뒤 내려받는다.
+ * 같은 조건의 요청은 하나의 작업을 공유하며, 완료된 파일은 통계가 바뀌거나 보관 기간이 지날 때까지 재사용한다.
+ *
+ * <p>작업 상태와 파일 경로는 Redis에 두므로 어느 노드로 요청해도 같은 작업을 조회할 수 있다.
+ * 파일은 statistics.export.directory에 생성되므로 이 경로는 모든 노드가 함께 쓰는 저장소여야 한다.
+ * 통계 버전은 통계 변화량이 커밋될 때마다 Redis에서 증가시키므로, 어느 노드에서 원본이 바뀌어도 이전 파일을 재사용하지 않는다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExcelExportJobService {
+
+    private static final String JOB_KEY_PREFIX = "export-job:";
+    private static final String CONDITION_KEY_PREFIX = "export-job:condition:";
+    private static final String VERSION_KEY = "statistics:version";
+    private static final int MAX_SUBMIT_ATTEMPTS = 3;
+
+    private final Map<ExcelType, StatisticsExcelService> excelServices;
+    private final RedisProvider redisProvider;
+    private final ObjectMapper objectMapper;
+
+    @Value("${statistics.export.directory:${user.basedir}/export}")
+    private String directory;
+    @Value("${statistics.export.pool-size:2}")
+    private int poolSize;
+    @Value("${statistics.export.queue-capacity:20}")
+    private int queueCapacity;
+    @Value("${statistics.export.artifact-ttl-minutes:60}")
+    private long artifactTtlMinutes;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(Paths.get(directory));
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "excel-export-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 엑셀 내보내기 작업을 등록한다.
+     * 같은 조건으로 진행 중이거나 최신 통계로 완료된 작업이 있으면 새 작업을 만들지 않고 그 작업을 반환한다.
+     * 여러 노드가 같은 조건으로 동시에 등록하면 조건 키를 먼저 바꾼 노드의 작업을 함께 쓴다.
+     *
+     * @param excelType      엑셀 타입
+     * @param statisticsType 통계 타입
+     * @param filterId       단과대/학과/사용자 ID
+     * @param semesterId     학기 ID
+     * @return ExportJobResponse
+     */
+    public ExportJobResponse submit(ExcelType excelType, StatisticsType statisticsType,
+                                    Integer filterId, Integer semesterId) {
+        String conditionKey = CONDITION_KEY_PREFIX + excelType + ':' + statisticsType + ':' + filterId + ':' + semesterId;
+        long version = getStatisticsVersion();
+        for (int attempt = 0; attempt < MAX_SUBMIT_ATTEMPTS; attempt++) {
+            String existingId = redisProvider.getValueOps(conditionKey);
+            ExportJob existing = existingId != null ? loadJob(existingId) : null;
+            if (existing != null && existing.isReusable(version)) {
+                return existing.toResponse();
+            }
+
+            String jobId = UUID.randomUUID().toString();
+            ExportJob created = new ExportJob(jobId, excelType, statisticsType, filterId, semesterId, version,
+                    Paths.get(directory, jobId + ".xlsx").toString(), ExportJobStatus.PENDING, LocalDateTime.now(), null);
+            saveJob(created);
+            boolean registered = existingId == null
+                    ? redisProvider.setIfAbsent(conditionKey, jobId, ttlSeconds())
+                    : redisProvider.compareAndSet(conditionKey, existingId, jobId, ttlSeconds());
+            if (!registered) {
+                redisProvider.deleteValueOps(JOB_KEY_PREFIX + jobId);
+                continue;
+            }
+
+            try {
+                executor.execute(() -> run(created));
+            } catch (RejectedExecutionException e) {
+                // 실패한 작업은 재사용되지 않으므로 다음 요청이 조건 키를 새 작업으로 바꾼다.
+                saveJob(created.finish(ExportJobStatus.FAILED));
+                throw new BaseException(EXPORT_JOB_QUEUE_FULL);
+            }
+            log.info("엑셀 내보내기 작업 등록 - 작업: {}, 조건: {}", jobId, conditionKey);
+            return created.toResponse();
+        }
+        throw new BaseException(EXPORT_JOB_QUEUE_FULL);
+    }
+
+    /**
+     * 엑셀 내보내기 작업 상태를 조회한다.
+     *
+     * @param jobId 작업 ID
+     * @return ExportJobResponse
+     */
+    public ExportJobResponse getJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    /**
+     * 완료된 엑셀 파일을 응답으로 내려보낸다.
+     *
+     * @param jobId    작업 ID
+     * @param response HttpServletResponse
+     */
+    public void download(String jobId, HttpServletResponse response) {
+        ExportJob job = findJob(jobId);
+        Path path = Paths.get(job.path());
+        if (job.status() != ExportJobStatus.COMPLETED || !Files.exists(path)) {
+            throw new BaseException(EXPORT_JOB_NOT_COMPLETED);
+        }
+
+        String fileName = excelServices.get(job.excelType()).getFileName() + '-' +
+                job.completedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss")) +
+                ".xlsx";
+
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=" +
+                URLEncoder.encode(fileName, StandardCharsets.UTF_8));
+
+        try (ServletOutputStream outputStream = response.getOutputStream()) {
+            response.setContentLengthLong(Files.size(path));
+            Files.copy(path, outputStream);
+        } catch (IOException e) {
+            throw new BaseException(FILE_PROCESS_ERROR);
+        }
+    }
+
+    /**
+     * 통계 변화량이 커밋되면 공유 통계 버전을 올려, 이전 버전으로 만든 파일을 더 이상 재사용하지 않게 한다.
+     *
+     * @param event 통계 변화 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatisticsDelta(StatisticsDeltaEvent event) {
+        try {
+            redisProvider.increment(VERSION_KEY);
+        } catch (DataAccessException e) {
+            log.warn("통계 버전 갱신 실패 - 완료된 엑셀 파일은 보관 기간이 지나면 다시 생성됩니다.", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 파일을 정리한다. 작업 상태는 Redis 만료 시간으로 함께 사라진다.
+     * 파일 저장소를 함께 쓰므로 여러 노드가 동시에 정리해도 된다.
+     */
+    @Scheduled(fixedDelayString = "${statistics.export.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        FileTime expiredBefore = FileTime.from(Instant.now().minusSeconds(ttlSeconds()));
+        try (Stream<Path> files = Files.list(Paths.get(directory))) {
+            files.filter(path -> path.toString().endsWith(".xlsx"))
+                    .filter(path -> isModifiedBefore(path, expiredBefore))
+                    .forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("엑셀 내보내기 파일 정리 실패 - 경로: {}", directory, e);
+        }
+    }
+
+    private void run(ExportJob job) {
+        saveJob(job.start());
+        StatisticsExcelService excelService = excelServices.get(job.excelType());
+        Path path = Paths.get(job.path());
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            excelService.writeExcel(outputStream, job.statisticsType(), job.filterId(), job.semesterId());
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(path);
+            saveJob(job.finish(ExportJobStatus.FAILED));
+            log.error("엑셀 내보내기 작업 실패 - 작업: {}", job.id(), e);
+            return;
+        }
+        saveJob(job.finish(ExportJobStatus.COMPLETED));
+        log.info("엑셀 내보내기 작업 완료 - 작업: {}", job.id());
+    }
+
+    private long getStatisticsVersion() {
+        String version = redisProvider.getValueOps(VERSION_KEY);
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = loadJob(jobId);
+        if (job == null) {
+            throw new BaseException(EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private ExportJob loadJob(String jobId) {
+        String value = redisProvider.getValueOps(JOB_KEY_PREFIX + jobId);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, ExportJob.class);
+        } catch (JsonProcessingException e) {
+            log.warn("엑셀 내보내기 작업을 읽을 수 없음 - 작업: {}", jobId, e);
+            return null;
+        }
+    }
+
+    private void saveJob(ExportJob job) {
+        try {
+            redisProvider.setDataExpire(JOB_KEY_PREFIX + job.id(), objectMapper.writeValueAsString(job), ttlSeconds());
+        } catch (JsonProcessingException e) {
+            throw new BaseException(FILE_PROCESS_ERROR);
+        }
+    }
+
+    private long ttlSeconds() {
+        return TimeUnit.MINUTES.toSeconds(artifactTtlMinutes);
+    }
+
+    private boolean isModifiedBefore(Path path, FileTime expiredBefore) {
+        try {
+            return Files.getLastModifiedTime(path).compareTo(expiredBefore) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("엑셀 내보내기 파일 삭제 실패 - 경로: {}", path, e);
+        }
+    }
+
+    /**
+     * Redis에 저장되는 내보내기 작업.
+     *
+     * @param statisticsVersion 작업을 등록할 때의 통계 버전
+     * @param path              생성되는 파일의 경로 (모든 노드가 함께 쓰는 저장소)
+     */
+    private record ExportJob(
+            String id,
+            ExcelType excelType,
+            StatisticsType statisticsType,
+            Integer filterId,
+            Integer semesterId,
+            long statisticsVersion,
+            String path,
+            ExportJobStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime completedAt
+    ) {
+
+        private ExportJob start() {
+            return new ExportJob(id, excelType, statisticsType, filterId, semesterId, statisticsVersion, path,
+                    ExportJobStatus.RUNNING, createdAt, null);
+        }
+
+        private ExportJob finish(ExportJobStatus finished) {
+            return new ExportJob(id, excelType, statisticsType, filterId, semesterId, statisticsVersion, path,
+                    finished, createdAt, LocalDateTime.now());
+        }
+
+        /**
+         * 진행 중인 작업이거나, 현재 통계 버전으로 완료되어 파일이 남아 있는 작업이면 재사용한다.
+         */
+        private boolean isReusable(long currentVersion) {
+            return switch (status) {
+                case PENDING, RUNNING -> true;
+                case COMPLETED -> statisticsVersion == currentVersion && Files.exists(Paths.get(path));
+                case FAILED -> false;
+            };
+        }
+
+        private ExportJobResponse toResponse() {
+            return new ExportJobResponse(id, excelType, statisticsType, filterId, semesterId, status, createdAt, completedAt);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package inha.git.statistics.api.service;
+
+import inha.git.field.domain.Field;
+import inha.git.semester.domain.Semester;
+import inha.git.statistics.domain.enums.ParticipationKind;
+import inha.git.statistics.domain.repository.ParticipationJdbcRepository;
+import inha.git.statistics.domain.repository.ParticipationJpaRepository;
+import inha.git.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * ParticipationIndex는 사용자별·학기별·분야별 활성 게시물 수를 유지하여
+ * 첫 등록/마지막 삭제 여부를 단일 원자 연산으로 판단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationIndex {
+
+    private final ParticipationJdbcRepository participationJdbcRepository;
+    private final ParticipationJpaRepository participationJpaRepository;
+
+    /**
+     * 게시물 등록을 기록한다.
+     *
+     * @return 해당 학기·분야의 첫 등록이면 true
+     */
+    public boolean recordContribution(User user, Semester semester, Field field, ParticipationKind kind) {
+        return participationJdbcRepository.increment(user.getId(), semester.getId(), field.getId(), kind) == 1;
+    }
+
+    /**
+     * 게시물 삭제를 기록한다.
+     *
+     * @return 해당 학기·분야의 마지막 게시물이 삭제되었으면 true
+     */
+    public boolean removeContribution(User user, Semester semester, Field field, ParticipationKind kind) {
+        return participationJdbcRepository.decrement(user.getId(), semester.getId(), field.getId(), kind) == 0;
+    }
+
+    /**
+     * 원본 데이터로부터 참여 카운터를 재구축한다.
+     */
+    public void rebuild() {
+        log.info("참여 카운터 재구축 시작");
+        participationJdbcRepository.rebuild();
+        log.info("참여 카운터 재구축 완료");
+    }
+
+    /**
+     * 참여 카운터가 비어 있으면 기동 시 한 번 재구축한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (participationJpaRepository.count() == 0) {
+            rebuild();
+        }
+    }
+}
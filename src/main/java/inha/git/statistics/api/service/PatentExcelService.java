@@ -1,47 +1,42 @@
 package inha.git.statistics.api.service;
 
-import inha.git.project.domain.Project;
-import inha.git.project.domain.ProjectPatent;
-import inha.git.project.domain.ProjectPatentInventor;
 import inha.git.project.domain.enums.PatentType;
-import inha.git.project.domain.repository.ProjectPatentJpaRepository;
 import inha.git.statistics.domain.enums.StatisticsType;
-import inha.git.user.domain.User;
+import inha.git.statistics.domain.repository.StatisticsExcelJdbcRepository;
+import inha.git.statistics.domain.repository.StatisticsExcelJdbcRepository.PatentRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
-import static inha.git.common.BaseEntity.State.*;
 import static inha.git.common.Constant.OSS_PROJECT_URL;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
-public class PatentExcelService extends AbstractExcelService {
+public class PatentExcelService extends AbstractExcelService<PatentRow> {
 
-    private final ProjectPatentJpaRepository projectPatentJpaRepository;
+    private final StatisticsExcelJdbcRepository statisticsExcelJdbcRepository;
 
     private static final String[] HEADERS = {
             "순번", "단과대", "학과", "학번", "이름", "특허종류", "특허 제목", "출원 번호",
             "출원인 이름", "참여자 이름", "참여 기관", "프로젝트 링크", "출원 일자"
     };
 
+    private static final int[] COLUMN_WIDTHS = {
+            8, 20, 24, 12, 10, 10, 50, 20, 14, 30, 30, 50, 14
+    };
+
     @Override
     protected String getSheetName() {
         return "I-CRM 통계";
     }
 
     @Override
-    protected String getFileName() {
+    public String getFileName() {
         return "I-CRM_통계";
     }
 
@@ -51,109 +46,77 @@ public class PatentExcelService extends AbstractExcelService {
     }
 
     @Override
-    protected List<?> getData(StatisticsType type, Integer filterId, Integer semesterId) {
-        // 1. 기본 데이터 조회
-        List<ProjectPatent> patents = switch (type) {
-            case TOTAL -> projectPatentJpaRepository.findAllAcceptedPatents(semesterId, ACTIVE);
-            case COLLEGE -> projectPatentJpaRepository.findAllAcceptedPatentsByCollege(filterId, semesterId, ACTIVE);
-            case DEPARTMENT -> projectPatentJpaRepository.findAllAcceptedPatentsByDepartment(filterId, semesterId, ACTIVE);
-            case USER -> projectPatentJpaRepository.findAllAcceptedPatentsByUser(filterId, semesterId, ACTIVE);
-        };
-
-        // 2. inventors 데이터 추가 조회
-        if (!patents.isEmpty()) {
-            List<ProjectPatent> patentsWithInventors = projectPatentJpaRepository.findPatentsWithInventors(patents);
-
-            // inventors 정보를 원본 객체에 복사
-            Map<Integer, List<ProjectPatentInventor>> inventorMap = patentsWithInventors.stream()
-                    .collect(Collectors.toMap(
-                            ProjectPatent::getId,
-                            ProjectPatent::getProjectPatentInventors
-                    ));
-
-            patents.forEach(patent ->
-                    patent.getProjectPatentInventors().addAll(
-                            inventorMap.getOrDefault(patent.getId(), new ArrayList<>())
-                    )
-            );
-        }
+    protected int[] getColumnWidths() {
+        return COLUMN_WIDTHS;
+    }
 
-        return patents;
+    @Override
+    protected void streamRows(StatisticsType type, Integer filterId, Integer semesterId,
+                              Consumer<PatentRow> consumer) {
+        statisticsExcelJdbcRepository.streamPatentRows(type, filterId, semesterId, consumer);
     }
 
     @Override
-    protected void writeData(Sheet sheet, List<?> data) {
-        @SuppressWarnings("unchecked")
-        List<ProjectPatent> patents = (List<ProjectPatent>) data;
+    protected ExcelSheetWriter<PatentRow> createSheetWriter(Sheet sheet) {
+        return new PatentSheetWriter(sheet);
+    }
 
-        int rowNum = 1;
-        int sequenceNum = 1;
-        PatentType currentType = null;
+    private static final class PatentSheetWriter implements ExcelSheetWriter<PatentRow> {
 
-        int patentCount = 0;
-        int programCount = 0;
+        private final Sheet sheet;
+        private int rowNum = 1;
+        private int sequenceNum = 1;
+        private PatentType currentType = null;
+        private int patentCount = 0;
+        private int programCount = 0;
 
-        for (ProjectPatent patent : patents) {
-            Project project = patent.getProject();
-            User user = project.getUser();
+        private PatentSheetWriter(Sheet sheet) {
+            this.sheet = sheet;
+        }
 
-            if (patent.getPatentType() == PatentType.PATENT) {
+        @Override
+        public void write(PatentRow patent) {
+            PatentType patentType = PatentType.valueOf(patent.patentType());
+            if (patentType == PatentType.PATENT) {
                 patentCount++;
             } else {
                 programCount++;
             }
 
-            if (currentType != null && currentType != patent.getPatentType()) {
+            if (currentType != null && currentType != patentType) {
                 sheet.createRow(rowNum++);
                 sequenceNum = 1;
             }
-            currentType = patent.getPatentType();
-
-            String collegeName = user.getUserDepartments().stream()
-                    .findFirst()
-                    .map(ud -> ud.getDepartment().getCollege().getName())
-                    .orElse("");
-
-            String departmentName = user.getUserDepartments().stream()
-                    .findFirst()
-                    .map(ud -> ud.getDepartment().getName())
-                    .orElse("");
-
-            String inventorNames = patent.getProjectPatentInventors().stream()
-                    .map(ProjectPatentInventor::getName)
-                    .distinct()
-                    .collect(Collectors.joining(", "));
-
-            String inventorAffiliations = patent.getProjectPatentInventors().stream()
-                    .map(ProjectPatentInventor::getAffiliation)
-                    .distinct()
-                    .collect(Collectors.joining(", "));
+            currentType = patentType;
 
             Row row = sheet.createRow(rowNum++);
             int colNum = 0;
 
             row.createCell(colNum++).setCellValue(sequenceNum++);
-            row.createCell(colNum++).setCellValue(collegeName);
-            row.createCell(colNum++).setCellValue(departmentName);
-            row.createCell(colNum++).setCellValue(user.getUserNumber());
-            row.createCell(colNum++).setCellValue(user.getName());
-            row.createCell(colNum++).setCellValue(patent.getPatentType().getDescription());
-            row.createCell(colNum++).setCellValue(patent.getInventionTitle());
-            row.createCell(colNum++).setCellValue(patent.getApplicationNumber());
-            row.createCell(colNum++).setCellValue(patent.getApplicantName());
-            row.createCell(colNum++).setCellValue(inventorNames);
-            row.createCell(colNum++).setCellValue(inventorAffiliations);
-            row.createCell(colNum++).setCellValue(OSS_PROJECT_URL + project.getId());
-            row.createCell(colNum).setCellValue(patent.getApplicationDate());
+            row.createCell(colNum++).setCellValue(nullToEmpty(patent.collegeName()));
+            row.createCell(colNum++).setCellValue(nullToEmpty(patent.departmentName()));
+            row.createCell(colNum++).setCellValue(patent.userNumber());
+            row.createCell(colNum++).setCellValue(patent.userName());
+            row.createCell(colNum++).setCellValue(patentType.getDescription());
+            row.createCell(colNum++).setCellValue(patent.inventionTitle());
+            row.createCell(colNum++).setCellValue(patent.applicationNumber());
+            row.createCell(colNum++).setCellValue(patent.applicantName());
+            row.createCell(colNum++).setCellValue(nullToEmpty(patent.inventorNames()));
+            row.createCell(colNum++).setCellValue(nullToEmpty(patent.inventorAffiliations()));
+            row.createCell(colNum++).setCellValue(OSS_PROJECT_URL + patent.projectId());
+            row.createCell(colNum).setCellValue(patent.applicationDate());
         }
 
-        rowNum++;
-        sheet.createRow(rowNum++);
+        @Override
+        public void finish() {
+            rowNum++;
+            sheet.createRow(rowNum++);
 
-        Row summaryRow = sheet.createRow(rowNum++);
-        summaryRow.createCell(1).setCellValue("특허 등록 건수: " + patentCount + "건");
+            Row summaryRow = sheet.createRow(rowNum++);
+            summaryRow.createCell(1).setCellValue("특허 등록 건수: " + patentCount + "건");
 
-        Row summaryRow2 = sheet.createRow(rowNum);
-        summaryRow2.createCell(1).setCellValue("프로그램 등록 건수: " + programCount + "건");
+            Row summaryRow2 = sheet.createRow(rowNum);
+            summaryRow2.createCell(1).setCellValue("프로그램 등록 건수: " + programCount + "건");
+        }
     }
 }
@@ -1,47 +1,43 @@
 package inha.git.statistics.api.service;
 
-import inha.git.mapping.domain.ProjectField;
-import inha.git.project.domain.Project;
-import inha.git.project.domain.repository.ProjectJpaRepository;
 import inha.git.statistics.domain.enums.StatisticsType;
-import inha.git.user.domain.User;
+import inha.git.statistics.domain.repository.StatisticsExcelJdbcRepository;
+import inha.git.statistics.domain.repository.StatisticsExcelJdbcRepository.ProjectRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
-import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.Constant.GITHUB_URL;
 import static inha.git.common.Constant.OSS_PROJECT_URL;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
-public class ProjectExcelService extends AbstractExcelService {
+public class ProjectExcelService extends AbstractExcelService<ProjectRow> {
 
-    private final ProjectJpaRepository projectJpaRepository;
+    private final StatisticsExcelJdbcRepository statisticsExcelJdbcRepository;
 
     private static final String[] HEADERS = {
             "순번", "단과대", "학과", "학번", "이름", "I-FOSS 제목",
             "학기", "카테고리", "분야", "저장소 타입", "링크", "업로드 날짜"
     };
 
+    private static final int[] COLUMN_WIDTHS = {
+            8, 20, 24, 12, 10, 50, 12, 14, 30, 12, 50, 14
+    };
+
     @Override
     protected String getSheetName() {
         return "I-FOSS 통계";
     }
 
     @Override
-    protected String getFileName() {
+    public String getFileName() {
         return "I-FOSS_통계";
     }
 
@@ -51,55 +47,38 @@ public class ProjectExcelService extends AbstractExcelService {
     }
 
     @Override
-    protected List<?> getData(StatisticsType type, Integer filterId, Integer semesterId) {
-        List<Project> projects = switch (type) {
-            case TOTAL -> projectJpaRepository.findAllByState(semesterId, ACTIVE);
-            case COLLEGE -> projectJpaRepository.findAllByUserCollegeIdAndState(filterId, semesterId, ACTIVE);
-            case DEPARTMENT -> projectJpaRepository.findAllByUserDepartmentIdAndState(filterId, semesterId, ACTIVE);
-            case USER -> projectJpaRepository.findAllByUserIdAndState(filterId, semesterId, ACTIVE);
-        };
-
-        if (!projects.isEmpty()) {
-            List<Integer> projectIds = projects.stream()
-                    .map(Project::getId)
-                    .toList();
-            List<ProjectField> projectFields = projectJpaRepository.findProjectFieldsByProjectIds(projectIds);
-
-            Map<Integer, List<ProjectField>> fieldMap = projectFields.stream()
-                    .collect(Collectors.groupingBy(pf -> pf.getProject().getId()));
-
-            projects.forEach(project ->
-                    project.getProjectFields().addAll(fieldMap.getOrDefault(project.getId(), new ArrayList<>()))
-            );
-        }
-        return projects;
+    protected int[] getColumnWidths() {
+        return COLUMN_WIDTHS;
     }
 
     @Override
-    protected void writeData(Sheet sheet, List<?> data) {
-        @SuppressWarnings("unchecked")
-        List<Project> projects = (List<Project>) data;
+    protected void streamRows(StatisticsType type, Integer filterId, Integer semesterId,
+                              Consumer<ProjectRow> consumer) {
+        statisticsExcelJdbcRepository.streamProjectRows(type, filterId, semesterId, consumer);
+    }
 
-        int rowNum = 1;
-        int sequenceNum = 1;
+    @Override
+    protected ExcelSheetWriter<ProjectRow> createSheetWriter(Sheet sheet) {
+        return new ProjectSheetWriter(sheet);
+    }
 
-        int localProjectCount = 0;
-        int githubProjectCount = 0;
+    private static final class ProjectSheetWriter implements ExcelSheetWriter<ProjectRow> {
 
-        for (Project project : projects) {
-            User user = project.getUser();
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-            String collegeName = user.getUserDepartments().stream()
-                    .findFirst()
-                    .map(ud -> ud.getDepartment().getCollege().getName())
-                    .orElse("");
+        private final Sheet sheet;
+        private int rowNum = 1;
+        private int sequenceNum = 1;
+        private int localProjectCount = 0;
+        private int githubProjectCount = 0;
 
-            String departmentName = user.getUserDepartments().stream()
-                    .findFirst()
-                    .map(ud -> ud.getDepartment().getName())
-                    .orElse("");
+        private ProjectSheetWriter(Sheet sheet) {
+            this.sheet = sheet;
+        }
 
-            if(project.getRepoName() != null) {
+        @Override
+        public void write(ProjectRow project) {
+            if (project.repoName() != null) {
                 githubProjectCount++;
             } else {
                 localProjectCount++;
@@ -108,41 +87,35 @@ public class ProjectExcelService extends AbstractExcelService {
             int colNum = 0;
 
             row.createCell(colNum++).setCellValue(sequenceNum++);
-            row.createCell(colNum++).setCellValue(collegeName);
-            row.createCell(colNum++).setCellValue(departmentName);
-            row.createCell(colNum++).setCellValue(user.getUserNumber());
-            row.createCell(colNum++).setCellValue(user.getName());
-            row.createCell(colNum++).setCellValue(project.getTitle());
-            row.createCell(colNum++).setCellValue(project.getSemester().getName());
-            row.createCell(colNum++).setCellValue(project.getCategory().getName());
-            row.createCell(colNum++).setCellValue(getFieldNames(project));
-            row.createCell(colNum++).setCellValue(project.getRepoName() != null ? "Github" : "Local");
+            row.createCell(colNum++).setCellValue(nullToEmpty(project.collegeName()));
+            row.createCell(colNum++).setCellValue(nullToEmpty(project.departmentName()));
+            row.createCell(colNum++).setCellValue(project.userNumber());
+            row.createCell(colNum++).setCellValue(project.userName());
+            row.createCell(colNum++).setCellValue(project.title());
+            row.createCell(colNum++).setCellValue(project.semesterName());
+            row.createCell(colNum++).setCellValue(project.categoryName());
+            row.createCell(colNum++).setCellValue(nullToEmpty(project.fieldNames()));
+            row.createCell(colNum++).setCellValue(project.repoName() != null ? "Github" : "Local");
             row.createCell(colNum++).setCellValue(getProjectLink(project));
-            row.createCell(colNum).setCellValue(
-                    project.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-            );
+            row.createCell(colNum).setCellValue(project.createdAt().format(DATE_FORMAT));
         }
 
-        rowNum++;
-        sheet.createRow(rowNum++);
+        @Override
+        public void finish() {
+            rowNum++;
+            sheet.createRow(rowNum++);
 
-        Row summaryRow = sheet.createRow(rowNum++);
-        summaryRow.createCell(1).setCellValue("로컬 프로젝트 등록 건수: " + localProjectCount + "건");
+            Row summaryRow = sheet.createRow(rowNum++);
+            summaryRow.createCell(1).setCellValue("로컬 프로젝트 등록 건수: " + localProjectCount + "건");
 
-        Row summaryRow2 = sheet.createRow(rowNum);
-        summaryRow2.createCell(1).setCellValue("깃허브 프로젝트 등록 건수: " + githubProjectCount + "건");
-
-    }
-
-    private String getFieldNames(Project project) {
-        return project.getProjectFields().stream()
-                .map(projectField -> projectField.getField().getName())
-                .collect(Collectors.joining(", "));
-    }
+            Row summaryRow2 = sheet.createRow(rowNum);
+            summaryRow2.createCell(1).setCellValue("깃허브 프로젝트 등록 건수: " + githubProjectCount + "건");
+        }
 
-    private String getProjectLink(Project project) {
-        return project.getRepoName() != null ?
-                GITHUB_URL + project.getRepoName() :
-                OSS_PROJECT_URL + project.getId();
+        private String getProjectLink(ProjectRow project) {
+            return project.repoName() != null ?
+                    GITHUB_URL + project.repoName() :
+                    OSS_PROJECT_URL + project.projectId();
+        }
     }
 }
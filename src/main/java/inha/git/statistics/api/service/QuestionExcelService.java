@@ -1,42 +1,40 @@
 package inha.git.statistics.api.service;
 
-import inha.git.question.domain.Question;
-import inha.git.question.domain.repository.QuestionJpaRepository;
 import inha.git.statistics.domain.enums.StatisticsType;
-import inha.git.user.domain.User;
+import inha.git.statistics.domain.repository.StatisticsExcelJdbcRepository;
+import inha.git.statistics.domain.repository.StatisticsExcelJdbcRepository.QuestionRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.stream.Collectors;
-
-import static inha.git.common.BaseEntity.State.ACTIVE;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
-public class QuestionExcelService extends AbstractExcelService {
+public class QuestionExcelService extends AbstractExcelService<QuestionRow> {
 
-    private final QuestionJpaRepository questionJpaRepository;
+    private final StatisticsExcelJdbcRepository statisticsExcelJdbcRepository;
 
     private static final String[] HEADERS = {
             "순번", "단과대", "학과", "학번", "이름", "I-SSS 제목",
             "학기", "카테고리", "분야", "링크", "업로드 날짜"
     };
 
+    private static final int[] COLUMN_WIDTHS = {
+            8, 20, 24, 12, 10, 50, 12, 14, 30, 50, 14
+    };
+
     @Override
     protected String getSheetName() {
         return "I-SSS_통계";
     }
 
     @Override
-    protected String getFileName() {
+    public String getFileName() {
         return "I-SSS_통계";
     }
 
@@ -46,65 +44,61 @@ public class QuestionExcelService extends AbstractExcelService {
     }
 
     @Override
-    protected List<?> getData(StatisticsType type, Integer filterId, Integer semesterId) {
-        return switch (type) {
-            case TOTAL -> questionJpaRepository.findAllQuestions(semesterId, ACTIVE);
-            case COLLEGE -> questionJpaRepository.findAllQuestionsByCollege(filterId, semesterId, ACTIVE);
-            case DEPARTMENT -> questionJpaRepository.findAllQuestionsByDepartment(filterId, semesterId, ACTIVE);
-            case USER -> questionJpaRepository.findAllQuestionsByUser(filterId, semesterId, ACTIVE);
-        };
+    protected int[] getColumnWidths() {
+        return COLUMN_WIDTHS;
     }
 
     @Override
-    protected void writeData(Sheet sheet, List<?> data) {
-        @SuppressWarnings("unchecked")
-        List<Question> questions = (List<Question>) data;
+    protected void streamRows(StatisticsType type, Integer filterId, Integer semesterId,
+                              Consumer<QuestionRow> consumer) {
+        statisticsExcelJdbcRepository.streamQuestionRows(type, filterId, semesterId, consumer);
+    }
 
-        int rowNum = 1;
-        int sequenceNum = 1;
-        int questionCount = 0;
+    @Override
+    protected ExcelSheetWriter<QuestionRow> createSheetWriter(Sheet sheet) {
+        return new QuestionSheetWriter(sheet);
+    }
 
-        for (Question question : questions) {
-            User user = question.getUser();
-            questionCount++;
+    private static final class QuestionSheetWriter implements ExcelSheetWriter<QuestionRow> {
 
-            String collegeName = user.getUserDepartments().stream()
-                    .findFirst()
-                    .map(ud -> ud.getDepartment().getCollege().getName())
-                    .orElse("");
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-            String departmentName = user.getUserDepartments().stream()
-                    .findFirst()
-                    .map(ud -> ud.getDepartment().getName())
-                    .orElse("");
+        private final Sheet sheet;
+        private int rowNum = 1;
+        private int sequenceNum = 1;
+        private int questionCount = 0;
 
-            String fieldNames = question.getQuestionFields().stream()
-                    .map(questionField -> questionField.getField().getName())
-                    .distinct()
-                    .collect(Collectors.joining(", "));
+        private QuestionSheetWriter(Sheet sheet) {
+            this.sheet = sheet;
+        }
+
+        @Override
+        public void write(QuestionRow question) {
+            questionCount++;
 
             Row row = sheet.createRow(rowNum++);
             int colNum = 0;
 
             row.createCell(colNum++).setCellValue(sequenceNum++);
-            row.createCell(colNum++).setCellValue(collegeName);
-            row.createCell(colNum++).setCellValue(departmentName);
-            row.createCell(colNum++).setCellValue(user.getUserNumber());
-            row.createCell(colNum++).setCellValue(user.getName());
-            row.createCell(colNum++).setCellValue(question.getTitle());
-            row.createCell(colNum++).setCellValue(question.getSemester().getName());
-            row.createCell(colNum++).setCellValue(question.getCategory().getName());
-            row.createCell(colNum++).setCellValue(fieldNames);
-            row.createCell(colNum++).setCellValue("https://oss.inha.ac.kr/question/detail/" + question.getId());
-            row.createCell(colNum).setCellValue(
-                    question.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-            );
+            row.createCell(colNum++).setCellValue(nullToEmpty(question.collegeName()));
+            row.createCell(colNum++).setCellValue(nullToEmpty(question.departmentName()));
+            row.createCell(colNum++).setCellValue(question.userNumber());
+            row.createCell(colNum++).setCellValue(question.userName());
+            row.createCell(colNum++).setCellValue(question.title());
+            row.createCell(colNum++).setCellValue(question.semesterName());
+            row.createCell(colNum++).setCellValue(question.categoryName());
+            row.createCell(colNum++).setCellValue(nullToEmpty(question.fieldNames()));
+            row.createCell(colNum++).setCellValue("https://oss.inha.ac.kr/question/detail/" + question.questionId());
+            row.createCell(colNum).setCellValue(question.createdAt().format(DATE_FORMAT));
         }
 
-        rowNum++;
-        sheet.createRow(rowNum++);
+        @Override
+        public void finish() {
+            rowNum++;
+            sheet.createRow(rowNum++);
 
-        Row summaryRow = sheet.createRow(rowNum);
-        summaryRow.createCell(1).setCellValue("멘토링 건수: " + questionCount + "건");
+            Row summaryRow = sheet.createRow(rowNum);
+            summaryRow.createCell(1).setCellValue("멘토링 건수: " + questionCount + "건");
+        }
     }
 }
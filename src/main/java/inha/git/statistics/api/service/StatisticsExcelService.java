@@ -3,6 +3,11 @@ package inha.git.statistics.api.service;
 import inha.git.statistics.domain.enums.StatisticsType;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public interface StatisticsExcelService {
     void exportToExcelFile(HttpServletResponse response, StatisticsType statisticsType, Integer filterId, Integer semesterId);
+    void writeExcel(OutputStream outputStream, StatisticsType statisticsType, Integer filterId, Integer semesterId) throws IOException;
+    String getFileName();
 }
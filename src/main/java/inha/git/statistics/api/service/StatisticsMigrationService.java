@@ -1,153 +1,265 @@
 package inha.git.statistics.api.service;
 
-import inha.git.field.domain.Field;
-import inha.git.mapping.domain.UserDepartment;
-import inha.git.mapping.domain.repository.UserDepartmentJpaRepository;
-import inha.git.project.domain.Project;
-import inha.git.project.domain.repository.ProjectJpaRepository;
-import inha.git.statistics.domain.Statistics;
+import inha.git.common.exceptions.BaseException;
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.StatisticsRebuild;
+import inha.git.statistics.domain.enums.RebuildPhase;
+import inha.git.statistics.domain.enums.RebuildStatus;
 import inha.git.statistics.domain.enums.StatisticsType;
-import inha.git.statistics.domain.repository.StatisticsJpaRepository;
-import jakarta.transaction.Transactional;
+import inha.git.statistics.domain.repository.StatisticsRebuildJdbcRepository;
+import inha.git.statistics.domain.repository.StatisticsRebuildJdbcRepository.Affiliation;
+import inha.git.statistics.domain.repository.StatisticsRebuildJdbcRepository.SourceRow;
+import inha.git.statistics.domain.repository.StatisticsRebuildJpaRepository;
+import inha.git.statistics.domain.repository.StatisticsRollupCube;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static inha.git.common.BaseEntity.State.ACTIVE;
+import static inha.git.common.code.status.ErrorStatus.STATISTICS_REBUILD_IN_PROGRESS;
+import static inha.git.common.code.status.ErrorStatus.STATISTICS_REBUILD_NOT_FOUND;
 
+/**
+ * StatisticsMigrationService는 원본 데이터(프로젝트·질문·특허)로부터 statistics_tb를 재구축한다.
+ *
+ * <p>원본은 작성자 ID 구간(윈도우) 단위로 읽어 병렬로 집계하여 섀도 테이블에 더한 뒤 체크포인트와 함께 커밋한다.
+ * 모든 단계가 끝나면 섀도 테이블을 statistics_tb와 원자적으로 교체하므로 재구축 중에도 기존 통계 조회는 막히지 않는다.
+ * 중단된 재구축은 마지막 체크포인트부터 재개할 수 있다.</p>
+ *
+ * <p>재구축이 실행되는 동안 통계 파이프라인의 반영은 멈추고 변화량은 저널에 보존된다.
+ * 윈도우의 원본과 그 구간의 미반영 저널은 하나의 REPEATABLE READ 스냅샷에서 읽고, 원본 집계에서 저널 몫을 뺀 값을 섀도 테이블에 더한다.
+ * 남은 저널은 교체 후 통계 파이프라인이 반영하므로, 윈도우를 읽은 시점과 관계없이 각 변화량은 한 번만 반영된다.
+ * 재구축 시작 시점의 최대 사용자 ID까지만 집계하며, 이후 가입한 사용자의 게시물은 저널로만 반영된다.
+ * 실행 중인 노드는 윈도우마다 재구축 행을 갱신해 임대를 연장하며, 임대가 만료되면 다른 노드가 재개할 수 있다.</p>
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 @Slf4j
 public class StatisticsMigrationService {
 
-    private final ProjectJpaRepository projectJpaRepository;
-    private final StatisticsJpaRepository statisticsRepository;
-    private final UserDepartmentJpaRepository userDepartmentRepository;
-
-    public void migrateProjectStatistics() {
-        log.info("Starting statistics migration...");
-        statisticsRepository.deleteAll();
-
-        Map<StatisticsKey, Statistics> statisticsMap = new HashMap<>();
-        List<Project> projects = projectJpaRepository.findAllByStateOrderById(ACTIVE);
-
-        for (Project project : projects) {
-            try {
-                Field field = project.getProjectFields().isEmpty() ?
-                        null : project.getProjectFields().get(0).getField();
-
-                if (field == null || project.getCategory() == null || project.getSemester() == null) {
-                    log.warn("Project {} missing required data: field={}, category={}, semester={}",
-                            project.getId(),
-                            field != null,
-                            project.getCategory() != null,
-                            project.getSemester() != null);
-                    continue;
-                }
+    private final StatisticsRebuildJdbcRepository statisticsRebuildJdbcRepository;
+    private final StatisticsRebuildJpaRepository statisticsRebuildJpaRepository;
+    private final ParticipationIndex participationIndex;
+    private final StatisticsRollupCube statisticsRollupCube;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${statistics.rebuild.page-size:1000}")
+    private int pageSize;
+    @Value("${statistics.rebuild.window-pages:8}")
+    private int windowPages;
+    @Value("${statistics.rebuild.lease-seconds:300}")
+    private long leaseSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
 
-                // 1. 전체 통계 업데이트
-                updateStatistics(
-                        statisticsMap,
-                        StatisticsType.TOTAL,
-                        null,
-                        project.getSemester().getId(),
-                        field.getId(),
-                        project.getCategory().getId(),
-                        project
-                );
-
-                // 2. 사용자 통계
-                updateStatistics(
-                        statisticsMap,
-                        StatisticsType.USER,
-                        project.getUser().getId(),
-                        project.getSemester().getId(),
-                        field.getId(),
-                        project.getCategory().getId(),
-                        project
-                );
-
-                // 3. 학과/단과대 통계
-                List<UserDepartment> userDepts = userDepartmentRepository
-                        .findByUserId(project.getUser().getId())
-                        .orElseThrow(() -> new IllegalStateException(
-                                "User departments not found for user: " + project.getUser().getId()));
-
-                for (UserDepartment dept : userDepts) {
-                    // 학과 통계
-                    updateStatistics(
-                            statisticsMap,
-                            StatisticsType.DEPARTMENT,
-                            dept.getDepartment().getId(),
-                            project.getSemester().getId(),
-                            field.getId(),
-                            project.getCategory().getId(),
-                            project
-                    );
-
-                    // 단과대 통계
-                    updateStatistics(
-                            statisticsMap,
-                            StatisticsType.COLLEGE,
-                            dept.getDepartment().getCollege().getId(),
-                            project.getSemester().getId(),
-                            field.getId(),
-                            project.getCategory().getId(),
-                            project
-                    );
+    /**
+     * 통계를 재구축한다.
+     *
+     * @param resume true이면 마지막 체크포인트부터 재개, false이면 처음부터 시작
+     */
+    public void migrateStatistics(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BaseException(STATISTICS_REBUILD_IN_PROGRESS);
+        }
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            StatisticsRebuild rebuild = resume ? resumeRebuild() : startRebuild();
+            rebuildStatistics(rebuild, pool);
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private void rebuildStatistics(StatisticsRebuild rebuild, ForkJoinPool pool) {
+        long startTime = System.currentTimeMillis();
+        try {
+            while (rebuild.getPhase() != RebuildPhase.SWAP) {
+                runPhase(rebuild, pool);
+            }
+            swap(rebuild);
+            log.info("Statistics rebuild completed in {} ms", System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.error("Statistics rebuild failed at phase {} after id {}", rebuild.getPhase(), rebuild.getLastId(), e);
+            // 임대를 잃었다면 다른 노드가 이미 선점했을 수 있으므로 상태를 덮어쓰지 않는다.
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                statisticsRebuildJdbcRepository.lockRebuild();
+                if (rebuild.holdsLease(LocalDateTime.now().minusSeconds(leaseSeconds))) {
+                    rebuild.fail();
+                    statisticsRebuildJpaRepository.save(rebuild);
                 }
-            } catch (Exception e) {
-                log.error("Error processing project {}: {}", project.getId(), e.getMessage());
+            });
+            throw e;
+        }
+    }
+
+    private StatisticsRebuild startRebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        StatisticsRebuild rebuild = StatisticsRebuild.builder()
+                .id(StatisticsRebuild.SINGLETON_ID)
+                .status(RebuildStatus.RUNNING)
+                .phase(RebuildPhase.values()[0])
+                .lastId(0)
+                .maxUserId(statisticsRebuildJdbcRepository.findMaxUserId())
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+        StatisticsRebuild started = new TransactionTemplate(transactionManager).execute(status -> {
+            statisticsRebuildJdbcRepository.lockRebuild();
+            if (!claim(EnumSet.of(RebuildStatus.COMPLETED, RebuildStatus.FAILED), now)
+                    && statisticsRebuildJpaRepository.existsById(StatisticsRebuild.SINGLETON_ID)) {
+                throw new BaseException(STATISTICS_REBUILD_IN_PROGRESS);
+            }
+            return statisticsRebuildJpaRepository.save(rebuild);
+        });
+        log.info("Starting statistics rebuild...");
+        participationIndex.rebuild();
+        statisticsRebuildJdbcRepository.dropShadow();
+        statisticsRebuildJdbcRepository.createShadow();
+        return started;
+    }
+
+    private StatisticsRebuild resumeRebuild() {
+        statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID)
+                .filter(found -> found.getStatus() != RebuildStatus.COMPLETED)
+                .orElseThrow(() -> new BaseException(STATISTICS_REBUILD_NOT_FOUND));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            statisticsRebuildJdbcRepository.lockRebuild();
+            if (!claim(EnumSet.of(RebuildStatus.FAILED), LocalDateTime.now())) {
+                throw new BaseException(STATISTICS_REBUILD_IN_PROGRESS);
+            }
+        });
+        StatisticsRebuild rebuild = statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID)
+                .orElseThrow(() -> new BaseException(STATISTICS_REBUILD_NOT_FOUND));
+        log.info("Resuming statistics rebuild from phase {} after id {}", rebuild.getPhase(), rebuild.getLastId());
+        statisticsRebuildJdbcRepository.createShadow();
+        rebuild.resume();
+        return statisticsRebuildJpaRepository.save(rebuild);
+    }
+
+    /**
+     * 재구축 행을 RUNNING으로 선점한다. running 플래그는 JVM마다 따로 있으므로, 노드 간에는 이 조건부 갱신으로 한 노드만 실행하게 한다.
+     * 임대가 만료된 RUNNING 행은 실행하던 노드가 죽은 것으로 보고 선점할 수 있다.
+     * 재구축 잠금을 잡은 트랜잭션 안에서 호출하므로, 재구축 행이 아직 없을 때도 한 노드만 새로 만든다.
+     */
+    private boolean claim(Set<RebuildStatus> claimable, LocalDateTime now) {
+        return statisticsRebuildJpaRepository.claim(StatisticsRebuild.SINGLETON_ID, claimable, RebuildStatus.RUNNING,
+                now, now.minusSeconds(leaseSeconds)) == 1;
+    }
+
+    /**
+     * 현재 단계의 윈도우 하나를 처리하고 체크포인트를 남긴다. 마지막 사용자까지 읽었으면 다음 단계로 넘어간다.
+     *
+     * <p>윈도우의 원본과 미반영 저널은 같은 스냅샷에서 읽는다. 원본 집계에서 그 저널의 몫을 빼 두면,
+     * 저널이 나중에 반영될 때 다시 더해지므로 각 변화량은 한 번만 반영된다.</p>
+     */
+    private void runPhase(StatisticsRebuild rebuild, ForkJoinPool pool) {
+        RebuildPhase phase = rebuild.getPhase();
+        int fromUserId = rebuild.getLastId();
+        int toUserId = (int) Math.min((long) fromUserId + (long) pageSize * windowPages, rebuild.getMaxUserId());
+        Window window = readWindow(phase, fromUserId, toUserId);
+
+        Map<StatisticsKey, StatisticsDelta> aggregated = aggregate(window, pool);
+        window.pendingJournals().forEach((key, delta) ->
+                aggregated.merge(key, delta.forPhase(phase).negate(), StatisticsDelta::plus));
+        aggregated.values().removeIf(StatisticsDelta::isEmpty);
+
+        boolean advance = toUserId >= rebuild.getMaxUserId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            verifyLease(rebuild);
+            statisticsRebuildJdbcRepository.upsertShadow(aggregated);
+            if (advance) {
+                rebuild.advance();
+            } else {
+                rebuild.checkpoint(toUserId);
             }
+            statisticsRebuildJpaRepository.save(rebuild);
+        });
+        log.debug("Statistics rebuild checkpoint - phase: {}, rows: {}, keys: {}, lastId: {}",
+                phase, window.rows().size(), aggregated.size(), toUserId);
+    }
+
+    /**
+     * 윈도우의 원본 행, 소속, 미반영 저널을 하나의 스냅샷에서 읽는다.
+     */
+    private Window readWindow(RebuildPhase phase, int fromUserId, int toUserId) {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshot.setReadOnly(true);
+        return snapshot.execute(status -> {
+            List<SourceRow> rows = new ArrayList<>();
+            for (int from = fromUserId; from < toUserId; from += pageSize) {
+                rows.addAll(statisticsRebuildJdbcRepository.findSourceRows(phase, from, Math.min(from + pageSize, toUserId)));
+            }
+            Set<Integer> userIds = rows.stream().map(SourceRow::userId).collect(Collectors.toSet());
+            return new Window(rows, statisticsRebuildJdbcRepository.findAffiliations(userIds),
+                    statisticsRebuildJdbcRepository.findPendingJournals(fromUserId, toUserId));
+        });
+    }
+
+    /**
+     * 재구축 잠금을 잡고 임대가 아직 유효한지 확인한다.
+     * 임대가 유효했다면 윈도우를 읽은 뒤로 다른 노드가 저널을 반영하지 않았으므로, 스냅샷에서 뺀 저널이 그대로 남아 있다.
+     */
+    private void verifyLease(StatisticsRebuild rebuild) {
+        statisticsRebuildJdbcRepository.lockRebuild();
+        if (!rebuild.holdsLease(LocalDateTime.now().minusSeconds(leaseSeconds))) {
+            throw new BaseException(STATISTICS_REBUILD_IN_PROGRESS);
         }
-        statisticsRepository.saveAll(statisticsMap.values());
-        log.info("Statistics migration completed. Processed {} projects", projects.size());
     }
 
-    private record StatisticsKey(
-            StatisticsType type,
-            Integer targetId,
-            Integer semesterId,
-            Integer fieldId,
-            Integer categoryId
-    ) {}
-
-    private void updateStatistics(
-            Map<StatisticsKey, Statistics> statisticsMap,
-            StatisticsType type,
-            Integer targetId,
-            Integer semesterId,
-            Integer fieldId,
-            Integer categoryId,
-            Project project) {
-
-        StatisticsKey key = new StatisticsKey(type, targetId, semesterId, fieldId, categoryId);
-
-        Statistics stats = statisticsMap.computeIfAbsent(key, k ->
-                Statistics.builder()
-                        .statisticsType(k.type())
-                        .targetId(k.targetId())
-                        .semesterId(k.semesterId())
-                        .fieldId(k.fieldId())
-                        .categoryId(k.categoryId())
-                        .localProjectCount(0)
-                        .githubProjectCount(0)
-                        .questionCount(0)
-                        .projectParticipationCount(0)
-                        .questionParticipationCount(0)
-                        .build()
-        );
-
-        if (project.getRepoName() != null) {
-            stats.incrementGithubProjectCount();
-        } else {
-            stats.incrementLocalProjectCount();
+    /**
+     * 윈도우의 원본 행을 전체/유저/학과/단과대 키로 펼쳐 병렬로 합산한다.
+     */
+    private Map<StatisticsKey, StatisticsDelta> aggregate(Window window, ForkJoinPool pool) {
+        Map<Integer, List<Affiliation>> affiliations = window.affiliations();
+        return pool.submit(() -> window.rows().parallelStream()
+                        .filter(row -> row.fieldId() != null)
+                        .flatMap(row -> expand(row, affiliations.getOrDefault(row.userId(), List.of())))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, StatisticsDelta::plus, HashMap::new)))
+                .join();
+    }
+
+    private Stream<Map.Entry<StatisticsKey, StatisticsDelta>> expand(SourceRow row, List<Affiliation> affiliations) {
+        List<Map.Entry<StatisticsKey, StatisticsDelta>> entries = new ArrayList<>(2 + affiliations.size() * 2);
+        entries.add(entry(StatisticsType.TOTAL, null, row));
+        entries.add(entry(StatisticsType.USER, row.userId(), row));
+        for (Affiliation affiliation : affiliations) {
+            entries.add(entry(StatisticsType.DEPARTMENT, affiliation.departmentId(), row));
+            entries.add(entry(StatisticsType.COLLEGE, affiliation.collegeId(), row));
         }
-        stats.incrementProjectParticipation();
+        return entries.stream();
+    }
+
+    private Map.Entry<StatisticsKey, StatisticsDelta> entry(StatisticsType type, Integer targetId, SourceRow row) {
+        return Map.entry(new StatisticsKey(type, targetId, row.semesterId(), row.fieldId(), row.categoryId()), row.delta());
+    }
+
+    private void swap(StatisticsRebuild rebuild) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            verifyLease(rebuild);
+            statisticsRebuildJdbcRepository.swap();
+            rebuild.complete();
+            statisticsRebuildJpaRepository.save(rebuild);
+        });
+        statisticsRollupCube.reload();
+    }
+
+    private record Window(
+            List<SourceRow> rows,
+            Map<Integer, List<Affiliation>> affiliations,
+            Map<StatisticsKey, StatisticsDelta> pendingJournals
+    ) {
     }
 }
@@ -1,39 +1,37 @@
 package inha.git.statistics.api.service;
 
 import inha.git.category.domain.Category;
-import inha.git.category.domain.repository.CategoryJpaRepository;
-import inha.git.college.domain.repository.CollegeJpaRepository;
 import inha.git.common.exceptions.BaseException;
-import inha.git.department.domain.Department;
-import inha.git.department.domain.repository.DepartmentJpaRepository;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
 import inha.git.field.domain.Field;
-import inha.git.field.domain.repository.FieldJpaRepository;
 import inha.git.mapping.domain.UserDepartment;
 import inha.git.mapping.domain.repository.UserDepartmentJpaRepository;
-import inha.git.project.domain.repository.ProjectJpaRepository;
-import inha.git.project.domain.repository.ProjectPatentJpaRepository;
-import inha.git.question.domain.repository.QuestionJpaRepository;
 import inha.git.semester.domain.Semester;
-import inha.git.semester.domain.repository.SemesterJpaRepository;
 import inha.git.statistics.api.controller.dto.request.SearchCond;
 import inha.git.statistics.api.controller.dto.response.BatchCollegeStatisticsResponse;
 import inha.git.statistics.api.controller.dto.response.PatentStatisticsResponse;
 import inha.git.statistics.api.controller.dto.response.ProjectStatisticsResponse;
 import inha.git.statistics.api.controller.dto.response.QuestionStatisticsResponse;
-import inha.git.statistics.domain.Statistics;
+import inha.git.statistics.api.service.pipeline.StatisticsDeltaPublisher;
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.enums.ParticipationKind;
 import inha.git.statistics.domain.enums.StatisticsType;
 import inha.git.statistics.domain.repository.*;
 import inha.git.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import static inha.git.common.BaseEntity.State.ACTIVE;
 import static inha.git.common.code.status.ErrorStatus.*;
+import static inha.git.common.reference.ReferenceType.*;
 
 /**
  * StatisticsServiceImpl은 통계 관련 비즈니스 로직을 처리한다.
@@ -45,40 +43,40 @@ import static inha.git.common.code.status.ErrorStatus.*;
 public class StatisticsServiceImpl implements StatisticsService {
 
     private final UserDepartmentJpaRepository userDepartmentJpaRepository;
-    private final DepartmentJpaRepository departmentJpaRepository;
-    private final StatisticsJpaRepository statisticsJpaRepository;
-    private final CollegeJpaRepository collegeJpaRepository;
-    private final FieldJpaRepository fieldJpaRepository;
-    private final SemesterJpaRepository semesterJpaRepository;
-    private final CategoryJpaRepository categoryJpaRepository;
-    private final ProjectJpaRepository projectJpaRepository;
-    private final QuestionJpaRepository questionJpaRepository;
-    private final ProjectPatentJpaRepository projectPatentJpaRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final PatentStatisticsQueryRepository patentStatisticsQueryRepository;
     private final ProjectStatisticsQueryRepository projectStatisticsQueryRepository;
     private final QuestionStatisticsQueryRepository questionStatisticsQueryRepository;
     private final BatchStatisticsQueryRepository batchStatisticsQueryRepository;
+    private final StatisticsDeltaPublisher statisticsDeltaPublisher;
+    private final ParticipationIndex participationIndex;
 
     /**
      * 사용자 통계 정보를 증가시킨다.
+     * 변화량은 요청 트랜잭션 커밋 후 통계 파이프라인을 통해 비동기로 반영되므로 statistics_tb 행 잠금을 기다리지 않는다.
      *
      * @param user User
      * @param type Integer
      */
     @Transactional
     public void adjustCount(User user, List<Field> fields, Semester semester, Category category, Integer type, boolean isIncrease) {
-        // 전체 통계 업데이트
-        updateStatistics(user, StatisticsType.TOTAL, null, semester, fields, category, type, isIncrease);
-        // 유저 통계 업데이트
-        updateStatistics(user, StatisticsType.USER, user.getId(), semester, fields, category, type, isIncrease);
-        // 학과 및 단과대 통계 업데이트
         List<UserDepartment> userDepartments = userDepartmentJpaRepository.findByUserId(user.getId())
                 .orElseThrow(() -> new BaseException(USER_DEPARTMENT_NOT_FOUND));
 
-        for (UserDepartment userDepartment : userDepartments) {
-            updateStatistics(user, StatisticsType.DEPARTMENT, userDepartment.getDepartment().getId(), semester, fields, category, type, isIncrease);
-            updateStatistics(user, StatisticsType.COLLEGE, userDepartment.getDepartment().getCollege().getId(), semester, fields, category, type, isIncrease);
+        Map<StatisticsKey, StatisticsDelta> deltas = new HashMap<>();
+        for (Field field : fields) {
+            StatisticsDelta delta = createDelta(user, semester, field, type, isIncrease);
+            // 전체 통계
+            addDelta(deltas, StatisticsType.TOTAL, null, semester, field, category, delta);
+            // 유저 통계
+            addDelta(deltas, StatisticsType.USER, user.getId(), semester, field, category, delta);
+            // 학과 및 단과대 통계
+            for (UserDepartment userDepartment : userDepartments) {
+                addDelta(deltas, StatisticsType.DEPARTMENT, userDepartment.getDepartment().getId(), semester, field, category, delta);
+                addDelta(deltas, StatisticsType.COLLEGE, userDepartment.getDepartment().getCollege().getId(), semester, field, category, delta);
+            }
         }
+        statisticsDeltaPublisher.publish(user.getId(), deltas);
     }
 
     /**
@@ -129,154 +127,63 @@ public class StatisticsServiceImpl implements StatisticsService {
     }
 
     private void validateSearchCond(SearchCond searchCond) {
-        if(searchCond.collegeIdx() != null) {
-            collegeJpaRepository.findByIdAndState(searchCond.collegeIdx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(COLLEGE_NOT_FOUND));
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        if(searchCond.collegeIdx() != null && !snapshot.exists(COLLEGE, searchCond.collegeIdx())) {
+            throw new BaseException(COLLEGE_NOT_FOUND);
         }
         if(searchCond.departmentIdx() != null) {
-            Department department = departmentJpaRepository.findByIdAndState(searchCond.departmentIdx(), ACTIVE)
+            ReferenceItem department = snapshot.find(DEPARTMENT, searchCond.departmentIdx())
                     .orElseThrow(() -> new BaseException(DEPARTMENT_NOT_FOUND));
-            if(searchCond.collegeIdx() != null && !department.getCollege().getId().equals(searchCond.collegeIdx())) {
+            if(searchCond.collegeIdx() != null && !searchCond.collegeIdx().equals(department.parentId())) {
                 throw new BaseException(DEPARTMENT_NOT_BELONG_TO_COLLEGE);
             }
         }
-        if(searchCond.fieldIdx() != null) {
-            fieldJpaRepository.findByIdAndState(searchCond.fieldIdx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(FIELD_NOT_FOUND));
+        if(searchCond.fieldIdx() != null && !snapshot.exists(FIELD, searchCond.fieldIdx())) {
+            throw new BaseException(FIELD_NOT_FOUND);
         }
-        if(searchCond.semesterIdx() != null) {
-            semesterJpaRepository.findByIdAndState(searchCond.semesterIdx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(SEMESTER_NOT_FOUND));
+        if(searchCond.semesterIdx() != null && !snapshot.exists(SEMESTER, searchCond.semesterIdx())) {
+            throw new BaseException(SEMESTER_NOT_FOUND);
         }
-        if(searchCond.categoryIdx() != null) {
-            categoryJpaRepository.findByIdAndState(searchCond.categoryIdx(), ACTIVE)
-                    .orElseThrow(() -> new BaseException(CATEGORY_NOT_FOUND));
+        if(searchCond.categoryIdx() != null && !snapshot.exists(CATEGORY, searchCond.categoryIdx())) {
+            throw new BaseException(CATEGORY_NOT_FOUND);
         }
     }
 
     /**
-     * 통계를 업데이트(증가/감소)하는 공통 메서드
+     * 분야 하나에 대한 통계 변화량을 계산한다.
+     * 참여자 수는 해당 학기·분야의 첫 등록이거나 마지막 삭제일 때만 변한다.
      */
-    private void updateStatistics(User user, StatisticsType type, Integer targetId, Semester semester, List<Field> fields, Category category, Integer actionType, boolean isIncrease) {
-        for (Field field : fields) {
-            Long safeTargetId = (targetId != null) ? targetId.longValue() : null;
-            Statistics statistics;
-            try {
-                // 락을 걸고 조회
-                statistics = statisticsJpaRepository.findByStatisticsTypeAndTargetIdAndSemesterIdAndFieldIdAndCategoryIdWithPessimisticLock(
-                                type, safeTargetId, semester.getId().longValue(), field.getId().longValue(), category.getId().longValue())
-                        .orElse(null);
-
-                // 통계가 없으면 새로 생성
-                if (statistics == null) {
-                    statistics = Statistics.builder()
-                            .statisticsType(type)
-                            .targetId(targetId)
-                            .semesterId(semester.getId())
-                            .fieldId(field.getId())
-                            .categoryId(category.getId())
-                            .localProjectCount(0)
-                            .githubProjectCount(0)
-                            .questionCount(0)
-                            .projectParticipationCount(0)
-                            .questionParticipationCount(0)
-                            .patentCount(0)
-                            .patentParticipationCount(0)
-                            .build();
-                    statisticsJpaRepository.save(statistics);
-                }
-            } catch (PessimisticLockingFailureException e) {
-                log.error("통계 관련 락 획득 실패 - 사용자 ID: {}, 학기 ID: {}, 분야 ID: {}, 카테고리 ID: {}", user.getId(), semester.getId(), field.getId(), category.getId());
-                throw new BaseException(TEMPORARY_UNAVAILABLE);
+    private StatisticsDelta createDelta(User user, Semester semester, Field field, Integer actionType, boolean isIncrease) {
+        int count = isIncrease ? 1 : -1;
+        return switch (actionType) {
+            case 1, 2 -> {  // 로컬 프로젝트, 깃허브 프로젝트
+                boolean changed = isParticipationChanged(user, semester, field, ParticipationKind.PROJECT, isIncrease);
+                int participation = changed ? count : 0;
+                yield actionType == 1
+                        ? StatisticsDelta.localProject(count, participation)
+                        : StatisticsDelta.githubProject(count, participation);
             }
-
-            // 통계 업데이트
-            switch (actionType) {
-                case 1 -> {  // 로컬 프로젝트
-                    if (isIncrease) {
-                        if (isFirstProjectUpload(user, semester, field)) {
-                            statistics.incrementProjectParticipation();
-                        }
-                        statistics.incrementLocalProjectCount();
-                    } else {
-                        statistics.decrementLocalProjectCount();
-                        if (isLastProject(user, semester, field)) {
-                            statistics.decrementProjectParticipation();
-                        }
-                    }
-                }
-                case 2 -> {  // 깃허브 프로젝트
-                    if (isIncrease) {
-                        if (isFirstProjectUpload(user, semester, field)) {
-                            statistics.incrementProjectParticipation();
-                        }
-                        statistics.incrementGithubProjectCount();
-                    } else {
-                        statistics.decrementGithubProjectCount();
-                        if (isLastProject(user, semester, field)) {
-                            statistics.decrementProjectParticipation();
-                        }
-                    }
-                }
-                case 3 -> {  // 질문
-                    if (isIncrease) {
-                        if (isFirstQuestionUpload(user, semester, field)) {
-                            statistics.incrementQuestionParticipation();
-                        }
-                        statistics.incrementQuestionCount();
-                    } else {
-                        statistics.decrementQuestionCount();
-                        if (isLastQuestion(user, semester, field)) {
-                            statistics.decrementQuestionParticipation();
-                        }
-                    }
-                }
-                case 4 -> {  // 특허
-                    if (isIncrease) {
-                        boolean isFirst = isFirstPatent(user, semester, field);
-                        if (isFirst) {
-                            statistics.incrementPatentParticipation();
-                        }
-                        statistics.incrementPatentCount();
-                    } else {
-                        statistics.decrementPatentCount();
-                        boolean isLast = isLastPatent(user, semester, field);
-                        if (isLast) {
-                            statistics.decrementPatentParticipation();
-                        }
-                    }
-                }
-                default -> throw new BaseException(INVALID_ACTION_TYPE);
+            case 3 -> {  // 질문
+                boolean changed = isParticipationChanged(user, semester, field, ParticipationKind.QUESTION, isIncrease);
+                yield StatisticsDelta.question(count, changed ? count : 0);
             }
-            statisticsJpaRepository.save(statistics);
-        }
-    }
-
-    private boolean isFirstProjectUpload(User user, Semester semester, Field field) {
-        return projectJpaRepository.countByUserAndSemesterAndProjectFields_FieldAndState(user, semester, field, ACTIVE) == 1;
-    }
-
-    private boolean isLastProject(User user, Semester semester, Field field) {
-        return projectJpaRepository.countByUserAndSemesterAndProjectFields_FieldAndState(user, semester, field, ACTIVE) == 0;
-    }
-
-    private boolean isFirstQuestionUpload(User user, Semester semester, Field field) {
-        return questionJpaRepository.countByUserAndSemesterAndQuestionFields_FieldAndState(user, semester, field, ACTIVE) == 1;
-    }
-
-    private boolean isLastQuestion(User user, Semester semester, Field field) {
-        return questionJpaRepository.countByUserAndSemesterAndQuestionFields_FieldAndState(user, semester, field, ACTIVE) == 0;
+            case 4 -> {  // 특허
+                boolean changed = isParticipationChanged(user, semester, field, ParticipationKind.PATENT, isIncrease);
+                yield StatisticsDelta.patent(count, changed ? count : 0);
+            }
+            default -> throw new BaseException(INVALID_ACTION_TYPE);
+        };
     }
 
-    private boolean isFirstPatent(User user, Semester semester, Field field) {
-        long count = projectPatentJpaRepository.countByProject_UserAndProject_SemesterAndProject_ProjectFields_FieldAndProject_State(
-                user, semester, field, ACTIVE);
-        return count == 1;
+    private void addDelta(Map<StatisticsKey, StatisticsDelta> deltas, StatisticsType type, Integer targetId,
+                          Semester semester, Field field, Category category, StatisticsDelta delta) {
+        StatisticsKey key = new StatisticsKey(type, targetId, semester.getId(), field.getId(), category.getId());
+        deltas.merge(key, delta, StatisticsDelta::plus);
     }
 
-    private boolean isLastPatent(User user, Semester semester, Field field) {
-        long count = projectPatentJpaRepository.countByProject_UserAndProject_SemesterAndProject_ProjectFields_FieldAndProject_State(
-                user, semester, field, ACTIVE);
-        return count == 0;
+    private boolean isParticipationChanged(User user, Semester semester, Field field, ParticipationKind kind, boolean isIncrease) {
+        return isIncrease
+                ? participationIndex.recordContribution(user, semester, field, kind)
+                : participationIndex.removeContribution(user, semester, field, kind);
     }
 }
@@ -0,0 +1,256 @@
+package inha.git.statistics.api.service.pipeline;
+
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsJournal;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.StatisticsRebuild;
+import inha.git.statistics.domain.repository.StatisticsDeltaJdbcRepository;
+import inha.git.statistics.domain.repository.StatisticsJournalJpaRepository;
+import inha.git.statistics.domain.repository.StatisticsRebuildJpaRepository;
+import inha.git.statistics.domain.repository.StatisticsRollupCube;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * StatisticsDeltaBuffer는 커밋된 통계 변화량을 키별로 메모리에 합산해 두었다가 주기적으로 일괄 반영한다.
+ * 대기 중인 키 수가 상한을 넘으면 이벤트를 발행한 스레드가 직접 반영하여 유입 속도를 늦춘다.
+ *
+ * <p>변화량은 저널에 먼저 커밋되므로 버퍼는 반영을 모으는 캐시일 뿐이다. 반영할 수 없는 동안 버퍼가 상한을 넘으면
+ * 메모리의 변화량을 비우고, 반영이 가능해졌을 때 저널을 페이지 단위로 재생해 반영한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsDeltaBuffer {
+
+    private final StatisticsDeltaJdbcRepository statisticsDeltaJdbcRepository;
+    private final StatisticsJournalJpaRepository statisticsJournalJpaRepository;
+    private final StatisticsRebuildJpaRepository statisticsRebuildJpaRepository;
+    private final StatisticsRollupCube statisticsRollupCube;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${statistics.pipeline.max-pending-keys:10000}")
+    private int maxPendingKeys;
+    @Value("${statistics.pipeline.max-pending-journals:100000}")
+    private int maxPendingJournals;
+    @Value("${statistics.pipeline.replay-grace-seconds:60}")
+    private long replayGraceSeconds;
+    @Value("${statistics.rebuild.lease-seconds:300}")
+    private long rebuildLeaseSeconds;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile Pending pending = new Pending();
+    // 이 시각 이전의 저널은 메모리에 없을 수 있으므로 다음 반영 때 저널에서 재생한다.
+    private final AtomicReference<LocalDateTime> replayBefore = new AtomicReference<>();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("statistics.pipeline.pending.keys", this, buffer -> buffer.pending.deltas.size())
+                .description("아직 반영되지 않은 통계 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 통계 변화량을 버퍼에 합산한다.
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 합산한다.
+     *
+     * @param event 통계 변화 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatisticsDelta(StatisticsDeltaEvent event) {
+        Pending current = merge(event.deltas(), event.journalIds());
+        if (isFull(current)) {
+            log.warn("통계 버퍼 상한 도달 - 대기 키 수: {}, 호출 스레드에서 반영", current.deltas.size());
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 변화량을 statistics_tb에 일괄 반영한다.
+     * 반영에 실패하면 변화량을 버퍼에 되돌려 다음 주기에 재시도하고, 성공하면 통계 큐브에도 더한다.
+     *
+     * <p>임대가 유효한 재구축이 실행 중이면 변화량을 저널에 남겨 두고 반영하지 않는다.
+     * 실패했거나 임대가 만료된 재구축은 반영을 막지 않으며, 이때 재구축이 이미 집계한 사용자의 변화량은 섀도 테이블에도 더해진다.</p>
+     */
+    @Scheduled(fixedDelayString = "${statistics.pipeline.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            StatisticsRebuild rebuild = statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID).orElse(null);
+            if (rebuild != null && rebuild.holdsLease(staleBefore())) {
+                log.debug("통계 재구축 진행 중 - 반영 보류");
+                spillIfFull();
+                return;
+            }
+            LocalDateTime before = replayBefore.get();
+            if (before != null && !replayJournals(before)) {
+                return;
+            }
+            applyPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 반영되지 못한 채 남아 있는 저널을 재생한다.
+     * 다른 노드가 아직 반영 중일 수 있는 최근 저널은 유예 시간 동안 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        requestReplay(LocalDateTime.now().minusSeconds(replayGraceSeconds));
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * before 이전에 기록된 저널을 페이지 단위로 읽어 반영한다. 다른 노드가 이미 반영한 저널은 선점 단계에서 걸러진다.
+     *
+     * @return 모두 반영했으면 true, 반영에 실패해 다음 주기로 미뤘으면 false
+     */
+    private boolean replayJournals(LocalDateTime before) {
+        long lastId = 0;
+        int replayed = 0;
+        List<StatisticsJournal> journals;
+        do {
+            journals = statisticsJournalJpaRepository.findByCreatedAtBeforeAndIdGreaterThanOrderById(
+                    before, lastId, PageRequest.of(0, maxPendingKeys));
+            if (journals.isEmpty()) {
+                break;
+            }
+            Map<StatisticsKey, StatisticsDelta> deltas = new HashMap<>();
+            for (StatisticsJournal journal : journals) {
+                deltas.merge(journal.toKey(), journal.toDelta(), StatisticsDelta::plus);
+            }
+            merge(deltas, journals.stream().map(StatisticsJournal::getId).toList());
+            if (!applyPending()) {
+                return false;
+            }
+            lastId = journals.get(journals.size() - 1).getId();
+            replayed += journals.size();
+        } while (journals.size() == maxPendingKeys);
+        if (replayed > 0) {
+            log.info("미반영 통계 저널 재생 - 저널 수: {}", replayed);
+        }
+        // 재생하는 동안 더 늦은 시각으로 재생이 요청되었으면 남겨 둔다.
+        replayBefore.compareAndSet(before, null);
+        return true;
+    }
+
+    private boolean applyPending() {
+        Pending drained = drain();
+        if (drained.deltas.isEmpty()) {
+            return true;
+        }
+        List<Long> journalIds = new ArrayList<>(drained.journalIds);
+        Optional<Map<StatisticsKey, StatisticsDelta>> applied;
+        try {
+            applied = statisticsDeltaJdbcRepository.applyDeltas(drained.deltas, journalIds, staleBefore());
+        } catch (DataAccessException e) {
+            log.error("통계 반영 실패 - 키 수: {}, 다음 주기에 재시도", drained.deltas.size(), e);
+            merge(drained.deltas, journalIds);
+            spillIfFull();
+            return false;
+        }
+        if (applied.isEmpty()) {
+            // 확인 직후 다른 노드가 재구축을 시작했으면 저널을 선점하지 않았으므로 되돌려 두었다가 재구축 후 반영한다.
+            log.debug("통계 재구축 시작 - 반영 보류");
+            merge(drained.deltas, journalIds);
+            spillIfFull();
+            return false;
+        }
+        log.debug("통계 반영 완료 - 키 수: {}, 저널 수: {}", drained.deltas.size(), journalIds.size());
+        statisticsRollupCube.apply(applied.get());
+        return true;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusSeconds(rebuildLeaseSeconds);
+    }
+
+    /**
+     * 반영할 수 없는 동안 버퍼가 상한을 넘으면 메모리의 변화량을 비운다.
+     * 비운 변화량은 저널에 그대로 남아 있으므로 다음에 반영할 수 있을 때 저널에서 재생한다.
+     */
+    private void spillIfFull() {
+        if (!isFull(pending)) {
+            return;
+        }
+        Pending spilled = drain();
+        requestReplay(LocalDateTime.now());
+        log.warn("통계 버퍼 상한 초과 - 키 수: {}, 저널 수: {}를 비우고 저널 재생으로 반영",
+                spilled.deltas.size(), spilled.journalCount.get());
+    }
+
+    private void requestReplay(LocalDateTime before) {
+        replayBefore.accumulateAndGet(before, (current, requested) ->
+                current == null || requested.isAfter(current) ? requested : current);
+    }
+
+    private boolean isFull(Pending current) {
+        return current.deltas.size() >= maxPendingKeys || current.journalCount.get() >= maxPendingJournals;
+    }
+
+    private Pending merge(Map<StatisticsKey, StatisticsDelta> deltas, Collection<Long> journalIds) {
+        swapLock.readLock().lock();
+        try {
+            Pending current = pending;
+            deltas.forEach((key, delta) -> current.deltas.merge(key, delta, StatisticsDelta::plus));
+            current.journalIds.addAll(journalIds);
+            current.journalCount.addAndGet(journalIds.size());
+            return current;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private Pending drain() {
+        swapLock.writeLock().lock();
+        try {
+            Pending drained = pending;
+            pending = new Pending();
+            return drained;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static final class Pending {
+        private final Map<StatisticsKey, StatisticsDelta> deltas = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<Long> journalIds = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger journalCount = new AtomicInteger();
+    }
+}
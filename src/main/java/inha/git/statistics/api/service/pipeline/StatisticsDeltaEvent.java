@@ -0,0 +1,19 @@
+package inha.git.statistics.api.service.pipeline;
+
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StatisticsDeltaEvent는 하나의 요청에서 발생한 통계 변화량을 나타내는 도메인 이벤트.
+ *
+ * @param deltas     키별 변화량
+ * @param journalIds 변화량이 기록된 저널 ID 목록
+ */
+public record StatisticsDeltaEvent(
+        Map<StatisticsKey, StatisticsDelta> deltas,
+        List<Long> journalIds
+) {
+}
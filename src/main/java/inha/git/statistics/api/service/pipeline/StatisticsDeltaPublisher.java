@@ -0,0 +1,46 @@
+package inha.git.statistics.api.service.pipeline;
+
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsJournal;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.repository.StatisticsJournalJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StatisticsDeltaPublisher는 통계 변화량을 저널에 기록하고 도메인 이벤트로 발행한다.
+ * 저널은 호출한 트랜잭션과 함께 커밋되므로, 이벤트가 메모리에서 유실되어도 재생할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsDeltaPublisher {
+
+    private final StatisticsJournalJpaRepository statisticsJournalJpaRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 통계 변화량을 발행한다.
+     *
+     * @param userId 변화량을 만든 게시물 작성자
+     * @param deltas 키별 변화량
+     */
+    @Transactional
+    public void publish(Integer userId, Map<StatisticsKey, StatisticsDelta> deltas) {
+        List<StatisticsJournal> journals = deltas.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> StatisticsJournal.of(entry.getKey(), entry.getValue(), userId))
+                .toList();
+        if (journals.isEmpty()) {
+            return;
+        }
+        List<Long> journalIds = statisticsJournalJpaRepository.saveAll(journals).stream()
+                .map(StatisticsJournal::getId)
+                .toList();
+        applicationEventPublisher.publishEvent(new StatisticsDeltaEvent(Map.copyOf(deltas), journalIds));
+    }
+}
@@ -0,0 +1,25 @@
+package inha.git.statistics.domain;
+
+import inha.git.statistics.domain.id.ParticipationId;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Participation 엔티티는 사용자별·학기별·분야별 활성 게시물 수를 나타냄.
+ * 통계의 참여자 수 증감 여부(첫 등록/마지막 삭제)를 집계 쿼리 없이 판단하는 데 사용된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Getter
+@Builder
+@Entity
+@Table(name = "statistics_participation_tb")
+public class Participation {
+
+    @EmbeddedId
+    private ParticipationId id;
+
+    @Column(name = "contribution_count", nullable = false)
+    private Integer contributionCount;
+}
@@ -0,0 +1,82 @@
+package inha.git.statistics.domain;
+
+import inha.git.statistics.domain.enums.RebuildPhase;
+
+/**
+ * StatisticsDelta는 statistics_tb 한 행에 더해질 카운트 변화량을 나타냄.
+ * 불변 객체이며 plus로 여러 변화량을 합산한다.
+ */
+public record StatisticsDelta(
+        int localProjectCount,
+        int githubProjectCount,
+        int questionCount,
+        int patentCount,
+        int projectParticipationCount,
+        int questionParticipationCount,
+        int patentParticipationCount
+) {
+
+    public static final StatisticsDelta EMPTY = new StatisticsDelta(0, 0, 0, 0, 0, 0, 0);
+
+    public static StatisticsDelta localProject(int count, int participation) {
+        return new StatisticsDelta(count, 0, 0, 0, participation, 0, 0);
+    }
+
+    public static StatisticsDelta githubProject(int count, int participation) {
+        return new StatisticsDelta(0, count, 0, 0, participation, 0, 0);
+    }
+
+    public static StatisticsDelta question(int count, int participation) {
+        return new StatisticsDelta(0, 0, count, 0, 0, participation, 0);
+    }
+
+    public static StatisticsDelta patent(int count, int participation) {
+        return new StatisticsDelta(0, 0, 0, count, 0, 0, participation);
+    }
+
+    public StatisticsDelta plus(StatisticsDelta other) {
+        return new StatisticsDelta(
+                localProjectCount + other.localProjectCount,
+                githubProjectCount + other.githubProjectCount,
+                questionCount + other.questionCount,
+                patentCount + other.patentCount,
+                projectParticipationCount + other.projectParticipationCount,
+                questionParticipationCount + other.questionParticipationCount,
+                patentParticipationCount + other.patentParticipationCount
+        );
+    }
+
+    public StatisticsDelta negate() {
+        return new StatisticsDelta(
+                -localProjectCount,
+                -githubProjectCount,
+                -questionCount,
+                -patentCount,
+                -projectParticipationCount,
+                -questionParticipationCount,
+                -patentParticipationCount
+        );
+    }
+
+    /**
+     * 재구축 단계가 집계하는 카운트만 남긴 변화량.
+     *
+     * @param phase 재구축 단계
+     * @return 해당 단계의 카운트만 남긴 변화량
+     */
+    public StatisticsDelta forPhase(RebuildPhase phase) {
+        return switch (phase) {
+            case PROJECT -> new StatisticsDelta(localProjectCount, githubProjectCount, 0, 0, 0, 0, 0);
+            case QUESTION -> question(questionCount, 0);
+            case PATENT -> patent(patentCount, 0);
+            case PROJECT_PARTICIPATION -> localProject(0, projectParticipationCount);
+            case QUESTION_PARTICIPATION -> question(0, questionParticipationCount);
+            case PATENT_PARTICIPATION -> patent(0, patentParticipationCount);
+            case SWAP -> EMPTY;
+        };
+    }
+
+    public boolean isEmpty() {
+        return this.equals(EMPTY);
+    }
+}
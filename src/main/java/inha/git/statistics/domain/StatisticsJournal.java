@@ -0,0 +1,110 @@
+package inha.git.statistics.domain;
+
+import inha.git.statistics.domain.enums.StatisticsType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * StatisticsJournal 엔티티는 아직 statistics_tb에 반영되지 않은 통계 변화량을 나타냄.
+ * 요청 트랜잭션과 함께 커밋되며, 서버가 반영 전에 종료되면 재기동 시 재생된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Getter
+@Builder
+@Entity
+@Table(name = "statistics_journal_tb", indexes = {
+        @Index(name = "idx_statistics_journal_created_at", columnList = "created_at"),
+        @Index(name = "idx_statistics_journal_user_id", columnList = "user_id")
+})
+public class StatisticsJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "statistics_journal_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "statistics_type", nullable = false)
+    private StatisticsType statisticsType;
+
+    @Column(name = "target_id")
+    private Integer targetId;
+
+    @Column(name = "semester_id", nullable = false)
+    private Integer semesterId;
+
+    @Column(name = "field_id", nullable = false)
+    private Integer fieldId;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+
+    /**
+     * 변화량을 만든 게시물 작성자. 통계 재구축이 사용자 구간 단위로 진행되므로 어느 구간의 변화량인지 판단하는 데 쓴다.
+     */
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "local_project_delta", nullable = false)
+    private int localProjectDelta;
+
+    @Column(name = "github_project_delta", nullable = false)
+    private int githubProjectDelta;
+
+    @Column(name = "question_delta", nullable = false)
+    private int questionDelta;
+
+    @Column(name = "patent_delta", nullable = false)
+    private int patentDelta;
+
+    @Column(name = "project_participation_delta", nullable = false)
+    private int projectParticipationDelta;
+
+    @Column(name = "question_participation_delta", nullable = false)
+    private int questionParticipationDelta;
+
+    @Column(name = "patent_participation_delta", nullable = false)
+    private int patentParticipationDelta;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static StatisticsJournal of(StatisticsKey key, StatisticsDelta delta, Integer userId) {
+        return StatisticsJournal.builder()
+                .statisticsType(key.type())
+                .targetId(key.targetId())
+                .semesterId(key.semesterId())
+                .fieldId(key.fieldId())
+                .categoryId(key.categoryId())
+                .userId(userId)
+                .localProjectDelta(delta.localProjectCount())
+                .githubProjectDelta(delta.githubProjectCount())
+                .questionDelta(delta.questionCount())
+                .patentDelta(delta.patentCount())
+                .projectParticipationDelta(delta.projectParticipationCount())
+                .questionParticipationDelta(delta.questionParticipationCount())
+                .patentParticipationDelta(delta.patentParticipationCount())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public StatisticsKey toKey() {
+        return new StatisticsKey(statisticsType, targetId, semesterId, fieldId, categoryId);
+    }
+
+    public StatisticsDelta toDelta() {
+        return new StatisticsDelta(
+                localProjectDelta,
+                githubProjectDelta,
+                questionDelta,
+                patentDelta,
+                projectParticipationDelta,
+                questionParticipationDelta,
+                patentParticipationDelta
+        );
+    }
+}
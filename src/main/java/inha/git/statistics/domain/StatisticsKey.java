@@ -0,0 +1,21 @@
+package inha.git.statistics.domain;
+
+import inha.git.statistics.domain.enums.StatisticsType;
+
+/**
+ * StatisticsKey는 statistics_tb 한 행을 식별하는 차원 조합을 나타냄.
+ *
+ * @param type       통계 타입
+ * @param targetId   대상 ID (TOTAL인 경우 null)
+ * @param semesterId 학기 ID
+ * @param fieldId    분야 ID
+ * @param categoryId 카테고리 ID
+ */
+public record StatisticsKey(
+        StatisticsType type,
+        Integer targetId,
+        Integer semesterId,
+        Integer fieldId,
+        Integer categoryId
+) {
+}
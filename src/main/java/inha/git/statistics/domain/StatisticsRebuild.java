@@ -0,0 +1,108 @@
+package inha.git.statistics.domain;
+
+import inha.git.statistics.domain.enums.RebuildPhase;
+import inha.git.statistics.domain.enums.RebuildStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * StatisticsRebuild 엔티티는 통계 재구축의 진행 상황(체크포인트)을 나타냄.
+ * 재구축은 항상 하나만 존재하므로 단일 행(ID 1)으로 관리한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Getter
+@Builder
+@Entity
+@Table(name = "statistics_rebuild_tb")
+public class StatisticsRebuild {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "statistics_rebuild_id")
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RebuildStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "phase", nullable = false, length = 30)
+    private RebuildPhase phase;
+
+    /**
+     * 현재 단계에서 마지막으로 반영한 사용자 ID. 모든 단계는 사용자 ID 구간 단위로 진행된다.
+     */
+    @Column(name = "last_id", nullable = false)
+    private Integer lastId;
+
+    /**
+     * 재구축 시작 시점의 최대 사용자 ID. 이후 가입한 사용자의 게시물은 원본에서 읽지 않고 저널로만 반영한다.
+     */
+    @Column(name = "max_user_id", nullable = false)
+    private Integer maxUserId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void checkpoint(Integer lastId) {
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance() {
+        this.phase = phase.next();
+        this.lastId = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void resume() {
+        this.status = RebuildStatus.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = RebuildStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = RebuildStatus.FAILED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재구축이 실행 중이고 임대가 아직 유효한지 확인한다.
+     * 실행 중인 노드는 윈도우마다 updatedAt을 갱신하므로, 그보다 오래 갱신이 없으면 노드가 죽은 것으로 본다.
+     *
+     * @param staleBefore 이 시각 이전에 갱신된 재구축은 만료된 것으로 본다
+     * @return 유효한 임대를 가진 실행 중 재구축이면 true
+     */
+    public boolean holdsLease(LocalDateTime staleBefore) {
+        return status == RebuildStatus.RUNNING && updatedAt.isAfter(staleBefore);
+    }
+
+    /**
+     * 해당 단계에서 이 사용자의 원본 데이터를 이미 섀도 테이블에 집계했는지 확인한다.
+     * 이미 집계한 사용자의 변화량은 섀도 테이블에도 더해야 하고, 아직 집계하지 않은 사용자의 변화량은 원본을 읽을 때 포함된다.
+     * 재구축 시작 후 가입한 사용자는 원본을 읽지 않으므로 항상 집계된 것으로 본다.
+     *
+     * @param sourcePhase 변화량이 속한 집계 단계
+     * @param userId      게시물 작성자 ID
+     * @return 이미 집계했으면 true
+     */
+    public boolean hasAggregated(RebuildPhase sourcePhase, Integer userId) {
+        if (userId > maxUserId) {
+            return true;
+        }
+        int compared = sourcePhase.compareTo(phase);
+        return compared < 0 || (compared == 0 && userId <= lastId);
+    }
+}
@@ -0,0 +1,9 @@
+package inha.git.statistics.domain.enums;
+
+public enum ExportJobStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
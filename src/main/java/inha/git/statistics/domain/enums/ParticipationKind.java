@@ -0,0 +1,8 @@
+package inha.git.statistics.domain.enums;
+
+public enum ParticipationKind {
+
+    PROJECT,
+    QUESTION,
+    PATENT
+}
@@ -0,0 +1,19 @@
+package inha.git.statistics.domain.enums;
+
+/**
+ * 통계 재구축 단계. 선언 순서대로 진행된다.
+ */
+public enum RebuildPhase {
+
+    PROJECT,
+    QUESTION,
+    PATENT,
+    PROJECT_PARTICIPATION,
+    QUESTION_PARTICIPATION,
+    PATENT_PARTICIPATION,
+    SWAP;
+
+    public RebuildPhase next() {
+        return values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,37 @@
+package inha.git.statistics.domain.id;
+
+import inha.git.statistics.domain.enums.ParticipationKind;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * ParticipationId는 Participation 엔티티의 복합키를 나타냄.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class ParticipationId implements Serializable {
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "semester_id")
+    private Integer semesterId;
+
+    @Column(name = "field_id")
+    private Integer fieldId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 20)
+    private ParticipationKind kind;
+}
@@ -0,0 +1,90 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.enums.ParticipationKind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * ParticipationJdbcRepository는 참여 카운터를 원자적으로 증감하고 재구축하는 레포지토리.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipationJdbcRepository {
+
+    private static final String INCREMENT_SQL = "INSERT INTO statistics_participation_tb " +
+            "(user_id, semester_id, field_id, kind, contribution_count) VALUES (?, ?, ?, ?, 1) " +
+            "ON CONFLICT (user_id, semester_id, field_id, kind) " +
+            "DO UPDATE SET contribution_count = statistics_participation_tb.contribution_count + 1 " +
+            "RETURNING contribution_count";
+
+    private static final String DECREMENT_SQL = "UPDATE statistics_participation_tb " +
+            "SET contribution_count = GREATEST(contribution_count - 1, 0) " +
+            "WHERE user_id = ? AND semester_id = ? AND field_id = ? AND kind = ? " +
+            "RETURNING contribution_count";
+
+    private static final String LOCK_SQL = "LOCK TABLE statistics_participation_tb IN EXCLUSIVE MODE";
+
+    private static final String CLEAR_SQL = "DELETE FROM statistics_participation_tb";
+
+    private static final String REBUILD_PROJECT_SQL = "INSERT INTO statistics_participation_tb " +
+            "(user_id, semester_id, field_id, kind, contribution_count) " +
+            "SELECT p.user_id, p.semester_id, pf.field_id, 'PROJECT', COUNT(*) " +
+            "FROM project_tb p JOIN project_field_tb pf ON pf.project_id = p.project_id " +
+            "WHERE p.state = 'ACTIVE' " +
+            "GROUP BY p.user_id, p.semester_id, pf.field_id";
+
+    private static final String REBUILD_QUESTION_SQL = "INSERT INTO statistics_participation_tb " +
+            "(user_id, semester_id, field_id, kind, contribution_count) " +
+            "SELECT q.user_id, q.semester_id, qf.field_id, 'QUESTION', COUNT(*) " +
+            "FROM question_tb q JOIN question_field_tb qf ON qf.question_id = q.question_id " +
+            "WHERE q.state = 'ACTIVE' " +
+            "GROUP BY q.user_id, q.semester_id, qf.field_id";
+
+    private static final String REBUILD_PATENT_SQL = "INSERT INTO statistics_participation_tb " +
+            "(user_id, semester_id, field_id, kind, contribution_count) " +
+            "SELECT p.user_id, p.semester_id, pf.field_id, 'PATENT', COUNT(*) " +
+            "FROM project_patent_tb pp " +
+            "JOIN project_tb p ON p.project_id = pp.project_id " +
+            "JOIN project_field_tb pf ON pf.project_id = p.project_id " +
+            "WHERE p.state = 'ACTIVE' " +
+            "GROUP BY p.user_id, p.semester_id, pf.field_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 참여 카운터를 1 증가시킨다.
+     *
+     * @return 증가 후 카운트
+     */
+    public int increment(Integer userId, Integer semesterId, Integer fieldId, ParticipationKind kind) {
+        Integer count = jdbcTemplate.queryForObject(INCREMENT_SQL, Integer.class, userId, semesterId, fieldId, kind.name());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 참여 카운터를 1 감소시킨다. 카운터가 없으면 0으로 간주한다.
+     *
+     * @return 감소 후 카운트
+     */
+    public int decrement(Integer userId, Integer semesterId, Integer fieldId, ParticipationKind kind) {
+        List<Integer> counts = jdbcTemplate.queryForList(DECREMENT_SQL, Integer.class, userId, semesterId, fieldId, kind.name());
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    /**
+     * 프로젝트·질문·특허 원본 데이터로부터 참여 카운터를 재구축한다.
+     * 재구축하는 동안 테이블을 잠가 동시에 들어오는 증감이 유실되지 않도록 한다.
+     */
+    @Transactional
+    public void rebuild() {
+        jdbcTemplate.execute(LOCK_SQL);
+        jdbcTemplate.update(CLEAR_SQL);
+        jdbcTemplate.update(REBUILD_PROJECT_SQL);
+        jdbcTemplate.update(REBUILD_QUESTION_SQL);
+        jdbcTemplate.update(REBUILD_PATENT_SQL);
+    }
+}
@@ -0,0 +1,11 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.Participation;
+import inha.git.statistics.domain.id.ParticipationId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * ParticipationJpaRepository는 Participation 엔티티에 대한 데이터 액세스 기능을 제공.
+ */
+public interface ParticipationJpaRepository extends JpaRepository<Participation, ParticipationId> {
+}
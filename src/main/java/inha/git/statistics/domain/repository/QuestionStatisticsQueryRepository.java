@@ -1,26 +1,20 @@
 package inha.git.statistics.domain.repository;
 
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import inha.git.admin.api.controller.dto.response.SearchDepartmentResponse;
 import inha.git.category.controller.dto.response.SearchCategoryResponse;
 import inha.git.college.controller.dto.response.SearchCollegeResponse;
+import inha.git.common.reference.ReferenceDataCache;
 import inha.git.field.api.controller.dto.response.SearchFieldResponse;
 import inha.git.semester.controller.dto.response.SearchSemesterResponse;
 import inha.git.statistics.api.controller.dto.request.SearchCond;
 import inha.git.statistics.api.controller.dto.response.QuestionStatisticsResponse;
-import inha.git.statistics.domain.enums.StatisticsType;
+import inha.git.statistics.domain.StatisticsDelta;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
-import static inha.git.category.domain.QCategory.category;
-import static inha.git.college.domain.QCollege.college;
-import static inha.git.department.domain.QDepartment.department;
-import static inha.git.field.domain.QField.field;
-import static inha.git.semester.domain.QSemester.semester;
-import static inha.git.statistics.domain.QStatistics.statistics;
+import static inha.git.common.reference.ReferenceType.*;
+
 
 /**
  * 질문 통계 조회 Repository
@@ -30,7 +24,8 @@ import static inha.git.statistics.domain.QStatistics.statistics;
 @RequiredArgsConstructor
 public class QuestionStatisticsQueryRepository {
 
-    private final JPAQueryFactory queryFactory;
+    private final StatisticsRollupCube statisticsRollupCube;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 질문 통계 조회
@@ -39,10 +34,8 @@ public class QuestionStatisticsQueryRepository {
      * @return QuestionStatisticsResponse
      */
     public QuestionStatisticsResponse getQuestionStatistics(SearchCond searchCond) {
-        // 전체 질문 수 계산
-        Integer questionCount = getQuestionCount(searchCond);
-        // 멘토링 참여 인원 수 계산
-        Integer userCount = getUserCount(searchCond);
+        // 전체 질문 수와 멘토링 참여 인원 수는 통계 큐브에서 조회
+        StatisticsDelta rollup = statisticsRollupCube.getRollup(searchCond);
 
         SearchCollegeResponse college = getCollege(searchCond.collegeIdx());
         SearchDepartmentResponse department = getDepartment(searchCond.departmentIdx());
@@ -56,108 +49,39 @@ public class QuestionStatisticsQueryRepository {
                 field,
                 semester,
                 category,
-                questionCount != null ? questionCount : 0,
-                userCount != null ? userCount : 0
+                rollup.questionCount(),
+                rollup.questionParticipationCount()
         );
     }
 
     // Entity 조회 메서드들은 그대로 유지
     private SearchDepartmentResponse getDepartment(Integer departmentIdx) {
-        if (departmentIdx == null) return null;
-        return queryFactory
-                .select(Projections.constructor(SearchDepartmentResponse.class,
-                        department.id,
-                        department.name))
-                .from(department)
-                .where(department.id.eq(departmentIdx))
-                .fetchOne();
+        return referenceDataCache.snapshot().find(DEPARTMENT, departmentIdx)
+                .map(item -> new SearchDepartmentResponse(item.id(), item.name()))
+                .orElse(null);
     }
 
     private SearchCollegeResponse getCollege(Integer collegeIdx) {
-        if (collegeIdx == null) return null;
-        return queryFactory
-                .select(Projections.constructor(SearchCollegeResponse.class,
-                        college.id,
-                        college.name))
-                .from(college)
-                .where(college.id.eq(collegeIdx))
-                .fetchOne();
+        return referenceDataCache.snapshot().find(COLLEGE, collegeIdx)
+                .map(item -> new SearchCollegeResponse(item.id(), item.name()))
+                .orElse(null);
     }
 
     private SearchFieldResponse getField(Integer fieldIdx) {
-        if (fieldIdx == null) return null;
-        return queryFactory
-                .select(Projections.constructor(SearchFieldResponse.class,
-                        field.id,
-                        field.name))
-                .from(field)
-                .where(field.id.eq(fieldIdx))
-                .fetchOne();
+        return referenceDataCache.snapshot().find(FIELD, fieldIdx)
+                .map(item -> new SearchFieldResponse(item.id(), item.name()))
+                .orElse(null);
     }
 
     private SearchSemesterResponse getSemester(Integer semesterIdx) {
-        if (semesterIdx == null) return null;
-        return queryFactory
-                .select(Projections.constructor(SearchSemesterResponse.class,
-                        semester.id,
-                        semester.name))
-                .from(semester)
-                .where(semester.id.eq(semesterIdx))
-                .fetchOne();
+        return referenceDataCache.snapshot().find(SEMESTER, semesterIdx)
+                .map(item -> new SearchSemesterResponse(item.id(), item.name()))
+                .orElse(null);
     }
 
     private SearchCategoryResponse getCategory(Integer categoryIdx) {
-        if (categoryIdx == null) return null;
-        return queryFactory
-                .select(Projections.constructor(SearchCategoryResponse.class,
-                        category.id,
-                        category.name))
-                .from(category)
-                .where(category.id.eq(categoryIdx))
-                .fetchOne();
-    }
-
-    private Integer getQuestionCount(SearchCond searchCond) {
-        return queryFactory
-                .select(statistics.questionCount.sum())
-                .from(statistics)
-                .where(createStatisticsCondition(searchCond))
-                .fetchOne();
-    }
-
-    private Integer getUserCount(SearchCond searchCond) {
-        return queryFactory
-                .select(statistics.questionParticipationCount.sum())
-                .from(statistics)
-                .where(createStatisticsCondition(searchCond))
-                .fetchOne();
-    }
-
-    private BooleanBuilder createStatisticsCondition(SearchCond searchCond) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // 1. StatisticsType 조건 설정
-        if (searchCond.departmentIdx() != null) {
-            builder.and(statistics.statisticsType.stringValue().eq(StatisticsType.DEPARTMENT.name()))
-                    .and(statistics.targetId.eq(searchCond.departmentIdx()));
-        } else if (searchCond.collegeIdx() != null) {
-            builder.and(statistics.statisticsType.stringValue().eq(StatisticsType.COLLEGE.name()))
-                    .and(statistics.targetId.eq(searchCond.collegeIdx()));
-        } else {
-            builder.and(statistics.statisticsType.stringValue().eq(StatisticsType.TOTAL.name()));
-        }
-
-        // 2. 차원 필터 조건 설정
-        if (searchCond.semesterIdx() != null) {
-            builder.and(statistics.semesterId.eq(searchCond.semesterIdx()));
-        }
-        if (searchCond.fieldIdx() != null) {
-            builder.and(statistics.fieldId.eq(searchCond.fieldIdx()));
-        }
-        if (searchCond.categoryIdx() != null) {
-            builder.and(statistics.categoryId.eq(searchCond.categoryIdx()));
-        }
-        // BooleanExpression으로 변환
-        return builder;
+        return referenceDataCache.snapshot().find(CATEGORY, categoryIdx)
+                .map(item -> new SearchCategoryResponse(item.id(), item.name()))
+                .orElse(null);
     }
 }
@@ -0,0 +1,300 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.StatisticsRebuild;
+import inha.git.statistics.domain.enums.RebuildPhase;
+import inha.git.statistics.domain.enums.RebuildStatus;
+import inha.git.statistics.domain.enums.StatisticsType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * StatisticsDeltaJdbcRepository는 누적된 통계 변화량을 statistics_tb에 일괄 반영하는 레포지토리.
+ * 통계 키 유일 인덱스를 기준으로 한 INSERT ... ON CONFLICT DO UPDATE SET x = x + ? 로 원자적으로 증감한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StatisticsDeltaJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // statistics_tb 한 행을 식별하는 키. TOTAL 통계는 target_id가 NULL이므로 -1로 바꿔 유일성을 검사한다.
+    static final String KEY_COLUMNS = "statistics_type, (COALESCE(target_id, -1)), semester_id, field_id, category_id";
+
+    private static final String KEY_INDEX_EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM pg_indexes " +
+            "WHERE schemaname = current_schema() AND tablename = ? " +
+            "AND indexdef LIKE 'CREATE UNIQUE INDEX %(statistics_type, COALESCE(target_id, %')";
+
+    private static final String KEY_INDEX_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('statistics_key_idx'))";
+
+    // 키 인덱스가 없던 동안 동시 INSERT로 생긴 중복 행을 가장 작은 ID의 행으로 합친다.
+    private static final String MERGE_DUPLICATES_SQL = "WITH ranked AS (" +
+            "SELECT statistics_id, MIN(statistics_id) OVER (" +
+            "PARTITION BY statistics_type, COALESCE(target_id, -1), semester_id, field_id, category_id) AS keep_id " +
+            "FROM statistics_tb), " +
+            "removed AS (DELETE FROM statistics_tb s USING ranked r " +
+            "WHERE s.statistics_id = r.statistics_id AND r.statistics_id <> r.keep_id " +
+            "RETURNING r.keep_id, s.local_project_count, s.github_project_count, s.question_count, s.patent_count, " +
+            "s.project_participation_count, s.question_participation_count, s.patent_participation_count) " +
+            "UPDATE statistics_tb t SET " +
+            "local_project_count = t.local_project_count + m.local_project_count, " +
+            "github_project_count = t.github_project_count + m.github_project_count, " +
+            "question_count = t.question_count + m.question_count, " +
+            "patent_count = t.patent_count + m.patent_count, " +
+            "project_participation_count = t.project_participation_count + m.project_participation_count, " +
+            "question_participation_count = t.question_participation_count + m.question_participation_count, " +
+            "patent_participation_count = t.patent_participation_count + m.patent_participation_count " +
+            "FROM (SELECT keep_id, SUM(local_project_count) AS local_project_count, " +
+            "SUM(github_project_count) AS github_project_count, SUM(question_count) AS question_count, " +
+            "SUM(patent_count) AS patent_count, SUM(project_participation_count) AS project_participation_count, " +
+            "SUM(question_participation_count) AS question_participation_count, " +
+            "SUM(patent_participation_count) AS patent_participation_count " +
+            "FROM removed GROUP BY keep_id) m " +
+            "WHERE t.statistics_id = m.keep_id";
+
+    private static final String CREATE_KEY_INDEX_SQL =
+            "CREATE UNIQUE INDEX IF NOT EXISTS statistics_key_idx ON statistics_tb (" + KEY_COLUMNS + ")";
+
+    // 새 키는 0 미만이 되지 않게 넣고, 기존 키는 같은 변화량을 한 문장 안에서 원자적으로 더한다.
+    // EXCLUDED 값은 이미 0으로 보정되었으므로 감소분을 잃지 않도록 변화량을 다시 바인딩한다.
+    private static final String UPSERT_TEMPLATE = "INSERT INTO %s AS t (" +
+            "local_project_count, github_project_count, question_count, patent_count, " +
+            "project_participation_count, question_participation_count, patent_participation_count, " +
+            "statistics_type, target_id, semester_id, field_id, category_id) " +
+            "VALUES (GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), " +
+            "GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (" + KEY_COLUMNS + ") DO UPDATE SET " +
+            "local_project_count = GREATEST(t.local_project_count + ?, 0), " +
+            "github_project_count = GREATEST(t.github_project_count + ?, 0), " +
+            "question_count = GREATEST(t.question_count + ?, 0), " +
+            "patent_count = GREATEST(t.patent_count + ?, 0), " +
+            "project_participation_count = GREATEST(t.project_participation_count + ?, 0), " +
+            "question_participation_count = GREATEST(t.question_participation_count + ?, 0), " +
+            "patent_participation_count = GREATEST(t.patent_participation_count + ?, 0)";
+
+    private static final String UPSERT_SQL = UPSERT_TEMPLATE.formatted("statistics_tb");
+
+    private static final String UPSERT_SHADOW_SQL = UPSERT_TEMPLATE.formatted("statistics_shadow_tb");
+
+    private static final String SHADOW_EXISTS_SQL = "SELECT to_regclass('statistics_shadow_tb') IS NOT NULL";
+
+    // 노드마다 같은 순서로 행을 잠그도록 키 순서로 정렬해 반영한다.
+    private static final Comparator<StatisticsKey> KEY_ORDER = Comparator
+            .comparing(StatisticsKey::type)
+            .thenComparing(StatisticsKey::targetId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(StatisticsKey::semesterId)
+            .thenComparing(StatisticsKey::fieldId)
+            .thenComparing(StatisticsKey::categoryId);
+
+    private static final String CLAIM_JOURNAL_SQL = "DELETE FROM statistics_journal_tb " +
+            "WHERE statistics_journal_id = ANY(?) " +
+            "RETURNING user_id, statistics_type, target_id, semester_id, field_id, category_id, " +
+            "local_project_delta, github_project_delta, question_delta, patent_delta, " +
+            "project_participation_delta, question_participation_delta, patent_participation_delta";
+
+    private static final String REBUILD_SHARED_LOCK_SQL =
+            "SELECT pg_advisory_xact_lock_shared(" + StatisticsRebuildJdbcRepository.REBUILD_LOCK_KEY + ")";
+
+    private static final String FIND_REBUILD_SQL = "SELECT status, phase, last_id, max_user_id, started_at, updated_at " +
+            "FROM statistics_rebuild_tb WHERE statistics_rebuild_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * statistics_tb에 통계 키 유일 인덱스를 만든다. 변화량 반영이 시작되기 전에 실행된다.
+     * 인덱스가 없던 동안 생긴 중복 행은 먼저 하나로 합치며, 합친 값은 근사치이므로 통계 재구축으로 바로잡는다.
+     * 여러 노드가 동시에 기동해도 한 노드만 실행하도록 advisory lock을 잡는다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void createKeyIndex() {
+        jdbcTemplate.execute(KEY_INDEX_LOCK_SQL);
+        if (hasKeyIndex(jdbcTemplate, "statistics_tb")) {
+            return;
+        }
+        int merged = jdbcTemplate.update(MERGE_DUPLICATES_SQL);
+        if (merged > 0) {
+            log.warn("중복된 통계 행을 합침 - 키 수: {}, 정확한 값은 통계 재구축으로 복구하세요.", merged);
+        }
+        jdbcTemplate.execute(CREATE_KEY_INDEX_SQL);
+        log.info("통계 키 유일 인덱스 생성 완료");
+    }
+
+    /**
+     * 테이블에 통계 키 유일 인덱스가 있는지 확인한다. 인덱스 이름은 테이블 교체 과정에서 바뀔 수 있으므로 정의로 찾는다.
+     */
+    static boolean hasKeyIndex(JdbcTemplate jdbcTemplate, String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(KEY_INDEX_EXISTS_SQL, Boolean.class, table));
+    }
+
+    /**
+     * 저널을 선점(삭제)하고 그 변화량을 반영한다.
+     * 모든 저널을 선점하면 메모리에서 합산된 변화량을 그대로 반영하고,
+     * 일부가 이미 다른 노드나 재구축 과정에서 처리되었다면 실제로 선점한 저널의 변화량만 반영한다.
+     *
+     * <p>재구축 진행 위치는 공유 잠금을 잡은 뒤 다시 읽는다. 그 사이 다른 노드가 재구축을 선점했으면 반영하지 않는다.
+     * 끝나지 않은 재구축이 있으면 이미 원본을 집계한 사용자 구간의 저널 변화량을 섀도 테이블에도 더한다.
+     * 아직 집계하지 않은 구간의 변화량은 원본을 읽을 때 포함되므로 더하지 않는다.</p>
+     *
+     * @param deltas      키별 누적 변화량
+     * @param journalIds  반영할 저널 ID 목록
+     * @param staleBefore 이 시각 이전에 갱신된 재구축은 임대가 만료된 것으로 본다
+     * @return 실제로 반영한 키별 변화량, 임대가 유효한 재구축이 실행 중이면 빈 값
+     */
+    @Transactional
+    public Optional<Map<StatisticsKey, StatisticsDelta>> applyDeltas(Map<StatisticsKey, StatisticsDelta> deltas,
+                                                                     List<Long> journalIds, LocalDateTime staleBefore) {
+        jdbcTemplate.execute(REBUILD_SHARED_LOCK_SQL);
+        StatisticsRebuild rebuild = findRebuild();
+        if (rebuild != null && rebuild.holdsLease(staleBefore)) {
+            return Optional.empty();
+        }
+        StatisticsRebuild unfinished = rebuild != null && rebuild.getStatus() != RebuildStatus.COMPLETED ? rebuild : null;
+        Map<StatisticsKey, StatisticsDelta> claimed = new HashMap<>();
+        Map<StatisticsKey, StatisticsDelta> aggregated = new HashMap<>();
+        int claimedCount = claimJournals(journalIds, unfinished, claimed, aggregated);
+        Map<StatisticsKey, StatisticsDelta> applied = deltas;
+        if (claimedCount != journalIds.size()) {
+            log.warn("일부 통계 저널이 이미 처리됨 - 요청: {}, 선점: {}", journalIds.size(), claimedCount);
+            applied = claimed;
+        }
+        upsert(UPSERT_SQL, applied);
+        if (!aggregated.isEmpty() && Boolean.TRUE.equals(jdbcTemplate.queryForObject(SHADOW_EXISTS_SQL, Boolean.class))) {
+            upsert(UPSERT_SHADOW_SQL, aggregated);
+        }
+        return Optional.of(applied);
+    }
+
+    /**
+     * 변화량을 테이블에 반영한다.
+     * 키마다 INSERT ... ON CONFLICT DO UPDATE 한 문장으로 처리하므로, 여러 노드가 같은 새 키를 동시에 반영해도 행이 하나만 생긴다.
+     *
+     * @param sql    대상 테이블의 UPSERT 문
+     * @param deltas 키별 변화량
+     */
+    private void upsert(String sql, Map<StatisticsKey, StatisticsDelta> deltas) {
+        List<Map.Entry<StatisticsKey, StatisticsDelta>> entries = deltas.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .toList();
+        if (!entries.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, entries, BATCH_SIZE,
+                    (ps, entry) -> bind(ps, entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private int claimJournals(List<Long> journalIds, StatisticsRebuild unfinished,
+                              Map<StatisticsKey, StatisticsDelta> claimed, Map<StatisticsKey, StatisticsDelta> aggregated) {
+        int claimedCount = 0;
+        for (int from = 0; from < journalIds.size(); from += BATCH_SIZE) {
+            Long[] chunk = journalIds.subList(from, Math.min(from + BATCH_SIZE, journalIds.size())).toArray(Long[]::new);
+            List<ClaimedJournal> rows = jdbcTemplate.query(CLAIM_JOURNAL_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", chunk)),
+                    (rs, rowNum) -> new ClaimedJournal(rs.getObject("user_id", Integer.class), toKey(rs), toDelta(rs)));
+            for (ClaimedJournal row : rows) {
+                claimed.merge(row.key(), row.delta(), StatisticsDelta::plus);
+                if (unfinished != null && row.userId() != null) {
+                    StatisticsDelta shadowDelta = shadowDelta(unfinished, row);
+                    if (!shadowDelta.isEmpty()) {
+                        aggregated.merge(row.key(), shadowDelta, StatisticsDelta::plus);
+                    }
+                }
+            }
+            claimedCount += rows.size();
+        }
+        return claimedCount;
+    }
+
+    /**
+     * 저널 변화량 중 재구축이 이미 원본을 집계한 단계의 몫만 남긴다.
+     */
+    private StatisticsDelta shadowDelta(StatisticsRebuild unfinished, ClaimedJournal row) {
+        StatisticsDelta shadowDelta = StatisticsDelta.EMPTY;
+        for (RebuildPhase phase : RebuildPhase.values()) {
+            if (phase != RebuildPhase.SWAP && unfinished.hasAggregated(phase, row.userId())) {
+                shadowDelta = shadowDelta.plus(row.delta().forPhase(phase));
+            }
+        }
+        return shadowDelta;
+    }
+
+    private StatisticsRebuild findRebuild() {
+        return jdbcTemplate.query(FIND_REBUILD_SQL, rs -> rs.next()
+                ? StatisticsRebuild.builder()
+                        .id(StatisticsRebuild.SINGLETON_ID)
+                        .status(RebuildStatus.valueOf(rs.getString("status")))
+                        .phase(RebuildPhase.valueOf(rs.getString("phase")))
+                        .lastId(rs.getInt("last_id"))
+                        .maxUserId(rs.getInt("max_user_id"))
+                        .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+                        .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                        .build()
+                : null, StatisticsRebuild.SINGLETON_ID);
+    }
+
+    static StatisticsKey toKey(ResultSet rs) throws SQLException {
+        return new StatisticsKey(
+                StatisticsType.valueOf(rs.getString("statistics_type")),
+                rs.getObject("target_id", Integer.class),
+                rs.getInt("semester_id"),
+                rs.getInt("field_id"),
+                rs.getInt("category_id"));
+    }
+
+    static StatisticsDelta toDelta(ResultSet rs) throws SQLException {
+        return new StatisticsDelta(
+                rs.getInt("local_project_delta"),
+                rs.getInt("github_project_delta"),
+                rs.getInt("question_delta"),
+                rs.getInt("patent_delta"),
+                rs.getInt("project_participation_delta"),
+                rs.getInt("question_participation_delta"),
+                rs.getInt("patent_participation_delta"));
+    }
+
+    private void bind(PreparedStatement ps, StatisticsKey key, StatisticsDelta delta) throws SQLException {
+        ps.setInt(1, delta.localProjectCount());
+        ps.setInt(2, delta.githubProjectCount());
+        ps.setInt(3, delta.questionCount());
+        ps.setInt(4, delta.patentCount());
+        ps.setInt(5, delta.projectParticipationCount());
+        ps.setInt(6, delta.questionParticipationCount());
+        ps.setInt(7, delta.patentParticipationCount());
+        ps.setString(8, key.type().name());
+        ps.setObject(9, key.targetId(), Types.INTEGER);
+        ps.setInt(10, key.semesterId());
+        ps.setInt(11, key.fieldId());
+        ps.setInt(12, key.categoryId());
+        ps.setInt(13, delta.localProjectCount());
+        ps.setInt(14, delta.githubProjectCount());
+        ps.setInt(15, delta.questionCount());
+        ps.setInt(16, delta.patentCount());
+        ps.setInt(17, delta.projectParticipationCount());
+        ps.setInt(18, delta.questionParticipationCount());
+        ps.setInt(19, delta.patentParticipationCount());
+    }
+
+    private record ClaimedJournal(Integer userId, StatisticsKey key, StatisticsDelta delta) {
+    }
+}
@@ -0,0 +1,229 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.enums.StatisticsType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * StatisticsExcelJdbcRepository는 엑셀 내보내기에 필요한 행을 DTO로 조회하는 레포지토리.
+ * 엑셀 정렬 순서(단과대·학과·학번)는 소속 학과를 조인해야 알 수 있어 키셋으로 자를 수 없으므로,
+ * 전체 정렬을 건 쿼리 하나를 서버 커서로 열어 fetchSize만큼씩 받아 오며 행을 넘긴다.
+ * 따라서 결과 전체를 한 번에 메모리에 올리지 않으면서도 파일 전체가 한 가지 순서로 정렬된다.
+ * 단과대·학과는 사용자의 첫 번째 소속 학과 기준이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsExcelJdbcRepository {
+
+    private static final String FIRST_AFFILIATION =
+            "SELECT d.department_id, d.name AS department_name, c.college_id, c.name AS college_name " +
+            "FROM user_department_tb x " +
+            "JOIN department_tb d ON d.department_id = x.department_id " +
+            "JOIN college_tb c ON c.college_id = d.college_id " +
+            "WHERE x.user_id = u.user_id ORDER BY d.department_id LIMIT 1";
+
+    private static final String PROJECT_SQL =
+            "SELECT p.project_id, p.title, p.repo_name, p.created_at, " +
+            "u.user_number, u.name AS user_name, s.name AS semester_name, cat.name AS category_name, " +
+            "ud.college_id, ud.college_name, ud.department_id, ud.department_name, " +
+            "(SELECT string_agg(f.name, ', ' ORDER BY f.field_id) FROM project_field_tb pf " +
+            " JOIN field_tb f ON f.field_id = pf.field_id WHERE pf.project_id = p.project_id) AS field_names " +
+            "FROM project_tb p " +
+            "JOIN user_tb u ON u.user_id = p.user_id " +
+            "JOIN semester_tb s ON s.semester_id = p.semester_id " +
+            "JOIN category_tb cat ON cat.category_id = p.category_id " +
+            "JOIN LATERAL (" + FIRST_AFFILIATION + ") ud ON TRUE " +
+            "WHERE p.state = 'ACTIVE' %s" +
+            "ORDER BY ud.college_id, ud.department_id, COALESCE(u.user_number, ''), p.project_id";
+
+    private static final String PATENT_SQL =
+            "SELECT pp.project_patent_id, pp.patent_type, pp.registration_date AS invention_title, " +
+            "pp.application_number, pp.applicant_name, pp.application_date, pp.project_id, " +
+            "u.user_number, u.name AS user_name, ud.college_name, ud.department_name, " +
+            "(SELECT string_agg(DISTINCT i.name, ', ') FROM project_patent_inventor_tb i " +
+            " WHERE i.project_patent_id = pp.project_patent_id) AS inventor_names, " +
+            "(SELECT string_agg(DISTINCT i.affiliation, ', ') FROM project_patent_inventor_tb i " +
+            " WHERE i.project_patent_id = pp.project_patent_id) AS inventor_affiliations " +
+            "FROM project_patent_tb pp " +
+            "JOIN project_tb p ON p.project_id = pp.project_id " +
+            "JOIN user_tb u ON u.user_id = p.user_id " +
+            "LEFT JOIN LATERAL (" + FIRST_AFFILIATION + ") ud ON TRUE " +
+            "WHERE pp.accept_at IS NOT NULL AND p.state = 'ACTIVE' %s" +
+            "ORDER BY pp.patent_type, COALESCE(u.user_number, ''), pp.project_patent_id";
+
+    private static final String QUESTION_SQL =
+            "SELECT q.question_id, q.title, q.created_at, " +
+            "u.user_number, u.name AS user_name, s.name AS semester_name, cat.name AS category_name, " +
+            "ud.college_name, ud.department_name, " +
+            "(SELECT string_agg(f.name, ', ' ORDER BY f.field_id) FROM question_field_tb qf " +
+            " JOIN field_tb f ON f.field_id = qf.field_id WHERE qf.question_id = q.question_id) AS field_names " +
+            "FROM question_tb q " +
+            "JOIN user_tb u ON u.user_id = q.user_id " +
+            "JOIN semester_tb s ON s.semester_id = q.semester_id " +
+            "JOIN category_tb cat ON cat.category_id = q.category_id " +
+            "JOIN LATERAL (" + FIRST_AFFILIATION + ") ud ON TRUE " +
+            "WHERE q.state = 'ACTIVE' " +
+            "AND EXISTS (SELECT 1 FROM question_field_tb qf WHERE qf.question_id = q.question_id) %s" +
+            "ORDER BY COALESCE(u.user_number, ''), q.question_id";
+
+    @Value("${statistics.excel.fetch-size:1000}")
+    private int fetchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ProjectRow(Integer projectId, String title, String repoName, LocalDateTime createdAt,
+                             String userNumber, String userName, String semesterName, String categoryName,
+                             Integer collegeId, String collegeName, Integer departmentId, String departmentName,
+                             String fieldNames) {
+    }
+
+    public record PatentRow(Integer patentId, String patentType, String inventionTitle,
+                            String applicationNumber, String applicantName, String applicationDate, Integer projectId,
+                            String userNumber, String userName, String collegeName, String departmentName,
+                            String inventorNames, String inventorAffiliations) {
+    }
+
+    public record QuestionRow(Integer questionId, String title, LocalDateTime createdAt,
+                              String userNumber, String userName, String semesterName, String categoryName,
+                              String collegeName, String departmentName, String fieldNames) {
+    }
+
+    /**
+     * 프로젝트를 단과대, 학과, 학번 순으로 조회해 한 행씩 넘긴다.
+     * 서버 커서는 트랜잭션 안에서만 열리므로 읽기 전용 트랜잭션으로 감싼다.
+     *
+     * @param type       통계 타입
+     * @param filterId   단과대/학과/사용자 ID
+     * @param semesterId 학기 ID
+     * @param consumer   행을 받을 함수
+     */
+    @Transactional(readOnly = true)
+    public void streamProjectRows(StatisticsType type, Integer filterId, Integer semesterId,
+                                  Consumer<ProjectRow> consumer) {
+        StringBuilder filter = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        appendFilter(filter, args, "p", type, filterId, semesterId);
+        stream(PROJECT_SQL.formatted(filter), args, rs -> consumer.accept(new ProjectRow(
+                rs.getInt("project_id"),
+                rs.getString("title"),
+                rs.getString("repo_name"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getString("user_number"),
+                rs.getString("user_name"),
+                rs.getString("semester_name"),
+                rs.getString("category_name"),
+                rs.getInt("college_id"),
+                rs.getString("college_name"),
+                rs.getInt("department_id"),
+                rs.getString("department_name"),
+                rs.getString("field_names"))));
+    }
+
+    /**
+     * 승인된 특허를 특허 종류, 학번 순으로 조회해 한 행씩 넘긴다.
+     *
+     * @param type       통계 타입
+     * @param filterId   단과대/학과/사용자 ID
+     * @param semesterId 학기 ID
+     * @param consumer   행을 받을 함수
+     */
+    @Transactional(readOnly = true)
+    public void streamPatentRows(StatisticsType type, Integer filterId, Integer semesterId,
+                                 Consumer<PatentRow> consumer) {
+        StringBuilder filter = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        appendFilter(filter, args, "p", type, filterId, semesterId);
+        stream(PATENT_SQL.formatted(filter), args, rs -> consumer.accept(new PatentRow(
+                rs.getInt("project_patent_id"),
+                rs.getString("patent_type"),
+                rs.getString("invention_title"),
+                rs.getString("application_number"),
+                rs.getString("applicant_name"),
+                rs.getString("application_date"),
+                rs.getInt("project_id"),
+                rs.getString("user_number"),
+                rs.getString("user_name"),
+                rs.getString("college_name"),
+                rs.getString("department_name"),
+                rs.getString("inventor_names"),
+                rs.getString("inventor_affiliations"))));
+    }
+
+    /**
+     * 질문을 학번 순으로 조회해 한 행씩 넘긴다.
+     *
+     * @param type       통계 타입
+     * @param filterId   단과대/학과/사용자 ID
+     * @param semesterId 학기 ID
+     * @param consumer   행을 받을 함수
+     */
+    @Transactional(readOnly = true)
+    public void streamQuestionRows(StatisticsType type, Integer filterId, Integer semesterId,
+                                   Consumer<QuestionRow> consumer) {
+        StringBuilder filter = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        appendFilter(filter, args, "q", type, filterId, semesterId);
+        stream(QUESTION_SQL.formatted(filter), args, rs -> consumer.accept(new QuestionRow(
+                rs.getInt("question_id"),
+                rs.getString("title"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getString("user_number"),
+                rs.getString("user_name"),
+                rs.getString("semester_name"),
+                rs.getString("category_name"),
+                rs.getString("college_name"),
+                rs.getString("department_name"),
+                rs.getString("field_names"))));
+    }
+
+    /**
+     * 전진 전용 커서로 쿼리를 실행한다. PostgreSQL 드라이버는 자동 커밋이 꺼진 상태에서
+     * fetchSize가 있으면 결과를 한꺼번에 받지 않고 fetchSize만큼씩 받아 온다.
+     */
+    private void stream(String sql, List<Object> args, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * 통계 타입별 필터와 학기 조건을 쿼리에 추가한다.
+     * 단과대·학과 필터는 사용자의 소속 학과 중 하나라도 일치하면 포함한다.
+     */
+    private void appendFilter(StringBuilder sql, List<Object> args, String alias,
+                              StatisticsType type, Integer filterId, Integer semesterId) {
+        switch (type) {
+            case COLLEGE -> sql.append("AND EXISTS (SELECT 1 FROM user_department_tb x ")
+                    .append("JOIN department_tb d ON d.department_id = x.department_id ")
+                    .append("WHERE x.user_id = ").append(alias).append(".user_id AND d.college_id = ?) ");
+            case DEPARTMENT -> sql.append("AND EXISTS (SELECT 1 FROM user_department_tb x ")
+                    .append("WHERE x.user_id = ").append(alias).append(".user_id AND x.department_id = ?) ");
+            case USER -> sql.append("AND ").append(alias).append(".user_id = ? ");
+            case TOTAL -> { }
+        }
+        if (type != StatisticsType.TOTAL) {
+            args.add(filterId);
+        }
+        if (semesterId != null) {
+            sql.append("AND ").append(alias).append(".semester_id = ? ");
+            args.add(semesterId);
+        }
+    }
+}
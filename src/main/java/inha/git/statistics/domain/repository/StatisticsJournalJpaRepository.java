@@ -0,0 +1,16 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.StatisticsJournal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * StatisticsJournalJpaRepository는 StatisticsJournal 엔티티에 대한 데이터 액세스 기능을 제공.
+ */
+public interface StatisticsJournalJpaRepository extends JpaRepository<StatisticsJournal, Long> {
+
+    List<StatisticsJournal> findByCreatedAtBeforeAndIdGreaterThanOrderById(LocalDateTime createdAt, Long id, Pageable pageable);
+}
@@ -0,0 +1,264 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.enums.RebuildPhase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * StatisticsRebuildJdbcRepository는 통계 재구축을 위한 원본 데이터 조회와 섀도 테이블 쓰기를 담당하는 레포지토리.
+ * 엔티티 그래프를 로딩하지 않고 집계에 필요한 컬럼만 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRebuildJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 모든 단계는 사용자 ID 구간 단위로 읽으므로, 한 사용자의 게시물은 항상 같은 윈도우에서 집계된다.
+    private static final String PROJECT_ROWS_SQL = "SELECT p.user_id, p.semester_id, p.category_id, " +
+            "pf.field_id, p.repo_name IS NOT NULL AS github " +
+            "FROM project_tb p LEFT JOIN project_field_tb pf ON pf.project_id = p.project_id " +
+            "WHERE p.state = 'ACTIVE' AND p.user_id > ? AND p.user_id <= ?";
+
+    private static final String QUESTION_ROWS_SQL = "SELECT q.user_id, q.semester_id, q.category_id, " +
+            "qf.field_id, FALSE AS github " +
+            "FROM question_tb q LEFT JOIN question_field_tb qf ON qf.question_id = q.question_id " +
+            "WHERE q.state = 'ACTIVE' AND q.user_id > ? AND q.user_id <= ?";
+
+    private static final String PATENT_ROWS_SQL = "SELECT p.user_id, p.semester_id, p.category_id, " +
+            "pf.field_id, FALSE AS github " +
+            "FROM project_patent_tb pp " +
+            "JOIN project_tb p ON p.project_id = pp.project_id " +
+            "LEFT JOIN project_field_tb pf ON pf.project_id = p.project_id " +
+            "WHERE p.state = 'ACTIVE' AND p.user_id > ? AND p.user_id <= ?";
+
+    // 사용자·학기·분야별 첫 게시물(가장 작은 ID)의 카테고리에 참여자 수를 귀속시킨다.
+    private static final String PROJECT_PARTICIPATION_SQL = "SELECT DISTINCT ON (p.user_id, p.semester_id, pf.field_id) " +
+            "p.user_id, p.semester_id, p.category_id, pf.field_id, FALSE AS github " +
+            "FROM project_tb p JOIN project_field_tb pf ON pf.project_id = p.project_id " +
+            "WHERE p.state = 'ACTIVE' AND p.user_id > ? AND p.user_id <= ? " +
+            "ORDER BY p.user_id, p.semester_id, pf.field_id, p.project_id";
+
+    private static final String QUESTION_PARTICIPATION_SQL = "SELECT DISTINCT ON (q.user_id, q.semester_id, qf.field_id) " +
+            "q.user_id, q.semester_id, q.category_id, qf.field_id, FALSE AS github " +
+            "FROM question_tb q JOIN question_field_tb qf ON qf.question_id = q.question_id " +
+            "WHERE q.state = 'ACTIVE' AND q.user_id > ? AND q.user_id <= ? " +
+            "ORDER BY q.user_id, q.semester_id, qf.field_id, q.question_id";
+
+    private static final String PATENT_PARTICIPATION_SQL = "SELECT DISTINCT ON (p.user_id, p.semester_id, pf.field_id) " +
+            "p.user_id, p.semester_id, p.category_id, pf.field_id, FALSE AS github " +
+            "FROM project_patent_tb pp " +
+            "JOIN project_tb p ON p.project_id = pp.project_id " +
+            "JOIN project_field_tb pf ON pf.project_id = p.project_id " +
+            "WHERE p.state = 'ACTIVE' AND p.user_id > ? AND p.user_id <= ? " +
+            "ORDER BY p.user_id, p.semester_id, pf.field_id, pp.project_patent_id";
+
+    // 아직 statistics_tb에 반영되지 않은 저널. 같은 스냅샷에서 읽은 원본에는 이미 포함되어 있다.
+    private static final String PENDING_JOURNAL_SQL = "SELECT statistics_type, target_id, semester_id, field_id, category_id, " +
+            "local_project_delta, github_project_delta, question_delta, patent_delta, " +
+            "project_participation_delta, question_participation_delta, patent_participation_delta " +
+            "FROM statistics_journal_tb WHERE user_id > ? AND user_id <= ?";
+
+    private static final String AFFILIATION_SQL = "SELECT ud.user_id, d.department_id, d.college_id " +
+            "FROM user_department_tb ud JOIN department_tb d ON d.department_id = ud.department_id " +
+            "WHERE ud.user_id = ANY(?)";
+
+    private static final String DROP_SHADOW_SQL = "DROP TABLE IF EXISTS statistics_shadow_tb";
+
+    // statistics_id는 IDENTITY 컬럼이므로 INCLUDING ALL로 섀도 테이블 전용 시퀀스가 함께 생성된다.
+    private static final String CREATE_SHADOW_SQL = "CREATE TABLE IF NOT EXISTS statistics_shadow_tb (LIKE statistics_tb INCLUDING ALL)";
+
+    private static final String CREATE_SHADOW_KEY_SQL = "CREATE UNIQUE INDEX IF NOT EXISTS statistics_shadow_key_idx " +
+            "ON statistics_shadow_tb (" + StatisticsDeltaJdbcRepository.KEY_COLUMNS + ")";
+
+    private static final String UPSERT_SHADOW_SQL = "INSERT INTO statistics_shadow_tb (" +
+            "local_project_count, github_project_count, question_count, patent_count, " +
+            "project_participation_count, question_participation_count, patent_participation_count, " +
+            "statistics_type, target_id, semester_id, field_id, category_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (" + StatisticsDeltaJdbcRepository.KEY_COLUMNS + ") DO UPDATE SET " +
+            "local_project_count = statistics_shadow_tb.local_project_count + EXCLUDED.local_project_count, " +
+            "github_project_count = statistics_shadow_tb.github_project_count + EXCLUDED.github_project_count, " +
+            "question_count = statistics_shadow_tb.question_count + EXCLUDED.question_count, " +
+            "patent_count = statistics_shadow_tb.patent_count + EXCLUDED.patent_count, " +
+            "project_participation_count = statistics_shadow_tb.project_participation_count + EXCLUDED.project_participation_count, " +
+            "question_participation_count = statistics_shadow_tb.question_participation_count + EXCLUDED.question_participation_count, " +
+            "patent_participation_count = statistics_shadow_tb.patent_participation_count + EXCLUDED.patent_participation_count";
+
+    private static final String[] SWAP_SQL = {
+            "LOCK TABLE statistics_tb IN ACCESS EXCLUSIVE MODE",
+            "ALTER TABLE statistics_tb RENAME TO statistics_retired_tb",
+            "ALTER TABLE statistics_shadow_tb RENAME TO statistics_tb",
+            "DROP TABLE statistics_retired_tb"
+    };
+
+    // 재구축 진행 위치를 바꾸는 쪽은 배타적으로, 진행 위치를 보고 저널을 반영하는 쪽은 공유로 잡는다.
+    static final String REBUILD_LOCK_KEY = "hashtext('statistics_rebuild')";
+
+    private static final String REBUILD_LOCK_SQL = "SELECT pg_advisory_xact_lock(" + REBUILD_LOCK_KEY + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재구축 대상이 되는 원본 행 한 건.
+     *
+     * @param fieldId 분야 ID (분야가 없는 게시물이면 null)
+     * @param delta   이 행이 더하는 변화량
+     */
+    public record SourceRow(
+            int userId,
+            int semesterId,
+            int categoryId,
+            Integer fieldId,
+            StatisticsDelta delta
+    ) {
+    }
+
+    /**
+     * 사용자의 소속 학과/단과대.
+     */
+    public record Affiliation(int departmentId, int collegeId) {
+    }
+
+    public int findMaxUserId() {
+        Integer max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(user_id), 0) FROM user_tb", Integer.class);
+        return max != null ? max : 0;
+    }
+
+    /**
+     * 재구축 진행 위치를 바꾸기 전에 잡는 트랜잭션 범위의 배타 잠금.
+     * 저널 반영은 같은 키로 공유 잠금을 잡고 진행 위치를 읽으므로, 진행 위치가 바뀌는 도중의 위치로 섀도 반영 여부를 판단하지 않는다.
+     */
+    public void lockRebuild() {
+        jdbcTemplate.execute(REBUILD_LOCK_SQL);
+    }
+
+    /**
+     * 단계의 원본 행을 사용자 ID 구간으로 조회한다.
+     *
+     * @param phase       집계 단계
+     * @param afterUserId 구간 시작(제외)
+     * @param toUserId    구간 끝(포함)
+     */
+    public List<SourceRow> findSourceRows(RebuildPhase phase, int afterUserId, int toUserId) {
+        String sql = switch (phase) {
+            case PROJECT -> PROJECT_ROWS_SQL;
+            case QUESTION -> QUESTION_ROWS_SQL;
+            case PATENT -> PATENT_ROWS_SQL;
+            case PROJECT_PARTICIPATION -> PROJECT_PARTICIPATION_SQL;
+            case QUESTION_PARTICIPATION -> QUESTION_PARTICIPATION_SQL;
+            case PATENT_PARTICIPATION -> PATENT_PARTICIPATION_SQL;
+            case SWAP -> throw new IllegalArgumentException("Not a source phase: " + phase);
+        };
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toSourceRow(rs, phase), afterUserId, toUserId);
+    }
+
+    /**
+     * 사용자 ID 구간의 미반영 저널을 키별로 합산한다.
+     *
+     * @param afterUserId 구간 시작(제외)
+     * @param toUserId    구간 끝(포함)
+     */
+    public Map<StatisticsKey, StatisticsDelta> findPendingJournals(int afterUserId, int toUserId) {
+        Map<StatisticsKey, StatisticsDelta> pending = new HashMap<>();
+        jdbcTemplate.query(PENDING_JOURNAL_SQL, rs -> {
+            pending.merge(StatisticsDeltaJdbcRepository.toKey(rs), StatisticsDeltaJdbcRepository.toDelta(rs), StatisticsDelta::plus);
+        }, afterUserId, toUserId);
+        return pending;
+    }
+
+    /**
+     * 여러 사용자의 소속 학과/단과대를 한 번에 조회한다.
+     */
+    public Map<Integer, List<Affiliation>> findAffiliations(Collection<Integer> userIds) {
+        Map<Integer, List<Affiliation>> affiliations = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return affiliations;
+        }
+        Integer[] ids = userIds.toArray(Integer[]::new);
+        jdbcTemplate.query(AFFILIATION_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("integer", ids)),
+                rs -> {
+                    affiliations.computeIfAbsent(rs.getInt("user_id"), key -> new ArrayList<>())
+                            .add(new Affiliation(rs.getInt("department_id"), rs.getInt("college_id")));
+                });
+        return affiliations;
+    }
+
+    public void dropShadow() {
+        jdbcTemplate.execute(DROP_SHADOW_SQL);
+    }
+
+    /**
+     * statistics_tb와 같은 구조의 섀도 테이블을 만든다.
+     * statistics_tb의 키 유일 인덱스는 INCLUDING ALL로 복제되므로, 복제되지 않은 경우에만 새로 만들어 교체 후에도 인덱스가 하나만 남게 한다.
+     */
+    public void createShadow() {
+        jdbcTemplate.execute(CREATE_SHADOW_SQL);
+        if (!StatisticsDeltaJdbcRepository.hasKeyIndex(jdbcTemplate, "statistics_shadow_tb")) {
+            jdbcTemplate.execute(CREATE_SHADOW_KEY_SQL);
+        }
+    }
+
+    /**
+     * 집계 결과를 섀도 테이블에 배치로 더한다.
+     */
+    public void upsertShadow(Map<StatisticsKey, StatisticsDelta> deltas) {
+        List<Map.Entry<StatisticsKey, StatisticsDelta>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SHADOW_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            StatisticsKey key = entry.getKey();
+            StatisticsDelta delta = entry.getValue();
+            ps.setInt(1, delta.localProjectCount());
+            ps.setInt(2, delta.githubProjectCount());
+            ps.setInt(3, delta.questionCount());
+            ps.setInt(4, delta.patentCount());
+            ps.setInt(5, delta.projectParticipationCount());
+            ps.setInt(6, delta.questionParticipationCount());
+            ps.setInt(7, delta.patentParticipationCount());
+            ps.setString(8, key.type().name());
+            ps.setObject(9, key.targetId(), Types.INTEGER);
+            ps.setInt(10, key.semesterId());
+            ps.setInt(11, key.fieldId());
+            ps.setInt(12, key.categoryId());
+        });
+    }
+
+    /**
+     * 섀도 테이블을 statistics_tb로 교체한다.
+     * 섀도 테이블에는 미반영 저널의 몫이 빠져 있으므로, 남은 저널은 교체 후 통계 파이프라인이 그대로 반영한다.
+     */
+    public void swap() {
+        for (String sql : SWAP_SQL) {
+            jdbcTemplate.execute(sql);
+        }
+    }
+
+    private SourceRow toSourceRow(ResultSet rs, RebuildPhase phase) throws SQLException {
+        StatisticsDelta delta = switch (phase) {
+            case PROJECT -> rs.getBoolean("github")
+                    ? StatisticsDelta.githubProject(1, 0)
+                    : StatisticsDelta.localProject(1, 0);
+            case QUESTION -> StatisticsDelta.question(1, 0);
+            case PATENT -> StatisticsDelta.patent(1, 0);
+            case PROJECT_PARTICIPATION -> StatisticsDelta.localProject(0, 1);
+            case QUESTION_PARTICIPATION -> StatisticsDelta.question(0, 1);
+            case PATENT_PARTICIPATION -> StatisticsDelta.patent(0, 1);
+            case SWAP -> throw new IllegalArgumentException("Not a source phase: " + phase);
+        };
+        return new SourceRow(
+                rs.getInt("user_id"),
+                rs.getInt("semester_id"),
+                rs.getInt("category_id"),
+                rs.getObject("field_id", Integer.class),
+                delta
+        );
+    }
+}
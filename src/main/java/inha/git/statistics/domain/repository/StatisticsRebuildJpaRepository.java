@@ -0,0 +1,34 @@
+package inha.git.statistics.domain.repository;
+
+import inha.git.statistics.domain.StatisticsRebuild;
+import inha.git.statistics.domain.enums.RebuildStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * StatisticsRebuildJpaRepository는 StatisticsRebuild 엔티티에 대한 데이터 액세스 기능을 제공.
+ */
+public interface StatisticsRebuildJpaRepository extends JpaRepository<StatisticsRebuild, Integer> {
+
+    /**
+     * 재구축 행을 RUNNING으로 선점한다. 실행 중인 노드 플래그는 JVM마다 따로 있으므로 노드 간 중복 실행은 이 조건부 갱신으로 막는다.
+     * 상태가 claimable 중 하나이거나, RUNNING이지만 staleBefore 이후로 갱신이 없는(노드가 죽은) 경우에만 선점된다.
+     *
+     * @return 선점했으면 1, 다른 노드가 실행 중이거나 행이 없으면 0
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StatisticsRebuild r SET r.status = :running, r.updatedAt = :now " +
+            "WHERE r.id = :id AND (r.status IN :claimable OR (r.status = :running AND r.updatedAt < :staleBefore))")
+    int claim(@Param("id") Integer id,
+              @Param("claimable") Collection<RebuildStatus> claimable,
+              @Param("running") RebuildStatus running,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+}
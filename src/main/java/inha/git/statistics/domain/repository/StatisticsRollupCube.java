@@ -0,0 +1,306 @@
+package inha.git.statistics.domain.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inha.git.statistics.api.controller.dto.request.SearchCond;
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.enums.StatisticsType;
+import inha.git.utils.RedisProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * StatisticsRollupCube는 statistics_tb의 전체/단과대/학과 행을 메모리에 올려 두고
+ * SearchCond 조합별 합계를 계산해 캐시하는 레포지토리.
+ *
+ * <p>조합은 통계 키와 같은 차원(타입, 대상, 학기, 분야, 카테고리 - 지정하지 않은 차원은 null)으로 캐시하므로,
+ * 변화량이 반영된 키가 영향을 주는 조합은 차원마다 null 또는 키의 값인 8개뿐이고 그 조합만 무효화한다.
+ * 통계 변화량이 반영되면 바뀐 키의 셀을 DB에서 다시 읽고, Redis pub/sub으로 다른 노드에도 바뀐 키를 알린다.
+ * 놓친 알림은 주기적인 재적재로 따라잡는다.</p>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRollupCube implements MessageListener {
+
+    private static final String CHANGED_CHANNEL = "statistics:cells-changed";
+    // 자신이 발행한 메시지는 이미 반영했으므로 무시하기 위한 노드 식별자
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private static final String CELL_COLUMNS = "s.statistics_type, s.target_id, s.semester_id, s.field_id, s.category_id, " +
+            "s.local_project_count, s.github_project_count, s.question_count, s.patent_count, " +
+            "s.project_participation_count, s.question_participation_count, s.patent_participation_count";
+
+    private static final String SELECT_CELLS_SQL =
+            "SELECT " + CELL_COLUMNS + " FROM statistics_tb s WHERE s.statistics_type <> 'USER'";
+
+    private static final String SELECT_CELLS_BY_KEYS_SQL = "SELECT " + CELL_COLUMNS + " FROM statistics_tb s " +
+            "JOIN unnest(?, ?, ?, ?, ?) AS k(statistics_type, target_id, semester_id, field_id, category_id) " +
+            "ON s.statistics_type = k.statistics_type AND COALESCE(s.target_id, -1) = k.target_id " +
+            "AND s.semester_id = k.semester_id AND s.field_id = k.field_id AND s.category_id = k.category_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisProvider redisProvider;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${statistics.cube.max-rollups:10000}")
+    private int maxRollups;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<StatisticsKey, StatisticsDelta> rollups = new ConcurrentHashMap<>();
+    private volatile Map<StatisticsKey, StatisticsDelta> cells;
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        hitCounter = Counter.builder("statistics.cube.requests")
+                .tag("result", "hit")
+                .description("통계 큐브 조회 수")
+                .register(meterRegistry);
+        missCounter = Counter.builder("statistics.cube.requests")
+                .tag("result", "miss")
+                .description("통계 큐브 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("statistics.cube.rollups", rollups, Map::size)
+                .description("캐시된 통계 조합 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    /**
+     * 검색 조건에 해당하는 통계 합계를 조회한다.
+     * 캐시된 조합이 없으면 메모리의 셀을 합산해 캐시한다.
+     *
+     * @param searchCond 검색 조건
+     * @return 통계 합계
+     */
+    public StatisticsDelta getRollup(SearchCond searchCond) {
+        StatisticsKey rollupKey = toRollupKey(searchCond);
+        StatisticsDelta cached = rollups.get(rollupKey);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        if (cells == null) {
+            reload();
+        }
+        lock.readLock().lock();
+        try {
+            StatisticsDelta rollup = cells.entrySet().stream()
+                    .filter(cell -> matches(rollupKey, cell.getKey()))
+                    .map(Map.Entry::getValue)
+                    .reduce(StatisticsDelta.EMPTY, StatisticsDelta::plus);
+            if (rollups.size() < maxRollups) {
+                rollups.put(rollupKey, rollup);
+            }
+            return rollup;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * statistics_tb에 변화량이 반영된 키의 셀을 다시 읽고 영향을 받는 조합만 무효화한 뒤, 다른 노드에도 알린다.
+     * 변화량을 더하지 않고 커밋된 값을 읽으므로, 같은 알림을 여러 번 받거나 재적재와 겹쳐도 값이 어긋나지 않는다.
+     *
+     * @param deltas 반영된 키별 변화량
+     */
+    public void apply(Map<StatisticsKey, StatisticsDelta> deltas) {
+        if (cells == null) {
+            return;
+        }
+        List<StatisticsKey> changed = deltas.entrySet().stream()
+                .filter(entry -> entry.getKey().type() != StatisticsType.USER && !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+        refreshCells(changed);
+        try {
+            redisProvider.publish(CHANGED_CHANNEL, objectMapper.writeValueAsString(new CellsChanged(NODE_ID, changed)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("통계 셀 변경 알림 실패 - 다른 노드는 주기적 재적재 시 반영됩니다.", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CellsChanged changed;
+        try {
+            changed = objectMapper.readValue(message.getBody(), CellsChanged.class);
+        } catch (IOException e) {
+            log.warn("통계 셀 변경 알림을 읽을 수 없음", e);
+            return;
+        }
+        if (!NODE_ID.equals(changed.nodeId()) && cells != null) {
+            refreshCells(changed.keys());
+        }
+    }
+
+    /**
+     * statistics_tb 전체를 다시 적재하고 캐시된 조합을 모두 비운다.
+     * 재구축 결과와 놓친 변경 알림은 이 경로로 반영된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${statistics.cube.refresh-interval-ms:300000}",
+            initialDelayString = "${statistics.cube.refresh-interval-ms:300000}")
+    public synchronized void reload() {
+        Map<StatisticsKey, StatisticsDelta> loaded = new ConcurrentHashMap<>();
+        jdbcTemplate.query(SELECT_CELLS_SQL, rs -> {
+            loaded.merge(toKey(rs), toDelta(rs), StatisticsDelta::plus);
+        });
+        lock.writeLock().lock();
+        try {
+            cells = loaded;
+            rollups.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("통계 큐브 적재 완료 - 셀 수: {}", loaded.size());
+    }
+
+    /**
+     * 키의 셀을 DB에서 다시 읽어 교체한다. DB에 없는 키는 셀에서 지운다.
+     * 읽기와 교체를 한 번에 하나씩 실행하므로, 먼저 읽은 오래된 값이 나중에 읽은 값을 덮어쓰지 않는다.
+     */
+    private synchronized void refreshCells(Collection<StatisticsKey> keys) {
+        Map<StatisticsKey, StatisticsDelta> loaded = new HashMap<>();
+        jdbcTemplate.query(SELECT_CELLS_BY_KEYS_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("text", keys.stream().map(key -> key.type().name()).toArray()));
+            ps.setArray(2, connection.createArrayOf("integer",
+                    keys.stream().map(key -> key.targetId() != null ? key.targetId() : -1).toArray()));
+            ps.setArray(3, connection.createArrayOf("integer", keys.stream().map(StatisticsKey::semesterId).toArray()));
+            ps.setArray(4, connection.createArrayOf("integer", keys.stream().map(StatisticsKey::fieldId).toArray()));
+            ps.setArray(5, connection.createArrayOf("integer", keys.stream().map(StatisticsKey::categoryId).toArray()));
+        }, rs -> {
+            loaded.merge(toKey(rs), toDelta(rs), StatisticsDelta::plus);
+        });
+        lock.writeLock().lock();
+        try {
+            for (StatisticsKey key : keys) {
+                StatisticsDelta cell = loaded.get(key);
+                if (cell != null) {
+                    cells.put(key, cell);
+                } else {
+                    cells.remove(key);
+                }
+                evict(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 셀 키가 영향을 주는 조합을 무효화한다. 학기·분야·카테고리마다 지정하지 않았거나(null) 셀과 같은 값인 조합만 해당된다.
+     */
+    private void evict(StatisticsKey key) {
+        for (int mask = 0; mask < 8; mask++) {
+            rollups.remove(new StatisticsKey(key.type(), key.targetId(),
+                    (mask & 1) != 0 ? key.semesterId() : null,
+                    (mask & 2) != 0 ? key.fieldId() : null,
+                    (mask & 4) != 0 ? key.categoryId() : null));
+        }
+    }
+
+    /**
+     * 검색 조건을 집계 대상 행의 키로 바꾼다.
+     * 학과가 지정되면 학과 행, 단과대만 지정되면 단과대 행, 둘 다 없으면 전체 행을 집계한다.
+     */
+    private StatisticsKey toRollupKey(SearchCond searchCond) {
+        if (searchCond.departmentIdx() != null) {
+            return new StatisticsKey(StatisticsType.DEPARTMENT, searchCond.departmentIdx(),
+                    searchCond.semesterIdx(), searchCond.fieldIdx(), searchCond.categoryIdx());
+        }
+        if (searchCond.collegeIdx() != null) {
+            return new StatisticsKey(StatisticsType.COLLEGE, searchCond.collegeIdx(),
+                    searchCond.semesterIdx(), searchCond.fieldIdx(), searchCond.categoryIdx());
+        }
+        return new StatisticsKey(StatisticsType.TOTAL, null,
+                searchCond.semesterIdx(), searchCond.fieldIdx(), searchCond.categoryIdx());
+    }
+
+    /**
+     * 셀이 조합의 집계 대상인지 확인한다.
+     */
+    private boolean matches(StatisticsKey rollupKey, StatisticsKey key) {
+        return rollupKey.type() == key.type()
+                && Objects.equals(rollupKey.targetId(), key.targetId())
+                && matchesDimension(rollupKey.semesterId(), key.semesterId())
+                && matchesDimension(rollupKey.fieldId(), key.fieldId())
+                && matchesDimension(rollupKey.categoryId(), key.categoryId());
+    }
+
+    private boolean matchesDimension(Integer condition, Integer value) {
+        return condition == null || Objects.equals(condition, value);
+    }
+
+    private StatisticsKey toKey(ResultSet rs) throws SQLException {
+        return new StatisticsKey(
+                StatisticsType.valueOf(rs.getString("statistics_type")),
+                rs.getObject("target_id", Integer.class),
+                rs.getInt("semester_id"),
+                rs.getInt("field_id"),
+                rs.getInt("category_id"));
+    }
+
+    private StatisticsDelta toDelta(ResultSet rs) throws SQLException {
+        return new StatisticsDelta(
+                rs.getInt("local_project_count"),
+                rs.getInt("github_project_count"),
+                rs.getInt("question_count"),
+                rs.getInt("patent_count"),
+                rs.getInt("project_participation_count"),
+                rs.getInt("question_participation_count"),
+                rs.getInt("patent_participation_count"));
+    }
+
+    /**
+     * 다른 노드에 알리는 셀 변경 메시지.
+     *
+     * @param nodeId 발행한 노드
+     * @param keys   값이 바뀐 셀 키
+     */
+    private record CellsChanged(String nodeId, List<StatisticsKey> keys) {
+    }
+}
@@ -1,6 +1,7 @@
 package inha.git.team.api.controller;
 
 import inha.git.common.BaseResponse;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.team.api.controller.dto.request.CreateTeamPostRequest;
 import inha.git.team.api.controller.dto.request.UpdateTeamPostRequest;
@@ -39,15 +40,17 @@ public class TeamPostController {
      * <p>팀 게시글 전체를 조회한다.</p>
      *
      * @param page Integer
+     * @param slice 무한 스크롤용 조회 여부 (true면 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인)
      * @return 검색된 팀 게시글 정보를 포함하는 BaseResponse<Page<SearchTeamPostsResponse>>
      */
     @GetMapping
     @Operation(summary = "팀 게시글 전체 조회 API", description = "팀 게시글 전체를 조회한다.")
-    public BaseResponse<Page<SearchTeamPostsResponse>> getTeamPosts(@RequestParam("page") Integer page) {
+    public BaseResponse<Page<SearchTeamPostsResponse>> getTeamPosts(@RequestParam("page") Integer page,
+                                                                    @RequestParam(value = "slice", required = false) Boolean slice) {
         if (page < 1) {
             throw new BaseException(INVALID_PAGE);
         }
-        return BaseResponse.of(TEAM_POST_SEARCH_OK, teamPostService.getTeamPosts(page - 1));
+        return BaseResponse.of(TEAM_POST_SEARCH_OK, teamPostService.getTeamPosts(page - 1, PageMode.of(slice, PageMode.CACHED)));
     }
 
     /**
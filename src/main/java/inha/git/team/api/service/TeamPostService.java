@@ -1,5 +1,6 @@
 package inha.git.team.api.service;
 
+import inha.git.common.PageMode;
 import inha.git.team.api.controller.dto.request.CreateTeamPostRequest;
 import inha.git.team.api.controller.dto.request.UpdateTeamPostRequest;
 import inha.git.team.api.controller.dto.response.SearchTeamPostResponse;
@@ -9,7 +10,7 @@ import inha.git.user.domain.User;
 import org.springframework.data.domain.Page;
 
 public interface TeamPostService {
-    Page<SearchTeamPostsResponse> getTeamPosts(Integer page);
+    Page<SearchTeamPostsResponse> getTeamPosts(Integer page, PageMode mode);
     SearchTeamPostResponse getTeamPost(Integer postIdx);
     TeamPostResponse createTeamPost(User user, CreateTeamPostRequest createTeamPostRequest);
     TeamPostResponse updateTeamPost(User user, Integer postIdx, UpdateTeamPostRequest updateTeamPostRequest);
@@ -1,5 +1,6 @@
 package inha.git.team.api.service;
 
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.team.api.controller.dto.request.CreateTeamPostRequest;
 import inha.git.team.api.controller.dto.request.UpdateTeamPostRequest;
@@ -43,13 +44,14 @@ public class TeamPostServiceImpl implements TeamPostService{
      * 팀 게시글 전체 조회
      *
      * @param page Integer
+     * @param mode 전체 개수를 구하는 방식
      * @return Page<SearchTeamPostsResponse>
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<SearchTeamPostsResponse> getTeamPosts(Integer page) {
+    public Page<SearchTeamPostsResponse> getTeamPosts(Integer page, PageMode mode) {
         Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, CREATE_AT));
-        return teamPostQueryRepository.getTeamPosts(pageable);
+        return teamPostQueryRepository.getTeamPosts(pageable, mode);
     }
 
     /**
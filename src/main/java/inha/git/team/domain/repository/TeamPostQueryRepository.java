@@ -1,7 +1,8 @@
 package inha.git.team.domain.repository;
 
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inha.git.common.PageMode;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
 import inha.git.team.api.controller.dto.response.SearchTeamPostTeamResponse;
 import inha.git.team.api.controller.dto.response.SearchTeamPostsResponse;
@@ -9,6 +10,7 @@ import inha.git.team.domain.QTeam;
 import inha.git.team.domain.QTeamPost;
 import inha.git.team.domain.TeamPost;
 import inha.git.user.domain.QUser;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -27,46 +29,58 @@ import static inha.git.common.Constant.mapRoleToPosition;
 public class TeamPostQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
 
     /**
      * 팀 게시글 목록 조회
      *
      * @param pageable 페이지 정보
+     * @param mode     전체 개수를 구하는 방식
      * @return 팀 게시글 페이지
      */
-    public Page<SearchTeamPostsResponse> getTeamPosts(Pageable pageable) {
+    public Page<SearchTeamPostsResponse> getTeamPosts(Pageable pageable, PageMode mode) {
         QTeamPost teamPost = QTeamPost.teamPost;
         QTeam team = QTeam.team;
         QUser user = QUser.user;
 
-        JPAQuery<TeamPost> query = queryFactory
-                .select(teamPost)
+        // 목록 응답에 필요한 컬럼만 조회한다. 팀과 팀장은 단일 연관이므로 조인으로 함께 가져온다.
+        List<Tuple> rows = queryFactory
+                .select(teamPost.id, teamPost.title, teamPost.createdAt,
+                        team.id, team.name, user.id, user.name, user.role)
                 .from(teamPost)
-                .leftJoin(teamPost.team, team)
-                .leftJoin(team.user, user)
+                .join(teamPost.team, team)
+                .join(team.user, user)
                 .where(teamPost.state.eq(TeamPost.State.ACTIVE))
                 .orderBy(teamPost.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-        List<TeamPost> teamPosts = query.fetch();
-        long total = query.fetchCount();
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        List<SearchTeamPostsResponse> content = teamPosts.stream()
-                .map(q -> new SearchTeamPostsResponse(
-                        q.getId(),
-                        q.getTitle(),
-                        q.getCreatedAt(),
+        Page<Tuple> page = pageAssembler.assemble(rows, pageable, mode, PageAssembler.countKey("team-post:all"), () -> {
+            Long total = queryFactory
+                    .select(teamPost.count())
+                    .from(teamPost)
+                    .where(teamPost.state.eq(TeamPost.State.ACTIVE))
+                    .fetchOne();
+            return total != null ? total : 0;
+        });
+
+        List<SearchTeamPostsResponse> content = page.getContent().stream()
+                .map(row -> new SearchTeamPostsResponse(
+                        row.get(teamPost.id),
+                        row.get(teamPost.title),
+                        row.get(teamPost.createdAt),
                         new SearchTeamPostTeamResponse(
-                                q.getTeam().getId(),
-                                q.getTeam().getName(),
+                                row.get(team.id),
+                                row.get(team.name),
                                 new SearchUserResponse(
-                                        q.getTeam().getUser().getId(),
-                                        q.getTeam().getUser().getName(),
-                                        mapRoleToPosition(q.getTeam().getUser().getRole())
+                                        row.get(user.id),
+                                        row.get(user.name),
+                                        mapRoleToPosition(row.get(user.role))
                                 )
                         )
                 ))
                 .toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 }
@@ -1,13 +1,14 @@
 package inha.git.team.domain.repository;
 
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import inha.git.common.PageMode;
 import inha.git.mapping.domain.QTeamUser;
 import inha.git.mapping.domain.TeamUser;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
 import inha.git.team.api.controller.dto.response.SearchMyTeamsResponse;
 import inha.git.team.domain.QTeam;
 import inha.git.user.domain.QUser;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -26,6 +27,7 @@ import static inha.git.common.Constant.mapRoleToPosition;
 public class TeamQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
 
     /**
      * 사용자가 참여 중인 팀 목록 조회
@@ -39,7 +41,7 @@ public class TeamQueryRepository {
         QTeamUser teamUser = QTeamUser.teamUser;
         QUser user = QUser.user;
 
-        JPAQuery<TeamUser> query = queryFactory
+        List<TeamUser> fetched = queryFactory
                 .select(teamUser)
                 .from(teamUser)
                 .join(teamUser.team, team).fetchJoin()
@@ -47,12 +49,20 @@ public class TeamQueryRepository {
                 .where(teamUser.user.id.eq(userId), teamUser.acceptedAt.isNotNull())
                 .orderBy(teamUser.createdAt.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        List<TeamUser> teamUsers = query.fetch();
-        long total = query.fetchCount();
+        // 개수는 fetch join 없이 참여 기록만 센다.
+        Page<TeamUser> page = pageAssembler.assemble(fetched, pageable, PageMode.EXACT, null, () -> {
+            Long total = queryFactory
+                    .select(teamUser.count())
+                    .from(teamUser)
+                    .where(teamUser.user.id.eq(userId), teamUser.acceptedAt.isNotNull())
+                    .fetchOne();
+            return total != null ? total : 0;
+        });
 
-        List<SearchMyTeamsResponse> content = teamUsers.stream()
+        List<SearchMyTeamsResponse> content = page.getContent().stream()
                 .map(tu -> new SearchMyTeamsResponse(
                         tu.getTeam().getId(),
                         tu.getTeam().getName(),
@@ -65,6 +75,6 @@ public class TeamQueryRepository {
                         )
                 ))
                 .toList();
-        return new PageImpl<>(content, pageable, total);
+        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 }
@@ -3,6 +3,7 @@ package inha.git.user.api.controller;
 import inha.git.bug_report.api.controller.dto.request.SearchBugReportCond;
 import inha.git.bug_report.api.controller.dto.response.SearchBugReportsResponse;
 import inha.git.common.BaseResponse;
+import inha.git.common.CursorResponse;
 import inha.git.common.exceptions.BaseException;
 import inha.git.problem.api.controller.dto.response.SearchProblemsResponse;
 import inha.git.project.api.controller.dto.response.SearchProjectsResponse;
@@ -93,6 +94,23 @@ public class UserController {
         return BaseResponse.of(MY_PAGE_PROJECT_SEARCH_OK, userService.getUserProjects(user, userIdx, PagingUtils.toPageIndex(page)));
     }
 
+    /**
+     * 특정 사용자가 참여중인 프로젝트 목록을 커서 기반으로 조회합니다.
+     *
+     * @param user 현재 인증된 사용자 정보
+     * @param userIdx 조회할 대상 사용자의 식별자
+     * @param cursor 이전 페이지의 마지막 프로젝트 ID (첫 페이지면 생략)
+     * @return BaseResponse<CursorResponse<SearchProjectsResponse>> 프로젝트 목록을 포함한 커서 응답
+     * @throws BaseException 조회 권한이 없는 경우
+     */
+    @GetMapping("/{userIdx}/projects/cursor")
+    @Operation(summary = "특정 유저의 프로젝트 커서 조회 API", description = "특정 유저의 프로젝트를 커서 기반으로 조회합니다.")
+    public BaseResponse<CursorResponse<SearchProjectsResponse>> getUserProjectsByCursor(@AuthenticationPrincipal User user,
+                                                                                      @PathVariable("userIdx") Integer userIdx,
+                                                                                      @RequestParam(value = "cursor", required = false) Integer cursor) {
+        return BaseResponse.of(MY_PAGE_PROJECT_SEARCH_OK, userService.getUserProjectsByCursor(user, userIdx, cursor));
+    }
+
     /**
      * 특정 사용자가 작성한 질문 목록을 조회합니다.
      *
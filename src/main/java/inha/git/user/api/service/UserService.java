@@ -2,6 +2,7 @@ package inha.git.user.api.service;
 
 import inha.git.bug_report.api.controller.dto.request.SearchBugReportCond;
 import inha.git.bug_report.api.controller.dto.response.SearchBugReportsResponse;
+import inha.git.common.CursorResponse;
 import inha.git.problem.api.controller.dto.response.SearchProblemsResponse;
 import inha.git.project.api.controller.dto.response.SearchProjectsResponse;
 import inha.git.question.api.controller.dto.response.SearchQuestionsResponse;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Page;
 public interface UserService {
     SearchUserResponse getUser(Integer userIdx);
     Page<SearchProjectsResponse> getUserProjects(User user, Integer userIdx, Integer page);
+    CursorResponse<SearchProjectsResponse> getUserProjectsByCursor(User user, Integer userIdx, Integer cursor);
     Page<SearchQuestionsResponse> getUserQuestions(User user, Integer userIdx, Integer page);
     Page<SearchProblemsResponse> getUserProblems(User user, Integer userIdx, Integer pageIndex);
     Page<SearchProblemsResponse> getUserProblemsParticipating(User user, Integer userIdx, Integer page);
@@ -4,6 +4,7 @@ import inha.git.admin.api.controller.dto.response.SearchDepartmentResponse;
 import inha.git.bug_report.api.controller.dto.request.SearchBugReportCond;
 import inha.git.bug_report.api.controller.dto.response.SearchBugReportsResponse;
 import inha.git.bug_report.domain.repository.BugReportQueryRepository;
+import inha.git.common.CursorResponse;
 import inha.git.common.exceptions.BaseException;
 import inha.git.mapping.domain.UserDepartment;
 import inha.git.mapping.domain.repository.UserDepartmentJpaRepository;
@@ -109,6 +110,19 @@ public class UserServiceImpl implements UserService {
         return projectQueryRepository.getUserProjects(findUser.getId(), pageable);
     }
 
+    /**
+     * 사용자 프로젝트 커서 조회
+     *
+     * @param user   사용자 정보
+     * @param cursor 이전 페이지의 마지막 프로젝트 번호 (첫 페이지면 null)
+     * @return 사용자 프로젝트 커서 조회 결과
+     */
+    @Override
+    public CursorResponse<SearchProjectsResponse> getUserProjectsByCursor(User user, Integer userIdx, Integer cursor) {
+        User findUser = validUser(user, userIdx);
+        return projectQueryRepository.getUserProjectsByCursor(findUser.getId(), cursor, 10);
+    }
+
     /**
      * 사용자 질문 조회
      *
@@ -1,17 +1,16 @@
 package inha.git.user.domain.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import inha.git.admin.api.controller.dto.response.SearchStudentResponse;
 import inha.git.common.BaseEntity;
-import inha.git.mapping.domain.QUserDepartment;
+import inha.git.common.PageMode;
 import inha.git.user.domain.QUser;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
+import inha.git.utils.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -23,6 +22,7 @@ import java.util.List;
 public class ProfessorQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageAssembler pageAssembler;
 
     /**
      * 학생 검색
@@ -33,24 +33,23 @@ public class ProfessorQueryRepository {
      */
     public Page<SearchStudentResponse> searchStudents(String search, Pageable pageable) {
         QUser user = QUser.user;
-        QUserDepartment userDepartment = QUserDepartment.userDepartment;
-        JPAQuery<User> query = queryFactory
+        BooleanExpression[] conditions = {
+                user.role.eq(Role.USER).or(user.role.eq(Role.ASSISTANT)),
+                nameLike(search),
+                user.state.eq(BaseEntity.State.ACTIVE)
+        };
+        List<User> fetched = queryFactory
                 .select(user)
                 .from(user)
-                .leftJoin(user.userDepartments, userDepartment)
-                .where(
-                        user.role.eq(Role.USER).or(user.role.eq(Role.ASSISTANT)),
-                        nameLike(search),
-                        user.state.eq(BaseEntity.State.ACTIVE)
-                )
+                .where(conditions)
                 .orderBy(user.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-        List<SearchStudentResponse> content = query.fetch().stream()
-                .map(u -> new SearchStudentResponse(u))
-                .toList();
-        long total = query.fetchCount();
-        return new PageImpl<>(content, pageable, total);
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        return pageAssembler.assemble(fetched, pageable, PageMode.EXACT, null, () -> {
+            Long total = queryFactory.select(user.count()).from(user).where(conditions).fetchOne();
+            return total != null ? total : 0;
+        }).map(u -> new SearchStudentResponse(u));
     }
 
     /**
@@ -0,0 +1,50 @@
+package inha.git.utils;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * BatchProjection은 목록 조회 결과를 DTO로 조립할 때 쓰는 도구 모음.
+ * 목록은 엔티티 대신 필요한 컬럼만 한 번에 조회하고, 컬렉션 연관은 페이지의 ID로 연관마다 한 번씩 IN 쿼리를 실행한 뒤
+ * 이 클래스로 ID별로 묶어 붙인다. 따라서 페이지 크기와 관계없이 쿼리 수가 일정하다.
+ */
+public final class BatchProjection {
+
+    private BatchProjection() {
+    }
+
+    /**
+     * 조회 행에서 ID 컬럼 값을 순서대로 모읍니다. IN 쿼리의 파라미터로 씁니다.
+     *
+     * @param rows 조회 행
+     * @param id   ID 컬럼
+     * @return ID 목록
+     */
+    public static List<Integer> ids(List<Tuple> rows, Expression<Integer> id) {
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            ids.add(row.get(id));
+        }
+        return ids;
+    }
+
+    /**
+     * 연관 조회 행을 소유자 ID별로 묶어 변환합니다. 같은 소유자의 행은 조회 순서를 유지합니다.
+     *
+     * @param rows   연관 조회 행
+     * @param owner  소유자 ID 컬럼
+     * @param mapper 행 변환 함수
+     * @return 소유자 ID별 변환 결과
+     */
+    public static <V> IntMap<List<V>> groupBy(List<Tuple> rows, Expression<Integer> owner, Function<Tuple, V> mapper) {
+        IntMap<List<V>> grouped = new IntMap<>(rows.size());
+        for (Tuple row : rows) {
+            grouped.computeIfAbsent(row.get(owner), key -> new ArrayList<>()).add(mapper.apply(row));
+        }
+        return grouped;
+    }
+}
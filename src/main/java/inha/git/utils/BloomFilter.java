@@ -0,0 +1,78 @@
+package inha.git.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter는 문자열 키의 포함 여부를 근사적으로 판별하는 블룸 필터.
+ * 거짓 음성은 없고 거짓 양성만 있으므로, 포함으로 판정된 경우에만 원본 저장소에서 확인한다.
+ * 비트 배열은 AtomicLongArray로 두어 여러 스레드가 잠금 없이 추가·조회할 수 있다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    private BloomFilter(int bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    /**
+     * 예상 원소 수와 허용 거짓 양성률로 필터를 생성합니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  허용 거짓 양성률 (0 ~ 1)
+     * @return BloomFilter
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        int m = (int) Math.max(64, Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String key) {
+        long[] hash = hash(key);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long[] hash = hash(key);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 두 개의 64비트 해시를 조합(h1 + i * h2)해 k개의 인덱스를 만든다.
+    private int index(long[] hash, int i) {
+        return (int) Long.remainderUnsigned(hash[0] + i * hash[1], bitSize);
+    }
+
+    private static long[] hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new long[]{buffer.getLong(), buffer.getLong() | 1L};
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
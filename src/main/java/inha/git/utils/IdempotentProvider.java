@@ -1,49 +1,185 @@
 package inha.git.utils;
 
 import inha.git.common.exceptions.BaseException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.List;
 
+import static inha.git.common.Constant.IDEMPOTENCY_KEY_HEADER;
 import static inha.git.common.Constant.IDEMPOTENT;
 import static inha.git.common.Constant.TIME_LIMIT;
 import static inha.git.common.code.status.ErrorStatus.DUPLICATION_REQUEST;
 
 /**
  * IdempotentProvider는 Idempotency를 제공하는 서비스 클래스.
+ * 키 요소를 해시한 고정 길이 키를 SET NX로 한 번에 선점하므로, 동시에 들어온 중복 요청 중 하나만 통과한다.
+ * 클라이언트가 Idempotency-Key 헤더를 보내면 요청 내용 대신 헤더 값으로 키를 만들고, 완료된 요청의 응답을 보관해 재요청에 그대로 돌려준다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IdempotentProvider {
 
+    private static final String KEY_PREFIX = "idempotent:";
+    private static final String REPLAY_KEY_PREFIX = "idempotent:replay:";
+    // 헤더 키를 선점한 요청에 남기는 표시. 이 표시가 있는 요청의 응답만 보관한다.
+    private static final String ACQUIRED_ATTRIBUTE = IdempotentProvider.class.getName() + ".ACQUIRED";
+    // 키 요소 사이의 구분자. 요소를 그대로 이어 붙이면 ("ab", "c")와 ("a", "bc")가 같은 키가 된다.
+    private static final char SEPARATOR = '\u001F';
+
     private final RedisProvider redisProvider;
 
+    // 헤더 키는 응답이 보관될 때까지 선점해야 하므로, 처리 시간보다 충분히 길게 잡는다.
+    @Value("${idempotency.header-key-ttl-seconds:60}")
+    private long headerKeyTtl;
+    @Value("${idempotency.replay-ttl-seconds:86400}")
+    private long replayTtl;
+
     /**
      * Idempotency 키의 유효성을 검증하는 메서드.
+     * 트랜잭션이 롤백되면 키를 해제해 같은 요청을 바로 다시 보낼 수 있도록 한다.
      *
-     * @param keyElement 키를 구성하는 isValidIdempotent요소 리스트
+     * @param keyElement 키를 구성하는 요소 리스트
      */
     public void isValidIdempotent(List<String> keyElement) {
-        String idempotentKey = this.compactKey(keyElement);
+        HttpServletRequest request = currentRequest();
+        String headerKey = request != null ? request.getHeader(IDEMPOTENCY_KEY_HEADER) : null;
 
-        if (redisProvider.getValueOps(idempotentKey) == null) {
-            redisProvider.setDataExpire(idempotentKey, IDEMPOTENT, TIME_LIMIT);
+        String idempotentKey;
+        long ttl;
+        if (headerKey != null && !headerKey.isBlank()) {
+            String operation = keyElement.isEmpty() ? "" : keyElement.get(0);
+            idempotentKey = KEY_PREFIX + hash(List.of(operation, principalName(), headerKey));
+            ttl = headerKeyTtl;
         } else {
+            idempotentKey = KEY_PREFIX + hash(keyElement);
+            ttl = TIME_LIMIT;
+        }
+
+        if (!redisProvider.setIfAbsent(idempotentKey, IDEMPOTENT, ttl)) {
             log.error("Idempotency key is duplicated. key: {}", idempotentKey);
             throw new BaseException(DUPLICATION_REQUEST);
         }
+        if (headerKey != null && !headerKey.isBlank()) {
+            request.setAttribute(ACQUIRED_ATTRIBUTE, Boolean.TRUE);
+        }
+        releaseOnRollback(idempotentKey);
+    }
+
+    /**
+     * 보관된 응답.
+     *
+     * @param status HTTP 상태 코드
+     * @param body   응답 본문 (JSON)
+     */
+    public record Replay(int status, String body) {
+    }
+
+    /**
+     * Idempotency-Key 헤더로 완료된 요청의 응답을 조회하는 메서드.
+     *
+     * @param request HTTP 요청
+     * @return 보관된 응답 (헤더가 없거나 보관된 응답이 없으면 null)
+     */
+    public Replay findReplay(HttpServletRequest request) {
+        String replayKey = replayKey(request);
+        String stored = replayKey != null ? redisProvider.getValueOps(replayKey) : null;
+        return stored != null ? decode(stored) : null;
+    }
+
+    /**
+     * Idempotency-Key 헤더를 선점한 요청의 응답을 상태 코드와 함께 보관하는 메서드.
+     * 헤더만 보내고 키를 선점하지 않는 핸들러의 응답은 보관하지 않는다.
+     *
+     * @param request HTTP 요청
+     * @param status  HTTP 상태 코드
+     * @param body    응답 본문 (JSON)
+     */
+    public void storeReplay(HttpServletRequest request, int status, String body) {
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) == null) {
+            return;
+        }
+        String replayKey = replayKey(request);
+        if (replayKey != null) {
+            redisProvider.setDataExpire(replayKey, status + "\n" + body, replayTtl);
+        }
+    }
+
+    /**
+     * 보관된 값을 상태 코드와 본문으로 나눈다. 상태 코드 없이 본문만 보관하던 이전 형식은 200으로 본다.
+     */
+    private Replay decode(String stored) {
+        int newline = stored.indexOf('\n');
+        if (newline == 3 && stored.chars().limit(newline).allMatch(Character::isDigit)) {
+            return new Replay(Integer.parseInt(stored.substring(0, newline)), stored.substring(newline + 1));
+        }
+        return new Replay(200, stored);
+    }
+
+    private String replayKey(HttpServletRequest request) {
+        String headerKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (headerKey == null || headerKey.isBlank()) {
+            return null;
+        }
+        return REPLAY_KEY_PREFIX + hash(List.of(request.getMethod(), request.getRequestURI(), principalName(), headerKey));
+    }
+
+    private void releaseOnRollback(String idempotentKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    redisProvider.deleteValueOps(idempotentKey);
+                }
+            }
+        });
     }
 
     /**
-     * 주어진 요소들을 조합하여 Idempotency 키 생성.
+     * 키 요소를 SHA-256으로 해시해 고정 길이 키를 만든다. null 요소는 빈 문자열로 처리한다.
      *
      * @param keyElement 키 요소 리스트
-     * @return 조합된 Idempotency 키
+     * @return Base64 URL 형식의 해시 (43자)
      */
-    private String compactKey(List<String> keyElement) {
-        return String.join("", keyElement);
+    private String hash(List<String> keyElement) {
+        StringBuilder builder = new StringBuilder();
+        for (String element : keyElement) {
+            builder.append(element != null ? element : "").append(SEPARATOR);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String principalName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+
+    private HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
     }
 }
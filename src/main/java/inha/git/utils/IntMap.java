@@ -0,0 +1,114 @@
+package inha.git.utils;
+
+import java.util.function.IntFunction;
+
+/**
+ * IntMap은 int 키를 박싱하지 않고 보관하는 해시 맵.
+ * 목록 조회에서 한 페이지 분량의 ID로 연관 데이터를 묶을 때 쓰며, null 값은 허용하지 않는다.
+ */
+public final class IntMap<V> {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public IntMap() {
+        this(16);
+    }
+
+    /**
+     * 예상 크기로 맵을 생성합니다.
+     *
+     * @param expectedSize 예상 항목 수
+     */
+    public IntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        return (V) values[indexOf(key)];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return values[indexOf(key)] != null;
+    }
+
+    public void put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("IntMap은 null 값을 허용하지 않습니다.");
+        }
+        int index = indexOf(key);
+        boolean added = values[index] == null;
+        keys[index] = key;
+        values[index] = value;
+        if (added && ++size > values.length * LOAD_FACTOR) {
+            resize();
+        }
+    }
+
+    /**
+     * 키에 값이 없으면 생성해 넣고, 키의 값을 반환합니다.
+     *
+     * @param key     키
+     * @param factory 값 생성 함수
+     * @return 키의 값
+     */
+    public V computeIfAbsent(int key, IntFunction<V> factory) {
+        V value = get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 키가 있는 칸, 없으면 키가 들어갈 빈 칸의 위치를 반환한다.
+     */
+    private int indexOf(int key) {
+        int mask = values.length - 1;
+        int index = mix(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    // 연속된 ID가 인접한 칸에 몰리지 않도록 비트를 섞는다.
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,49 @@
+package inha.git.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * IntSet은 정렬된 int 배열로 구현한 읽기 전용 ID 집합.
+ * 조회 결과로 받은 ID 목록을 박싱 없이 보관하고 이진 탐색으로 포함 여부를 확인한다.
+ */
+public final class IntSet {
+
+    private static final IntSet EMPTY = new IntSet(new int[0]);
+
+    private final int[] values;
+
+    private IntSet(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * ID 목록으로 집합을 생성합니다.
+     *
+     * @param ids ID 목록
+     * @return IntSet
+     */
+    public static IntSet of(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        return new IntSet(ids.stream().mapToInt(Integer::intValue).sorted().distinct().toArray());
+    }
+
+    /**
+     * 빈 집합을 반환합니다.
+     *
+     * @return IntSet
+     */
+    public static IntSet empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
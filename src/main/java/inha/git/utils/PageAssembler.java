@@ -0,0 +1,99 @@
+package inha.git.utils;
+
+import inha.git.common.PageMode;
+import inha.git.utils.cache.CacheSerializer;
+import inha.git.utils.cache.TieredCache;
+import inha.git.utils.cache.TieredCacheManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * PageAssembler는 목록 조회 결과를 페이지로 조립하는 컴포넌트.
+ * 목록은 페이지 크기보다 한 건 더 조회해 다음 페이지 존재 여부를 알아내고, 마지막 페이지처럼 조회 결과만으로 전체 개수를 알 수 있으면 개수 쿼리를 생략한다.
+ * 개수가 필요하면 PageMode에 따라 목록과 별도의 가벼운 개수 쿼리를 실행하거나, 검색 조건별로 캐싱된 개수를 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageAssembler {
+
+    // 키 요소 사이의 구분자
+    private static final char SEPARATOR = '\u001F';
+
+    private final TieredCacheManager tieredCacheManager;
+
+    @Value("${paging.count-cache-ttl-seconds:30}")
+    private long countTtl;
+    @Value("${paging.count-cache-local-max-weight:1048576}")
+    private long localMaxWeight;
+
+    private TieredCache<Long> countCache;
+
+    @PostConstruct
+    void init() {
+        countCache = tieredCacheManager.create("paging:count",
+                CacheSerializer.of(value -> value.toString().getBytes(StandardCharsets.UTF_8),
+                        bytes -> Long.parseLong(new String(bytes, StandardCharsets.UTF_8))),
+                Duration.ofSeconds(countTtl), Duration.ofSeconds(countTtl), localMaxWeight);
+    }
+
+    /**
+     * 조회 결과로 페이지를 만듭니다.
+     *
+     * @param fetched  페이지 크기보다 한 건 더(limit + 1) 조회한 결과
+     * @param pageable 페이지 정보
+     * @param mode     전체 개수를 구하는 방식
+     * @param countKey 개수를 캐싱할 키 (countKey로 생성, CACHED가 아니면 무시)
+     * @param counter  전체 개수를 세는 쿼리
+     * @return 페이지
+     */
+    public <T> Page<T> assemble(List<T> fetched, Pageable pageable, PageMode mode, String countKey, LongSupplier counter) {
+        int size = pageable.getPageSize();
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        // 지금까지 확인된 개수. 다음 페이지가 있으면 적어도 한 건은 더 있다.
+        long known = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+
+        // 마지막 페이지면 조회 결과만으로 전체 개수가 정해진다. 범위를 벗어난 빈 페이지는 알 수 없으므로 센다.
+        if (mode == PageMode.SLICE || (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0))) {
+            return new PageImpl<>(content, pageable, known);
+        }
+        long total = mode == PageMode.CACHED
+                ? countCache.get(countKey, counter::getAsLong)
+                : counter.getAsLong();
+        // 캐싱된 개수가 그 사이 늘어난 목록보다 작으면 확인된 개수를 쓴다.
+        return new PageImpl<>(content, pageable, Math.max(total, known));
+    }
+
+    /**
+     * 목록 이름과 검색 조건으로 개수 캐시 키를 만듭니다. 검색 조건은 toString 결과로 구분하므로 record를 넘깁니다.
+     *
+     * @param name    목록 이름
+     * @param filters 검색 조건
+     * @return 캐시 키
+     */
+    public static String countKey(String name, Object... filters) {
+        StringBuilder builder = new StringBuilder();
+        for (Object filter : filters) {
+            builder.append(filter).append(SEPARATOR);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            return name + ":" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -47,6 +47,18 @@ public class PagingUtils {
         }
     }
 
+    /**
+     * 페이지 크기의 유효성을 검증합니다.
+     *
+     * @param size 검증할 페이지 크기
+     * @throws BaseException INVALID_PAGE: 페이지 크기가 최소값보다 작은 경우
+     */
+    public static void validateSize(Integer size) {
+        if (size < MIN_SIZE) {
+            throw new BaseException(INVALID_PAGE);
+        }
+    }
+
     /**
      * 사용자가 입력한 페이지 번호를 인덱스로 변환합니다.
      * (예: 페이지 1 → 인덱스 0)
@@ -3,13 +3,33 @@ package inha.git.utils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * RedisProvider는 Redis를 사용하기 위한 기능을 제공하는 서비스 클래스.
@@ -19,6 +39,36 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 @Transactional
 public class RedisProvider {
+    // KEYS[1]: 정렬 집합, KEYS[2]: 스트림 / ARGV[1]: 최대 점수, ARGV[2]: 최대 개수, ARGV[3]: 레코드 필드
+    private static final RedisScript<Long> MOVE_TO_STREAM_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, member in ipairs(members) do
+                redis.call('XADD', KEYS[2], '*', ARGV[3], member)
+                redis.call('ZREM', KEYS[1], member)
+            end
+            return #members
+            """, Long.class);
+    // KEYS[1]: 카운터, KEYS[2]: 스트림 / ARGV[1]: 한도, ARGV[2]: 만료 시간(초), ARGV[3]: 레코드 필드, ARGV[4]: 레코드 값
+    private static final RedisScript<Long> ADD_WITHIN_LIMIT_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[1]) or '0') >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('XADD', KEYS[2], '*', ARGV[3], ARGV[4])
+            if redis.call('INCR', KEYS[1]) == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 키 / ARGV[1]: 기대하는 현재 값, ARGV[2]: 새 값, ARGV[3]: 만료 시간(초)
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     @Value("${jwt.refresh-token.expiration}")
     private Long refreshExpiration;
@@ -75,4 +125,236 @@ public class RedisProvider {
         Duration expireDuration=Duration.ofSeconds(duration);
         valueOperations.set(key,value,expireDuration);
     }
+
+    /**
+     * 키가 없을 때만 값을 설정하고 만료 시간을 설정하는 메서드. (SET NX EX)
+     *
+     * @param key 키
+     * @param value 값
+     * @param duration 만료 시간
+     * @return 설정 여부
+     */
+    public boolean setIfAbsent(String key, String value, long duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(duration)));
+    }
+
+    /**
+     * 현재 값이 expected일 때만 새 값과 만료 시간을 설정하는 메서드.
+     *
+     * @param key 키
+     * @param expected 기대하는 현재 값
+     * @param value 새 값
+     * @param duration 만료 시간 (초)
+     * @return 설정 여부
+     */
+    public boolean compareAndSet(String key, String expected, String value, long duration) {
+        Long updated = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(key),
+                expected, value, String.valueOf(duration));
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * 값을 1 증가시키는 메서드. 키가 없으면 0에서 시작한다.
+     *
+     * @param key 키
+     * @return 증가된 값
+     */
+    public long increment(String key) {
+        Long count = redisTemplate.opsForValue().increment(key);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 키에 대한 바이너리 값을 가져오는 메서드.
+     *
+     * @param key 키
+     * @return 키에 대한 값 (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getBytes(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+
+    /**
+     * 키와 바이너리 값을 설정하고 만료 시간을 설정하는 메서드.
+     *
+     * @param key 키
+     * @param value 값
+     * @param duration 만료 시간
+     */
+    public void setBytesExpire(String key, byte[] value, Duration duration) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(rawKey, value, Expiration.from(duration), RedisStringCommands.SetOption.upsert()));
+    }
+
+    /**
+     * 집합에 멤버를 추가하고 키의 만료 시각을 설정하는 메서드.
+     *
+     * @param key 키
+     * @param member 멤버
+     * @param expireAt 만료 시각 (밀리초)
+     */
+    public void addSetMember(String key, String member, long expireAt) {
+        redisTemplate.opsForSet().add(key, member);
+        redisTemplate.expireAt(key, Instant.ofEpochMilli(expireAt));
+    }
+
+    /**
+     * 집합에 멤버가 있는지 확인하는 메서드.
+     *
+     * @param key 키
+     * @param member 멤버
+     * @return 포함 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean isSetMember(String key, String member) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, member));
+    }
+
+    /**
+     * 집합의 모든 멤버를 가져오는 메서드.
+     *
+     * @param key 키
+     * @return 멤버 목록
+     */
+    @Transactional(readOnly = true)
+    public Set<String> getSetMembers(String key) {
+        Set<Object> members = redisTemplate.opsForSet().members(key);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(String::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 채널에 메시지를 발행하는 메서드.
+     *
+     * @param channel 채널
+     * @param message 메시지
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    /**
+     * 스트림 소비자 그룹을 생성하는 메서드. 스트림이 없으면 함께 생성하고, 이미 있는 그룹은 그대로 둔다.
+     *
+     * @param key 스트림 키
+     * @param group 그룹 이름
+     */
+    public void createStreamGroup(String key, String group) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(rawKey, group, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 소비자 그룹으로 아직 전달되지 않은 스트림 레코드를 읽는 메서드. (대기하지 않는다)
+     *
+     * @param key 스트림 키
+     * @param group 그룹 이름
+     * @param consumer 소비자 이름
+     * @param count 최대 개수
+     * @return 레코드 목록
+     */
+    public List<MapRecord<String, Object, Object>> readStreamGroup(String key, String group, String consumer, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(key, ReadOffset.lastConsumed()));
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * 다른 소비자가 가져간 뒤 오래 처리되지 않은 스트림 레코드를 넘겨받는 메서드.
+     *
+     * @param key 스트림 키
+     * @param group 그룹 이름
+     * @param consumer 넘겨받을 소비자 이름
+     * @param minIdle 넘겨받을 최소 대기 시간
+     * @param count 최대 개수
+     * @return 넘겨받은 레코드 목록
+     */
+    public List<MapRecord<String, Object, Object>> claimStreamRecords(String key, String group, String consumer,
+                                                                     Duration minIdle, int count) {
+        PendingMessages pending = redisTemplate.opsForStream().pending(key, group, Range.unbounded(), count);
+        RecordId[] stale = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (stale.length == 0) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().claim(key, group, consumer, minIdle, stale);
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * 처리가 끝난 스트림 레코드를 확인 처리하고 삭제하는 메서드.
+     *
+     * @param key 스트림 키
+     * @param group 그룹 이름
+     * @param recordId 레코드 ID
+     */
+    public void acknowledgeStreamRecord(String key, String group, String recordId) {
+        redisTemplate.opsForStream().acknowledge(key, group, recordId);
+        redisTemplate.opsForStream().delete(key, recordId);
+    }
+
+    /**
+     * 정렬 집합에 멤버를 추가하는 메서드.
+     *
+     * @param key 키
+     * @param member 멤버
+     * @param score 점수
+     */
+    public void addSortedSetMember(String key, String member, double score) {
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    /**
+     * 점수가 maxScore 이하인 멤버를 스트림으로 옮기는 메서드.
+     * 조회, 스트림 추가, 삭제를 한 스크립트로 실행하므로 도중에 실패해도 멤버가 사라지지 않고,
+     * 여러 노드가 동시에 실행해도 같은 멤버를 두 번 옮기지 않는다.
+     *
+     * @param key 정렬 집합 키
+     * @param maxScore 최대 점수
+     * @param count 최대 개수
+     * @param streamKey 스트림 키
+     * @param field 멤버를 담을 레코드 필드
+     * @return 옮긴 개수
+     */
+    public int moveSortedSetMembersToStream(String key, long maxScore, int count, String streamKey, String field) {
+        Long moved = redisTemplate.execute(MOVE_TO_STREAM_SCRIPT, List.of(key, streamKey),
+                String.valueOf(maxScore), String.valueOf(count), field);
+        return moved != null ? moved.intValue() : 0;
+    }
+
+    /**
+     * 카운터가 한도 미만일 때만 스트림에 레코드를 추가하고 카운터를 증가시키는 메서드.
+     * 확인, 추가, 증가를 한 스크립트로 실행하므로 추가에 실패한 요청은 한도를 차지하지 않는다.
+     * 처음 증가할 때 만료 시간을 설정한다.
+     *
+     * @param streamKey 스트림 키
+     * @param field 레코드 필드
+     * @param value 레코드 값
+     * @param counterKey 카운터 키
+     * @param limit 한도
+     * @param duration 카운터 만료 시간 (초)
+     * @return 추가했으면 true, 한도에 도달해 추가하지 않았으면 false
+     */
+    public boolean addStreamRecordWithinLimit(String streamKey, String field, String value,
+                                              String counterKey, long limit, long duration) {
+        Long added = redisTemplate.execute(ADD_WITHIN_LIMIT_SCRIPT, List.of(counterKey, streamKey),
+                String.valueOf(limit), String.valueOf(duration), field, value);
+        return added != null && added == 1;
+    }
 }
@@ -0,0 +1,46 @@
+package inha.git.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * CacheSerializer는 캐시 값을 Redis에 저장할 바이트 배열로 변환하는 인터페이스.
+ *
+ * @param <T> 값 타입
+ */
+public interface CacheSerializer<T> {
+
+    byte[] serialize(T value);
+
+    T deserialize(byte[] bytes);
+
+    /**
+     * 변환 함수로 직렬화기를 생성합니다.
+     *
+     * @param serializer   값을 바이트 배열로 변환하는 함수
+     * @param deserializer 바이트 배열을 값으로 변환하는 함수
+     * @return CacheSerializer
+     */
+    static <T> CacheSerializer<T> of(Function<T, byte[]> serializer, Function<byte[], T> deserializer) {
+        return new CacheSerializer<>() {
+            @Override
+            public byte[] serialize(T value) {
+                return serializer.apply(value);
+            }
+
+            @Override
+            public T deserialize(byte[] bytes) {
+                return deserializer.apply(bytes);
+            }
+        };
+    }
+
+    /**
+     * 문자열 값을 UTF-8 바이트 배열로 저장하는 직렬화기를 반환합니다.
+     *
+     * @return CacheSerializer
+     */
+    static CacheSerializer<String> string() {
+        return of(value -> value.getBytes(StandardCharsets.UTF_8), bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+}
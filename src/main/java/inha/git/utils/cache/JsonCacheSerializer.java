@@ -0,0 +1,50 @@
+package inha.git.utils.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * JsonCacheSerializer는 Jackson으로 값을 JSON 바이트 배열로 변환하는 직렬화기.
+ * 선언된 타입 기준으로 직렬화하므로 다형성 타입 정보도 함께 저장된다.
+ *
+ * @param <T> 값 타입
+ */
+public final class JsonCacheSerializer<T> implements CacheSerializer<T> {
+
+    private final ObjectMapper objectMapper;
+    private final JavaType type;
+
+    private JsonCacheSerializer(ObjectMapper objectMapper, JavaType type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    public static <T> JsonCacheSerializer<T> of(ObjectMapper objectMapper, Class<T> type) {
+        return new JsonCacheSerializer<>(objectMapper, objectMapper.constructType(type));
+    }
+
+    public static <T> JsonCacheSerializer<T> of(ObjectMapper objectMapper, TypeReference<T> type) {
+        return new JsonCacheSerializer<>(objectMapper, objectMapper.constructType(type));
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        try {
+            return objectMapper.writerFor(type).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package inha.git.utils.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LocalCache는 직렬화된 크기를 가중치로 삼아 총량을 제한하는 LRU 캐시.
+ * 가중치 합이 한도를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ *
+ * @param <T> 값 타입
+ */
+final class LocalCache<T> {
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, CacheEntry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    LocalCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    synchronized CacheEntry<T> get(String key, long now) {
+        CacheEntry<T> entry = entries.get(key);
+        if (entry != null && entry.localExpiresAt() <= now) {
+            remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    synchronized void put(String key, CacheEntry<T> entry) {
+        remove(key);
+        // 한 항목이 한도보다 크면 다른 항목을 모두 밀어내므로 보관하지 않는다.
+        if (entry.weight() > maxWeight) {
+            return;
+        }
+        entries.put(key, entry);
+        weight += entry.weight();
+        Iterator<Map.Entry<String, CacheEntry<T>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight();
+            eldest.remove();
+        }
+    }
+
+    synchronized void remove(String key) {
+        CacheEntry<T> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * 캐시 항목.
+     *
+     * @param value          값
+     * @param expiresAt      Redis에 저장된 값의 만료 시각
+     * @param localExpiresAt 로컬 항목의 만료 시각
+     * @param loadTime       값을 적재하는 데 걸린 시간 (밀리초, 조기 갱신 확률 계산에 사용)
+     * @param weight         직렬화된 크기
+     */
+    record CacheEntry<T>(T value, long expiresAt, long localExpiresAt, long loadTime, int weight) {
+    }
+}
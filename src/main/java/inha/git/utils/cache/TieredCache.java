@@ -0,0 +1,242 @@
+package inha.git.utils.cache;
+
+import inha.git.utils.RedisProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * TieredCache는 노드 메모리(L1)와 Redis(L2)를 차례로 조회하는 타입 안전 캐시.
+ * 같은 키를 동시에 적재하면 한 요청만 적재하고 나머지는 그 결과를 기다린다.
+ * 만료가 가까워질수록 높은 확률로 미리 다시 적재하므로(XFetch), 인기 키가 만료되는 순간 요청이 몰리지 않는다.
+ *
+ * @param <T> 값 타입
+ */
+@Slf4j
+public class TieredCache<T> {
+
+    // Redis 값 앞에 붙는 형식 표시(1바이트)와 만료 시각, 적재 시간(각 8바이트).
+    // 형식 표시는 문자열로 저장된 이전 값과 구분하기 위해 텍스트에 나오지 않는 0을 쓴다.
+    private static final byte FORMAT = 0;
+    private static final int HEADER_SIZE = 1 + Long.BYTES * 2;
+
+    private final String name;
+    private final CacheSerializer<T> serializer;
+    private final Duration ttl;
+    private final Duration localTtl;
+    private final double beta;
+    private final RedisProvider redisProvider;
+    private final Consumer<String> evictionPublisher;
+    private final LocalCache<T> localCache;
+    private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final Counter localHitCounter;
+    private final Counter remoteHitCounter;
+    private final Counter missCounter;
+    private final Timer loadTimer;
+
+    TieredCache(String name, CacheSerializer<T> serializer, Duration ttl, Duration localTtl, long localMaxWeight,
+                double beta, RedisProvider redisProvider, MeterRegistry meterRegistry, Consumer<String> evictionPublisher) {
+        this.name = name;
+        this.serializer = serializer;
+        this.ttl = ttl;
+        this.localTtl = localTtl;
+        this.beta = beta;
+        this.redisProvider = redisProvider;
+        this.evictionPublisher = evictionPublisher;
+        this.localCache = new LocalCache<>(localMaxWeight);
+        this.localHitCounter = requestCounter(meterRegistry, "local_hit");
+        this.remoteHitCounter = requestCounter(meterRegistry, "remote_hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.loadTimer = Timer.builder("cache.tiered.load")
+                .tag("cache", name)
+                .description("캐시 값 적재 시간")
+                .register(meterRegistry);
+        Gauge.builder("cache.tiered.local.weight", localCache, LocalCache::weight)
+                .tag("cache", name)
+                .description("로컬 캐시에 보관 중인 값의 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 적재해 저장한다.
+     * 적재 결과가 null이면 저장하지 않는다.
+     *
+     * @param key    키
+     * @param loader 값을 적재하는 함수
+     * @return 값
+     */
+    public T get(String key, Supplier<T> loader) {
+        String cacheKey = cacheKey(key);
+        long now = System.currentTimeMillis();
+
+        LocalCache.CacheEntry<T> entry = localCache.get(cacheKey, now);
+        if (entry != null && !shouldRefreshEarly(entry, now)) {
+            localHitCounter.increment();
+            return entry.value();
+        }
+        if (entry == null) {
+            entry = readRemote(cacheKey, now);
+            if (entry != null) {
+                localCache.put(cacheKey, entry);
+                if (!shouldRefreshEarly(entry, now)) {
+                    remoteHitCounter.increment();
+                    return entry.value();
+                }
+            }
+        }
+        missCounter.increment();
+        return load(cacheKey, loader, entry);
+    }
+
+    /**
+     * 값을 직접 저장한다.
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public void put(String key, T value) {
+        store(cacheKey(key), value, 0);
+    }
+
+    /**
+     * 모든 노드의 로컬 캐시와 Redis에서 값을 제거한다.
+     *
+     * @param key 키
+     */
+    public void evict(String key) {
+        String cacheKey = cacheKey(key);
+        localCache.remove(cacheKey);
+        try {
+            redisProvider.deleteValueOps(cacheKey);
+            evictionPublisher.accept(cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("캐시 제거 실패 - 캐시: {} 키: {}", name, key, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 값이 바뀌었을 때 로컬 캐시만 제거한다.
+     *
+     * @param cacheKey Redis 키
+     */
+    void evictLocal(String cacheKey) {
+        localCache.remove(cacheKey);
+    }
+
+    String cacheKey(String key) {
+        return name + ":" + key;
+    }
+
+    private T load(String cacheKey, Supplier<T> loader, LocalCache.CacheEntry<T> stale) {
+        CompletableFuture<T> call = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(cacheKey, call);
+        if (existing != null) {
+            // 이미 적재 중이면 이전 값을 쓸 수 있는 경우 기다리지 않는다.
+            return stale != null ? stale.value() : await(existing);
+        }
+        try {
+            long start = System.nanoTime();
+            T value = loader.get();
+            long loadTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            loadTimer.record(loadTime, TimeUnit.MILLISECONDS);
+            if (value != null) {
+                store(cacheKey, value, loadTime);
+            }
+            call.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, call);
+        }
+    }
+
+    private void store(String cacheKey, T value, long loadTime) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttl.toMillis();
+        byte[] payload = serializer.serialize(value);
+        localCache.put(cacheKey, new LocalCache.CacheEntry<>(value, expiresAt,
+                Math.min(expiresAt, now + localTtl.toMillis()), loadTime, payload.length));
+        try {
+            byte[] stored = ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                    .put(FORMAT)
+                    .putLong(expiresAt)
+                    .putLong(loadTime)
+                    .put(payload)
+                    .array();
+            redisProvider.setBytesExpire(cacheKey, stored, ttl);
+        } catch (DataAccessException e) {
+            log.warn("캐시 저장 실패 - 키: {}", cacheKey, e);
+        }
+    }
+
+    private LocalCache.CacheEntry<T> readRemote(String cacheKey, long now) {
+        try {
+            byte[] stored = redisProvider.getBytes(cacheKey);
+            if (stored == null || stored.length < HEADER_SIZE || stored[0] != FORMAT) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(stored, 1, stored.length - 1);
+            long expiresAt = buffer.getLong();
+            long loadTime = buffer.getLong();
+            byte[] payload = Arrays.copyOfRange(stored, HEADER_SIZE, stored.length);
+            return new LocalCache.CacheEntry<>(serializer.deserialize(payload), expiresAt,
+                    Math.min(expiresAt, now + localTtl.toMillis()), loadTime, payload.length);
+        } catch (DataAccessException e) {
+            log.warn("캐시 조회 실패 - 키: {}", cacheKey, e);
+            return null;
+        } catch (RuntimeException e) {
+            // 형식이 바뀐 이전 값은 없는 것으로 보고 다시 적재한다.
+            log.warn("캐시 값 변환 실패 - 키: {} 에러메시지: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 남은 시간이 적재 시간에 비해 짧을수록 높은 확률로 true를 반환한다.
+     */
+    private boolean shouldRefreshEarly(LocalCache.CacheEntry<T> entry, long now) {
+        double gap = entry.loadTime() * beta * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return now + gap >= entry.expiresAt();
+    }
+
+    private T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.tiered.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .description("캐시 조회 수")
+                .register(meterRegistry);
+    }
+}
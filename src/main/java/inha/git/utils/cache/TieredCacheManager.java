@@ -0,0 +1,78 @@
+package inha.git.utils.cache;
+
+import inha.git.utils.RedisProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TieredCacheManager는 TieredCache를 생성하고, 값이 제거되면 다른 노드의 로컬 캐시도 비우도록 알리는 컴포넌트.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TieredCacheManager implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "cache:evict";
+
+    private final RedisProvider redisProvider;
+    private final MeterRegistry meterRegistry;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 클수록 만료 전에 미리 갱신하는 빈도가 높아진다. 1.0이면 적재 시간만큼 앞서 갱신하는 것이 평균이다.
+    @Value("${cache.tiered.early-refresh-beta:1.0}")
+    private double beta;
+
+    private final Map<String, TieredCache<?>> caches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시를 생성한다. 이름은 Redis 키의 접두사로 쓰이므로 캐시마다 달라야 한다.
+     *
+     * @param name           캐시 이름
+     * @param serializer     값 직렬화기
+     * @param ttl            Redis 보관 기간
+     * @param localTtl       로컬 보관 기간 (다른 노드의 변경이 반영되기까지의 최대 지연)
+     * @param localMaxWeight 로컬에 보관할 직렬화된 값의 총 크기 (바이트)
+     * @return TieredCache
+     */
+    public <T> TieredCache<T> create(String name, CacheSerializer<T> serializer, Duration ttl, Duration localTtl, long localMaxWeight) {
+        TieredCache<T> cache = new TieredCache<>(name, serializer, ttl, localTtl, localMaxWeight, beta,
+                redisProvider, meterRegistry, this::publishEviction);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 존재하는 캐시입니다: " + name);
+        }
+        return cache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        caches.values().forEach(cache -> cache.evictLocal(cacheKey));
+    }
+
+    private void publishEviction(String cacheKey) {
+        try {
+            redisProvider.publish(EVICT_CHANNEL, cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("캐시 제거 알림 실패 - 다른 노드는 로컬 보관 기간이 지나면 반영됩니다. 키: {}", cacheKey, e);
+        }
+    }
+}
@@ -34,9 +34,7 @@ public class FilePath {
             throw new BaseException(FILE_NOT_FOUND);
         }
         try {
-            // 고유한 파일명 생성 (타임스탬프 + UUID 6자리)
-            String fileName = System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 6) +
-                    getFileExtension(file.getOriginalFilename());
+            String fileName = generateFileName(getFileExtension(file.getOriginalFilename()));
             // 파일 저장 경로 설정
             Path filePath = Paths.get(BASE_DIR_SOURCE + uploadDir, fileName);
             // 디렉토리가 존재하지 않으면 생성
@@ -52,6 +50,16 @@ public class FilePath {
         }
     }
 
+    /**
+     * 고유한 파일명을 생성하는 메서드 (타임스탬프 + UUID 6자리)
+     *
+     * @param extension 확장자 (예: .zip)
+     * @return 생성된 파일명
+     */
+    public static String generateFileName(String extension) {
+        return System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 6) + extension;
+    }
+
     /**
      * 파일 삭제
      *
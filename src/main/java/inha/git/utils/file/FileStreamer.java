@@ -0,0 +1,151 @@
+package inha.git.utils.file;
+
+import inha.git.common.exceptions.BaseException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static inha.git.common.code.status.ErrorStatus.FILE_NOT_FOUND;
+import static inha.git.common.code.status.ErrorStatus.FILE_PROCESS_ERROR;
+
+/**
+ * FileStreamer는 디스크의 파일을 메모리에 올리지 않고 HTTP 응답으로 내려보내는 클래스.
+ * ETag/Last-Modified 조건부 요청과 단일 구간 Range 요청을 지원한다.
+ */
+@Slf4j
+public class FileStreamer {
+
+    // Tomcat NIO 커넥터는 이 요청 속성이 있으면 응답 본문을 sendfile로 직접 보낸다.
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 채널로 바로 쓴다.
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    /**
+     * 파일을 응답으로 내려보내는 메서드
+     *
+     * @param file     내려보낼 파일
+     * @param request  HttpServletRequest
+     * @param response HttpServletResponse
+     */
+    public static void stream(Path file, HttpServletRequest request, HttpServletResponse response) {
+        try {
+            if (!Files.isRegularFile(file)) {
+                throw new BaseException(FILE_NOT_FOUND);
+            }
+            long length = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            String etag = Long.toHexString(length) + "-" + Long.toHexString(lastModified);
+
+            // 조건에 맞으면 304와 검증 헤더를 설정하고 본문 없이 끝낸다.
+            if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+                return;
+            }
+
+            String fileName = file.getFileName().toString();
+            response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.inline().filename(fileName, StandardCharsets.UTF_8).build().toString());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            // 사용자가 올린 HTML/SVG가 서비스 도메인에서 스크립트로 실행되지 않도록 막는다.
+            response.setHeader("X-Content-Type-Options", "nosniff");
+            response.setHeader("Content-Security-Policy", "sandbox");
+
+            long start = 0;
+            long end = length - 1;
+            HttpRange range = resolveRange(request, etag, lastModified, length);
+            if (range != null) {
+                try {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            long count = length == 0 ? 0 : end - start + 1;
+            response.setContentLengthLong(count);
+            if (count == 0 || "HEAD".equalsIgnoreCase(request.getMethod())) {
+                return;
+            }
+
+            if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 내려받는 도중 연결을 끊은 경우가 대부분이다.
+            log.warn("파일 전송 중단: {} 에러메시지: {}", file.getFileName(), e.getMessage());
+            if (!response.isCommitted()) {
+                throw new BaseException(FILE_PROCESS_ERROR);
+            }
+        }
+    }
+
+    /**
+     * 처리할 Range를 반환한다. 여러 구간을 요청하거나 If-Range 조건이 맞지 않으면 전체를 내려보내도록 null을 반환한다.
+     */
+    private static HttpRange resolveRange(HttpServletRequest request, String etag, long lastModified, long length) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || length == 0) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals("\"" + etag + "\"")) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                return null;
+            }
+            try {
+                if (lastModified / 1000 > request.getDateHeader(HttpHeaders.IF_RANGE) / 1000) {
+                    return null;
+                }
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+}
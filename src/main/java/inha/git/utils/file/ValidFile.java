@@ -4,16 +4,8 @@ import inha.git.common.exceptions.BaseException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.*;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import static inha.git.common.code.status.ErrorStatus.*;
 
@@ -25,7 +17,6 @@ import static inha.git.common.code.status.ErrorStatus.*;
 public class ValidFile {
 
     private static final long MAX_SIZE_MB = 20;
-    private static final long MAX_SIZE_BYTES = MAX_SIZE_MB * 1024 * 1024;
     private static final Set<String> ALLOWED_CONTENT_TYPES = new HashSet<>();
 
     static {
@@ -38,11 +29,12 @@ public class ValidFile {
     }
 
     /**
-     * zip 파일 유효성 검사 및 처리
+     * zip 파일 유효성 검사
+     * 압축 해제와 항목 검사는 ZipIngestor가 저장하면서 함께 처리한다.
      *
      * @param file zip 파일
      */
-    public static File validateAndProcessZipFile(MultipartFile file) {
+    public static void validateZipFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             log.error("파일이 없습니다.");
             throw new BaseException(FILE_NOT_FOUND);
@@ -53,94 +45,6 @@ public class ValidFile {
             log.error("유효하지 않은 파일 형식입니다.");
             throw new BaseException(FILE_NOT_ZIP);
         }
-
-        File processedZipFile = null;
-        try {
-            processedZipFile = File.createTempFile("processed_", ".zip");
-        } catch (IOException e) {
-            log.error("Error creating temporary file: " + e.getMessage(), e);
-            throw new BaseException(FILE_PROCESS_ERROR);
-        }
-
-        // Zip 파일 처리 로직
-        try (ZipFile zipFile = createZipFileWithFallback(convertMultiPartToFile(file));
-             ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(processedZipFile))) {
-
-            int fileCount = 0;
-            long totalSize = 0;
-
-            for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
-                ZipEntry entry = entries.nextElement();
-                String fileName = entry.getName();
-
-                // 디렉토리인지 확인하고, 디렉토리는 카운트에서 제외
-                if (entry.isDirectory()) {
-                    continue;
-                }
-
-                // 파일명을 처리하고 공백을 언더스코어로 변경
-                String processedFileName = processFileName(fileName);
-
-                ZipEntry newEntry = new ZipEntry(processedFileName);
-                zos.putNextEntry(newEntry);
-
-                fileCount++;  // 파일 개수 카운트
-                long entrySize = copyAndCountBytes(zipFile.getInputStream(entry), zos);
-                totalSize += entrySize;
-
-                if (totalSize > MAX_SIZE_BYTES) {
-                    throw new BaseException(FILE_MAX_SIZE);
-                }
-                zos.closeEntry();
-            }
-
-            // 최종 파일 개수 로그 출력
-            log.info("Total number of files in the zip: {}", fileCount);
-        } catch (IOException e) {
-            log.error("Error processing ZIP file: " + e.getMessage(), e);
-            throw new BaseException(FILE_PROCESS_ERROR);
-        }
-
-        return processedZipFile;
-    }
-
-    private static ZipFile createZipFileWithFallback(File file) throws IOException {
-        try {
-            return new ZipFile(file, StandardCharsets.UTF_8);  // UTF-8로 시도
-        } catch (IOException e) {
-            log.warn("Failed to unzip with UTF-8 encoding. Retrying with CP-949...");
-            return new ZipFile(file, Charset.forName("CP949"));  // 실패하면 CP-949로 다시 시도
-        }
-    }
-
-    private static File convertMultiPartToFile(MultipartFile file) throws IOException {
-        File convFile = File.createTempFile("temp", ".zip");
-        try (FileOutputStream fos = new FileOutputStream(convFile)) {
-            fos.write(file.getBytes());
-        }
-        return convFile;
-    }
-
-    private static String processFileName(String fileName) {
-        // 공백을 언더스코어로 변경
-        String processed = fileName.replaceAll("\\s", "_");
-        // 파일 경로에 '..'가 포함되어 있는지 확인 (보안 취약점 방지)
-        if (processed.contains("..")) {
-            throw new BaseException(FILE_INVALID_NAME);
-        }
-
-        return processed;
-    }
-
-    private static long copyAndCountBytes(InputStream in, OutputStream out) throws IOException {
-        byte[] buffer = new byte[8192];
-        long count = 0;
-        int n;
-        while ((n = in.read(buffer)) > 0) {
-            out.write(buffer, 0, n);
-            count += n;
-        }
-        return count;
     }
 
     private static final long MAX_SIZE_BYTES_2 = MAX_SIZE_MB * 1024 * 1024;
@@ -0,0 +1,553 @@
+package inha.git.utils.file;
+
+import inha.git.common.exceptions.BaseException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static inha.git.common.Constant.BASE_DIR_SOURCE;
+import static inha.git.common.Constant.ZIP;
+import static inha.git.common.code.status.ErrorStatus.*;
+
+/**
+ * ZipIngestor는 업로드된 ZIP 파일을 한 번만 읽으면서 원본 저장, 유효성 검사, 압축 해제를 함께 처리하는 컴포넌트.
+ * 읽은 바이트를 그대로 원본 ZIP 파일에 기록하는 동시에 항목을 풀어 쓰므로, 임시 파일이나 재압축 없이 디스크에 두 번만 쓴다.
+ * 큰 파일은 먼저 저장한 뒤 중앙 디렉토리를 나눠 여러 작업 스레드가 각자의 ZipFile로 동시에 푼다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZipIngestor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Charset FALLBACK_CHARSET = Charset.forName("CP949");
+    // 작은 파일은 압축률이 높아도 위험하지 않으므로, 이 크기를 넘은 항목만 압축률을 검사한다.
+    private static final long RATIO_CHECK_MIN_BYTES = 1024 * 1024;
+    private static final String STREAM = "stream";
+    private static final String PARALLEL = "parallel";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.zip.max-total-size:20971520}")
+    private long maxTotalSize;
+    @Value("${file.zip.max-entries:10000}")
+    private int maxEntries;
+    @Value("${file.zip.max-compression-ratio:100}")
+    private long maxCompressionRatio;
+    @Value("${file.zip.parallel-threshold-bytes:4194304}")
+    private long parallelThreshold;
+    @Value("${file.zip.extract-threads:4}")
+    private int extractThreads;
+    @Value("${file.zip.extract-queue-size:64}")
+    private int extractQueueSize;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 대기열이 가득 차면 요청 스레드가 직접 풀어, 업로드가 몰려도 작업 스레드와 대기열이 늘어나지 않는다.
+        executor = new ThreadPoolExecutor(extractThreads, extractThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(extractQueueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "zip-extract-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * ZIP 파일을 저장하고 압축을 해제하는 메서드
+     *
+     * @param file       업로드된 ZIP 파일
+     * @param zipDir     원본 ZIP 파일을 저장할 디렉토리 (예: project-zip)
+     * @param extractDir 압축을 해제할 디렉토리 (예: project)
+     * @return 저장된 ZIP 파일 경로와 압축 해제 폴더명
+     */
+    public IngestedZip ingest(MultipartFile file, String zipDir, String extractDir) {
+        if (file == null || file.isEmpty()) {
+            log.error("파일이 없습니다.");
+            throw new BaseException(FILE_NOT_FOUND);
+        }
+        String zipFileName = FilePath.generateFileName(ZIP);
+        String folderName = zipFileName.substring(0, zipFileName.length() - ZIP.length());
+        Path zipPath = Paths.get(BASE_DIR_SOURCE + zipDir, zipFileName);
+        Path destination = Paths.get(BASE_DIR_SOURCE + extractDir, folderName).toAbsolutePath().normalize();
+        String mode = file.getSize() >= parallelThreshold ? PARALLEL : STREAM;
+
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(zipPath.getParent());
+            Files.createDirectories(destination);
+            ExtractResult result = PARALLEL.equals(mode)
+                    ? storeAndExtractParallel(file, zipPath, destination)
+                    : storeAndExtractStream(file, zipPath, destination);
+            long elapsed = System.nanoTime() - start;
+            recordMetrics(mode, result, elapsed);
+            log.info("ZIP 파일 저장 및 압축 해제 완료 - 파일: {} 방식: {} 항목 수: {} 크기: {} 소요 시간: {}ms",
+                    zipFileName, mode, result.fileCount(), result.totalSize(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return new IngestedZip("/" + zipDir + "/" + zipFileName, folderName, result.entries());
+        } catch (BaseException e) {
+            recordFailure(mode, e.getErrorReason().code());
+            cleanUp(zipPath, destination);
+            throw e;
+        } catch (IllegalArgumentException | IOException e) {
+            log.error("ZIP 파일 처리 실패: {}", zipFileName, e);
+            recordFailure(mode, e.getClass().getSimpleName());
+            cleanUp(zipPath, destination);
+            throw new BaseException(e instanceof ZipException || e instanceof IllegalArgumentException ? FILE_UNZIP_ERROR : FILE_PROCESS_ERROR);
+        }
+    }
+
+    /**
+     * 업로드 스트림을 한 번 읽으면서 원본 저장과 압축 해제를 함께 처리한다.
+     */
+    private ExtractResult storeAndExtractStream(MultipartFile file, Path zipPath, Path destination) throws IOException {
+        ExtractResult result;
+        try (FileChannel zipChannel = FileChannel.open(zipPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             TeeInputStream source = new TeeInputStream(file.getInputStream(), zipChannel)) {
+            try {
+                result = extractStream(new ZipInputStream(source, StandardCharsets.UTF_8), source::count, destination);
+            } catch (IllegalArgumentException e) {
+                // UTF-8로 해석할 수 없는 이름은 윈도우에서 CP-949로 압축한 파일이다. 원본은 끝까지 저장한 뒤 저장본을 다시 읽는다.
+                log.warn("Failed to unzip with UTF-8 encoding. Retrying with CP-949...");
+                result = null;
+            }
+            source.drain();
+        }
+        if (result == null) {
+            FilePath.deleteDirectory(destination.toString());
+            Files.createDirectories(destination);
+            try (TeeInputStream stored = new TeeInputStream(Files.newInputStream(zipPath), null)) {
+                result = extractStream(new ZipInputStream(stored, FALLBACK_CHARSET), stored::count, destination);
+            }
+        }
+        return result;
+    }
+
+    private ExtractResult extractStream(ZipInputStream zis, LongSupplier compressedRead, Path destination) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Set<Path> createdDirectories = new HashSet<>();
+        createdDirectories.add(destination);
+        AtomicLong totalSize = new AtomicLong();
+        List<ExtractedEntry> extracted = new ArrayList<>();
+        int fileCount = 0;
+
+        ZipEntry entry;
+        while ((entry = zis.getNextEntry()) != null) {
+            Path target = resolve(destination, entry.getName());
+            if (entry.isDirectory()) {
+                createDirectories(target, createdDirectories);
+                extracted.add(ExtractedEntry.directory(relativize(destination, target)));
+                continue;
+            }
+            if (++fileCount > maxEntries) {
+                log.error("압축 파일 내 파일 수 초과: {}", fileCount);
+                throw new BaseException(FILE_MAX_FILES);
+            }
+            createDirectories(target.getParent(), createdDirectories);
+            // 스트림에서는 항목의 압축 크기를 미리 알 수 없으므로, 항목을 읽는 동안 소비한 원본 바이트로 압축률을 계산한다.
+            long entryStart = compressedRead.getAsLong();
+            extracted.add(write(zis, target, relativize(destination, target), buffer, totalSize,
+                    () -> compressedRead.getAsLong() - entryStart));
+        }
+        return new ExtractResult(fileCount, totalSize.get(), extracted);
+    }
+
+    /**
+     * 원본을 먼저 저장한 뒤, 중앙 디렉토리를 검사하고 항목을 나눠 작업 스레드에서 동시에 푼다.
+     */
+    private ExtractResult storeAndExtractParallel(MultipartFile file, Path zipPath, Path destination) throws IOException {
+        try (FileChannel zipChannel = FileChannel.open(zipPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             TeeInputStream source = new TeeInputStream(file.getInputStream(), zipChannel)) {
+            source.drain();
+        }
+
+        // 윈도우에서 압축된 파일은 CP-949로 처리, UTF-8로 중앙 디렉토리를 읽지 못하면 CP-949로 다시 시도
+        Charset charset = StandardCharsets.UTF_8;
+        ZipFile opened;
+        try {
+            opened = new ZipFile(zipPath.toFile(), charset);
+        } catch (ZipException e) {
+            log.warn("Failed to unzip with UTF-8 encoding. Retrying with CP-949...");
+            charset = FALLBACK_CHARSET;
+            opened = new ZipFile(zipPath.toFile(), charset);
+        }
+
+        List<ExtractTask> tasks = new ArrayList<>();
+        Set<Path> directories = new TreeSet<>();
+        long declaredSize = 0;
+        try (ZipFile zipFile = opened) {
+            for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
+                ZipEntry entry = entries.nextElement();
+                Path target = resolve(destination, entry.getName());
+                if (entry.isDirectory()) {
+                    directories.add(target);
+                    continue;
+                }
+                if (tasks.size() >= maxEntries) {
+                    log.error("압축 파일 내 파일 수 초과: {}", tasks.size() + 1);
+                    throw new BaseException(FILE_MAX_FILES);
+                }
+                // 헤더에 기록된 크기로 먼저 거른다. 실제 크기는 쓰면서 다시 검사한다.
+                if (entry.getSize() > 0) {
+                    declaredSize += entry.getSize();
+                    if (declaredSize > maxTotalSize) {
+                        log.error("압축 해제 크기 초과: {}", entry.getName());
+                        throw new BaseException(FILE_MAX_SIZE);
+                    }
+                    checkCompressionRatio(target, entry.getSize(), entry.getCompressedSize());
+                }
+                directories.add(target.getParent());
+                tasks.add(new ExtractTask(entry.getName(), target, entry.getCompressedSize()));
+            }
+        }
+
+        // 디렉토리 구조를 먼저 한 번에 만들어 두면 작업 스레드는 파일만 쓴다.
+        for (Path directory : directories) {
+            Files.createDirectories(directory);
+        }
+
+        List<ExtractedEntry> extracted = new ArrayList<>();
+        for (Path directory : directories) {
+            if (!directory.equals(destination)) {
+                extracted.add(ExtractedEntry.directory(relativize(destination, directory)));
+            }
+        }
+
+        AtomicLong totalSize = new AtomicLong();
+        AtomicBoolean failed = new AtomicBoolean();
+        Charset entryCharset = charset;
+        List<Callable<List<ExtractedEntry>>> workers = partition(tasks).stream()
+                .map(partition -> (Callable<List<ExtractedEntry>>) () ->
+                        extractPartition(zipPath, entryCharset, destination, partition, totalSize, failed))
+                .toList();
+        try {
+            for (Future<List<ExtractedEntry>> future : executor.invokeAll(workers)) {
+                extracted.addAll(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            log.error("ZIP 파일 병렬 압축 해제 실패", e.getCause());
+            throw new BaseException(FILE_UNZIP_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(FILE_PROCESS_ERROR);
+        }
+        return new ExtractResult(tasks.size(), totalSize.get(), extracted);
+    }
+
+    /**
+     * 압축 크기가 큰 항목부터 가장 적게 맡은 작업에 배정해, 작업마다 풀어야 할 양을 비슷하게 맞춘다.
+     */
+    private List<List<ExtractTask>> partition(List<ExtractTask> tasks) {
+        int count = Math.max(1, Math.min(extractThreads, tasks.size()));
+        List<List<ExtractTask>> partitions = new ArrayList<>(count);
+        long[] loads = new long[count];
+        for (int i = 0; i < count; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        List<ExtractTask> sorted = new ArrayList<>(tasks);
+        sorted.sort(Comparator.comparingLong(ExtractTask::compressedSize).reversed());
+        for (ExtractTask task : sorted) {
+            int lightest = 0;
+            for (int i = 1; i < count; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            partitions.get(lightest).add(task);
+            loads[lightest] += Math.max(task.compressedSize(), 1);
+        }
+        return partitions;
+    }
+
+    /**
+     * 작업마다 ZipFile을 따로 열어, 다른 작업과 읽기 위치를 공유하지 않고 항목을 푼다.
+     * 다른 작업이 실패하면 남은 항목을 풀지 않고 멈춘다.
+     */
+    private List<ExtractedEntry> extractPartition(Path zipPath, Charset charset, Path destination, List<ExtractTask> partition,
+                                                  AtomicLong totalSize, AtomicBoolean failed) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        List<ExtractedEntry> extracted = new ArrayList<>(partition.size());
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile(), charset)) {
+            for (ExtractTask task : partition) {
+                if (failed.get()) {
+                    return extracted;
+                }
+                ZipEntry entry = zipFile.getEntry(task.name());
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    extracted.add(write(in, task.target(), relativize(destination, task.target()), buffer, totalSize,
+                            task::compressedSize));
+                }
+            }
+            return extracted;
+        } catch (IOException | RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * 항목 하나를 파일로 쓴다. 압축 해제된 크기를 쓰면서 세므로, 헤더에 기록된 크기를 속인 항목도 한도에서 멈춘다.
+     * 쓰는 동안 내용 해시를 함께 계산해, 파일을 다시 읽지 않고 목록(manifest)을 만들 수 있게 한다.
+     */
+    private ExtractedEntry write(InputStream in, Path target, String path, byte[] buffer, AtomicLong totalSize,
+                                 LongSupplier compressedSize) throws IOException {
+        ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+        MessageDigest digest = sha256();
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                written += n;
+                if (totalSize.addAndGet(n) > maxTotalSize) {
+                    log.error("압축 해제 크기 초과: {}", target.getFileName());
+                    throw new BaseException(FILE_MAX_SIZE);
+                }
+                checkCompressionRatio(target, written, compressedSize.getAsLong());
+                digest.update(buffer, 0, n);
+                wrapped.clear().limit(n);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            }
+        }
+        return ExtractedEntry.file(path, written, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String relativize(Path destination, Path target) {
+        return destination.relativize(target).toString().replace(File.separatorChar, '/');
+    }
+
+    private void checkCompressionRatio(Path target, long uncompressedSize, long compressedSize) {
+        if (uncompressedSize > RATIO_CHECK_MIN_BYTES && uncompressedSize > Math.max(compressedSize, 1) * maxCompressionRatio) {
+            log.error("압축률 초과: {} 압축 크기: {} 해제 크기: {}", target.getFileName(), compressedSize, uncompressedSize);
+            throw new BaseException(FILE_COMPRESSION_RATIO);
+        }
+    }
+
+    /**
+     * 항목 이름의 공백을 언더스코어로 바꾸고, 압축 해제 디렉토리 밖을 가리키는 이름은 거부한다.
+     */
+    private Path resolve(Path destination, String entryName) {
+        String name = entryName.replace('\\', '/').replaceAll("\\s", "_");
+        if (name.contains("..") || name.startsWith("/")) {
+            log.error("유효하지 않은 파일 이름: {}", entryName);
+            throw new BaseException(FILE_INVALID_NAME);
+        }
+        Path target = destination.resolve(name).normalize();
+        if (!target.startsWith(destination) || target.equals(destination)) {
+            log.error("유효하지 않은 파일 이름: {}", entryName);
+            throw new BaseException(FILE_INVALID_NAME);
+        }
+        return target;
+    }
+
+    private void createDirectories(Path directory, Set<Path> createdDirectories) throws IOException {
+        if (createdDirectories.add(directory)) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private void recordMetrics(String mode, ExtractResult result, long elapsedNanos) {
+        Timer.builder("file.zip.ingest")
+                .tag("mode", mode)
+                .description("ZIP 파일 저장 및 압축 해제 시간")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("file.zip.ingest.bytes")
+                .tag("mode", mode)
+                .description("압축 해제된 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(result.totalSize());
+        DistributionSummary.builder("file.zip.ingest.entries")
+                .tag("mode", mode)
+                .description("압축 해제된 파일 수")
+                .register(meterRegistry)
+                .record(result.fileCount());
+        DistributionSummary.builder("file.zip.ingest.throughput")
+                .tag("mode", mode)
+                .description("초당 압축 해제 크기")
+                .baseUnit("bytes/s")
+                .register(meterRegistry)
+                .record(result.totalSize() * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+    }
+
+    private void recordFailure(String mode, String reason) {
+        meterRegistry.counter("file.zip.ingest.failures", "mode", mode, "reason", reason).increment();
+    }
+
+    private void cleanUp(Path zipPath, Path destination) {
+        FilePath.deleteFile(zipPath.toString());
+        if (Files.exists(destination)) {
+            FilePath.deleteDirectory(destination.toString());
+        }
+    }
+
+    /**
+     * 저장된 ZIP 파일 경로(BASE_DIR_SOURCE 기준)와 압축 해제 폴더명.
+     */
+    public record IngestedZip(String zipFilePath, String folderName, List<ExtractedEntry> entries) {
+    }
+
+    /**
+     * 압축 해제된 항목. 경로는 압축 해제 폴더 기준이며 '/'로 구분한다.
+     *
+     * @param path      경로
+     * @param directory 디렉토리 여부
+     * @param size      파일 크기 (디렉토리는 0)
+     * @param hash      파일 내용의 SHA-256 (디렉토리는 null)
+     */
+    public record ExtractedEntry(String path, boolean directory, long size, String hash) {
+
+        static ExtractedEntry directory(String path) {
+            return new ExtractedEntry(path, true, 0, null);
+        }
+
+        static ExtractedEntry file(String path, long size, String hash) {
+            return new ExtractedEntry(path, false, size, hash);
+        }
+    }
+
+    private record ExtractResult(int fileCount, long totalSize, List<ExtractedEntry> entries) {
+    }
+
+    private record ExtractTask(String name, Path target, long compressedSize) {
+    }
+
+    /**
+     * 읽은 바이트 수를 세고, 채널이 주어지면 읽은 바이트를 그대로 기록하는 입력 스트림.
+     */
+    private static final class TeeInputStream extends FilterInputStream {
+
+        private final FileChannel copy;
+        private long count;
+
+        private TeeInputStream(InputStream in, FileChannel copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // 건너뛴 바이트도 원본에 남아야 하므로 읽어서 기록한다.
+            byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        long count() {
+            return count;
+        }
+
+        /**
+         * 남은 바이트(ZIP 항목 뒤의 중앙 디렉토리 등)를 끝까지 읽어 원본에 기록한다.
+         */
+        void drain() throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) >= 0) {
+                // 읽는 동안 기록된다.
+            }
+        }
+
+        private void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+            if (copy == null) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                copy.write(buffer);
+            }
+        }
+    }
+}
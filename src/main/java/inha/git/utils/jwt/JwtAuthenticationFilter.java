@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import inha.git.common.code.ErrorReasonDTO;
 import inha.git.common.code.status.ErrorStatus;
 import inha.git.common.exceptions.BaseException;
-import inha.git.utils.RedisProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +29,8 @@ import static inha.git.common.code.status.ErrorStatus.*;
 /**
  * JwtAuthenticationFilter는 JWT 기반의 인증을 처리하는 필터.
  * 각 요청마다 실행되며, 토큰을 검증하고 사용자 정보를 설정.
+ * 검증된 토큰은 JwtPrincipalCache에, 로그아웃 여부는 TokenBlacklist의 로컬 필터에서 확인하므로
+ * 일반적인 요청은 DB와 Redis를 거치지 않는다.
  */
 @Component
 @RequiredArgsConstructor
@@ -37,7 +39,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsService userDetailsService;
-    private final RedisProvider redisProvider;
+    private final JwtPrincipalCache jwtPrincipalCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(
@@ -53,7 +56,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader(HEADER_AUTHORIZATION);
         final String jwt;
-        final String username;
 
         // 헤더에 토큰이 없거나 Bearer 로 시작하지 않으면 필터 통과
         if (authHeader == null || !authHeader.startsWith(TOKEN_PREFIX)) {
@@ -62,26 +64,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         jwt = authHeader.substring(7);
         try {
-            // JWT에서 username 추출
-            username = jwtProvider.extractUsername(jwt);
+            // 최근에 검증한 토큰이면 서명 검증과 사용자 조회를 생략한다.
+            VerifiedToken verifiedToken = jwtPrincipalCache.get(jwt);
+            if (verifiedToken == null) {
+                Claims claims = jwtProvider.parseClaims(jwt);
+                String username = claims.getSubject();
+                if (username != null) {
+                    UserDetails loaded = this.userDetailsService.loadUserByUsername(username);
+                    if (username.equals(loaded.getUsername())) {
+                        verifiedToken = new VerifiedToken(loaded, TokenBlacklist.tokenId(jwt, claims), claims.getExpiration().getTime());
+                        jwtPrincipalCache.put(jwt, verifiedToken);
+                    }
+                }
+            }
 
-            if (redisProvider.getValueOps(jwt) != null) {
-                log.error("사용자 {} 로그아웃된 토큰으로 시도하였습니다: {}, ", username, jwt);
+            if (verifiedToken != null && tokenBlacklist.isRevoked(verifiedToken.tokenId(), verifiedToken.expiration())) {
+                log.error("사용자 {} 로그아웃된 토큰으로 시도하였습니다: {}, ", verifiedToken.principal().getUsername(), jwt);
                 throw new BaseException(INVALID_TOKEN);
             }
 
             // 토큰이 유효하고 인증이 아직 이루어지지 않은 경우
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-                // 토큰이 유효한지 확인
-                if (jwtProvider.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+            if (verifiedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = verifiedToken.principal();
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities()
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (BaseException e) {
             // JWT 예외 발생 시 정의한 에러 메시지와 함께 JSON 응답 반환
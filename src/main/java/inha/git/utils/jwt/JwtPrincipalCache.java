@@ -0,0 +1,75 @@
+package inha.git.utils.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JwtPrincipalCache는 검증을 마친 토큰과 사용자 정보를 짧게 보관하는 캐시.
+ * 같은 토큰으로 들어온 요청은 서명 검증과 사용자 조회 없이 인증 정보를 복원한다.
+ * 항목은 토큰 만료 시각과 설정한 TTL 중 이른 시점에 만료되므로, 사용자 상태 변경은 최대 TTL만큼 늦게 반영된다.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+    @Value("${jwt.principal-cache.ttl-ms:60000}")
+    private long ttl;
+
+    /**
+     * 캐시된 사용자 정보를 조회한다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (없거나 만료된 경우 null)
+     */
+    public VerifiedToken get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.token();
+    }
+
+    /**
+     * 검증된 토큰 정보를 저장한다.
+     * 캐시가 가득 차면 저장하지 않고, 다음 요청은 기존 경로로 인증한다.
+     *
+     * @param token         JWT 토큰
+     * @param verifiedToken 검증된 토큰 정보
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (entries.size() >= maxSize) {
+            return;
+        }
+        long expiresAt = Math.min(verifiedToken.expiration(), System.currentTimeMillis() + ttl);
+        entries.put(token, new Entry(verifiedToken, expiresAt));
+    }
+
+    /**
+     * 사용자의 모든 토큰 항목을 제거한다.
+     *
+     * @param username 사용자 이름
+     */
+    public void evictUser(String username) {
+        entries.values().removeIf(entry -> entry.token().principal().getUsername().equals(username));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.principal-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private record Entry(VerifiedToken token, long expiresAt) {
+    }
+}
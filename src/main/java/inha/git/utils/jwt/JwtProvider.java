@@ -4,10 +4,12 @@ import inha.git.common.code.status.ErrorStatus;
 import inha.git.common.exceptions.BaseException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +19,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -35,6 +38,16 @@ public class JwtProvider {
   @Value("${jwt.issuer}")
   private String issuer;
 
+  private Key signInKey;
+  private JwtParser jwtParser;
+
+  @PostConstruct
+  void init() {
+    // 서명 키와 파서는 스레드 안전하므로 한 번만 만든다.
+    signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+  }
+
   /**
    * JWT 토큰에서 사용자 이름을 추출.
    *
@@ -42,8 +55,18 @@ public class JwtProvider {
    * @return 사용자 이름
    */
   public String extractUsername(String token) {
+    return parseClaims(token).getSubject();
+  }
+
+  /**
+   * 토큰의 서명과 만료 시간을 검증하고 클레임을 반환.
+   *
+   * @param token JWT 토큰
+   * @return 검증된 클레임
+   */
+  public Claims parseClaims(String token) {
     try {
-      return extractClaim(token, Claims::getSubject);
+      return extractAllClaims(token);
     } catch (io.jsonwebtoken.ExpiredJwtException e) {
       log.error("JWT 토큰이 만료되었습니다.");
       throw new BaseException(ErrorStatus.INVALID_JWT_EXPIRED); // 만료된 토큰
@@ -99,6 +122,7 @@ public class JwtProvider {
             .setClaims(extraClaims)
             .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
             .setIssuer(issuer)
+            .setId(UUID.randomUUID().toString())
             .setSubject(userDetails.getUsername())
             .setIssuedAt(new Date(System.currentTimeMillis()))
             .setExpiration(new Date(System.currentTimeMillis() + expiration))
@@ -114,19 +138,8 @@ public class JwtProvider {
    * @return 토큰이 유효한지 여부
    */
   public boolean isTokenValid(String token, UserDetails userDetails) {
-    try {
-      final String username = extractUsername(token);
-      return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    } catch (io.jsonwebtoken.ExpiredJwtException e) {
-      log.error("JWT 토큰이 만료되었습니다.");
-      throw new BaseException(ErrorStatus.INVALID_JWT_EXPIRED); // 만료된 토큰
-    } catch (io.jsonwebtoken.security.SecurityException e) {
-      log.error("JWT 서명이 유효하지 않습니다.");
-      throw new BaseException(ErrorStatus.INVALID_JWT_SIGNATURE); // 서명 오류
-    } catch (Exception e) {
-      log.error("JWT 토큰이 유효하지 않습니다.");
-      throw new BaseException(ErrorStatus.INVALID_JWT); // 기타 오류
-    }
+    Claims claims = parseClaims(token);
+    return claims.getSubject().equals(userDetails.getUsername()) && claims.getExpiration().after(new Date());
   }
 
   /**
@@ -150,26 +163,12 @@ public class JwtProvider {
     return claims.getIssuedAt().getTime();
   }
 
-  private boolean isTokenExpired(String token) {
-    return extractExpiration(token).before(new Date());
-  }
-
-  private Date extractExpiration(String token) {
-    return extractClaim(token, Claims::getExpiration);
-  }
-
   private Claims extractAllClaims(String token) {
-    return Jwts
-            .parserBuilder()
-            .setSigningKey(getSignInKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+    return jwtParser.parseClaimsJws(token).getBody();
   }
 
   private Key getSignInKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-    return Keys.hmacShaKeyFor(keyBytes);
+    return signInKey;
   }
 
   private Claims getClaims(String token) {
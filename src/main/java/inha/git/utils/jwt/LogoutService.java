@@ -1,11 +1,11 @@
 package inha.git.utils.jwt;
 
 import inha.git.utils.RedisProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
@@ -21,9 +21,8 @@ import static inha.git.common.Constant.TOKEN_PREFIX;
 public class LogoutService implements LogoutHandler {
   private final JwtProvider jwtProvider;
   private final RedisProvider redisProvider;
-
-  @Value("${jwt.expiration}")
-  private Long expiration;
+  private final TokenBlacklist tokenBlacklist;
+  private final JwtPrincipalCache jwtPrincipalCache;
 
   @Override
   public void logout(
@@ -38,12 +37,14 @@ public class LogoutService implements LogoutHandler {
     }
     try {
       final String jwt = authHeader.substring(7);
-      String username = jwtProvider.extractUsername(jwt);
+      Claims claims = jwtProvider.parseClaims(jwt);
+      String username = claims.getSubject();
 
       // Redis에서 사용자 정보 삭제
       redisProvider.deleteValueOps(username);
       // 토큰 블랙리스트 처리
-      redisProvider.setDataExpire(jwt, jwt, expiration);
+      tokenBlacklist.revoke(TokenBlacklist.tokenId(jwt, claims), claims.getExpiration().getTime());
+      jwtPrincipalCache.evictUser(username);
 
       log.info("사용자 {} 로그아웃 성공", username);
 
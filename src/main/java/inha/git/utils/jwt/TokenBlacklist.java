@@ -0,0 +1,159 @@
+package inha.git.utils.jwt;
+
+import inha.git.utils.BloomFilter;
+import inha.git.utils.RedisProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * TokenBlacklist는 로그아웃된 토큰 목록을 관리하는 컴포넌트.
+ * 토큰 식별자(jti)를 토큰 만료 시각이 속한 시간 버킷의 Redis 집합에 저장하고, 버킷은 구간이 끝나면 통째로 만료된다.
+ * 각 노드는 살아 있는 버킷을 블룸 필터로 들고 있어, 필터에 없는 토큰은 Redis 조회 없이 통과시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist implements MessageListener {
+
+    private static final String REVOKED_KEY_PREFIX = "jwt:revoked:";
+    private static final String REVOKED_CHANNEL = "jwt:revoked:channel";
+
+    private final RedisProvider redisProvider;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${jwt.blacklist.expected-size:100000}")
+    private int expectedSize;
+    @Value("${jwt.blacklist.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+    @Value("${jwt.blacklist.bucket-ms:3600000}")
+    private long bucketSize;
+    // 블랙리스트에 오를 수 있는 토큰의 최대 수명. 재구성 시 이 범위의 버킷만 읽는다.
+    @Value("${jwt.refresh-token.expiration}")
+    private long maxTokenLifetime;
+
+    // 필터 추가와 재구성 시작·교체를 직렬화한다. 추가는 드물고 짧으므로 Redis 조회 동안에는 잡지 않는다.
+    private final Object filterLock = new Object();
+    private volatile BloomFilter filter;
+    // 재구성 중인 필터. 재구성이 시작된 뒤 추가된 토큰은 Redis 조회 결과에 빠졌을 수 있으므로 새 필터에도 넣는다.
+    private BloomFilter building;
+    // Redis와 한 번도 동기화하지 못했다면 필터를 믿을 수 없으므로 매번 Redis를 확인한다.
+    private volatile boolean synced;
+
+    @PostConstruct
+    void init() {
+        filter = BloomFilter.create(expectedSize, falsePositiveRate);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+        refresh();
+    }
+
+    /**
+     * 토큰 식별자를 반환한다. jti가 없는 이전 토큰은 토큰 해시를 식별자로 사용한다.
+     *
+     * @param token  JWT 토큰
+     * @param claims 검증된 클레임
+     * @return 토큰 식별자
+     */
+    public static String tokenId(String token, Claims claims) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰을 블랙리스트에 등록한다.
+     *
+     * @param tokenId    토큰 식별자
+     * @param expiration 토큰 만료 시각 (밀리초)
+     */
+    public void revoke(String tokenId, long expiration) {
+        long bucket = expiration / bucketSize;
+        redisProvider.addSetMember(REVOKED_KEY_PREFIX + bucket, tokenId, (bucket + 1) * bucketSize);
+        add(tokenId);
+        redisProvider.publish(REVOKED_CHANNEL, tokenId);
+    }
+
+    /**
+     * 토큰이 블랙리스트에 있는지 확인한다.
+     *
+     * @param tokenId    토큰 식별자
+     * @param expiration 토큰 만료 시각 (밀리초)
+     * @return 블랙리스트 포함 여부
+     */
+    public boolean isRevoked(String tokenId, long expiration) {
+        if (synced && !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return redisProvider.isSetMember(REVOKED_KEY_PREFIX + expiration / bucketSize, tokenId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 살아 있는 버킷으로 필터를 다시 만든다.
+     * 블룸 필터는 원소를 지울 수 없으므로 주기적인 재구성으로 만료된 토큰을 걸러내고, 놓친 메시지도 함께 반영한다.
+     * 토큰은 Redis에 저장된 뒤에 필터에 추가되므로, 재구성 시작 전에 추가된 토큰은 Redis 조회에 포함되고
+     * 시작 후 교체 전에 추가된 토큰은 새 필터에도 직접 들어가 교체 시 빠지지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.refresh-interval-ms:600000}",
+            initialDelayString = "${jwt.blacklist.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        BloomFilter next = BloomFilter.create(expectedSize, falsePositiveRate);
+        synchronized (filterLock) {
+            building = next;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            int count = 0;
+            for (long bucket = now / bucketSize; bucket <= (now + maxTokenLifetime) / bucketSize; bucket++) {
+                Set<String> tokenIds = redisProvider.getSetMembers(REVOKED_KEY_PREFIX + bucket);
+                tokenIds.forEach(next::put);
+                count += tokenIds.size();
+            }
+            synchronized (filterLock) {
+                filter = next;
+            }
+            synced = true;
+            log.info("토큰 블랙리스트 동기화 완료 - {}건", count);
+        } catch (DataAccessException e) {
+            log.warn("토큰 블랙리스트 동기화 실패", e);
+        } finally {
+            synchronized (filterLock) {
+                building = null;
+            }
+        }
+    }
+
+    private void add(String tokenId) {
+        synchronized (filterLock) {
+            filter.put(tokenId);
+            if (building != null) {
+                building.put(tokenId);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package inha.git.utils.jwt;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 서명 검증을 마친 토큰의 인증 정보.
+ *
+ * @param principal  사용자 정보
+ * @param tokenId    토큰 식별자 (jti, 없으면 토큰 해시)
+ * @param expiration 토큰 만료 시각 (밀리초)
+ */
+public record VerifiedToken(UserDetails principal, String tokenId, long expiration) {
+}
@@ -0,0 +1,280 @@
+package inha.git.utils.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MailDispatcher는 MailQueue의 메일을 제한된 발송 풀에서 SMTP로 보내는 컴포넌트.
+ * 발송 스레드 수만큼만 대기열에서 가져오므로 노드 메모리에 메일이 쌓이지 않고, 나머지는 Redis에 남아 다른 노드가 가져갈 수 있다.
+ * SMTP 연결은 발송 후 닫지 않고 풀에 돌려두었다가 다음 메일에 다시 쓰며, 일정 시간 쓰이지 않은 연결만 닫는다.
+ * 발송에 실패하면 지수적으로 늘어나는 간격을 두고 재시도하고, 최대 횟수를 넘으면 버린다.
+ * 대기열 폴링과 유지 작업은 전용 스케줄러 스레드에서 돌리므로, 공용 스케줄러의 다른 작업이 오래 걸려도 발송이 밀리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final MailQueue mailQueue;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mail.sender.threads:2}")
+    private int senderThreads;
+    @Value("${mail.sender.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${mail.sender.retry-backoff-ms:2000}")
+    private long retryBackoff;
+    @Value("${mail.sender.max-retry-backoff-ms:300000}")
+    private long maxRetryBackoff;
+    @Value("${mail.sender.connection-idle-ms:30000}")
+    private long connectionIdle;
+    @Value("${mail.dispatch.retry-batch-size:50}")
+    private int retryBatchSize;
+    @Value("${mail.dispatch.poll-interval-ms:500}")
+    private long pollInterval;
+    @Value("${mail.dispatch.maintenance-interval-ms:1000}")
+    private long maintenanceInterval;
+
+    private ScheduledExecutorService scheduler;
+    private ThreadPoolExecutor executor;
+    private Semaphore permits;
+    private BlockingQueue<PooledTransport> transports;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter droppedCounter;
+    private Timer sendTimer;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        permits = new Semaphore(senderThreads);
+        transports = new ArrayBlockingQueue<>(senderThreads);
+        sentCounter = resultCounter("sent");
+        retriedCounter = resultCounter("retried");
+        droppedCounter = resultCounter("dropped");
+        sendTimer = Timer.builder("mail.dispatch.send")
+                .description("SMTP 발송 시간")
+                .register(meterRegistry);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> runSafely(this::dispatch), pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely(this::maintain), maintenanceInterval, maintenanceInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+        List<PooledTransport> idle = new ArrayList<>();
+        transports.drainTo(idle);
+        idle.forEach(this::close);
+    }
+
+    /**
+     * 비어 있는 발송 스레드 수만큼 대기열에서 메일을 가져와 발송을 맡긴다.
+     */
+    void dispatch() {
+        int available = permits.availablePermits();
+        if (available == 0) {
+            return;
+        }
+        List<MailQueue.QueuedMail> mails;
+        try {
+            mails = mailQueue.poll(available);
+        } catch (DataAccessException e) {
+            log.warn("메일 대기열 조회 실패", e);
+            return;
+        }
+        for (MailQueue.QueuedMail mail : mails) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    deliver(mail);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 메일을 대기열로 옮기고, 오래 쓰이지 않은 SMTP 연결을 닫는다.
+     */
+    void maintain() {
+        try {
+            mailQueue.promoteDueRetries(retryBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("메일 재시도 대기열 처리 실패", e);
+        }
+        closeIdleTransports();
+    }
+
+    /**
+     * 예외가 스케줄러까지 올라가면 이후 실행이 모두 취소되므로, 로그만 남기고 다음 주기에 다시 시도한다.
+     */
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("메일 발송 스케줄 작업 실패", e);
+        }
+    }
+
+    private void deliver(MailQueue.QueuedMail mail) {
+        MailMessage message = mail.message();
+        try {
+            sendTimer.recordCallable(() -> {
+                send(message);
+                return null;
+            });
+            sentCounter.increment();
+            mailQueue.acknowledge(mail.recordId());
+        } catch (MessagingException | MailException e) {
+            handleFailure(mail, e);
+        } catch (Exception e) {
+            // 대기열 처리 실패 등은 확인 처리하지 않고 남겨 두어, 다른 노드가 넘겨받아 다시 보내도록 한다.
+            log.error("메일 발송 처리 실패 - 수신자: {}", message.to(), e);
+        }
+    }
+
+    private void handleFailure(MailQueue.QueuedMail mail, Exception cause) {
+        MailMessage failed = mail.message().nextAttempt();
+        try {
+            if (failed.attempt() >= maxAttempts) {
+                log.error("메일 발송 실패 - 재시도 횟수 초과로 버립니다. 수신자: {} 시도: {}", failed.to(), failed.attempt(), cause);
+                droppedCounter.increment();
+            } else {
+                long delay = backoff(failed.attempt());
+                log.warn("메일 발송 실패 - {}ms 후 재시도합니다. 수신자: {} 시도: {} 에러메시지: {}",
+                        delay, failed.to(), failed.attempt(), cause.getMessage());
+                mailQueue.retryLater(failed, System.currentTimeMillis() + delay);
+                retriedCounter.increment();
+            }
+            mailQueue.acknowledge(mail.recordId());
+        } catch (DataAccessException e) {
+            log.error("메일 재시도 등록 실패 - 수신자: {}", failed.to(), e);
+        }
+    }
+
+    /**
+     * 시도 횟수마다 두 배로 늘어나는 간격에 ±20% 무작위 값을 더해, 같은 시점에 실패한 메일이 함께 재시도되지 않게 한다.
+     */
+    private long backoff(int attempt) {
+        long base = Math.min(maxRetryBackoff, retryBackoff << Math.min(attempt - 1, 20));
+        return (long) (base * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    private void send(MailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
+        helper.setFrom(message.from());
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.content(), true);
+
+        if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+            mailSender.send(mimeMessage);
+            return;
+        }
+        mimeMessage.saveChanges();
+        PooledTransport pooled = borrow(sender);
+        try {
+            pooled.transport().sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+        } catch (MessagingException e) {
+            // 서버가 연결을 끊었거나 상태를 알 수 없으므로 풀에 돌려놓지 않는다.
+            close(pooled);
+            throw e;
+        }
+        release(pooled);
+    }
+
+    private PooledTransport borrow(JavaMailSenderImpl sender) throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = transports.poll()) != null) {
+            if (pooled.transport().isConnected()) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        String protocol = sender.getProtocol() != null ? sender.getProtocol() : DEFAULT_PROTOCOL;
+        Transport transport = sender.getSession().getTransport(protocol);
+        transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        return new PooledTransport(transport, System.currentTimeMillis());
+    }
+
+    private void release(PooledTransport pooled) {
+        if (!transports.offer(new PooledTransport(pooled.transport(), System.currentTimeMillis()))) {
+            close(pooled);
+        }
+    }
+
+    private void closeIdleTransports() {
+        List<PooledTransport> pooled = new ArrayList<>();
+        transports.drainTo(pooled);
+        long now = System.currentTimeMillis();
+        for (PooledTransport transport : pooled) {
+            if (now - transport.lastUsedAt() >= connectionIdle || !transports.offer(transport)) {
+                close(transport);
+            }
+        }
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport().close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패", e);
+        }
+    }
+
+    private Counter resultCounter(String result) {
+        return Counter.builder("mail.dispatch")
+                .tag("result", result)
+                .description("메일 발송 결과")
+                .register(meterRegistry);
+    }
+
+    private record PooledTransport(Transport transport, long lastUsedAt) {
+    }
+}
@@ -0,0 +1,18 @@
+package inha.git.utils.mail;
+
+/**
+ * MailMessage는 발송 대기열에 보관되는 메일 한 통.
+ *
+ * @param id      메일 ID (재시도 대기열에서 같은 내용의 메일을 구분한다)
+ * @param from    발신자
+ * @param to      수신자
+ * @param subject 제목
+ * @param content 본문 (HTML)
+ * @param attempt 지금까지 실패한 발송 횟수
+ */
+public record MailMessage(String id, String from, String to, String subject, String content, int attempt) {
+
+    public MailMessage nextAttempt() {
+        return new MailMessage(id, from, to, subject, content, attempt + 1);
+    }
+}
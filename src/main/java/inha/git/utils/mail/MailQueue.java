@@ -0,0 +1,149 @@
+package inha.git.utils.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import inha.git.common.exceptions.BaseException;
+import inha.git.utils.RedisProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static inha.git.common.code.status.ErrorStatus.EMAIL_RATE_LIMIT_EXCEEDED;
+import static inha.git.common.code.status.ErrorStatus.EMAIL_SEND_FAIL;
+
+/**
+ * MailQueue는 발송할 메일을 Redis 스트림에 보관하는 대기열.
+ * 요청 스레드는 메일을 넣기만 하고, 실제 발송은 MailDispatcher가 소비자 그룹으로 나눠 가져가 처리한다.
+ * 발송을 확인 처리하기 전에 노드가 멈추면, 일정 시간 뒤 다른 노드가 그 메일을 넘겨받는다.
+ * 실패한 메일은 재시도 시각을 점수로 하는 정렬 집합에 두었다가, 시각이 되면 스트림으로 다시 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailQueue {
+
+    private static final String STREAM_KEY = "mail:outbox";
+    private static final String GROUP = "mail-senders";
+    private static final String RETRY_KEY = "mail:retry";
+    private static final String RATE_KEY_PREFIX = "mail:rate:";
+    private static final String PAYLOAD = "payload";
+
+    private final RedisProvider redisProvider;
+    private final ObjectMapper objectMapper;
+    private final String consumer = UUID.randomUUID().toString();
+
+    @Value("${mail.rate-limit.per-recipient:5}")
+    private long rateLimit;
+    @Value("${mail.rate-limit.window-seconds:600}")
+    private long rateLimitWindow;
+    // SMTP 제한 시간보다 길어야 발송 중인 메일을 다른 노드가 가져가지 않는다.
+    @Value("${mail.dispatch.claim-idle-ms:120000}")
+    private long claimIdle;
+
+    private volatile boolean groupReady;
+
+    /**
+     * 메일을 발송 대기열에 넣습니다.
+     *
+     * @param from    발신자
+     * @param to      수신자
+     * @param subject 제목
+     * @param content 본문 (HTML)
+     * @throws BaseException EMAIL_RATE_LIMIT_EXCEEDED: 수신자에게 보낸 메일이 한도를 넘은 경우,
+     *                       EMAIL_SEND_FAIL: 대기열에 넣지 못한 경우
+     */
+    public void enqueue(String from, String to, String subject, String content) {
+        try {
+            MailMessage message = new MailMessage(UUID.randomUUID().toString(), from, to, subject, content, 0);
+            // 대기열에 넣은 메일만 한도에 센다.
+            boolean added = redisProvider.addStreamRecordWithinLimit(STREAM_KEY, PAYLOAD, toJson(message),
+                    RATE_KEY_PREFIX + to.toLowerCase(Locale.ROOT), rateLimit, rateLimitWindow);
+            if (!added) {
+                log.warn("메일 발송 한도 초과 - 수신자: {}", to);
+                throw new BaseException(EMAIL_RATE_LIMIT_EXCEEDED);
+            }
+        } catch (DataAccessException e) {
+            log.error("메일 대기열 등록 실패 - 수신자: {}", to, e);
+            throw new BaseException(EMAIL_SEND_FAIL);
+        }
+    }
+
+    /**
+     * 발송할 메일을 가져옵니다. 오래 처리되지 않은 메일을 먼저 넘겨받고, 남은 개수만큼 새 메일을 읽습니다.
+     *
+     * @param count 최대 개수
+     * @return 메일 목록
+     */
+    List<QueuedMail> poll(int count) {
+        ensureGroup();
+        List<MapRecord<String, Object, Object>> records = new ArrayList<>(
+                redisProvider.claimStreamRecords(STREAM_KEY, GROUP, consumer, Duration.ofMillis(claimIdle), count));
+        if (records.size() < count) {
+            records.addAll(redisProvider.readStreamGroup(STREAM_KEY, GROUP, consumer, count - records.size()));
+        }
+
+        List<QueuedMail> mails = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            String recordId = record.getId().getValue();
+            Object payload = record.getValue().get(PAYLOAD);
+            try {
+                mails.add(new QueuedMail(recordId, objectMapper.readValue(String.valueOf(payload), MailMessage.class)));
+            } catch (JsonProcessingException e) {
+                log.error("메일 대기열 레코드 변환 실패 - 레코드: {}", recordId, e);
+                acknowledge(recordId);
+            }
+        }
+        return mails;
+    }
+
+    /**
+     * 발송이 끝난 메일을 대기열에서 제거합니다.
+     */
+    void acknowledge(String recordId) {
+        redisProvider.acknowledgeStreamRecord(STREAM_KEY, GROUP, recordId);
+    }
+
+    /**
+     * 실패한 메일을 재시도 시각까지 보관합니다.
+     */
+    void retryLater(MailMessage message, long retryAt) {
+        redisProvider.addSortedSetMember(RETRY_KEY, toJson(message), retryAt);
+    }
+
+    /**
+     * 재시도 시각이 된 메일을 스트림으로 다시 옮깁니다.
+     *
+     * @param count 최대 개수
+     * @return 옮긴 개수
+     */
+    int promoteDueRetries(int count) {
+        return redisProvider.moveSortedSetMembersToStream(RETRY_KEY, System.currentTimeMillis(), count, STREAM_KEY, PAYLOAD);
+    }
+
+    private void ensureGroup() {
+        if (!groupReady) {
+            redisProvider.createStreamGroup(STREAM_KEY, GROUP);
+            groupReady = true;
+        }
+    }
+
+    private String toJson(MailMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record QueuedMail(String recordId, MailMessage message) {
+    }
+}
@@ -9,7 +9,7 @@ import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
 import inha.git.user.domain.repository.UserJpaRepository;
 import inha.git.utils.RedisProvider;
-import jakarta.mail.internet.MimeMessage;
+import inha.git.utils.mail.MailQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,11 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
+import static inha.git.common.Constant.EMAIL_TITLE;
+import static inha.git.common.Constant.FIND_PASSWORD_TITLE;
 import static inha.git.common.Constant.PASSWORD_TYPE;
 import static inha.git.common.code.status.ErrorStatus.*;
 import static inha.git.common.code.status.ErrorStatus.NOT_FIND_USER;
@@ -31,7 +32,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("메일 서비스 테스트")
@@ -50,7 +50,7 @@ class MailServiceTest {
 
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private MailQueue mailQueue;
 
     @Mock
     private AuthMapper authMapper;
@@ -75,13 +75,9 @@ class MailServiceTest {
         void mailSend_Success() {
             // given
             EmailRequest request = new EmailRequest("test@inha.edu", 1);
-            MimeMessage mimeMessage = mock(MimeMessage.class);
 
             given(redisProvider.getValueOps(anyString()))
                     .willReturn(null);
-            given(javaMailSender.createMimeMessage())
-                    .willReturn(mimeMessage);
-            willDoNothing().given(javaMailSender).send(any(MimeMessage.class));
             willDoNothing().given(emailDomainService)
                     .validateEmailDomain(anyString(), anyInt());  // Mock 동작 추가
 
@@ -90,7 +86,7 @@ class MailServiceTest {
 
             // then
             assertThat(result).isEqualTo("이메일 전송 완료");
-            verify(javaMailSender).send(any(MimeMessage.class));
+            verify(mailQueue).enqueue(eq("test@test.com"), eq(request.email()), eq(EMAIL_TITLE), anyString());
             verify(emailDomainService).validateEmailDomain(request.email(), request.type());
             verify(redisProvider).setDataExpire(
                     anyString(),
@@ -231,22 +227,18 @@ class MailServiceTest {
             // given
             FindPasswordRequest request = new FindPasswordRequest("test@test.com");
             User user = createUser();
-            MimeMessage mimeMessage = mock(MimeMessage.class);
 
             given(userJpaRepository.findByEmail(request.email()))
                     .willReturn(Optional.of(user));
             given(redisProvider.getValueOps(anyString()))
                     .willReturn(null);
-            given(javaMailSender.createMimeMessage())
-                    .willReturn(mimeMessage);
-            willDoNothing().given(javaMailSender).send(any(MimeMessage.class));
 
             // when
             String result = mailServiceImpl.findPasswordMailSend(request);
 
             // then
             assertThat(result).isEqualTo("이메일 전송 완료");
-            verify(javaMailSender).send(any(MimeMessage.class));
+            verify(mailQueue).enqueue(eq("test@test.com"), eq(request.email()), eq(FIND_PASSWORD_TITLE), anyString());
             verify(redisProvider).setDataExpire(
                     anyString(),
                     anyString(),
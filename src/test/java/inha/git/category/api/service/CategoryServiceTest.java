@@ -7,8 +7,11 @@ import inha.git.category.domain.Category;
 import inha.git.category.domain.repository.CategoryJpaRepository;
 import inha.git.category.mapper.CategoryMapper;
 import inha.git.category.service.CategoryServiceImpl;
-import inha.git.common.BaseEntity;
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
+import inha.git.common.reference.ReferenceType;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
 import org.junit.jupiter.api.DisplayName;
@@ -18,10 +21,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
@@ -46,15 +49,18 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Test
     @DisplayName("카테고리 전체 조회 성공")
     void getCategories_Success() {
         // given
-        List<Category> categories = Arrays.asList(
-                createCategory(1, "교과"),
-                createCategory(2, "기타"),
-                createCategory(3, "비교과")
-        );
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(ReferenceType.CATEGORY, List.of(
+                new ReferenceItem(1, "교과", null),
+                new ReferenceItem(2, "기타", null),
+                new ReferenceItem(3, "비교과", null)
+        )));
 
         List<SearchCategoryResponse> expectedResponses = Arrays.asList(
                 new SearchCategoryResponse(1, "교과"),
@@ -62,10 +68,8 @@ class CategoryServiceTest {
                 new SearchCategoryResponse(3, "비교과")
         );
 
-        given(categoryJpaRepository.findAllByState(ACTIVE, Sort.by(Sort.Direction.ASC, "name")))
-                .willReturn(categories);
-        given(categoryMapper.categoriesToSearchCategoryResponses(categories))
-                .willReturn(expectedResponses);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         List<SearchCategoryResponse> result = categoryService.getCategories();
@@ -74,14 +78,7 @@ class CategoryServiceTest {
         assertThat(result)
                 .hasSize(3)
                 .isEqualTo(expectedResponses);
-        verify(categoryJpaRepository).findAllByState(ACTIVE, Sort.by(Sort.Direction.ASC, "name"));
-    }
-
-    private Category createCategory(int id, String name) {
-        return Category.builder()
-                .id(id)
-                .name(name)
-                .build();
+        verify(referenceDataCache).snapshot();
     }
 
     @Test
@@ -8,8 +8,10 @@ import inha.git.college.domain.repository.CollegeJpaRepository;
 import inha.git.college.mapper.CollegeMapper;
 import inha.git.college.service.CollegeServiceImpl;
 import inha.git.common.exceptions.BaseException;
-import inha.git.department.domain.Department;
-import inha.git.department.domain.repository.DepartmentJpaRepository;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
+import inha.git.common.reference.ReferenceType;
 import inha.git.user.domain.User;
 import inha.git.user.domain.enums.Role;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
@@ -42,37 +45,34 @@ class CollegeServiceTest {
     @Mock
     private CollegeJpaRepository collegeJpaRepository;
 
-
     @Mock
-    private DepartmentJpaRepository departmentJpaRepository;
+    private CollegeMapper collegeMapper;
 
     @Mock
-    private CollegeMapper collegeMapper;
+    private ReferenceDataCache referenceDataCache;
 
     @Test
     @DisplayName("단과대 전체 조회 성공")
     void getColleges_Success() {
         // given
-        List<College> colleges = Arrays.asList(
-                createCollege(1, "소프트웨어융합대학"),
-                createCollege(2, "공과대학")
-        );
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(ReferenceType.COLLEGE, List.of(
+                new ReferenceItem(1, "소프트웨어융합대학", null),
+                new ReferenceItem(2, "공과대학", null)
+        )));
         List<SearchCollegeResponse> expectedResponses = Arrays.asList(
                 new SearchCollegeResponse(1, "소프트웨어융합대학"),
                 new SearchCollegeResponse(2, "공과대학")
         );
 
-        given(collegeJpaRepository.findAllByState(ACTIVE))
-                .willReturn(colleges);
-        given(collegeMapper.collegesToSearchCollegeResponses(colleges))
-                .willReturn(expectedResponses);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         List<SearchCollegeResponse> result = collegeService.getColleges();
 
         // then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(collegeJpaRepository).findAllByState(ACTIVE);
+        verify(referenceDataCache).snapshot();
     }
 
     @Test
@@ -80,16 +80,14 @@ class CollegeServiceTest {
     void getCollege_Success() {
         // given
         Integer departmentIdx = 1;
-        Department department = createDepartment(departmentIdx, "컴퓨터공학과");
-        College college = createCollege(1, "소프트웨어융합대학");
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(
+                ReferenceType.COLLEGE, List.of(new ReferenceItem(1, "소프트웨어융합대학", null)),
+                ReferenceType.DEPARTMENT, List.of(new ReferenceItem(departmentIdx, "컴퓨터공학과", 1))
+        ));
         SearchCollegeResponse expectedResponse = new SearchCollegeResponse(1, "소프트웨어융합대학");
 
-        given(departmentJpaRepository.findByIdAndState(departmentIdx, ACTIVE))
-                .willReturn(Optional.of(department));
-        given(collegeJpaRepository.findByDepartments_IdAndState(departmentIdx, ACTIVE))
-                .willReturn(Optional.of(college));
-        given(collegeMapper.collegeToSearchCollegeResponse(college))
-                .willReturn(expectedResponse);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         SearchCollegeResponse result = collegeService.getCollege(departmentIdx);
@@ -104,8 +102,8 @@ class CollegeServiceTest {
         // given
         Integer departmentIdx = 999;
 
-        given(departmentJpaRepository.findByIdAndState(departmentIdx, ACTIVE))
-                .willReturn(Optional.empty());
+        given(referenceDataCache.snapshot())
+                .willReturn(ReferenceDataSnapshot.of(1, Map.of()));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () ->
@@ -133,6 +131,7 @@ class CollegeServiceTest {
         // then
         assertThat(result).isEqualTo("신설단과대학 단과대가 생성되었습니다.");
         verify(collegeJpaRepository).save(any(College.class));
+        verify(referenceDataCache).invalidate();
     }
 
     @Test
@@ -182,13 +181,6 @@ class CollegeServiceTest {
                 .build();
     }
 
-    private Department createDepartment(Integer id, String name) {
-        return Department.builder()
-                .id(id)
-                .name(name)
-                .build();
-    }
-
     private User createAdminUser() {
         return User.builder()
                 .id(1)
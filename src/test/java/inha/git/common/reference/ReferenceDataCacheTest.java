@@ -0,0 +1,254 @@
+package inha.git.common.reference;
+
+import inha.git.category.domain.Category;
+import inha.git.category.domain.repository.CategoryJpaRepository;
+import inha.git.college.domain.College;
+import inha.git.college.domain.repository.CollegeJpaRepository;
+import inha.git.common.exceptions.BaseException;
+import inha.git.department.domain.Department;
+import inha.git.department.domain.repository.DepartmentJpaRepository;
+import inha.git.field.domain.Field;
+import inha.git.field.domain.repository.FieldJpaRepository;
+import inha.git.semester.domain.Semester;
+import inha.git.semester.domain.repository.SemesterJpaRepository;
+import inha.git.utils.RedisProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static inha.git.common.BaseEntity.State.ACTIVE;
+import static inha.git.common.code.status.ErrorStatus.CATEGORY_NOT_FOUND;
+import static inha.git.common.code.status.ErrorStatus.SEMESTER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("참조 데이터 캐시 테스트")
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    private static final Sort BY_NAME = Sort.by(Sort.Direction.ASC, "name");
+
+    @InjectMocks
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private SemesterJpaRepository semesterJpaRepository;
+
+    @Mock
+    private FieldJpaRepository fieldJpaRepository;
+
+    @Mock
+    private CollegeJpaRepository collegeJpaRepository;
+
+    @Mock
+    private DepartmentJpaRepository departmentJpaRepository;
+
+    @Mock
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Mock
+    private RedisProvider redisProvider;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Test
+    @DisplayName("처음 조회할 때 활성 참조 데이터로 스냅샷을 만든다")
+    void snapshot_FirstCall_LoadsActiveData() {
+        // given
+        givenReferenceData(List.of(createField(2, "앱"), createField(1, "웹")));
+
+        // when
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+
+        // then
+        assertThat(snapshot.getVersion()).isEqualTo(1);
+        assertThat(snapshot.findAll(ReferenceType.FIELD))
+                .containsExactly(new ReferenceItem(1, "웹", null), new ReferenceItem(2, "앱", null));
+        assertThat(snapshot.findAll(ReferenceType.SEMESTER))
+                .containsExactly(new ReferenceItem(1, "2023-1", null));
+        assertThat(snapshot.find(ReferenceType.DEPARTMENT, 1))
+                .contains(new ReferenceItem(1, "컴퓨터공학과", 1));
+        assertThat(snapshot.findAllByParent(ReferenceType.DEPARTMENT, 1))
+                .extracting(ReferenceItem::name)
+                .containsExactly("컴퓨터공학과");
+        assertThat(snapshot.exists(ReferenceType.CATEGORY, 1)).isTrue();
+        assertThat(referenceDataCache.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 버전을 올린 새 스냅샷으로 교체하고 이전 스냅샷은 그대로 둔다")
+    void refresh_ChangedData_ReplacesSnapshot() {
+        // given
+        givenReferenceData(List.of(createField(1, "웹")));
+        ReferenceDataSnapshot previous = referenceDataCache.snapshot();
+        given(fieldJpaRepository.findAllByState(ACTIVE))
+                .willReturn(List.of(createField(1, "웹"), createField(3, "AI")));
+
+        // when
+        referenceDataCache.refresh();
+        ReferenceDataSnapshot current = referenceDataCache.snapshot();
+
+        // then
+        assertThat(current.getVersion()).isEqualTo(2);
+        assertThat(current.exists(ReferenceType.FIELD, 3)).isTrue();
+        assertThat(previous.exists(ReferenceType.FIELD, 3)).isFalse();
+        assertThat(previous.findAll(ReferenceType.FIELD)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 변경을 알리면 즉시 다시 적재하고 다른 노드에 발행한다")
+    void invalidate_OutsideTransaction_ReloadsAndPublishes() {
+        // given
+        givenReferenceData(List.of(createField(1, "웹")));
+        referenceDataCache.snapshot();
+
+        // when
+        referenceDataCache.invalidate();
+
+        // then
+        assertThat(referenceDataCache.snapshot().getVersion()).isEqualTo(2);
+        verify(redisProvider).publish(eq("reference-data:changed"), anyString());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 학기를 조회하면 예외가 발생한다")
+    void getSemester_NotInSnapshot_ThrowsException() {
+        // given
+        givenReferenceData(List.of());
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class, () ->
+                referenceDataCache.getSemester(999));
+        assertThat(exception.getErrorReason().getMessage())
+                .isEqualTo(SEMESTER_NOT_FOUND.getMessage());
+        verify(semesterJpaRepository, never()).getReferenceById(999);
+    }
+
+    @Test
+    @DisplayName("분야 목록은 중복과 스냅샷에 없는 식별자를 제외한다")
+    void getFields_DuplicateAndUnknownIds_Filtered() {
+        // given
+        givenReferenceData(List.of(createField(1, "웹"), createField(2, "앱")));
+        Field web = createField(1, "웹");
+        Field app = createField(2, "앱");
+        given(fieldJpaRepository.getReferenceById(1)).willReturn(web);
+        given(fieldJpaRepository.getReferenceById(2)).willReturn(app);
+
+        // when
+        List<Field> result = referenceDataCache.getFields(List.of(2, 1, 2, 999));
+
+        // then
+        assertThat(result).containsExactly(app, web);
+    }
+
+    @Test
+    @DisplayName("비활성 카테고리는 DB에서 확인해 허용한다")
+    void getCategory_InactiveCategory_FallsBackToRepository() {
+        // given
+        givenReferenceData(List.of());
+        Category inactive = createCategory(2, "폐지된카테고리");
+        given(categoryJpaRepository.findById(2)).willReturn(Optional.of(inactive));
+
+        // when
+        Category result = referenceDataCache.getCategory(2);
+
+        // then
+        assertThat(result).isSameAs(inactive);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리를 조회하면 예외가 발생한다")
+    void getCategory_NotFound_ThrowsException() {
+        // given
+        givenReferenceData(List.of());
+        given(categoryJpaRepository.findById(999)).willReturn(Optional.empty());
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class, () ->
+                referenceDataCache.getCategory(999));
+        assertThat(exception.getErrorReason().getMessage())
+                .isEqualTo(CATEGORY_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("스냅샷은 범위를 벗어나거나 null인 식별자를 없는 항목으로 처리한다")
+    void snapshot_OutOfRangeId_NotFound() {
+        // given
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(ReferenceType.FIELD, List.of(
+                new ReferenceItem(3, "웹", null)
+        )));
+
+        // when & then
+        assertThat(snapshot.exists(ReferenceType.FIELD, 3)).isTrue();
+        assertThat(snapshot.exists(ReferenceType.FIELD, 1)).isFalse();
+        assertThat(snapshot.exists(ReferenceType.FIELD, 4)).isFalse();
+        assertThat(snapshot.exists(ReferenceType.FIELD, -1)).isFalse();
+        assertThat(snapshot.exists(ReferenceType.FIELD, null)).isFalse();
+        assertThat(snapshot.findAll(ReferenceType.SEMESTER)).isEmpty();
+    }
+
+    private void givenReferenceData(List<Field> fields) {
+        College college = createCollege(1, "소프트웨어융합대학");
+        given(semesterJpaRepository.findAllByState(ACTIVE, BY_NAME))
+                .willReturn(List.of(createSemester(1, "2023-1")));
+        given(fieldJpaRepository.findAllByState(ACTIVE))
+                .willReturn(fields);
+        given(collegeJpaRepository.findAllByState(ACTIVE))
+                .willReturn(List.of(college));
+        given(departmentJpaRepository.findAllByState(ACTIVE))
+                .willReturn(List.of(createDepartment(1, "컴퓨터공학과", college)));
+        given(categoryJpaRepository.findAllByState(ACTIVE, BY_NAME))
+                .willReturn(List.of(createCategory(1, "교과")));
+    }
+
+    private Semester createSemester(Integer id, String name) {
+        return Semester.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    private Field createField(Integer id, String name) {
+        return Field.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    private College createCollege(Integer id, String name) {
+        return College.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    private Department createDepartment(Integer id, String name, College college) {
+        return Department.builder()
+                .id(id)
+                .name(name)
+                .college(college)
+                .build();
+    }
+
+    private Category createCategory(Integer id, String name) {
+        return Category.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+}
@@ -4,6 +4,10 @@ import inha.git.admin.api.controller.dto.response.SearchDepartmentResponse;
 import inha.git.college.domain.College;
 import inha.git.college.domain.repository.CollegeJpaRepository;
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
+import inha.git.common.reference.ReferenceType;
 import inha.git.department.api.controller.dto.request.CreateDepartmentRequest;
 import inha.git.department.api.controller.dto.request.UpdateDepartmentRequest;
 import inha.git.department.api.mapper.DepartmentMapper;
@@ -20,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
@@ -49,30 +54,31 @@ class DepartmentServiceTest {
     @Mock
     private CollegeJpaRepository collegeJpaRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Test
     @DisplayName("학과 전체 조회 성공")
     void getDepartments_Success() {
         // given
-        List<Department> departments = Arrays.asList(
-                createDepartment(1, "컴퓨터공학과"),
-                createDepartment(2, "정보통신공학과")
-        );
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(ReferenceType.DEPARTMENT, List.of(
+                new ReferenceItem(1, "컴퓨터공학과", 1),
+                new ReferenceItem(2, "정보통신공학과", 2)
+        )));
         List<SearchDepartmentResponse> expectedResponses = Arrays.asList(
                 new SearchDepartmentResponse(1, "컴퓨터공학과"),
                 new SearchDepartmentResponse(2, "정보통신공학과")
         );
 
-        given(departmentJpaRepository.findAllByState(ACTIVE))
-                .willReturn(departments);
-        given(departmentMapper.departmentsToSearchDepartmentResponses(departments))
-                .willReturn(expectedResponses);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         List<SearchDepartmentResponse> result = departmentService.getDepartments(null);
 
         // then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(departmentJpaRepository).findAllByState(ACTIVE);
+        verify(referenceDataCache).snapshot();
     }
 
     @Test
@@ -80,30 +86,28 @@ class DepartmentServiceTest {
     void getDepartments_WithCollegeId_Success() {
         // given
         Integer collegeIdx = 1;
-        College college = createCollege(collegeIdx, "공과대학");
-        List<Department> departments = Arrays.asList(
-                createDepartment(1, "컴퓨터공학과"),
-                createDepartment(2, "정보통신공학과")
-        );
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(
+                ReferenceType.COLLEGE, List.of(
+                        new ReferenceItem(collegeIdx, "공과대학", null),
+                        new ReferenceItem(2, "자연과학대학", null)),
+                ReferenceType.DEPARTMENT, List.of(
+                        new ReferenceItem(1, "컴퓨터공학과", collegeIdx),
+                        new ReferenceItem(2, "정보통신공학과", collegeIdx),
+                        new ReferenceItem(3, "수학과", 2))
+        ));
         List<SearchDepartmentResponse> expectedResponses = Arrays.asList(
                 new SearchDepartmentResponse(1, "컴퓨터공학과"),
                 new SearchDepartmentResponse(2, "정보통신공학과")
         );
 
-        given(collegeJpaRepository.findByIdAndState(collegeIdx, ACTIVE))
-                .willReturn(Optional.of(college));
-        given(departmentJpaRepository.findAllByCollegeAndState(college, ACTIVE))
-                .willReturn(departments);
-        given(departmentMapper.departmentsToSearchDepartmentResponses(departments))
-                .willReturn(expectedResponses);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         List<SearchDepartmentResponse> result = departmentService.getDepartments(collegeIdx);
 
         // then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(collegeJpaRepository).findByIdAndState(collegeIdx, ACTIVE);
-        verify(departmentJpaRepository).findAllByCollegeAndState(college, ACTIVE);
     }
 
     @Test
@@ -111,8 +115,8 @@ class DepartmentServiceTest {
     void getDepartments_CollegeNotFound_ThrowsException() {
         // given
         Integer collegeIdx = 999;
-        given(collegeJpaRepository.findByIdAndState(collegeIdx, ACTIVE))
-                .willReturn(Optional.empty());
+        given(referenceDataCache.snapshot())
+                .willReturn(ReferenceDataSnapshot.of(1, Map.of()));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () ->
@@ -147,6 +151,7 @@ class DepartmentServiceTest {
         // then
         assertThat(result).isEqualTo("신설학과 학과가 생성되었습니다.");
         verify(departmentJpaRepository).save(any(Department.class));
+        verify(referenceDataCache).invalidate();
     }
 
     @Test
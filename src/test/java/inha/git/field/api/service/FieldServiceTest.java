@@ -1,6 +1,10 @@
 package inha.git.field.api.service;
 
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
+import inha.git.common.reference.ReferenceType;
 import inha.git.field.api.controller.dto.request.CreateFieldRequest;
 import inha.git.field.api.controller.dto.request.UpdateFieldRequest;
 import inha.git.field.api.controller.dto.response.SearchFieldResponse;
@@ -18,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
@@ -42,30 +47,31 @@ class FieldServiceTest {
     @Mock
     private FieldMapper fieldMapper;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Test
     @DisplayName("분야 전체 조회 성공")
     void getFields_Success() {
         // given
-        List<Field> fields = Arrays.asList(
-                createField(1, "웹"),
-                createField(2, "앱")
-        );
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(ReferenceType.FIELD, List.of(
+                new ReferenceItem(1, "웹", null),
+                new ReferenceItem(2, "앱", null)
+        )));
         List<SearchFieldResponse> expectedResponses = Arrays.asList(
                 new SearchFieldResponse(1, "웹"),
                 new SearchFieldResponse(2, "앱")
         );
 
-        given(fieldJpaRepository.findAllByState(ACTIVE))
-                .willReturn(fields);
-        given(fieldMapper.fieldsToSearchFieldResponses(fields))
-                .willReturn(expectedResponses);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         List<SearchFieldResponse> result = fieldService.getFields();
 
         // then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(fieldJpaRepository).findAllByState(ACTIVE);
+        verify(referenceDataCache).snapshot();
     }
 
     @Test
@@ -87,6 +93,7 @@ class FieldServiceTest {
         // then
         assertThat(result).isEqualTo("신규분야 분야가 생성되었습니다.");
         verify(fieldJpaRepository).save(any(Field.class));
+        verify(referenceDataCache).invalidate();
     }
 
     @Test
@@ -2,6 +2,7 @@ package inha.git.question.api.controller;
 
 import inha.git.category.controller.dto.response.SearchCategoryResponse;
 import inha.git.common.BaseResponse;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.project.api.controller.dto.response.SearchFieldResponse;
 import inha.git.project.api.controller.dto.response.SearchUserResponse;
@@ -84,10 +85,10 @@ class QuestionControllerTest {
         Page<SearchQuestionsResponse> expectedPage = new PageImpl<>(questions);
 
         given(PagingUtils.toPageIndex(page)).willReturn(0);
-        given(questionService.getQuestions(0, 9)).willReturn(expectedPage);
+        given(questionService.getQuestions(0, 9, PageMode.CACHED)).willReturn(expectedPage);
 
         // when
-        BaseResponse<Page<SearchQuestionsResponse>> response = questionController.getQuestions(page, size);
+        BaseResponse<Page<SearchQuestionsResponse>> response = questionController.getQuestions(page, size, null);
 
         // then
         assertThat(response.getResult()).isEqualTo(expectedPage);
@@ -120,12 +121,12 @@ class QuestionControllerTest {
         Page<SearchQuestionsResponse> expectedPage = new PageImpl<>(questions);
 
         given(PagingUtils.toPageIndex(page)).willReturn(0);
-        given(questionService.getCondQuestions(searchQuestionCond, 0, 9))
+        given(questionService.getCondQuestions(searchQuestionCond, 0, 9, PageMode.CACHED))
                 .willReturn(expectedPage);
 
         // when
         BaseResponse<Page<SearchQuestionsResponse>> response =
-                questionController.getCondQuestions(page, size, searchQuestionCond);
+                questionController.getCondQuestions(page, size, searchQuestionCond, null);
 
         // then
         assertThat(response.getResult()).isEqualTo(expectedPage);
@@ -144,7 +145,7 @@ class QuestionControllerTest {
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () ->
-                questionController.getQuestions(invalidPage, size));
+                questionController.getQuestions(invalidPage, size, null));
 
         assertThat(exception.getErrorReason().getMessage())
                 .isEqualTo(INVALID_PAGE.getMessage());
@@ -165,7 +166,7 @@ class QuestionControllerTest {
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () ->
-                questionController.getCondQuestions(invalidPage, size, searchQuestionCond));
+                questionController.getCondQuestions(invalidPage, size, searchQuestionCond, null));
 
         assertThat(exception.getErrorReason().getMessage())
                 .isEqualTo(INVALID_PAGE.getMessage());
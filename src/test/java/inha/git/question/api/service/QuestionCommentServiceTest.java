@@ -80,10 +80,13 @@ class QuestionCommentServiceTest {
         given(questionCommentJpaRepository.findAllByQuestionAndStateOrderByIdAsc(question, ACTIVE))
                 .willReturn(List.of(comment));
 
-        given(questionCommentLikeJpaRepository.existsByUserAndQuestionComment(user, comment))
-                .willReturn(true);
-        given(questionReplyCommentLikeJpaRepository.existsByUserAndQuestionReplyComment(user, reply))
-                .willReturn(false);
+        given(questionReplyCommentJpaRepository.findAllByQuestionAndStateOrderByIdAsc(question, ACTIVE))
+                .willReturn(List.of(reply));
+
+        given(questionCommentLikeJpaRepository.findLikedIds(1, List.of(10)))
+                .willReturn(List.of(10));
+        given(questionReplyCommentLikeJpaRepository.findLikedIds(1, List.of(1001)))
+                .willReturn(List.of());
 
         SearchReplyCommentResponse fakeReplyRes = new SearchReplyCommentResponse(
                 1001,
@@ -577,6 +580,8 @@ class QuestionCommentServiceTest {
                 .thenReturn(Optional.of(comment));
         when(questionCommentLikeJpaRepository.existsByUserAndQuestionComment(user, comment))
                 .thenReturn(true); // 이미 좋아요를 누른 상태로 설정
+        when(questionCommentLikeJpaRepository.deleteByUserAndQuestionComment(user, comment))
+                .thenReturn(1);
 
         // when
         String result = questionCommentService.questionCommentLikeCancel(user, request);
@@ -698,6 +703,8 @@ class QuestionCommentServiceTest {
                 .thenReturn(Optional.of(replyComment));
         when(questionReplyCommentLikeJpaRepository.existsByUserAndQuestionReplyComment(user, replyComment))
                 .thenReturn(true);
+        when(questionReplyCommentLikeJpaRepository.deleteByUserAndQuestionReplyComment(user, replyComment))
+                .thenReturn(1);
 
         // when
         String result = questionCommentService.questionReplyCommentLikeCancel(user, request);
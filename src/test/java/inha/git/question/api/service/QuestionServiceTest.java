@@ -3,6 +3,7 @@ package inha.git.question.api.service;
 import inha.git.category.controller.dto.response.SearchCategoryResponse;
 import inha.git.category.domain.Category;
 import inha.git.category.domain.repository.CategoryJpaRepository;
+import inha.git.common.PageMode;
 import inha.git.common.exceptions.BaseException;
 import inha.git.field.domain.Field;
 import inha.git.question.api.controller.dto.request.LikeRequest;
@@ -130,11 +131,11 @@ class QuestionServiceTest {
 
         Page<SearchQuestionsResponse> expectedPage = new PageImpl<>(questions);
 
-        given(questionQueryRepository.getQuestions(pageable))
+        given(questionQueryRepository.getQuestions(pageable, PageMode.CACHED))
                 .willReturn(expectedPage);
 
         // when
-        Page<SearchQuestionsResponse> result = questionService.getQuestions(page, size);
+        Page<SearchQuestionsResponse> result = questionService.getQuestions(page, size, PageMode.CACHED);
 
         // then
         assertThat(result).isEqualTo(expectedPage);
@@ -174,12 +175,12 @@ class QuestionServiceTest {
         );
         Page<SearchQuestionsResponse> expectedPage = new PageImpl<>(questions);
 
-        given(questionQueryRepository.getCondQuestions(searchQuestionCond, pageable))
+        given(questionQueryRepository.getCondQuestions(searchQuestionCond, pageable, PageMode.CACHED))
                 .willReturn(expectedPage);
 
         // when
         Page<SearchQuestionsResponse> result = questionService.getCondQuestions(
-                searchQuestionCond, page, size);
+                searchQuestionCond, page, size, PageMode.CACHED);
 
         // then
         assertThat(result).isEqualTo(expectedPage);
@@ -231,12 +232,12 @@ class QuestionServiceTest {
         );
         Page<SearchQuestionsResponse> expectedPage = new PageImpl<>(questions);
 
-        given(questionQueryRepository.getCondQuestions(searchQuestionCond, pageable))
+        given(questionQueryRepository.getCondQuestions(searchQuestionCond, pageable, PageMode.CACHED))
                 .willReturn(expectedPage);
 
         // when
         Page<SearchQuestionsResponse> result = questionService.getCondQuestions(
-                searchQuestionCond, page, size);
+                searchQuestionCond, page, size, PageMode.CACHED);
 
         // then
         assertThat(result).isEqualTo(expectedPage);
@@ -256,12 +257,12 @@ class QuestionServiceTest {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, CREATE_AT));
         Page<SearchQuestionsResponse> expectedPage = new PageImpl<>(Collections.emptyList());
 
-        given(questionQueryRepository.getCondQuestions(searchQuestionCond, pageable))
+        given(questionQueryRepository.getCondQuestions(searchQuestionCond, pageable, PageMode.CACHED))
                 .willReturn(expectedPage);
 
         // when
         Page<SearchQuestionsResponse> result = questionService.getCondQuestions(
-                searchQuestionCond, page, size);
+                searchQuestionCond, page, size, PageMode.CACHED);
 
         // then
         assertThat(result).isEqualTo(expectedPage);
@@ -812,6 +813,8 @@ class QuestionServiceTest {
         // 이미 좋아요 했다고 가정
         when(questionLikeJpaRepository.existsByUserAndQuestion(user, question))
                 .thenReturn(true);
+        when(questionLikeJpaRepository.deleteByUserAndQuestion(user, question))
+                .thenReturn(1);
 
         // when
         String result = questionService.questionLikeCancel(user, likeRequest);
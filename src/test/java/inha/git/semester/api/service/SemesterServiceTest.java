@@ -1,6 +1,10 @@
 package inha.git.semester.api.service;
 
 import inha.git.common.exceptions.BaseException;
+import inha.git.common.reference.ReferenceDataCache;
+import inha.git.common.reference.ReferenceDataSnapshot;
+import inha.git.common.reference.ReferenceItem;
+import inha.git.common.reference.ReferenceType;
 import inha.git.semester.controller.dto.request.CreateSemesterRequest;
 import inha.git.semester.controller.dto.request.UpdateSemesterRequest;
 import inha.git.semester.controller.dto.response.SearchSemesterResponse;
@@ -16,10 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static inha.git.common.BaseEntity.State.ACTIVE;
@@ -44,30 +48,31 @@ class SemesterServiceTest {
     @Mock
     private SemesterMapper semesterMapper;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Test
     @DisplayName("학기 전체 조회 성공")
     void getSemesters_Success() {
         // given
-        List<Semester> semesters = Arrays.asList(
-                createSemester(1, "2023-1"),
-                createSemester(2, "2023-2")
-        );
+        ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(1, Map.of(ReferenceType.SEMESTER, List.of(
+                new ReferenceItem(1, "2023-1", null),
+                new ReferenceItem(2, "2023-2", null)
+        )));
         List<SearchSemesterResponse> expectedResponses = Arrays.asList(
                 new SearchSemesterResponse(1, "2023-1"),
                 new SearchSemesterResponse(2, "2023-2")
         );
 
-        given(semesterJpaRepository.findAllByState(ACTIVE, Sort.by(Sort.Direction.ASC, "name")))
-                .willReturn(semesters);
-        given(semesterMapper.semestersToSearchSemesterResponses(semesters))
-                .willReturn(expectedResponses);
+        given(referenceDataCache.snapshot())
+                .willReturn(snapshot);
 
         // when
         List<SearchSemesterResponse> result = semesterService.getSemesters();
 
         // then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(semesterJpaRepository).findAllByState(ACTIVE, Sort.by(Sort.Direction.ASC, "name"));
+        verify(referenceDataCache).snapshot();
     }
 
     @Test
@@ -89,6 +94,7 @@ class SemesterServiceTest {
         // then
         assertThat(result).isEqualTo("2024-1 학기가 생성되었습니다.");
         verify(semesterJpaRepository).save(any(Semester.class));
+        verify(referenceDataCache).invalidate();
     }
 
     @Test
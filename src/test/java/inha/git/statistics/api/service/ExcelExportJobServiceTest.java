@@ -0,0 +1,157 @@
+package inha.git.statistics.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import inha.git.common.exceptions.BaseException;
+import inha.git.statistics.api.controller.dto.response.ExportJobResponse;
+import inha.git.statistics.api.service.pipeline.StatisticsDeltaEvent;
+import inha.git.statistics.domain.enums.ExcelType;
+import inha.git.statistics.domain.enums.ExportJobStatus;
+import inha.git.statistics.domain.enums.StatisticsType;
+import inha.git.utils.RedisProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static inha.git.common.code.status.ErrorStatus.EXPORT_JOB_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("엑셀 내보내기 작업 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExcelExportJobServiceTest {
+
+    @Mock
+    private StatisticsExcelService projectExcelService;
+
+    @Mock
+    private RedisProvider redisProvider;
+
+    @TempDir
+    Path directory;
+
+    // 노드 간에 공유되는 Redis 저장소
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExcelExportJobService excelExportJobService;
+    private ExcelExportJobService otherNodeService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(redisProvider.getValueOps(anyString())).willAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        willAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(redisProvider).setDataExpire(anyString(), anyString(), anyLong());
+        given(redisProvider.setIfAbsent(anyString(), anyString(), anyLong()))
+                .willAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        given(redisProvider.compareAndSet(anyString(), anyString(), anyString(), anyLong()))
+                .willAnswer(invocation -> redis.replace(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        given(redisProvider.increment(anyString()))
+                .willAnswer(invocation -> Long.parseLong(redis.merge(invocation.getArgument(0), "1",
+                        (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+        willAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)))
+                .given(redisProvider).deleteValueOps(anyString());
+
+        excelExportJobService = createService();
+        otherNodeService = createService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        excelExportJobService.shutdown();
+        otherNodeService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 조건의 내보내기 요청은 노드가 달라도 하나의 작업을 공유")
+    void submit_SameCondition_ReturnsSameJob() throws Exception {
+        // when
+        ExportJobResponse first = excelExportJobService.submit(ExcelType.PROJECT, StatisticsType.TOTAL, null, 3);
+        ExportJobResponse second = otherNodeService.submit(ExcelType.PROJECT, StatisticsType.TOTAL, null, 3);
+
+        // then
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+        verify(projectExcelService, timeout(1000).times(1))
+                .writeExcel(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 등록한 작업도 상태를 조회할 수 있음")
+    void getJob_RegisteredOnOtherNode_ReturnsJob() throws Exception {
+        // given
+        ExportJobResponse submitted = excelExportJobService.submit(ExcelType.PROJECT, StatisticsType.TOTAL, null, 3);
+
+        // when
+        awaitCompletion(otherNodeService, submitted.jobId());
+
+        // then
+        assertThat(otherNodeService.getJob(submitted.jobId()).completedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 통계가 바뀐 뒤의 요청은 새 작업으로 생성")
+    void submit_StatisticsChanged_CreatesNewJob() throws Exception {
+        // given
+        ExportJobResponse first = excelExportJobService.submit(ExcelType.PROJECT, StatisticsType.TOTAL, null, 3);
+        awaitCompletion(excelExportJobService, first.jobId());
+        otherNodeService.onStatisticsDelta(new StatisticsDeltaEvent(Map.of(), List.of(1L)));
+
+        // when
+        ExportJobResponse second = excelExportJobService.submit(ExcelType.PROJECT, StatisticsType.TOTAL, null, 3);
+
+        // then
+        assertThat(second.jobId()).isNotEqualTo(first.jobId());
+        assertThat(redis).containsKey("export-job:" + first.jobId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 조회 시 예외 발생")
+    void getJob_NotFound_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> excelExportJobService.getJob("unknown"))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("code", EXPORT_JOB_NOT_FOUND);
+    }
+
+    private ExcelExportJobService createService() throws Exception {
+        ExcelExportJobService service = new ExcelExportJobService(
+                Map.of(ExcelType.PROJECT, projectExcelService), redisProvider, objectMapper);
+        ReflectionTestUtils.setField(service, "directory", directory.toString());
+        ReflectionTestUtils.setField(service, "poolSize", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 10);
+        ReflectionTestUtils.setField(service, "artifactTtlMinutes", 60L);
+        service.init();
+        return service;
+    }
+
+    private void awaitCompletion(ExcelExportJobService service, String jobId) throws InterruptedException {
+        for (int i = 0; i < 100 && service.getJob(jobId).status() != ExportJobStatus.COMPLETED; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(service.getJob(jobId).status()).isEqualTo(ExportJobStatus.COMPLETED);
+    }
+}
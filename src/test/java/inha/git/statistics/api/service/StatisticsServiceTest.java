@@ -0,0 +1,130 @@
+package inha.git.statistics.api.service;
+
+import inha.git.category.domain.Category;
+import inha.git.college.domain.College;
+import inha.git.common.exceptions.BaseException;
+import inha.git.department.domain.Department;
+import inha.git.field.domain.Field;
+import inha.git.mapping.domain.UserDepartment;
+import inha.git.mapping.domain.repository.UserDepartmentJpaRepository;
+import inha.git.semester.domain.Semester;
+import inha.git.statistics.api.service.pipeline.StatisticsDeltaPublisher;
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.enums.ParticipationKind;
+import inha.git.statistics.domain.enums.StatisticsType;
+import inha.git.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static inha.git.common.code.status.ErrorStatus.INVALID_ACTION_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("통계 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceTest {
+
+    @InjectMocks
+    private StatisticsServiceImpl statisticsService;
+
+    @Mock
+    private UserDepartmentJpaRepository userDepartmentJpaRepository;
+
+    @Mock
+    private ParticipationIndex participationIndex;
+
+    @Mock
+    private StatisticsDeltaPublisher statisticsDeltaPublisher;
+
+    @Test
+    @DisplayName("첫 프로젝트 등록 시 전체/유저/학과/단과대 변화량 발행")
+    void adjustCount_FirstProject_PublishesDeltas() {
+        // given
+        User user = User.builder().id(1).name("홍길동").build();
+        Field field = Field.builder().id(2).name("웹").build();
+        Semester semester = Semester.builder().id(3).name("2024-1").build();
+        Category category = Category.builder().id(4).name("교과").build();
+        College college = College.builder().id(5).name("공과대학").build();
+        Department department = Department.builder().id(6).name("컴퓨터공학과").college(college).build();
+
+        given(userDepartmentJpaRepository.findByUserId(1))
+                .willReturn(Optional.of(List.of(new UserDepartment(user, department))));
+        given(participationIndex.recordContribution(user, semester, field, ParticipationKind.PROJECT))
+                .willReturn(true);
+
+        // when
+        statisticsService.adjustCount(user, List.of(field), semester, category, 1, true);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<StatisticsKey, StatisticsDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(statisticsDeltaPublisher).publish(eq(1), captor.capture());
+
+        StatisticsDelta expected = StatisticsDelta.localProject(1, 1);
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                new StatisticsKey(StatisticsType.TOTAL, null, 3, 2, 4), expected,
+                new StatisticsKey(StatisticsType.USER, 1, 3, 2, 4), expected,
+                new StatisticsKey(StatisticsType.DEPARTMENT, 6, 3, 2, 4), expected,
+                new StatisticsKey(StatisticsType.COLLEGE, 5, 3, 2, 4), expected
+        ));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 통계 타입이면 변화량을 발행하지 않음")
+    void adjustCount_InvalidActionType_ThrowsException() {
+        // given
+        User user = User.builder().id(1).name("홍길동").build();
+        Field field = Field.builder().id(2).name("웹").build();
+        Semester semester = Semester.builder().id(3).name("2024-1").build();
+        Category category = Category.builder().id(4).name("교과").build();
+
+        given(userDepartmentJpaRepository.findByUserId(1))
+                .willReturn(Optional.of(List.of()));
+
+        // when & then
+        assertThatThrownBy(() -> statisticsService.adjustCount(user, List.of(field), semester, category, 9, true))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("code", INVALID_ACTION_TYPE);
+        verify(statisticsDeltaPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 질문 삭제 시 참여자 수 감소")
+    void adjustCount_LastQuestion_DecrementsParticipation() {
+        // given
+        User user = User.builder().id(1).name("홍길동").build();
+        Field field = Field.builder().id(2).name("웹").build();
+        Semester semester = Semester.builder().id(3).name("2024-1").build();
+        Category category = Category.builder().id(4).name("교과").build();
+
+        given(userDepartmentJpaRepository.findByUserId(1))
+                .willReturn(Optional.of(List.of()));
+        given(participationIndex.removeContribution(user, semester, field, ParticipationKind.QUESTION))
+                .willReturn(true);
+
+        // when
+        statisticsService.adjustCount(user, List.of(field), semester, category, 3, false);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<StatisticsKey, StatisticsDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(statisticsDeltaPublisher).publish(eq(1), captor.capture());
+        assertThat(captor.getValue())
+                .containsEntry(new StatisticsKey(StatisticsType.TOTAL, null, 3, 2, 4), StatisticsDelta.question(-1, -1));
+    }
+}
@@ -0,0 +1,186 @@
+package inha.git.statistics.api.service.pipeline;
+
+import inha.git.statistics.domain.StatisticsDelta;
+import inha.git.statistics.domain.StatisticsJournal;
+import inha.git.statistics.domain.StatisticsKey;
+import inha.git.statistics.domain.StatisticsRebuild;
+import inha.git.statistics.domain.enums.RebuildPhase;
+import inha.git.statistics.domain.enums.RebuildStatus;
+import inha.git.statistics.domain.enums.StatisticsType;
+import inha.git.statistics.domain.repository.StatisticsDeltaJdbcRepository;
+import inha.git.statistics.domain.repository.StatisticsJournalJpaRepository;
+import inha.git.statistics.domain.repository.StatisticsRebuildJpaRepository;
+import inha.git.statistics.domain.repository.StatisticsRollupCube;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("통계 변화량 버퍼 테스트")
+@ExtendWith(MockitoExtension.class)
+class StatisticsDeltaBufferTest {
+
+    private static final StatisticsKey KEY = new StatisticsKey(StatisticsType.TOTAL, null, 1, 1, 1);
+    private static final StatisticsDelta DELTA = StatisticsDelta.question(1, 0);
+    private static final LocalDateTime STARTED_AT = LocalDateTime.now().minusHours(1);
+
+    @Mock
+    private StatisticsDeltaJdbcRepository statisticsDeltaJdbcRepository;
+
+    @Mock
+    private StatisticsJournalJpaRepository statisticsJournalJpaRepository;
+
+    @Mock
+    private StatisticsRebuildJpaRepository statisticsRebuildJpaRepository;
+
+    @Mock
+    private StatisticsRollupCube statisticsRollupCube;
+
+    @Mock
+    private MeterRegistry meterRegistry;
+
+    private StatisticsDeltaBuffer statisticsDeltaBuffer;
+
+    @BeforeEach
+    void setUp() {
+        statisticsDeltaBuffer = new StatisticsDeltaBuffer(statisticsDeltaJdbcRepository, statisticsJournalJpaRepository,
+                statisticsRebuildJpaRepository, statisticsRollupCube, meterRegistry);
+        ReflectionTestUtils.setField(statisticsDeltaBuffer, "maxPendingKeys", 10);
+        ReflectionTestUtils.setField(statisticsDeltaBuffer, "maxPendingJournals", 100);
+        ReflectionTestUtils.setField(statisticsDeltaBuffer, "rebuildLeaseSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("실패한 재구축은 반영을 막지 않음")
+    void flush_RebuildFailed_AppliesDeltas() {
+        // given
+        given(statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID))
+                .willReturn(Optional.of(createRebuild(RebuildStatus.FAILED, LocalDateTime.now())));
+        given(statisticsDeltaJdbcRepository.applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any()))
+                .willReturn(Optional.of(Map.of(KEY, DELTA)));
+        statisticsDeltaBuffer.onStatisticsDelta(new StatisticsDeltaEvent(Map.of(KEY, DELTA), List.of(1L)));
+
+        // when
+        statisticsDeltaBuffer.flush();
+
+        // then
+        verify(statisticsDeltaJdbcRepository).applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any());
+        verify(statisticsRollupCube).apply(Map.of(KEY, DELTA));
+    }
+
+    @Test
+    @DisplayName("임대가 유효한 재구축이 실행 중이면 반영 보류")
+    void flush_RebuildRunning_DefersDeltas() {
+        // given
+        given(statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID))
+                .willReturn(Optional.of(createRebuild(RebuildStatus.RUNNING, LocalDateTime.now())));
+        statisticsDeltaBuffer.onStatisticsDelta(new StatisticsDeltaEvent(Map.of(KEY, DELTA), List.of(1L)));
+
+        // when
+        statisticsDeltaBuffer.flush();
+
+        // then
+        verify(statisticsDeltaJdbcRepository, never()).applyDeltas(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 재구축은 반영을 막지 않음")
+    void flush_RebuildLeaseExpired_AppliesDeltas() {
+        // given
+        given(statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID))
+                .willReturn(Optional.of(createRebuild(RebuildStatus.RUNNING, LocalDateTime.now().minusMinutes(10))));
+        given(statisticsDeltaJdbcRepository.applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any()))
+                .willReturn(Optional.of(Map.of(KEY, DELTA)));
+        statisticsDeltaBuffer.onStatisticsDelta(new StatisticsDeltaEvent(Map.of(KEY, DELTA), List.of(1L)));
+
+        // when
+        statisticsDeltaBuffer.flush();
+
+        // then
+        verify(statisticsDeltaJdbcRepository).applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("반영 직전에 다른 노드가 재구축을 시작하면 변화량을 되돌려 다음 주기에 반영")
+    void flush_RebuildStartedBeforeApply_RequeuesDeltas() {
+        // given
+        given(statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID))
+                .willReturn(Optional.of(createRebuild(RebuildStatus.COMPLETED, LocalDateTime.now())));
+        given(statisticsDeltaJdbcRepository.applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any()))
+                .willReturn(Optional.empty(), Optional.of(Map.of(KEY, DELTA)));
+        statisticsDeltaBuffer.onStatisticsDelta(new StatisticsDeltaEvent(Map.of(KEY, DELTA), List.of(1L)));
+
+        // when
+        statisticsDeltaBuffer.flush();
+        statisticsDeltaBuffer.flush();
+
+        // then
+        verify(statisticsDeltaJdbcRepository, times(2)).applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any());
+        verify(statisticsRollupCube, times(1)).apply(Map.of(KEY, DELTA));
+    }
+
+    @Test
+    @DisplayName("보류 중 상한을 넘겨 비운 변화량은 재구축 실패 후 저널에서 재생해 반영")
+    void flush_SpilledWhileRebuilding_ReplaysJournalAfterFailure() {
+        // given
+        ReflectionTestUtils.setField(statisticsDeltaBuffer, "maxPendingKeys", 1);
+        given(statisticsRebuildJpaRepository.findById(StatisticsRebuild.SINGLETON_ID)).willReturn(
+                Optional.of(createRebuild(RebuildStatus.RUNNING, LocalDateTime.now())),
+                Optional.of(createRebuild(RebuildStatus.FAILED, LocalDateTime.now())));
+        given(statisticsJournalJpaRepository.findByCreatedAtBeforeAndIdGreaterThanOrderById(any(), anyLong(), any()))
+                .willReturn(List.of(createJournal(1L)), List.of());
+        given(statisticsDeltaJdbcRepository.applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any()))
+                .willReturn(Optional.of(Map.of(KEY, DELTA)));
+        statisticsDeltaBuffer.onStatisticsDelta(new StatisticsDeltaEvent(Map.of(KEY, DELTA), List.of(1L)));
+
+        // when
+        statisticsDeltaBuffer.flush();
+
+        // then
+        verify(statisticsJournalJpaRepository).findByCreatedAtBeforeAndIdGreaterThanOrderById(any(), eq(1L), any());
+        verify(statisticsDeltaJdbcRepository).applyDeltas(eq(Map.of(KEY, DELTA)), eq(List.of(1L)), any());
+        verify(statisticsRollupCube).apply(Map.of(KEY, DELTA));
+    }
+
+    private StatisticsRebuild createRebuild(RebuildStatus status, LocalDateTime updatedAt) {
+        return StatisticsRebuild.builder()
+                .id(StatisticsRebuild.SINGLETON_ID)
+                .status(status)
+                .phase(RebuildPhase.values()[0])
+                .lastId(0)
+                .maxUserId(0)
+                .startedAt(STARTED_AT)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private StatisticsJournal createJournal(Long id) {
+        return StatisticsJournal.builder()
+                .id(id)
+                .statisticsType(KEY.type())
+                .targetId(KEY.targetId())
+                .semesterId(KEY.semesterId())
+                .fieldId(KEY.fieldId())
+                .categoryId(KEY.categoryId())
+                .questionDelta(DELTA.questionCount())
+                .createdAt(STARTED_AT.plusMinutes(1))
+                .build();
+    }
+}
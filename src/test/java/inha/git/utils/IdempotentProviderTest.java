@@ -4,21 +4,30 @@ import inha.git.common.exceptions.BaseException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static inha.git.common.Constant.IDEMPOTENCY_KEY_HEADER;
 import static inha.git.common.Constant.IDEMPOTENT;
 import static inha.git.common.Constant.TIME_LIMIT;
 import static inha.git.common.code.status.ErrorStatus.DUPLICATION_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("IdempotentProvider 테스트")
@@ -37,36 +46,67 @@ class IdempotentProviderTest {
     void isValidIdempotent_Success() {
         // given
         List<String> keyElements = Arrays.asList("createRequest", "1", "사용자", "제목", "내용");
-        String expectedKey = "createRequest1사용자제목내용";
 
-        given(redisProvider.getValueOps(expectedKey))
-                .willReturn(null);
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT)))
+                .willReturn(true);
 
         // when
         idempotentProvider.isValidIdempotent(keyElements);
 
         // then
-        verify(redisProvider).getValueOps(expectedKey);
-        verify(redisProvider).setDataExpire(expectedKey, IDEMPOTENT, TIME_LIMIT);
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(redisProvider).setIfAbsent(key.capture(), eq(IDEMPOTENT), eq((long) TIME_LIMIT));
+        assertThat(key.getValue()).startsWith("idempotent:").hasSize("idempotent:".length() + 43);
     }
 
-    //@Test
+    @Test
     @DisplayName("중복된 Idempotency 키 검증 실패")
     void isValidIdempotent_Duplicated_ThrowsException() {
         // given
         List<String> keyElements = Arrays.asList("createRequest", "1", "사용자", "제목", "내용");
-        String expectedKey = "createRequest1사용자제목내용";
 
-        given(redisProvider.getValueOps(expectedKey))
-                .willReturn(IDEMPOTENT);
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT)))
+                .willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> idempotentProvider.isValidIdempotent(keyElements))
                 .isInstanceOf(BaseException.class)
                 .hasFieldOrPropertyWithValue("errorStatus", DUPLICATION_REQUEST);
+    }
+
+    @Test
+    @DisplayName("내용이 긴 요청도 고정 길이 키를 사용한다")
+    void isValidIdempotent_LongContents_FixedSizeKey() {
+        // given
+        List<String> keyElements = Arrays.asList("createRequest", "1", "사용자", "제목", "내용".repeat(10_000));
+
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT)))
+                .willReturn(true);
+
+        // when
+        idempotentProvider.isValidIdempotent(keyElements);
 
-        verify(redisProvider).getValueOps(expectedKey);
-        verify(redisProvider, never()).setDataExpire(any(), any(), any());
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(redisProvider).setIfAbsent(key.capture(), eq(IDEMPOTENT), eq((long) TIME_LIMIT));
+        assertThat(key.getValue()).hasSize("idempotent:".length() + 43);
+    }
+
+    @Test
+    @DisplayName("요소의 경계가 다르면 다른 키를 사용한다")
+    void isValidIdempotent_DifferentBoundaries_DifferentKeys() {
+        // given
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT)))
+                .willReturn(true);
+
+        // when
+        idempotentProvider.isValidIdempotent(List.of("create", "ab", "c"));
+        idempotentProvider.isValidIdempotent(List.of("create", "a", "bc"));
+
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(redisProvider, times(2)).setIfAbsent(key.capture(), eq(IDEMPOTENT), eq((long) TIME_LIMIT));
+        assertThat(key.getAllValues().get(0)).isNotEqualTo(key.getAllValues().get(1));
     }
 
     @Test
@@ -74,34 +114,72 @@ class IdempotentProviderTest {
     void isValidIdempotent_EmptyKeyElements() {
         // given
         List<String> emptyKeyElements = Collections.emptyList();
-        String expectedKey = "";
 
-        given(redisProvider.getValueOps(expectedKey))
-                .willReturn(null);
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT)))
+                .willReturn(true);
 
         // when
         idempotentProvider.isValidIdempotent(emptyKeyElements);
 
         // then
-        verify(redisProvider).getValueOps(expectedKey);
-        verify(redisProvider).setDataExpire(expectedKey, IDEMPOTENT, TIME_LIMIT);
+        verify(redisProvider).setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT));
     }
 
-    //@Test
+    @Test
     @DisplayName("null 값이 포함된 키 요소로 검증 시도")
     void isValidIdempotent_WithNullElement() {
         // given
         List<String> keyElements = Arrays.asList("createRequest", null, "사용자", "제목", "내용");
-        String expectedKey = "createRequest사용자제목내용";  // null은 빈 문자열로 처리됨
 
-        given(redisProvider.getValueOps(expectedKey))
-                .willReturn(null);
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT)))
+                .willReturn(true);
 
         // when
         idempotentProvider.isValidIdempotent(keyElements);
 
         // then
-        verify(redisProvider).getValueOps(expectedKey);
-        verify(redisProvider).setDataExpire(expectedKey, IDEMPOTENT, TIME_LIMIT);
+        verify(redisProvider).setIfAbsent(anyString(), eq(IDEMPOTENT), eq((long) TIME_LIMIT));
+    }
+
+    @Test
+    @DisplayName("키를 선점한 요청의 응답은 원래 상태 코드와 함께 재전송")
+    void findReplay_AcquiredRequest_ReturnsOriginalStatus() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/projects");
+        request.addHeader(IDEMPOTENCY_KEY_HEADER, "key-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        given(redisProvider.setIfAbsent(anyString(), eq(IDEMPOTENT), anyLong())).willReturn(true);
+
+        try {
+            idempotentProvider.isValidIdempotent(List.of("createProject"));
+            idempotentProvider.storeReplay(request, 201, "{\"id\":1}");
+
+            ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+            verify(redisProvider).setDataExpire(anyString(), stored.capture(), anyLong());
+            given(redisProvider.getValueOps(anyString())).willReturn(stored.getValue());
+
+            // when
+            IdempotentProvider.Replay replay = idempotentProvider.findReplay(request);
+
+            // then
+            assertThat(replay.status()).isEqualTo(201);
+            assertThat(replay.body()).isEqualTo("{\"id\":1}");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("키를 선점하지 않은 요청의 응답은 보관하지 않음")
+    void storeReplay_NotAcquired_DoesNotStore() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/projects");
+        request.addHeader(IDEMPOTENCY_KEY_HEADER, "key-1");
+
+        // when
+        idempotentProvider.storeReplay(request, 200, "{}");
+
+        // then
+        verify(redisProvider, never()).setDataExpire(anyString(), anyString(), anyLong());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package inha.git.utils.cache;
+
+import inha.git.utils.RedisProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TieredCache 테스트")
+@ExtendWith(MockitoExtension.class)
+class TieredCacheTest {
+
+    @Mock
+    private RedisProvider redisProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("적재한 값은 로컬 캐시에서 다시 조회한다")
+    void get_LoadedValue_ServedFromLocalCache() {
+        // given
+        TieredCache<String> cache = create("test");
+        AtomicInteger loadCount = new AtomicInteger();
+        given(redisProvider.getBytes("test:key")).willReturn(null);
+
+        // when
+        String first = cache.get("key", () -> "value-" + loadCount.incrementAndGet());
+        String second = cache.get("key", () -> "value-" + loadCount.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loadCount).hasValue(1);
+        verify(redisProvider, times(1)).getBytes("test:key");
+        verify(redisProvider).setBytesExpire(eq("test:key"), any(byte[].class), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 저장한 값은 적재하지 않고 Redis에서 읽는다")
+    void get_StoredByOtherNode_ServedFromRedis() {
+        // given
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        create("other").put("key", "value");
+        verify(redisProvider).setBytesExpire(eq("other:key"), stored.capture(), eq(Duration.ofMinutes(10)));
+
+        TieredCache<String> cache = create("test");
+        given(redisProvider.getBytes("test:key")).willReturn(stored.getValue());
+
+        // when
+        String value = cache.get("key", () -> {
+            throw new IllegalStateException("적재하면 안 됩니다.");
+        });
+
+        // then
+        assertThat(value).isEqualTo("value");
+        verify(redisProvider, never()).setBytesExpire(eq("test:key"), any(byte[].class), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("이전 형식으로 저장된 값은 없는 것으로 보고 다시 적재한다")
+    void get_LegacyValue_Reloads() {
+        // given
+        TieredCache<String> cache = create("test");
+        given(redisProvider.getBytes(anyString())).willReturn("legacy-string-value".getBytes());
+
+        // when
+        String value = cache.get("key", () -> "loaded");
+
+        // then
+        assertThat(value).isEqualTo("loaded");
+        assertThat(meterRegistry.get("cache.tiered.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    private TieredCache<String> create(String name) {
+        return new TieredCache<>(name, CacheSerializer.string(), Duration.ofMinutes(10), Duration.ofMinutes(1),
+                1024, 1.0, redisProvider, meterRegistry, cacheKey -> {
+        });
+    }
+}
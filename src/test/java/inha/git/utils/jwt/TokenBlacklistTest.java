@@ -0,0 +1,100 @@
+package inha.git.utils.jwt;
+
+import inha.git.utils.RedisProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TokenBlacklist 테스트")
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    private static final long BUCKET = 3_600_000L;
+
+    @InjectMocks
+    private TokenBlacklist tokenBlacklist;
+
+    @Mock
+    private RedisProvider redisProvider;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenBlacklist, "expectedSize", 1000);
+        ReflectionTestUtils.setField(tokenBlacklist, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(tokenBlacklist, "bucketSize", BUCKET);
+        ReflectionTestUtils.setField(tokenBlacklist, "maxTokenLifetime", BUCKET);
+        given(redisProvider.getSetMembers(anyString())).willReturn(Set.of());
+        tokenBlacklist.init();
+    }
+
+    @Test
+    @DisplayName("블랙리스트에 없는 토큰은 Redis를 조회하지 않는다")
+    void isRevoked_NotRevoked_SkipsRedis() {
+        // given
+        long expiration = System.currentTimeMillis() + 1000;
+
+        // when
+        boolean revoked = tokenBlacklist.isRevoked("token-id", expiration);
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(redisProvider, never()).isSetMember(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 등록 시 만료 시각의 버킷에 저장하고 다른 노드에 알린다")
+    void revoke_StoresInExpirationBucket() {
+        // given
+        long expiration = 10 * BUCKET + 123;
+        String key = "jwt:revoked:10";
+        given(redisProvider.isSetMember(key, "token-id")).willReturn(true);
+
+        // when
+        tokenBlacklist.revoke("token-id", expiration);
+        boolean revoked = tokenBlacklist.isRevoked("token-id", expiration);
+
+        // then
+        assertThat(revoked).isTrue();
+        verify(redisProvider).addSetMember(key, "token-id", 11 * BUCKET);
+        verify(redisProvider).publish("jwt:revoked:channel", "token-id");
+    }
+
+    @Test
+    @DisplayName("재구성 중 Redis 조회 뒤에 도착한 토큰도 교체된 필터에 남는다")
+    void refresh_RevokedDuringRebuild_KeepsToken() {
+        // given
+        long expiration = System.currentTimeMillis() + 1000;
+        String key = "jwt:revoked:" + expiration / BUCKET;
+        given(redisProvider.getSetMembers(anyString())).willAnswer(invocation -> {
+            // 이 버킷을 읽은 직후 다른 노드의 등록 알림이 도착한다.
+            tokenBlacklist.onMessage(new DefaultMessage("jwt:revoked:channel".getBytes(), "token-id".getBytes()), null);
+            return Set.of();
+        });
+        given(redisProvider.isSetMember(key, "token-id")).willReturn(true);
+
+        // when
+        tokenBlacklist.refresh();
+        boolean revoked = tokenBlacklist.isRevoked("token-id", expiration);
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+}